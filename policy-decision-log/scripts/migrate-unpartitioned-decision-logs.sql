@@ -0,0 +1,118 @@
+-- 기존 단일 테이블(decision_logs_unpartitioned) → partitioned decision_logs 이관
+-- schema.sql은 기동 시 기존 테이블 이름만 비켜두고, 데이터 복사는 이 스크립트로 기동과 분리해 실행
+--
+-- 사용:
+--   psql -v retention_days=30 -v batch_size=50000 -f scripts/migrate-unpartitioned-decision-logs.sql
+--
+-- - id 구간별 batch마다 COMMIT, 진행 위치는 decision_logs_migration에 남아 중단 후 다시 실행하면 이어서 진행
+-- - opa.partition.retention-days 이내의 레코드만 복사 (지난 레코드는 partition manager가 바로 지우므로 건너뜀)
+-- - (decision_id, ts)가 이미 있는 레코드는 버리지 않고 decision_logs_migration_skipped에 남김
+-- - id는 복사하지 않고 새로 발급 (이관 전부터 적재된 레코드의 id와 겹치지 않도록)
+-- - 기존 테이블은 삭제하지 않음: skipped를 확인한 뒤 직접 DROP TABLE decision_logs_unpartitioned
+
+\set ON_ERROR_STOP on
+
+CREATE TABLE IF NOT EXISTS decision_logs_migration (
+    singleton  BOOLEAN     PRIMARY KEY DEFAULT true CHECK (singleton),
+    last_id    BIGINT      NOT NULL,
+    copied     BIGINT      NOT NULL DEFAULT 0,
+    skipped    BIGINT      NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS decision_logs_migration_skipped AS
+    SELECT * FROM decision_logs_unpartitioned WITH NO DATA;
+
+CREATE OR REPLACE PROCEDURE migrate_unpartitioned_decision_logs(retention_days INT, batch_size INT)
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    cutoff        TIMESTAMPTZ := date_trunc('day', now() AT TIME ZONE 'UTC') AT TIME ZONE 'UTC'
+                                 - make_interval(days => retention_days);
+    from_id       BIGINT;
+    to_id         BIGINT;
+    max_id        BIGINT;
+    batch_copied  BIGINT;
+    batch_skipped BIGINT;
+    partition_day DATE;
+BEGIN
+    -- 여러 세션이 동시에 실행하지 않도록 session advisory lock (batch COMMIT 후에도 유지)
+    IF NOT pg_try_advisory_lock(hashtext('decision_logs_migration')) THEN
+        RAISE EXCEPTION 'another decision_logs migration is running';
+    END IF;
+
+    INSERT INTO decision_logs_migration (last_id) VALUES (0) ON CONFLICT DO NOTHING;
+    SELECT last_id INTO from_id FROM decision_logs_migration;
+    SELECT COALESCE(max(id), 0) INTO max_id FROM decision_logs_unpartitioned;
+    RAISE NOTICE 'migrating decision_logs_unpartitioned: from id % to %, ts >= %', from_id, max_id, cutoff;
+
+    WHILE from_id < max_id LOOP
+        to_id := from_id + batch_size;
+
+        -- 이 batch에 있는 날짜의 partition을 먼저 만들어 default partition에 쌓이지 않도록 함
+        -- default에 이미 같은 날짜 레코드가 있으면 생성이 실패하므로 그 날짜는 default에 둠
+        FOR partition_day IN
+            SELECT DISTINCT (ts AT TIME ZONE 'UTC')::date
+            FROM decision_logs_unpartitioned
+            WHERE id > from_id AND id <= to_id AND ts >= cutoff
+        LOOP
+            BEGIN
+                EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF decision_logs FOR VALUES FROM (%L) TO (%L)',
+                        'decision_logs_p' || to_char(partition_day, 'YYYYMMDD'),
+                        partition_day::text || ' 00:00:00+00',
+                        (partition_day + 1)::text || ' 00:00:00+00');
+            EXCEPTION WHEN check_violation THEN
+                RAISE NOTICE 'default partition already holds % rows, leaving them in default', partition_day;
+            END;
+        END LOOP;
+
+        -- 같은 batch 안의 중복 (decision_id, ts)는 첫 행만 넣고, 넣지 못한 행은 모두 skipped에 남김
+        WITH batch AS (
+            SELECT legacy.*,
+                   row_number() OVER (PARTITION BY legacy.decision_id, legacy.ts ORDER BY legacy.id) AS rn
+            FROM decision_logs_unpartitioned legacy
+            WHERE legacy.id > from_id AND legacy.id <= to_id AND legacy.ts >= cutoff
+        ), inserted AS (
+            INSERT INTO decision_logs (decision_id, ts, path, overall_allow, requested_by, req_id,
+                                       opa_instance_id, opa_version, service, bundles, raw, created_at)
+            SELECT decision_id, ts, path, overall_allow, requested_by, req_id,
+                   opa_instance_id, opa_version, service, bundles, raw, created_at
+            FROM batch
+            WHERE rn = 1
+            ON CONFLICT (decision_id, ts) DO NOTHING
+            RETURNING decision_id, ts
+        ), skipped AS (
+            INSERT INTO decision_logs_migration_skipped
+            SELECT legacy.*
+            FROM decision_logs_unpartitioned legacy
+            JOIN batch b ON b.id = legacy.id
+            WHERE b.rn > 1
+               OR NOT EXISTS (SELECT 1 FROM inserted i WHERE i.decision_id = b.decision_id AND i.ts = b.ts)
+            RETURNING 1
+        )
+        SELECT (SELECT count(*) FROM inserted), (SELECT count(*) FROM skipped)
+        INTO batch_copied, batch_skipped;
+
+        UPDATE decision_logs_migration
+        SET last_id = to_id,
+            copied = copied + batch_copied,
+            skipped = skipped + batch_skipped,
+            updated_at = now();
+        COMMIT;
+
+        IF batch_skipped > 0 THEN
+            RAISE WARNING 'ids (%, %]: % row(s) conflicted on (decision_id, ts), kept in decision_logs_migration_skipped',
+                    from_id, to_id, batch_skipped;
+        END IF;
+        RAISE NOTICE 'ids (%, %]: copied=%, skipped=%', from_id, to_id, batch_copied, batch_skipped;
+        from_id := to_id;
+    END LOOP;
+
+    PERFORM pg_advisory_unlock(hashtext('decision_logs_migration'));
+    RAISE NOTICE 'migration finished: %',
+            (SELECT format('copied=%s, skipped=%s', copied, skipped) FROM decision_logs_migration);
+    RAISE NOTICE 'review decision_logs_migration_skipped, then DROP TABLE decision_logs_unpartitioned';
+END
+$$;
+
+CALL migrate_unpartitioned_decision_logs(:retention_days, :batch_size);
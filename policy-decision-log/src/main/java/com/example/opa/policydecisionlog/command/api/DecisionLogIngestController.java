@@ -1,5 +1,7 @@
 package com.example.opa.policydecisionlog.command.api;
 
+import com.example.opa.policydecisionlog.command.api.parser.DecisionLogArraySplitter;
+import com.example.opa.policydecisionlog.command.app.dto.RawDecisionLog;
 import com.example.opa.policydecisionlog.command.app.usecase.PublishDecisionLogUseCase;
 import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,7 +14,6 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,16 +21,19 @@ import java.util.Map;
 public class DecisionLogIngestController {
 
     private final PublishDecisionLogUseCase publishDecisionLogUseCase;
+    private final DecisionLogArraySplitter splitter;
     private final DecisionLogMetrics metrics;
 
     @Operation(summary = "Decision Log 수집", description = "OPA에서 전송한 Decision Log를 Kafka로 발행합니다.")
     @ApiResponse(responseCode = "204", description = "No Content")
     @ApiResponse(responseCode = "400", description = "Bad Request")
+    @ApiResponse(responseCode = "429", description = "Too Many Requests")
     @ApiResponse(responseCode = "503", description = "Service Unavailable")
     @PostMapping("/logs")
-    public ResponseEntity<Void> ingestLogs(@RequestBody List<Map<String, Object>> requests) {
-        publishDecisionLogUseCase.execute(requests);
-        metrics.recordIngest(requests.size());
+    public ResponseEntity<Void> ingestLogs(@RequestBody byte[] body) {
+        List<RawDecisionLog> logs = splitter.split(body);
+        publishDecisionLogUseCase.execute(logs);
+        metrics.recordIngest(logs.size());
         return ResponseEntity.noContent().build();
     }
 }
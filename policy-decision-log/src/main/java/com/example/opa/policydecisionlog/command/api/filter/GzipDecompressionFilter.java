@@ -2,13 +2,11 @@ package com.example.opa.policydecisionlog.command.api.filter;
 
 import com.example.opa.policydecisionlog.shared.config.GzipProperties;
 import jakarta.servlet.FilterChain;
-import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
@@ -17,15 +15,23 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.Optional;
-import java.util.zip.GZIPInputStream;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GzipDecompressionFilter extends OncePerRequestFilter {
 
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
     private final GzipProperties gzipProperties;
+    private final InflaterPool inflaterPool;
+
+    public GzipDecompressionFilter(GzipProperties gzipProperties) {
+        this.gzipProperties = gzipProperties;
+        this.inflaterPool = new InflaterPool(gzipProperties.inflaterPoolSize(), DEFAULT_BUFFER_SIZE);
+    }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
@@ -49,100 +55,101 @@ public class GzipDecompressionFilter extends OncePerRequestFilter {
                 return;
             }
 
-            GzipRequestWrapper wrapper = new GzipRequestWrapper(request, gzipProperties.maxDecompressedSize());
-            log.debug("Decompressed request: {} bytes -> {} bytes", compressedSize, wrapper.getContentLengthLong());
-            filterChain.doFilter(wrapper, response);
+            GzipRequestWrapper wrapper = new GzipRequestWrapper(request, inflaterPool, gzipProperties);
+            try {
+                filterChain.doFilter(wrapper, response);
+            } finally {
+                log.debug("Decompressed request: {} bytes -> {} bytes", compressedSize, wrapper.decompressedSize());
+                wrapper.release();
+            }
         } else {
             filterChain.doFilter(request, response);
         }
     }
 
     private static class GzipRequestWrapper extends HttpServletRequestWrapper {
-        private static final int DEFAULT_BUFFER_SIZE = 8192;
-        private final byte[] decompressedData;
+        private final InflaterPool inflaterPool;
+        private final GzipProperties gzipProperties;
+        private GzipInflatingInputStream inputStream;
+        private BufferedReader reader;
 
-        public GzipRequestWrapper(HttpServletRequest request, long maxDecompressedSize) throws IOException {
+        public GzipRequestWrapper(HttpServletRequest request, InflaterPool inflaterPool, GzipProperties gzipProperties) {
             super(request);
-            this.decompressedData = decompress(request.getInputStream(), maxDecompressedSize);
-        }
-
-        private byte[] decompress(ServletInputStream inputStream, long maxDecompressedSize) throws IOException {
-            try (GZIPInputStream gzipInputStream = new GZIPInputStream(inputStream);
-                 ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-
-                byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
-                int bytesRead;
-                long totalRead = 0;
-
-                while ((bytesRead = gzipInputStream.read(buffer)) != -1) {
-                    totalRead += bytesRead;
-                    if (totalRead > maxDecompressedSize) {
-                        throw new IOException("Decompressed size exceeds limit: " + maxDecompressedSize + " bytes");
-                    }
-                    outputStream.write(buffer, 0, bytesRead);
-                }
-                return outputStream.toByteArray();
-            }
+            this.inflaterPool = inflaterPool;
+            this.gzipProperties = gzipProperties;
         }
 
         @Override
-        public ServletInputStream getInputStream() {
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(decompressedData);
-            return new ServletInputStream() {
-
-                private boolean finished = false;
-
-                @Override
-                public int read() {
-                    int data = byteArrayInputStream.read();
-                    if (data == -1) {
-                        this.finished = true;
-                    }
-
-                    return data;
-                }
-
-                @Override
-                public boolean isFinished() {
-                    return finished;
-                }
-
-                @Override
-                public boolean isReady() {
-                    return true;
-                }
-
-                @Override
-                public void setReadListener(ReadListener listener) {
-                    throw new UnsupportedOperationException();
-                }
-            };
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new GzipInflatingInputStream(
+                        super.getInputStream(),
+                        inflaterPool,
+                        gzipProperties.maxCompressedSize(),
+                        gzipProperties.maxDecompressedSize()
+                );
+            }
+            return inputStream;
         }
 
         @Override
         public BufferedReader getReader() throws IOException {
-            Charset cs = Optional.ofNullable(getCharacterEncoding())
-                    .map(Charset::forName)
-                    .orElse(StandardCharsets.UTF_8);
-            return new BufferedReader(new InputStreamReader(getInputStream(), cs));
+            if (reader == null) {
+                Charset cs = Optional.ofNullable(getCharacterEncoding())
+                        .map(Charset::forName)
+                        .orElse(StandardCharsets.UTF_8);
+                reader = new BufferedReader(new InputStreamReader(getInputStream(), cs));
+            }
+            return reader;
         }
 
         @Override
         public String getHeader(String name) {
-            if (HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)) {
+            if (isMaskedHeader(name)) {
                 return null;
             }
             return super.getHeader(name);
         }
 
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (isMaskedHeader(name)) {
+                return Collections.emptyEnumeration();
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !isMaskedHeader(name))
+                    .toList());
+        }
+
+        // 스트리밍으로 압축 해제하므로 본문 길이는 끝까지 읽기 전에는 알 수 없다
         @Override
         public int getContentLength() {
-            return decompressedData.length;
+            return -1;
         }
 
         @Override
         public long getContentLengthLong() {
-            return decompressedData.length;
+            return -1;
+        }
+
+        long decompressedSize() {
+            return inputStream != null ? inputStream.decompressedSize() : 0;
+        }
+
+        void release() {
+            if (inputStream != null) {
+                inputStream.release();
+            }
+        }
+
+        private boolean isMaskedHeader(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)
+                    || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
         }
     }
 }
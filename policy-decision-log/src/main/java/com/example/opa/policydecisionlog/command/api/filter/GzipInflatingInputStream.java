@@ -0,0 +1,259 @@
+package com.example.opa.policydecisionlog.command.api.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+class GzipInflatingInputStream extends ServletInputStream {
+
+    private static final int GZIP_MAGIC_1 = 0x1f;
+    private static final int GZIP_MAGIC_2 = 0x8b;
+    private static final int CM_DEFLATE = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private enum State { HEADER, BODY, EOF }
+
+    private final InputStream in;
+    private final InflaterPool pool;
+    private final long maxCompressedSize;
+    private final long maxDecompressedSize;
+    private final CRC32 crc = new CRC32();
+    private final byte[] single = new byte[1];
+
+    private Inflater inflater;
+    private byte[] buffer;
+    private int pos;
+    private int limit;
+
+    private State state = State.HEADER;
+    private boolean firstMember = true;
+    private long compressedRead;
+    private long decompressedRead;
+    private long memberSize;
+
+    GzipInflatingInputStream(InputStream in, InflaterPool pool, long maxCompressedSize, long maxDecompressedSize) {
+        this.in = in;
+        this.pool = pool;
+        this.maxCompressedSize = maxCompressedSize;
+        this.maxDecompressedSize = maxDecompressedSize;
+        this.inflater = pool.acquireInflater();
+        this.buffer = pool.acquireBuffer();
+    }
+
+    long decompressedSize() {
+        return decompressedRead;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int n = read(single, 0, 1);
+        return n == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        ensureOpen();
+
+        while (true) {
+            if (state == State.EOF) {
+                release();
+                return -1;
+            }
+            if (state == State.HEADER) {
+                state = readHeader() ? State.BODY : State.EOF;
+                continue;
+            }
+
+            // 제한 + 1 byte 까지만 inflate 하여 초과분을 만들지 않고 즉시 감지
+            long allowance = maxDecompressedSize - decompressedRead + 1;
+            int n = inflate(b, off, (int) Math.min(len, allowance));
+            if (n > 0) {
+                decompressedRead += n;
+                if (decompressedRead > maxDecompressedSize) {
+                    release();
+                    throw new GzipSizeLimitExceededException("Decompressed", maxDecompressedSize);
+                }
+                crc.update(b, off, n);
+                memberSize += n;
+                return n;
+            }
+            readTrailer();
+            state = State.HEADER;
+        }
+    }
+
+    @Override
+    public boolean isFinished() {
+        return state == State.EOF;
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    @Override
+    public void setReadListener(ReadListener listener) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+
+    void release() {
+        if (inflater != null) {
+            pool.releaseInflater(inflater);
+            inflater = null;
+        }
+        if (buffer != null) {
+            pool.releaseBuffer(buffer);
+            buffer = null;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (inflater == null && state != State.EOF) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private int inflate(byte[] b, int off, int len) throws IOException {
+        try {
+            while (true) {
+                int n = inflater.inflate(b, off, len);
+                if (n > 0) {
+                    return n;
+                }
+                if (inflater.finished() || inflater.needsDictionary()) {
+                    pos = limit - inflater.getRemaining();
+                    return 0;
+                }
+                if (inflater.needsInput()) {
+                    if (pos == limit && !fill()) {
+                        throw new EOFException("Unexpected end of ZLIB input stream");
+                    }
+                    inflater.setInput(buffer, pos, limit - pos);
+                    pos = limit;
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage() != null ? e.getMessage() : "Invalid ZLIB data format");
+        }
+    }
+
+    private boolean readHeader() throws IOException {
+        int magic1 = readByte();
+        if (magic1 == -1 && !firstMember) {
+            return false;
+        }
+        int magic2 = readByte();
+        if (magic1 != GZIP_MAGIC_1 || magic2 != GZIP_MAGIC_2) {
+            if (firstMember) {
+                throw new ZipException("Not in GZIP format");
+            }
+            // GZIPInputStream과 동일하게 member 뒤의 trailing garbage는 무시
+            return false;
+        }
+        if (readRequiredByte() != CM_DEFLATE) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = readRequiredByte();
+        skipBytes(6); // MTIME(4) + XFL(1) + OS(1)
+        if ((flags & FEXTRA) != 0) {
+            skipBytes(readRequiredByte() | (readRequiredByte() << 8));
+        }
+        if ((flags & FNAME) != 0) {
+            skipZeroTerminated();
+        }
+        if ((flags & FCOMMENT) != 0) {
+            skipZeroTerminated();
+        }
+        if ((flags & FHCRC) != 0) {
+            skipBytes(2);
+        }
+
+        if (!firstMember) {
+            inflater.reset();
+            crc.reset();
+            memberSize = 0;
+        }
+        firstMember = false;
+        return true;
+    }
+
+    private void readTrailer() throws IOException {
+        long expectedCrc = readUnsignedInt();
+        long expectedSize = readUnsignedInt();
+        if (expectedCrc != crc.getValue()) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+        if (expectedSize != (memberSize & 0xffffffffL)) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+    }
+
+    private long readUnsignedInt() throws IOException {
+        long value = 0;
+        for (int i = 0; i < 4; i++) {
+            value |= ((long) readRequiredByte()) << (8 * i);
+        }
+        return value;
+    }
+
+    private void skipBytes(int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            readRequiredByte();
+        }
+    }
+
+    private void skipZeroTerminated() throws IOException {
+        while (readRequiredByte() != 0) {
+            // skip
+        }
+    }
+
+    private int readRequiredByte() throws IOException {
+        int value = readByte();
+        if (value == -1) {
+            throw new EOFException("Unexpected end of GZIP input stream");
+        }
+        return value;
+    }
+
+    private int readByte() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos++] & 0xff;
+    }
+
+    private boolean fill() throws IOException {
+        int n = in.read(buffer, 0, buffer.length);
+        if (n <= 0) {
+            return false;
+        }
+        compressedRead += n;
+        if (compressedRead > maxCompressedSize) {
+            release();
+            throw new GzipSizeLimitExceededException("Compressed", maxCompressedSize);
+        }
+        pos = 0;
+        limit = n;
+        return true;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.opa.policydecisionlog.command.api.filter;
+
+import java.io.IOException;
+
+public class GzipSizeLimitExceededException extends IOException {
+
+    public GzipSizeLimitExceededException(String kind, long limit) {
+        super(kind + " size exceeds limit: " + limit + " bytes");
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.opa.policydecisionlog.command.api.filter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Inflater;
+
+class InflaterPool {
+
+    private final BlockingQueue<Inflater> inflaters;
+    private final BlockingQueue<byte[]> buffers;
+    private final int bufferSize;
+
+    InflaterPool(int capacity, int bufferSize) {
+        int bounded = Math.max(capacity, 1);
+        this.inflaters = new ArrayBlockingQueue<>(bounded);
+        this.buffers = new ArrayBlockingQueue<>(bounded);
+        this.bufferSize = bufferSize;
+    }
+
+    Inflater acquireInflater() {
+        Inflater inflater = inflaters.poll();
+        return inflater != null ? inflater : new Inflater(true);
+    }
+
+    void releaseInflater(Inflater inflater) {
+        inflater.reset();
+        if (!inflaters.offer(inflater)) {
+            // 풀이 가득 차면 native 메모리를 즉시 반환
+            inflater.end();
+        }
+    }
+
+    byte[] acquireBuffer() {
+        byte[] buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    void releaseBuffer(byte[] buffer) {
+        buffers.offer(buffer);
+    }
+}
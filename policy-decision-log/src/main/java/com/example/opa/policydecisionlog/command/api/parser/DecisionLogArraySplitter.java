@@ -0,0 +1,70 @@
+package com.example.opa.policydecisionlog.command.api.parser;
+
+import com.example.opa.policydecisionlog.command.app.dto.RawDecisionLog;
+import com.example.opa.policydecisionlog.shared.exception.MalformedDecisionLogException;
+import com.example.opa.policydecisionlog.shared.exception.MissingDecisionIdException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class DecisionLogArraySplitter {
+
+    private static final String DECISION_ID = "decision_id";
+
+    private final JsonMapper jsonMapper;
+
+    public List<RawDecisionLog> split(byte[] body) {
+        List<RawDecisionLog> logs = new ArrayList<>();
+
+        try (JsonParser parser = jsonMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new MalformedDecisionLogException("Request body must be a JSON array");
+            }
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new MalformedDecisionLogException("Decision log must be a JSON object");
+                }
+                logs.add(readElement(parser, body));
+            }
+            if (parser.nextToken() != null) {
+                throw new MalformedDecisionLogException("Unexpected content after JSON array");
+            }
+        } catch (JacksonException e) {
+            throw new MalformedDecisionLogException(e.getOriginalMessage(), e);
+        }
+
+        return logs;
+    }
+
+    private RawDecisionLog readElement(JsonParser parser, byte[] body) {
+        int start = (int) parser.currentTokenLocation().getByteOffset();
+        String decisionId = null;
+
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (DECISION_ID.equals(name) && value.isScalarValue()) {
+                decisionId = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        int end = (int) parser.currentTokenLocation().getByteOffset() + 1;
+        if (decisionId == null) {
+            throw new MissingDecisionIdException();
+        }
+        return new RawDecisionLog(decisionId, Arrays.copyOfRange(body, start, end));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.opa.policydecisionlog.command.app.admission;
+
+import com.example.opa.policydecisionlog.command.app.port.PublishPressureProbe;
+import com.example.opa.policydecisionlog.shared.config.IngestAdmissionProperties;
+import com.example.opa.policydecisionlog.shared.exception.IngestRejectedException;
+import com.example.opa.policydecisionlog.shared.exception.IngestRejectedException.Reason;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class IngestAdmissionController {
+
+    private final PublishPressureProbe pressureProbe;
+    private final IngestAdmissionProperties properties;
+    private final DecisionLogMetrics metrics;
+
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final AtomicInteger inFlightRecords = new AtomicInteger();
+    private volatile double limit;
+
+    public IngestAdmissionController(
+            PublishPressureProbe pressureProbe,
+            IngestAdmissionProperties properties,
+            DecisionLogMetrics metrics
+    ) {
+        this.pressureProbe = pressureProbe;
+        this.properties = properties;
+        this.metrics = metrics;
+        this.limit = properties.initialLimit();
+        metrics.registerAdmissionGauges(this::currentLimit, inFlightRequests::get, inFlightRecords::get);
+    }
+
+    public Permit acquire(int records) {
+        if (!properties.enabled()) {
+            return new Permit(records, 0, System.nanoTime());
+        }
+
+        double bufferUtilization = pressureProbe.bufferUtilization();
+        if (bufferUtilization >= properties.maxBufferUtilization()) {
+            throw reject(Reason.BACKPRESSURE,
+                    "Kafka producer buffer is %.0f%% full".formatted(bufferUtilization * 100));
+        }
+
+        while (true) {
+            int current = inFlightRequests.get();
+            if (current >= currentLimit()) {
+                throw reject(Reason.OVERLOADED,
+                        "Too many in-flight ingest requests: %d (limit %d)".formatted(current, currentLimit()));
+            }
+            if (inFlightRequests.compareAndSet(current, current + 1)) {
+                inFlightRecords.addAndGet(records);
+                return new Permit(records, current + 1, System.nanoTime());
+            }
+        }
+    }
+
+    int currentLimit() {
+        return (int) limit;
+    }
+
+    private IngestRejectedException reject(Reason reason, String message) {
+        metrics.recordIngestRejected(reason.name().toLowerCase());
+        log.warn("Ingest rejected: reason={}, {}", reason, message);
+        return new IngestRejectedException(reason, properties.retryAfterSeconds(), message);
+    }
+
+    // AIMD: 목표 지연 이내로 성공하면 limit + 1, 지연 초과/실패 시 limit * backoffRatio
+    private synchronized void onComplete(Permit permit, boolean success) {
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - permit.startNanos);
+        if (!success || latencyMs > properties.targetLatencyMs()) {
+            limit = Math.max(properties.minLimit(), limit * properties.backoffRatio());
+            log.debug("Admission limit decreased to {}: success={}, latencyMs={}", currentLimit(), success, latencyMs);
+        } else if (permit.inFlightAtStart * 2 >= limit) {
+            // limit에 근접하게 사용 중일 때만 증가시켜 유휴 상태에서 limit이 부풀지 않도록 함
+            limit = Math.min(properties.maxLimit(), limit + 1);
+        }
+    }
+
+    public final class Permit {
+        private final int records;
+        private final int inFlightAtStart;
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(int records, int inFlightAtStart, long startNanos) {
+            this.records = records;
+            this.inFlightAtStart = inFlightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        public void release(boolean success) {
+            if (released || !properties.enabled()) {
+                return;
+            }
+            released = true;
+            inFlightRequests.decrementAndGet();
+            inFlightRecords.addAndGet(-records);
+            onComplete(this, success);
+        }
+    }
+}
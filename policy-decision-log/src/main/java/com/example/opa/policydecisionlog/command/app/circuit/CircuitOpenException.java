@@ -0,0 +1,9 @@
+package com.example.opa.policydecisionlog.command.app.circuit;
+
+// DB 시도 없이 거절된 저장 (ErrorClassifier에서 Retryable로 분류되어 parking lot으로 이동)
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException() {
+        super("Database circuit breaker is open", null, false, false);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.opa.policydecisionlog.command.app.circuit;
+
+import com.example.opa.policydecisionlog.command.app.error.ErrorClassifier;
+import com.example.opa.policydecisionlog.shared.config.DbCircuitBreakerProperties;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/*
+ * DecisionLogPersistence 호출 앞단의 circuit breaker
+ * - CLOSED: 모든 저장 허용, Retryable 실패/지연 초과가 연속 failureThreshold회면 OPEN
+ * - OPEN: openDuration 동안 DB 시도 없이 거절 (batch는 바로 parking lot, parking 복구는 pause)
+ * - HALF_OPEN: 한 번에 하나의 probe만 허용, halfOpenProbes회 연속 성공하면 CLOSED, 실패하면 다시 OPEN
+ * - Non-retryable(데이터) 실패는 DB가 응답한 것이므로 성공으로 취급
+ * - tryAcquire가 true면 호출자는 반드시 onSuccess/onFailure/release 중 하나를 호출 (probe가 남지 않도록)
+ */
+@Slf4j
+@Component
+public class DatabaseCircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final ErrorClassifier errorClassifier;
+    private final DbCircuitBreakerProperties properties;
+    private final DecisionLogMetrics metrics;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int probeSuccesses;
+    private boolean probeInFlight;
+    private long openedAtNanos;
+
+    @Autowired
+    public DatabaseCircuitBreaker(
+            ErrorClassifier errorClassifier,
+            DbCircuitBreakerProperties properties,
+            DecisionLogMetrics metrics
+    ) {
+        this(errorClassifier, properties, metrics, System::nanoTime);
+    }
+
+    DatabaseCircuitBreaker(
+            ErrorClassifier errorClassifier,
+            DbCircuitBreakerProperties properties,
+            DecisionLogMetrics metrics,
+            LongSupplier nanoClock
+    ) {
+        this.errorClassifier = errorClassifier;
+        this.properties = properties;
+        this.metrics = metrics;
+        this.nanoClock = nanoClock;
+        metrics.registerDbCircuitGauge(() -> state().ordinal());
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (!properties.enabled()) {
+            return true;
+        }
+        if (state == State.OPEN && remainingOpenNanos() <= 0) {
+            transitionTo(State.HALF_OPEN);
+        }
+        boolean permitted = switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> !probeInFlight;
+            case OPEN -> false;
+        };
+        if (!permitted) {
+            metrics.recordDbCircuitRejected();
+        } else if (state == State.HALF_OPEN) {
+            probeInFlight = true;
+        }
+        return permitted;
+    }
+
+    public synchronized void onSuccess(long elapsedNanos) {
+        if (!properties.enabled()) {
+            return;
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMs > properties.slowCallThresholdMs()) {
+            log.warn("Slow DB save counted as failure: elapsedMs={}", elapsedMs);
+            recordFailure();
+        } else {
+            recordSuccess();
+        }
+    }
+
+    public synchronized void onFailure(Throwable error) {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (errorClassifier.isRetryable(error)) {
+            recordFailure();
+        } else {
+            recordSuccess();
+        }
+    }
+
+    // 허용받은 호출이 onSuccess/onFailure 없이 끝났을 때(Error 등) probe 자리만 반납, 상태는 바꾸지 않음
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    // OPEN이 끝나 probe가 가능해질 때까지 남은 시간 (그 외 상태는 0)
+    public synchronized Duration retryAfter() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, remainingOpenNanos()));
+    }
+
+    private void recordSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            if (++probeSuccesses >= properties.halfOpenProbes()) {
+                transitionTo(State.CLOSED);
+            }
+        }
+    }
+
+    private void recordFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED && ++consecutiveFailures >= properties.failureThreshold()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private long remainingOpenNanos() {
+        return openedAtNanos + TimeUnit.MILLISECONDS.toNanos(properties.openDurationMs()) - nanoClock.getAsLong();
+    }
+
+    private void transitionTo(State next) {
+        log.warn("DB circuit breaker {} -> {}: consecutiveFailures={}", state, next, consecutiveFailures);
+        state = next;
+        consecutiveFailures = 0;
+        probeSuccesses = 0;
+        probeInFlight = false;
+        if (next == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        }
+    }
+}
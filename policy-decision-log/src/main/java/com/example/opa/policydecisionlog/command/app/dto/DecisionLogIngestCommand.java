@@ -1,14 +1,17 @@
 package com.example.opa.policydecisionlog.command.app.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import tools.jackson.databind.JsonNode;
 
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.UUID;
 
-@JsonIgnoreProperties(ignoreUnknown = true)
+/*
+ * 역직렬화는 from(tree)만 사용 (binding 없음)
+ * - Jackson 어노테이션은 원본 byte가 없는 command를 parking/DLQ로 직렬화할 때 from()이 읽는 필드 이름과 맞추기 위한 것
+ */
 public record DecisionLogIngestCommand(
         @JsonProperty("decision_id") UUID decisionId,
         OffsetDateTime timestamp,
@@ -19,15 +22,43 @@ public record DecisionLogIngestCommand(
         JsonNode bundles,
         JsonNode input,
         JsonNode result,
-        @JsonIgnore JsonNode raw
+        @JsonIgnore JsonNode raw,
+        @JsonIgnore byte[] rawBytes         // raw의 원본 JSON byte (Kafka record 값), 저장 시 재직렬화 없이 사용
 ) {
-    @JsonIgnoreProperties(ignoreUnknown = true)
+    public DecisionLogIngestCommand(
+            UUID decisionId, OffsetDateTime timestamp, String path, String requestedBy, Long reqId,
+            Labels labels, JsonNode bundles, JsonNode input, JsonNode result, JsonNode raw
+    ) {
+        this(decisionId, timestamp, path, requestedBy, reqId, labels, bundles, input, result, raw, null);
+    }
+
     public record Labels(
             UUID id,
             String version
     ) {
     }
 
+    // 한 번 파싱한 tree에서 생성하여 bundles/input/result가 raw의 하위 노드를 그대로 공유
+    public static DecisionLogIngestCommand from(JsonNode raw, byte[] rawBytes) {
+        if (raw == null || !raw.isObject()) {
+            throw new IllegalArgumentException("Decision log must be a JSON object");
+        }
+        JsonNode labels = raw.get("labels");
+        return new DecisionLogIngestCommand(
+                uuid(raw.get("decision_id")),
+                timestamp(raw.get("timestamp")),
+                text(raw.get("path")),
+                text(raw.get("requested_by")),
+                longValue(raw.get("req_id")),
+                isPresent(labels) ? new Labels(uuid(labels.get("id")), text(labels.get("version"))) : null,
+                node(raw.get("bundles")),
+                node(raw.get("input")),
+                node(raw.get("result")),
+                raw,
+                rawBytes
+        );
+    }
+
     public UUID opaInstanceId() {
         return labels != null ? labels.id() : null;
     }
@@ -36,10 +67,32 @@ public record DecisionLogIngestCommand(
         return labels != null ? labels.version() : null;
     }
 
-    public DecisionLogIngestCommand withRaw(JsonNode rawJson) {
-        return new DecisionLogIngestCommand(
-                decisionId, timestamp, path, requestedBy, reqId,
-                labels, bundles, input, result, rawJson
-        );
+    private static boolean isPresent(JsonNode node) {
+        return node != null && !node.isNull() && !node.isMissingNode();
+    }
+
+    private static JsonNode node(JsonNode node) {
+        return isPresent(node) ? node : null;
+    }
+
+    private static String text(JsonNode node) {
+        return isPresent(node) ? node.asString() : null;
+    }
+
+    private static UUID uuid(JsonNode node) {
+        return isPresent(node) ? UUID.fromString(node.asString()) : null;
+    }
+
+    private static Long longValue(JsonNode node) {
+        if (!isPresent(node)) {
+            return null;
+        }
+        return node.isNumber() ? node.longValue() : Long.valueOf(node.asString());
+    }
+
+    private static OffsetDateTime timestamp(JsonNode node) {
+        return isPresent(node)
+                ? OffsetDateTime.parse(node.asString()).withOffsetSameInstant(ZoneOffset.UTC)
+                : null;
     }
 }
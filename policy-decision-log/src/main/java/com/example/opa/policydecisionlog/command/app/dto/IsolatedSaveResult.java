@@ -0,0 +1,10 @@
+package com.example.opa.policydecisionlog.command.app.dto;
+
+import java.util.List;
+
+// row 단위 격리 저장 결과: 저장하지 못한 command와 그 과정에서 사용한 DB round trip 수
+public record IsolatedSaveResult(
+        List<DecisionLogIngestCommand> failed,
+        int dbCalls
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.opa.policydecisionlog.command.app.dto;
+
+// parking lot에서 꺼낸 decision log와 지금까지의 복구 시도 횟수
+public record ParkedDecisionLog(
+        DecisionLogIngestCommand command,
+        int attempt
+) {
+}
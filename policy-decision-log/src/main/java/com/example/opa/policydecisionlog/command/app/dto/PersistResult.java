@@ -2,6 +2,8 @@ package com.example.opa.policydecisionlog.command.app.dto;
 
 public enum PersistResult {
     SUCCESS,
+    // 일시적 DB 오류: 호출자가 backoff 후 같은 batch로 다시 시도
+    RETRY,
     PARKED,
     FAILED
 }
@@ -0,0 +1,8 @@
+package com.example.opa.policydecisionlog.command.app.dto;
+
+// payload: 요청 body에서 원소 범위만 잘라낸 원본 byte (splitter가 한 번만 복사, 이후 그대로 전송)
+public record RawDecisionLog(
+        String decisionId,
+        byte[] payload
+) {
+}
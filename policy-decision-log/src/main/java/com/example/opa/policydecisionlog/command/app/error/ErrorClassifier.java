@@ -1,5 +1,6 @@
 package com.example.opa.policydecisionlog.command.app.error;
 
+import com.example.opa.policydecisionlog.command.app.circuit.CircuitOpenException;
 import org.springframework.stereotype.Component;
 
 import java.net.ConnectException;
@@ -27,7 +28,7 @@ public class ErrorClassifier {
     );
 
     public boolean isRetryable(Throwable ex) {
-        if (hasNetworkException(ex)) {
+        if (ex instanceof CircuitOpenException || hasNetworkException(ex)) {
             return true;
         }
 
@@ -1,6 +1,11 @@
 package com.example.opa.policydecisionlog.command.app.error;
 
+import com.example.opa.policydecisionlog.command.app.circuit.CircuitOpenException;
+import com.example.opa.policydecisionlog.command.app.circuit.DatabaseCircuitBreaker;
 import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
+import com.example.opa.policydecisionlog.command.app.dto.IsolatedSaveResult;
+import com.example.opa.policydecisionlog.command.app.dto.ParkedDecisionLog;
+import com.example.opa.policydecisionlog.command.app.dto.PersistResult;
 import com.example.opa.policydecisionlog.command.app.port.DecisionLogPersistence;
 import com.example.opa.policydecisionlog.command.app.port.ParkingLotPublisher;
 import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
@@ -9,7 +14,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -17,8 +26,10 @@ import java.util.List;
 public class ErrorHandler {
 
     private final ErrorClassifier errorClassifier;
+    private final PoisonRecordValidator validator;
     private final ParkingLotPublisher parkingLotPublisher;
     private final DecisionLogPersistence persistence;
+    private final DatabaseCircuitBreaker circuitBreaker;
     private final DecisionLogMetrics metrics;
 
     public void handleRecovery(DecisionLogIngestCommand command, int attempt, Exception error) {
@@ -41,47 +52,181 @@ public class ErrorHandler {
             parkingLotPublisher.publish(commands);
             metrics.recordParkingSent(commands.size());
         } else {
-            log.info("Non-retryable error detected, starting bisect for {} command(s)", commands.size());
-            List<DecisionLogIngestCommand> failedCommands = new ArrayList<>();
-            bisectAndCollect(commands, failedCommands);
+            log.info("Non-retryable error detected, isolating poison records in {} command(s)", commands.size());
+            isolatePoison(commands);
+        }
+    }
+
+    /*
+     * batch에서 poison record만 DLQ로 보내고 나머지는 저장
+     * 1. pre-flight 검증으로 DB 호출 없이 알려진 원인을 걸러냄
+     * 2. 걸러낸 record가 있으면 나머지를 saveAll 한 번으로 다시 저장
+     * 3. 원인을 못 찾았거나 2가 실패하면 한 트랜잭션 안에서 row별 savepoint로 저장해 실패 row만 제외
+     * 2, 3의 DB 호출도 circuit breaker를 거치며, 허용되지 않으면 남은 row를 parking lot으로 보냄
+     */
+    private void isolatePoison(List<DecisionLogIngestCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        List<DecisionLogIngestCommand> poison = new ArrayList<>();
+        List<DecisionLogIngestCommand> valid = preflight(commands, poison);
 
-            for (DecisionLogIngestCommand failedCommand : failedCommands) {
-                parkingLotPublisher.toDlq(failedCommand);
-                log.warn("Sent failed record to DLQ: decisionId={}", failedCommand.decisionId());
+        // 격리를 시작하게 한 원래 saveAll 1회 + 이후 실제로 실행한 저장 호출
+        int dbCalls = 1;
+        boolean saved = valid.isEmpty();
+        if (!saved && !poison.isEmpty() && circuitBreaker.tryAcquire()) {
+            dbCalls++;
+            saved = trySaveAll(valid);
+        }
+        if (!saved) {
+            try {
+                IsolatedSaveResult result = saveIsolated(valid);
+                dbCalls += result.dbCalls();
+                poison.addAll(result.failed());
+            } catch (Exception e) {
+                if (!errorClassifier.isRetryable(e)) {
+                    throw e;
+                }
+                log.warn("Retryable error during poison isolation, sending {} command(s) to parking lot",
+                        valid.size(), e);
+                parkingLotPublisher.publish(valid);
+                metrics.recordParkingSent(valid.size());
             }
+        }
 
-            if (!failedCommands.isEmpty()) {
-                metrics.recordDlqSent(failedCommands.size());
-                log.info("Bisect completed: {} record(s) sent to DLQ", failedCommands.size());
+        for (DecisionLogIngestCommand poisonCommand : poison) {
+            parkingLotPublisher.toDlq(poisonCommand);
+            log.warn("Sent failed record to DLQ: decisionId={}", poisonCommand.decisionId());
+        }
+        if (!poison.isEmpty()) {
+            metrics.recordDlqSent(poison.size());
+            metrics.recordPoisonIsolation(poison.size(), dbCalls);
+            log.info("Poison isolation completed: {} record(s) sent to DLQ, dbCalls={}", poison.size(), dbCalls);
+        }
+    }
+
+    /*
+     * parking lot batch 저장이 데이터 오류로 실패했을 때 실패한 record만 DLQ (결과는 입력 순서와 같음)
+     * - isolatePoison과 같이 pre-flight 검증 후 나머지를 saveAll 한 번, 안 되면 한 트랜잭션의 row별 savepoint로 저장
+     * - circuit이 거절하면 첫 저장 대상부터 뒤의 record는 DLQ/재발행 없이 RETRY (호출자가 seek해 다시 읽음)
+     * - 격리 중 인프라 오류면 저장 대상만 다음 attempt로 재발행
+     */
+    public List<PersistResult> isolateRecovery(List<ParkedDecisionLog> parked) {
+        List<DecisionLogIngestCommand> commands = parked.stream().map(ParkedDecisionLog::command).toList();
+        List<DecisionLogIngestCommand> poisonList = new ArrayList<>();
+        List<DecisionLogIngestCommand> valid = preflight(commands, poisonList);
+        Set<DecisionLogIngestCommand> poison = Collections.newSetFromMap(new IdentityHashMap<>());
+        poison.addAll(poisonList);
+
+        int dbCalls = 1;
+        boolean saved = valid.isEmpty();
+        boolean rejected = false;
+        Exception retryableError = null;
+        if (!saved && !poison.isEmpty() && circuitBreaker.tryAcquire()) {
+            dbCalls++;
+            saved = trySaveAll(valid);
+        }
+        if (!saved) {
+            try {
+                IsolatedSaveResult result = saveIsolated(valid);
+                dbCalls += result.dbCalls();
+                poison.addAll(result.failed());
+            } catch (CircuitOpenException e) {
+                rejected = true;
+            } catch (Exception e) {
+                if (!errorClassifier.isRetryable(e)) {
+                    throw e;
+                }
+                log.warn("Retryable error during recovery isolation, republishing {} record(s) with next attempt",
+                        valid.size(), e);
+                retryableError = e;
             }
         }
+
+        List<PersistResult> results = new ArrayList<>(parked.size());
+        boolean retrying = false;
+        int dlqSent = 0;
+        for (ParkedDecisionLog item : parked) {
+            DecisionLogIngestCommand command = item.command();
+            boolean isPoison = poison.contains(command);
+            retrying = retrying || (rejected && !isPoison);
+            if (retrying) {
+                results.add(PersistResult.RETRY);
+            } else if (isPoison) {
+                parkingLotPublisher.toDlq(command);
+                log.warn("Sent failed recovery record to DLQ: decisionId={}, attempt={}",
+                        command.decisionId(), item.attempt());
+                dlqSent++;
+                results.add(PersistResult.PARKED);
+            } else if (retryableError != null) {
+                handleRecovery(command, item.attempt(), retryableError);
+                results.add(PersistResult.PARKED);
+            } else {
+                results.add(PersistResult.SUCCESS);
+            }
+        }
+        if (dlqSent > 0) {
+            metrics.recordDlqSent(dlqSent);
+            metrics.recordPoisonIsolation(dlqSent, dbCalls);
+            log.info("Recovery poison isolation completed: {} record(s) sent to DLQ, dbCalls={}", dlqSent, dbCalls);
+        }
+        return results;
     }
 
-    private void bisectAndCollect(List<DecisionLogIngestCommand> commands,
-                                  List<DecisionLogIngestCommand> failedCommands) {
-        if (commands.isEmpty()) {
-            return;
+    // pre-flight 검증에 걸린 command는 poison에 담고 나머지를 반환
+    private List<DecisionLogIngestCommand> preflight(
+            List<DecisionLogIngestCommand> commands,
+            List<DecisionLogIngestCommand> poison
+    ) {
+        List<DecisionLogIngestCommand> valid = new ArrayList<>(commands.size());
+        for (DecisionLogIngestCommand command : commands) {
+            Optional<String> violation = validator.validate(command);
+            if (violation.isPresent()) {
+                log.warn("Pre-flight validation failed: decisionId={}, reason={}",
+                        command.decisionId(), violation.get());
+                poison.add(command);
+            } else {
+                valid.add(command);
+            }
         }
+        return valid;
+    }
 
+    // circuit 허용을 받은 뒤에만 호출 (허용되지 않으면 이어지는 savepoint 격리도 거절되어 parking lot으로 이동)
+    private boolean trySaveAll(List<DecisionLogIngestCommand> commands) {
+        long start = System.nanoTime();
         try {
             persistence.saveAll(commands);
-            log.debug("Bisect batch saved successfully: {} command(s)", commands.size());
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            log.debug("Saved {} command(s) after removing pre-flight failures", commands.size());
+            return true;
         } catch (Exception e) {
-            if (commands.size() == 1) {
-                DecisionLogIngestCommand failedCommand = commands.getFirst();
-                log.warn("Single record failed: decisionId={}", failedCommand.decisionId());
-                failedCommands.add(failedCommand);
-                return;
-            }
-
-            int mid = commands.size() / 2;
-            List<DecisionLogIngestCommand> left = commands.subList(0, mid);
-            List<DecisionLogIngestCommand> right = commands.subList(mid, commands.size());
-
-            log.debug("Bisect split: {} -> {} + {}", commands.size(), left.size(), right.size());
+            circuitBreaker.onFailure(e);
+            log.info("Save after pre-flight validation still failed, falling back to savepoint isolation: {}",
+                    e.getMessage());
+            return false;
+        } catch (Error e) {
+            circuitBreaker.release();
+            throw e;
+        }
+    }
 
-            bisectAndCollect(left, failedCommands);
-            bisectAndCollect(right, failedCommands);
+    // row 수만큼 DB 왕복이 있으므로 지연 판정은 호출당 평균 시간으로
+    private IsolatedSaveResult saveIsolated(List<DecisionLogIngestCommand> commands) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new CircuitOpenException();
+        }
+        long start = System.nanoTime();
+        try {
+            IsolatedSaveResult result = persistence.saveIsolated(commands);
+            circuitBreaker.onSuccess((System.nanoTime() - start) / Math.max(1, result.dbCalls()));
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure(e);
+            throw e;
+        } catch (Error e) {
+            circuitBreaker.release();
+            throw e;
         }
     }
 }
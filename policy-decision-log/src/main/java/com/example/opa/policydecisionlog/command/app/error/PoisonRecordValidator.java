@@ -0,0 +1,93 @@
+package com.example.opa.policydecisionlog.command.app.error;
+
+import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/*
+ * DB에 보내지 않고 판별할 수 있는 Non-retryable 원인을 미리 검사 (schema.sql의 decision_logs 제약과 일치해야 함)
+ * - NOT NULL: decision_id, ts(timestamp), path
+ * - VARCHAR(255): path, requested_by, opa_version (service는 path의 segment이므로 path 검사로 충분)
+ * - PostgreSQL text/jsonb가 허용하지 않는 NUL 문자 (문자열의 '\0', JSON의 "\u0000" escape)
+ * 통과했다고 저장이 보장되지는 않으며, 알 수 없는 원인은 savepoint 격리 저장에서 걸러냄
+ */
+@Component
+public class PoisonRecordValidator {
+
+    static final int MAX_VARCHAR_LENGTH = 255;
+
+    private static final byte[] NUL_ESCAPE = "u0000".getBytes(StandardCharsets.UTF_8);
+
+    public Optional<String> validate(DecisionLogIngestCommand command) {
+        if (command.decisionId() == null) {
+            return Optional.of("decision_id is null");
+        }
+        if (command.timestamp() == null) {
+            return Optional.of("timestamp is null");
+        }
+        if (command.path() == null) {
+            return Optional.of("path is null");
+        }
+        return checkText("path", command.path())
+                .or(() -> checkText("requested_by", command.requestedBy()))
+                .or(() -> checkText("opa_version", command.opaVersion()))
+                .or(() -> checkJson(command));
+    }
+
+    private Optional<String> checkText(String column, String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        if (value.length() > MAX_VARCHAR_LENGTH) {
+            return Optional.of(column + " exceeds " + MAX_VARCHAR_LENGTH + " characters: " + value.length());
+        }
+        if (value.indexOf('\0') >= 0) {
+            return Optional.of(column + " contains NUL character");
+        }
+        return Optional.empty();
+    }
+
+    // bundles/decision_context는 raw의 일부이므로 raw만 검사
+    private Optional<String> checkJson(DecisionLogIngestCommand command) {
+        byte[] json = command.rawBytes();
+        if (json == null && command.raw() != null) {
+            json = command.raw().toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return json != null && containsNulEscape(json)
+                ? Optional.of("raw contains \\u0000 which jsonb does not accept")
+                : Optional.empty();
+    }
+
+    // 앞의 backslash 수가 홀수일 때만 escape ("\\u0000"은 문자열 "\u0000" 텍스트라 허용)
+    static boolean containsNulEscape(byte[] json) {
+        for (int i = 0; i + NUL_ESCAPE.length < json.length; i++) {
+            if (json[i] != '\\') {
+                continue;
+            }
+            int backslashes = 1;
+            while (i + backslashes < json.length && json[i + backslashes] == '\\') {
+                backslashes++;
+            }
+            int next = i + backslashes;
+            if (backslashes % 2 == 1 && matchesAt(json, next, NUL_ESCAPE)) {
+                return true;
+            }
+            i = next - 1;
+        }
+        return false;
+    }
+
+    private static boolean matchesAt(byte[] json, int offset, byte[] token) {
+        if (offset + token.length > json.length) {
+            return false;
+        }
+        for (int i = 0; i < token.length; i++) {
+            if (json[offset + i] != token[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
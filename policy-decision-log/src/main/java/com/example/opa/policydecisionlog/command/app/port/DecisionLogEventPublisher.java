@@ -1,9 +1,10 @@
 package com.example.opa.policydecisionlog.command.app.port;
 
+import com.example.opa.policydecisionlog.command.app.dto.RawDecisionLog;
+
 import java.util.List;
-import java.util.Map;
 
 public interface DecisionLogEventPublisher {
 
-    void publish(List<Map<String, Object>> requests);
+    void publish(List<RawDecisionLog> logs);
 }
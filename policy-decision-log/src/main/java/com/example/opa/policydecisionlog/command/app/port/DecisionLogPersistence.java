@@ -1,6 +1,7 @@
 package com.example.opa.policydecisionlog.command.app.port;
 
 import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
+import com.example.opa.policydecisionlog.command.app.dto.IsolatedSaveResult;
 
 import java.util.List;
 
@@ -9,4 +10,7 @@ public interface DecisionLogPersistence {
     void save(DecisionLogIngestCommand command);
 
     void saveAll(List<DecisionLogIngestCommand> commands);
+
+    // 한 트랜잭션 안에서 row 단위로 저장하고, 데이터 오류로 실패한 row만 제외
+    IsolatedSaveResult saveIsolated(List<DecisionLogIngestCommand> commands);
 }
@@ -0,0 +1,7 @@
+package com.example.opa.policydecisionlog.command.app.port;
+
+public interface PublishPressureProbe {
+
+    // producer 전송 버퍼 사용률 (0.0 ~ 1.0), 알 수 없으면 0.0
+    double bufferUtilization();
+}
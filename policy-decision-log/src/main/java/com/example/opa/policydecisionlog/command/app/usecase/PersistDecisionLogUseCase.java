@@ -1,7 +1,11 @@
 package com.example.opa.policydecisionlog.command.app.usecase;
 
+import com.example.opa.policydecisionlog.command.app.circuit.CircuitOpenException;
+import com.example.opa.policydecisionlog.command.app.circuit.DatabaseCircuitBreaker;
 import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
+import com.example.opa.policydecisionlog.command.app.dto.ParkedDecisionLog;
 import com.example.opa.policydecisionlog.command.app.dto.PersistResult;
+import com.example.opa.policydecisionlog.command.app.error.ErrorClassifier;
 import com.example.opa.policydecisionlog.command.app.error.ErrorHandler;
 import com.example.opa.policydecisionlog.command.app.port.DecisionLogPersistence;
 import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
@@ -9,6 +13,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 
 @Slf4j
@@ -16,54 +22,131 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PersistDecisionLogUseCase {
 
-    private static final int MAX_RETRIES = 2;
+    private static final int MAX_ATTEMPTS = 3;
     private static final long[] BACKOFF_MS = {1000, 2000};
+    private static final Duration MIN_RECOVERY_BACKOFF = Duration.ofSeconds(1);
 
     private final DecisionLogPersistence persistence;
     private final ErrorHandler errorHandler;
+    private final ErrorClassifier errorClassifier;
+    private final DatabaseCircuitBreaker circuitBreaker;
     private final DecisionLogMetrics metrics;
 
-    public PersistResult execute(List<DecisionLogIngestCommand> commands) {
-        log.debug("Persisting {} decision log(s) to database", commands.size());
-        return saveWithRetry(commands);
+    /*
+     * batch를 한 번만 저장 시도 (대기는 하지 않음)
+     * - 일시적 오류이고 시도 횟수가 남았으면 RETRY: 호출자가 retryBackoff만큼 뒤에 attempt + 1로 다시 호출
+     * - 데이터 오류이거나 마지막 시도면 ErrorHandler로 위임 (parking lot / bisect)
+     * - circuit이 열려 있으면 DB 시도 없이 바로 parking lot으로 위임
+     */
+    public PersistResult execute(List<DecisionLogIngestCommand> commands, int attempt) {
+        log.debug("Persisting {} decision log(s) to database: attempt={}", commands.size(), attempt);
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("DB circuit open, parking {} decision log(s) without DB attempt", commands.size());
+            return handleError(commands, attempt, new CircuitOpenException());
+        }
+        long start = System.nanoTime();
+        try {
+            persistence.saveAll(commands);
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            metrics.recordDbSave(true, commands.size());
+            return PersistResult.SUCCESS;
+        } catch (Exception e) {
+            circuitBreaker.onFailure(e);
+            if (errorClassifier.isRetryable(e) && attempt < MAX_ATTEMPTS - 1
+                    && circuitBreaker.state() == DatabaseCircuitBreaker.State.CLOSED) {
+                log.warn("DB save failed (attempt {}/{}), retrying in {}ms: {}",
+                        attempt + 1, MAX_ATTEMPTS, retryBackoff(attempt).toMillis(), e.getMessage());
+                metrics.recordDbSaveRetry();
+                return PersistResult.RETRY;
+            }
+            metrics.recordDbSave(false, commands.size());
+            return handleError(commands, attempt, e);
+        } catch (Error e) {
+            circuitBreaker.release();
+            throw e;
+        }
+    }
+
+    public Duration retryBackoff(int attempt) {
+        return Duration.ofMillis(BACKOFF_MS[Math.min(attempt, BACKOFF_MS.length - 1)]);
+    }
+
+    // OPEN이면 남은 시간, HALF_OPEN에서 probe 대기 중이면 최소 간격
+    public Duration recoveryBackoff() {
+        Duration retryAfter = circuitBreaker.retryAfter();
+        return retryAfter.compareTo(MIN_RECOVERY_BACKOFF) > 0 ? retryAfter : MIN_RECOVERY_BACKOFF;
     }
 
+    // circuit이 probe를 허용하지 않으면 attempt를 소모하지 않고 RETRY (호출자가 recoveryBackoff만큼 pause)
     public PersistResult executeRecovery(DecisionLogIngestCommand command, int attempt) {
         log.debug("Recovery persisting decision log to database: decisionId={}, attempt={}",
                 command.decisionId(), attempt);
+        if (!circuitBreaker.tryAcquire()) {
+            return PersistResult.RETRY;
+        }
+        long start = System.nanoTime();
         try {
             persistence.save(command);
+            circuitBreaker.onSuccess(System.nanoTime() - start);
             metrics.recordDbSave(true, 1);
             return PersistResult.SUCCESS;
         } catch (Exception e) {
+            circuitBreaker.onFailure(e);
             log.warn("Recovery DB save failed: decisionId={}, attempt={}", command.decisionId(), attempt, e);
             metrics.recordDbSave(false, 1);
             errorHandler.handleRecovery(command, attempt, e);
             return PersistResult.PARKED;
+        } catch (Error e) {
+            circuitBreaker.release();
+            throw e;
         }
     }
 
-    private PersistResult saveWithRetry(List<DecisionLogIngestCommand> commands) {
-        for (int attempt = 0; attempt < MAX_RETRIES; attempt++) {
-            try {
-                persistence.saveAll(commands);
-                metrics.recordDbSave(true, commands.size());
-                return PersistResult.SUCCESS;
-            } catch (Exception e) {
-                log.warn("DB save failed (attempt {}/{}): {}", attempt + 1, MAX_RETRIES, e.getMessage());
-                metrics.recordDbSaveRetry();
-                if (attempt == MAX_RETRIES - 1) {
-                    metrics.recordDbSave(false, commands.size());
-                    return handleError(commands, e);
+    /*
+     * parking lot에서 꺼낸 record들을 saveAll 한 번으로 복구 (결과는 입력 순서와 같음)
+     * - circuit이 허용하지 않으면 전부 RETRY (attempt를 소모하지 않고 호출자가 pause)
+     * - 인프라 오류면 DB를 다시 호출하지 않고 전부 다음 attempt로 재발행
+     * - 데이터 오류면 ErrorHandler가 pre-flight 검증과 row별 savepoint(한 트랜잭션)로 실패한 record만 DLQ
+     *   (격리 중 circuit이 거절하면 뒤의 record는 DB/재발행 없이 RETRY → 호출자가 seek해 다시 읽어도 중복되지 않음)
+     */
+    public List<PersistResult> executeRecoveryBatch(List<ParkedDecisionLog> parked) {
+        if (parked.isEmpty()) {
+            return List.of();
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            return Collections.nCopies(parked.size(), PersistResult.RETRY);
+        }
+        List<DecisionLogIngestCommand> commands = parked.stream()
+                .map(ParkedDecisionLog::command)
+                .toList();
+        long start = System.nanoTime();
+        try {
+            persistence.saveAll(commands);
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            metrics.recordDbSave(true, commands.size());
+            return Collections.nCopies(parked.size(), PersistResult.SUCCESS);
+        } catch (Exception e) {
+            circuitBreaker.onFailure(e);
+            if (errorClassifier.isRetryable(e)) {
+                log.warn("Recovery batch save failed, republishing {} record(s) with next attempt", parked.size(), e);
+                metrics.recordDbSave(false, commands.size());
+                for (ParkedDecisionLog item : parked) {
+                    errorHandler.handleRecovery(item.command(), item.attempt(), e);
                 }
-                sleep(BACKOFF_MS[attempt]);
+                return Collections.nCopies(parked.size(), PersistResult.PARKED);
             }
+            log.warn("Recovery batch save failed with data error, isolating failed records: size={}, cause={}",
+                    parked.size(), e.getMessage());
+            metrics.recordDbSave(false, commands.size());
+            return errorHandler.isolateRecovery(parked);
+        } catch (Error e) {
+            circuitBreaker.release();
+            throw e;
         }
-        return PersistResult.FAILED;
     }
 
-    private PersistResult handleError(List<DecisionLogIngestCommand> commands, Exception e) {
-        log.error("DB save failed after {} retries, delegating to error handler", MAX_RETRIES, e);
+    private PersistResult handleError(List<DecisionLogIngestCommand> commands, int attempt, Exception e) {
+        log.error("DB save failed after {} attempt(s), delegating to error handler", attempt + 1, e);
         try {
             errorHandler.handle(commands, e);
             return PersistResult.PARKED;
@@ -72,12 +155,4 @@ public class PersistDecisionLogUseCase {
             return PersistResult.FAILED;
         }
     }
-
-    private void sleep(long ms) {
-        try {
-            Thread.sleep(ms);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
 }
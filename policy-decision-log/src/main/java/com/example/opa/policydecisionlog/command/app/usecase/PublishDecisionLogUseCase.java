@@ -1,12 +1,13 @@
 package com.example.opa.policydecisionlog.command.app.usecase;
 
+import com.example.opa.policydecisionlog.command.app.admission.IngestAdmissionController;
+import com.example.opa.policydecisionlog.command.app.dto.RawDecisionLog;
 import com.example.opa.policydecisionlog.command.app.port.DecisionLogEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Map;
 
 @Slf4j
 @Service
@@ -14,9 +15,17 @@ import java.util.Map;
 public class PublishDecisionLogUseCase {
 
     private final DecisionLogEventPublisher eventPublisher;
+    private final IngestAdmissionController admissionController;
 
-    public void execute(List<Map<String, Object>> requests) {
-        log.info("Publishing {} decision log(s) to Kafka", requests.size());
-        eventPublisher.publish(requests);
+    public void execute(List<RawDecisionLog> logs) {
+        IngestAdmissionController.Permit permit = admissionController.acquire(logs.size());
+        boolean success = false;
+        try {
+            log.info("Publishing {} decision log(s) to Kafka", logs.size());
+            eventPublisher.publish(logs);
+            success = true;
+        } finally {
+            permit.release(success);
+        }
     }
 }
@@ -0,0 +1,173 @@
+package com.example.opa.policydecisionlog.command.infra.db;
+
+import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
+import com.example.opa.policydecisionlog.command.app.dto.IsolatedSaveResult;
+import com.example.opa.policydecisionlog.command.app.port.DecisionLogPersistence;
+import com.example.opa.policydecisionlog.command.infra.db.mapper.CommandToEntityMapper;
+import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogInsertRow;
+import com.example.opa.policydecisionlog.command.infra.db.rollup.DecisionRollupWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+ * COPY (FORMAT binary)로 임시 staging 테이블에 적재한 뒤 INSERT ... SELECT 한 번으로 병합
+ * 병합 결과 실제로 INSERT된 (decision_id, ts)만 rollup에 반영 (같은 트랜잭션)
+ * opa.persistence.write-mode=copy 일 때 사용
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "opa.persistence", name = "write-mode", havingValue = "copy")
+@RequiredArgsConstructor
+public class DecisionLogCopyPersistence implements DecisionLogPersistence {
+
+    private static final int COLUMN_COUNT = 12;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    // 세션 단위 임시 테이블, 트랜잭션 commit 시 비워짐
+    private static final String CREATE_STAGING_SQL = """
+            CREATE TEMP TABLE IF NOT EXISTS decision_logs_staging (
+                decision_id uuid, ts timestamptz, path text, overall_allow boolean,
+                requested_by text, req_id bigint, opa_instance_id uuid, opa_version text,
+                service text, bundles jsonb, raw jsonb, decision_context jsonb
+            ) ON COMMIT DELETE ROWS
+            """;
+
+    private static final String COPY_SQL = """
+            COPY decision_logs_staging (
+                decision_id, ts, path, overall_allow, requested_by, req_id,
+                opa_instance_id, opa_version, service, bundles, raw, decision_context
+            ) FROM STDIN (FORMAT binary)
+            """;
+
+    private static final String MERGE_SQL = """
+            INSERT INTO decision_logs (
+                decision_id, ts, path, overall_allow, requested_by, req_id,
+                opa_instance_id, opa_version, service, bundles, raw, decision_context, created_at
+            )
+            SELECT decision_id, ts, path, overall_allow, requested_by, req_id,
+                   opa_instance_id, opa_version, service, bundles, raw, decision_context, NOW()
+            FROM decision_logs_staging
+            ON CONFLICT (decision_id, ts) DO NOTHING
+            RETURNING decision_id, ts
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CommandToEntityMapper mapper;
+    private final DecisionRollupWriter rollupWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final SavepointIsolatedWriter isolatedWriter;
+
+    @Override
+    public void save(DecisionLogIngestCommand command) {
+        saveAll(List.of(command));
+    }
+
+    @Override
+    public void saveAll(List<DecisionLogIngestCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        List<DecisionLogInsertRow> rows = commands.stream()
+                .map(mapper::toInsertRow)
+                .toList();
+
+        // 트랜잭션 안에서는 JdbcTemplate이 같은 connection을 사용하므로 staging 테이블과 rollup 갱신이 함께 commit
+        Integer inserted = transactionTemplate.execute(status -> {
+            Set<InsertedKey> insertedKeys = jdbcTemplate.execute((ConnectionCallback<Set<InsertedKey>>) con -> copyAndMerge(con, rows));
+            List<DecisionLogInsertRow> insertedRows = insertedRows(rows, insertedKeys);
+            rollupWriter.merge(insertedRows);
+            return insertedRows.size();
+        });
+        log.debug("Copied {} decision log(s), inserted {}", rows.size(), inserted);
+    }
+
+    // COPY는 한 row만 잘못되어도 전체가 실패하므로 격리 저장은 row 단위 INSERT로 처리
+    @Override
+    public IsolatedSaveResult saveIsolated(List<DecisionLogIngestCommand> commands) {
+        return isolatedWriter.save(commands);
+    }
+
+    // 같은 (decision_id, ts)가 batch에 여러 번 있어도 INSERT는 한 번뿐이므로 반환된 키를 한 번씩만 소비
+    static List<DecisionLogInsertRow> insertedRows(List<DecisionLogInsertRow> rows, Set<InsertedKey> insertedKeys) {
+        Set<InsertedKey> remaining = new HashSet<>(insertedKeys);
+        List<DecisionLogInsertRow> inserted = new ArrayList<>(insertedKeys.size());
+        for (DecisionLogInsertRow row : rows) {
+            if (remaining.remove(InsertedKey.of(row.decisionId(), row.ts()))) {
+                inserted.add(row);
+            }
+        }
+        return inserted;
+    }
+
+    private Set<InsertedKey> copyAndMerge(Connection con, List<DecisionLogInsertRow> rows) throws SQLException {
+        try (Statement statement = con.createStatement()) {
+            statement.execute(CREATE_STAGING_SQL);
+        }
+        copy(con.unwrap(PGConnection.class), rows);
+        Set<InsertedKey> insertedKeys = new HashSet<>();
+        try (Statement statement = con.createStatement();
+             ResultSet resultSet = statement.executeQuery(MERGE_SQL)) {
+            while (resultSet.next()) {
+                insertedKeys.add(InsertedKey.of(
+                        resultSet.getObject(1, UUID.class), resultSet.getObject(2, OffsetDateTime.class)));
+            }
+        }
+        return insertedKeys;
+    }
+
+    private void copy(PGConnection connection, List<DecisionLogInsertRow> rows) throws SQLException {
+        try (PgBinaryCopyWriter writer = new PgBinaryCopyWriter(
+                new PGCopyOutputStream(connection, COPY_SQL, COPY_BUFFER_SIZE))) {
+            for (DecisionLogInsertRow row : rows) {
+                writeRow(writer, row);
+            }
+        } catch (IOException e) {
+            throw new SQLException("Failed to COPY decision logs into staging table", e);
+        }
+    }
+
+    private void writeRow(PgBinaryCopyWriter writer, DecisionLogInsertRow row) throws IOException {
+        writer.startRow(COLUMN_COUNT);
+        writer.writeUuid(row.decisionId());
+        writer.writeTimestamptz(row.ts());
+        writer.writeText(row.path());
+        writer.writeBoolean(row.overallAllow());
+        writer.writeText(row.requestedBy());
+        writer.writeInt8(row.reqId());
+        writer.writeUuid(row.opaInstanceId());
+        writer.writeText(row.opaVersion());
+        writer.writeText(row.service());
+        writer.writeJsonb(row.bundles());
+        writer.writeJsonb(row.raw());
+        writer.writeJsonb(row.decisionContext());
+    }
+
+    // DB에 저장된 정밀도(microsecond)와 offset 차이를 맞추기 위해 Instant로 비교
+    record InsertedKey(UUID decisionId, Instant ts) {
+
+        static InsertedKey of(UUID decisionId, OffsetDateTime ts) {
+            return new InsertedKey(decisionId, ts.toInstant().truncatedTo(ChronoUnit.MICROS));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.opa.policydecisionlog.command.infra.db;
+
+import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogInsertRow;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.nio.charset.StandardCharsets;
+
+// batch insert와 row 단위 격리 저장이 함께 쓰는 INSERT 문
+final class DecisionLogInsertStatement {
+
+    static final String SQL = """
+            INSERT INTO decision_logs (
+                decision_id, ts, path, overall_allow, requested_by, req_id,
+                opa_instance_id, opa_version, service, bundles, raw, decision_context, created_at
+            ) VALUES (
+                :decisionId, :ts, :path, :overallAllow, :requestedBy, :reqId,
+                :opaInstanceId, :opaVersion, :service,
+                CAST(:bundles AS jsonb), CAST(:raw AS jsonb), CAST(:decisionContext AS jsonb), NOW()
+            ) ON CONFLICT (decision_id, ts) DO NOTHING
+            """;
+
+    private DecisionLogInsertStatement() {
+    }
+
+    static SqlParameterSource parameters(DecisionLogInsertRow row) {
+        return new MapSqlParameterSource()
+                .addValue("decisionId", row.decisionId())
+                .addValue("ts", row.ts())
+                .addValue("path", row.path())
+                .addValue("overallAllow", row.overallAllow())
+                .addValue("requestedBy", row.requestedBy())
+                .addValue("reqId", row.reqId())
+                .addValue("opaInstanceId", row.opaInstanceId())
+                .addValue("opaVersion", row.opaVersion())
+                .addValue("service", row.service())
+                .addValue("bundles", toJsonString(row.bundles()))
+                .addValue("raw", toJsonString(row.raw()))
+                .addValue("decisionContext", toJsonString(row.decisionContext()));
+    }
+
+    private static String toJsonString(byte[] json) {
+        return json != null ? new String(json, StandardCharsets.UTF_8) : null;
+    }
+}
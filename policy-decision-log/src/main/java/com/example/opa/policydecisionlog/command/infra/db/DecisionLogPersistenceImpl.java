@@ -1,75 +1,76 @@
 package com.example.opa.policydecisionlog.command.infra.db;
 
+import com.example.opa.policydecisionlog.command.app.dto.IsolatedSaveResult;
 import com.example.opa.policydecisionlog.command.app.port.DecisionLogPersistence;
 import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
 import com.example.opa.policydecisionlog.command.infra.db.mapper.CommandToEntityMapper;
-import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogEntity;
+import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogInsertRow;
+import com.example.opa.policydecisionlog.command.infra.db.rollup.DecisionRollupWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
-import tools.jackson.databind.json.JsonMapper;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
+@Slf4j
 @Repository
+@ConditionalOnProperty(prefix = "opa.persistence", name = "write-mode", havingValue = "batch-insert", matchIfMissing = true)
 @RequiredArgsConstructor
 public class DecisionLogPersistenceImpl implements DecisionLogPersistence {
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final CommandToEntityMapper mapper;
-    private final JsonMapper jsonMapper;
-
-    private static final String INSERT_SQL = """
-            INSERT INTO decision_logs (
-                decision_id, ts, path, overall_allow, requested_by, req_id,
-                opa_instance_id, opa_version, service, bundles, raw, created_at
-            ) VALUES (
-                :decisionId, :ts, :path, :overallAllow, :requestedBy, :reqId,
-                :opaInstanceId, :opaVersion, :service,
-                CAST(:bundles AS jsonb), CAST(:raw AS jsonb), NOW()
-            ) ON CONFLICT (decision_id) DO NOTHING
-            """;
+    private final DecisionRollupWriter rollupWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final SavepointIsolatedWriter isolatedWriter;
 
     @Override
     public void save(DecisionLogIngestCommand command) {
-        DecisionLogEntity entity = mapper.toEntity(command);
-        jdbcTemplate.update(INSERT_SQL, toParameterSource(entity));
+        saveAll(List.of(command));
     }
 
+    // INSERT와 rollup 갱신을 한 트랜잭션으로 처리
     @Override
     public void saveAll(List<DecisionLogIngestCommand> commands) {
-        List<DecisionLogEntity> entities = commands.stream()
-                .map(mapper::toEntity)
+        List<DecisionLogInsertRow> rows = commands.stream()
+                .map(mapper::toInsertRow)
                 .toList();
-
-        SqlParameterSource[] batchParams = entities.stream()
-                .map(this::toParameterSource)
+        SqlParameterSource[] batchParams = rows.stream()
+                .map(DecisionLogInsertStatement::parameters)
                 .toArray(SqlParameterSource[]::new);
 
-        jdbcTemplate.batchUpdate(INSERT_SQL, batchParams);
+        transactionTemplate.executeWithoutResult(status -> {
+            int[] updateCounts = jdbcTemplate.batchUpdate(DecisionLogInsertStatement.SQL, batchParams);
+            rollupWriter.merge(insertedRows(rows, updateCounts));
+        });
     }
 
-    private SqlParameterSource toParameterSource(DecisionLogEntity entity) {
-        return new MapSqlParameterSource()
-                .addValue("decisionId", entity.getDecisionId())
-                .addValue("ts", entity.getTs())
-                .addValue("path", entity.getPath())
-                .addValue("overallAllow", entity.isOverallAllow())
-                .addValue("requestedBy", entity.getRequestedBy())
-                .addValue("reqId", entity.getReqId())
-                .addValue("opaInstanceId", entity.getOpaInstanceId())
-                .addValue("opaVersion", entity.getOpaVersion())
-                .addValue("service", entity.getService())
-                .addValue("bundles", toJsonString(entity.getBundles()))
-                .addValue("raw", toJsonString(entity.getRaw()));
+    @Override
+    public IsolatedSaveResult saveIsolated(List<DecisionLogIngestCommand> commands) {
+        return isolatedWriter.save(commands);
     }
 
-    private String toJsonString(Object obj) {
-        if (obj == null) {
-            return null;
+    // ON CONFLICT DO NOTHING으로 건너뛴 row(update count 0)는 rollup에서 제외
+    // SUCCESS_NO_INFO(-2, 드라이버가 batch를 재작성한 경우)는 INSERT 여부를 알 수 없으므로 중복 집계하지 않도록 제외
+    static List<DecisionLogInsertRow> insertedRows(List<DecisionLogInsertRow> rows, int[] updateCounts) {
+        List<DecisionLogInsertRow> inserted = new ArrayList<>(rows.size());
+        int unknown = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (updateCounts[i] > 0) {
+                inserted.add(rows.get(i));
+            } else if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                unknown++;
+            }
+        }
+        if (unknown > 0) {
+            log.warn("Skipped rollup for {} decision log(s) with unknown insert result (SUCCESS_NO_INFO)", unknown);
         }
-        return jsonMapper.writeValueAsString(obj);
+        return inserted;
     }
 }
@@ -0,0 +1,101 @@
+package com.example.opa.policydecisionlog.command.infra.db;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/*
+ * PostgreSQL COPY binary format writer
+ * https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9.4
+ */
+final class PgBinaryCopyWriter implements Closeable {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final OffsetDateTime PG_EPOCH = OffsetDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final byte JSONB_VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+
+    private final DataOutputStream out;
+
+    PgBinaryCopyWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.out.write(SIGNATURE);
+        this.out.writeInt(0); // flags
+        this.out.writeInt(0); // header extension length
+    }
+
+    void startRow(int columns) throws IOException {
+        out.writeShort(columns);
+    }
+
+    void writeUuid(UUID value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        out.writeInt(16);
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    // timestamptz: 2000-01-01 UTC 기준 microseconds
+    void writeTimestamptz(OffsetDateTime value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        out.writeInt(Long.BYTES);
+        out.writeLong(ChronoUnit.MICROS.between(PG_EPOCH, value));
+    }
+
+    void writeText(String value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    void writeBoolean(boolean value) throws IOException {
+        out.writeInt(1);
+        out.writeByte(value ? 1 : 0);
+    }
+
+    void writeInt8(Long value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        out.writeInt(Long.BYTES);
+        out.writeLong(value);
+    }
+
+    // jsonb: version byte(1) + UTF-8 JSON text
+    void writeJsonb(byte[] json) throws IOException {
+        if (json == null) {
+            writeNull();
+            return;
+        }
+        out.writeInt(json.length + 1);
+        out.writeByte(JSONB_VERSION);
+        out.write(json);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.writeShort(-1); // trailer
+        out.close();
+    }
+
+    private void writeNull() throws IOException {
+        out.writeInt(NULL_LENGTH);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.opa.policydecisionlog.command.infra.db;
+
+import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
+import com.example.opa.policydecisionlog.command.app.dto.IsolatedSaveResult;
+import com.example.opa.policydecisionlog.command.infra.db.mapper.CommandToEntityMapper;
+import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogInsertRow;
+import com.example.opa.policydecisionlog.command.infra.db.rollup.DecisionRollupWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * poison record 격리용 저장: 한 트랜잭션 안에서 row마다 savepoint를 두고 INSERT
+ * - 데이터 오류(NOT NULL, 길이 초과, 잘못된 jsonb 등 DataIntegrityViolation)는 savepoint로 되돌리고 해당 row만 제외
+ * - 그 외 오류(연결 끊김 등)는 트랜잭션 전체를 rollback하고 호출자에게 전달
+ * - bisect처럼 정상 row를 여러 번 다시 보내지 않으며, 트랜잭션/rollup 갱신은 한 번
+ * write-mode와 무관하게 동일한 INSERT 문을 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SavepointIsolatedWriter {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CommandToEntityMapper mapper;
+    private final DecisionRollupWriter rollupWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    public IsolatedSaveResult save(List<DecisionLogIngestCommand> commands) {
+        List<DecisionLogIngestCommand> failed = new ArrayList<>();
+        if (commands.isEmpty()) {
+            return new IsolatedSaveResult(failed, 0);
+        }
+        List<DecisionLogInsertRow> inserted = new ArrayList<>(commands.size());
+        // 실제로 실행한 statement 수: row마다 SAVEPOINT, INSERT, RELEASE (또는 ROLLBACK TO) + rollup merge + COMMIT
+        int[] dbCalls = {0};
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (DecisionLogIngestCommand command : commands) {
+                DecisionLogInsertRow row;
+                try {
+                    row = mapper.toInsertRow(command);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to map decision log for insert: decisionId={}", command.decisionId(), e);
+                    failed.add(command);
+                    continue;
+                }
+                Object savepoint = status.createSavepoint();
+                dbCalls[0]++;
+                try {
+                    dbCalls[0]++;
+                    int updated = jdbcTemplate.update(DecisionLogInsertStatement.SQL,
+                            DecisionLogInsertStatement.parameters(row));
+                    status.releaseSavepoint(savepoint);
+                    dbCalls[0]++;
+                    if (updated != 0) {
+                        inserted.add(row);
+                    }
+                } catch (DataIntegrityViolationException e) {
+                    status.rollbackToSavepoint(savepoint);
+                    dbCalls[0]++;
+                    log.warn("Poison record isolated by savepoint: decisionId={}, cause={}",
+                            command.decisionId(), e.getMostSpecificCause().getMessage());
+                    failed.add(command);
+                }
+            }
+            dbCalls[0] += rollupWriter.merge(inserted);
+        });
+        dbCalls[0]++; // COMMIT
+        log.debug("Isolated save: rows={}, inserted={}, failed={}, dbCalls={}",
+                commands.size(), inserted.size(), failed.size(), dbCalls[0]);
+        return new IsolatedSaveResult(failed, dbCalls[0]);
+    }
+}
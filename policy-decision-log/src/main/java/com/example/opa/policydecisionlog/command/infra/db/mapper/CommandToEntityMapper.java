@@ -1,32 +1,38 @@
 package com.example.opa.policydecisionlog.command.infra.db.mapper;
 
 import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
-import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogEntity;
+import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogInsertRow;
+import com.example.opa.policydecisionlog.command.infra.db.model.MaterializedDecision;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
-import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class CommandToEntityMapper {
 
+    private static final byte[] EMPTY_OBJECT = "{}".getBytes(StandardCharsets.UTF_8);
+
     private final JsonMapper jsonMapper;
+    private final DecisionContextMaterializer contextMaterializer;
 
-    public DecisionLogEntity toEntity(DecisionLogIngestCommand command) {
+    public DecisionLogInsertRow toInsertRow(DecisionLogIngestCommand command) {
         JsonNode result = command.result();
 
         boolean overallAllow = extractAllow(result);
         String service = extractService(command.path());
 
-        Map<String, Object> bundles = convertToMap(command.bundles());
-        Map<String, Object> raw = convertToMap(command.raw());
+        // raw는 수신한 원본 byte를 그대로 사용하고, 없을 때만 tree를 한 번 직렬화
+        byte[] raw = command.rawBytes() != null ? command.rawBytes() : toJsonBytes(command.raw());
+        byte[] bundles = toJsonBytes(command.bundles());
+        MaterializedDecision materialized = contextMaterializer.materialize(service, command.raw());
 
-        return DecisionLogEntity.of(
+        return new DecisionLogInsertRow(
                 command.decisionId(),
                 command.timestamp(),
                 command.path(),
@@ -37,15 +43,17 @@ public class CommandToEntityMapper {
                 command.opaVersion(),
                 service,
                 bundles,
-                raw
+                raw,
+                materialized != null ? materialized.json() : null,
+                materialized != null ? materialized.policies() : List.of()
         );
     }
 
-    private Map<String, Object> convertToMap(JsonNode jsonNode) {
+    private byte[] toJsonBytes(JsonNode jsonNode) {
         if (jsonNode == null || jsonNode.isNull()) {
-            return Map.of();
+            return EMPTY_OBJECT;
         }
-        return jsonMapper.convertValue(jsonNode, new TypeReference<>() {});
+        return jsonMapper.writeValueAsBytes(jsonNode);
     }
 
     private boolean extractAllow(JsonNode result) {
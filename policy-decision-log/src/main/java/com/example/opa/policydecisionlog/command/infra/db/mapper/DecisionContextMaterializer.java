@@ -0,0 +1,46 @@
+package com.example.opa.policydecisionlog.command.infra.db.mapper;
+
+import com.example.opa.policydecisionlog.command.infra.db.model.MaterializedDecision;
+import com.example.opa.policydecisionlog.shared.extractor.Decision;
+import com.example.opa.policydecisionlog.shared.extractor.DecisionExtractor;
+import com.example.opa.policydecisionlog.shared.extractor.DecisionExtractorRegistry;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/*
+ * 적재 시점에 서비스별 DecisionExtractor를 한 번 실행해 reasons/policies를 decision_context(jsonb)로 저장
+ * - consumer가 이미 파싱한 raw tree를 token stream으로 읽으므로 추가 파싱 없음
+ * - 추출 실패 시 null을 저장하고, 조회 시 raw에서 다시 추출
+ * - 정책별 결과(policies)는 rollup 집계에도 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DecisionContextMaterializer {
+
+    private final DecisionExtractorRegistry extractorRegistry;
+    private final JsonMapper jsonMapper;
+    private final DecisionLogMetrics metrics;
+
+    public MaterializedDecision materialize(String service, JsonNode raw) {
+        if (raw == null || raw.isNull()) {
+            return null;
+        }
+        long start = System.nanoTime();
+        DecisionExtractor extractor = extractorRegistry.getExtractor(service);
+        try (JsonParser parser = jsonMapper.treeAsTokens(raw)) {
+            Decision decision = extractor.extract(parser);
+            return new MaterializedDecision(jsonMapper.writeValueAsBytes(decision), decision.policies());
+        } catch (RuntimeException e) {
+            log.warn("Failed to materialize decision context: service={}", service, e);
+            return null;
+        } finally {
+            metrics.recordContextMaterialize(System.nanoTime() - start);
+        }
+    }
+}
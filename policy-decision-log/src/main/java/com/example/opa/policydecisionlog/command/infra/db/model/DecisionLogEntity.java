@@ -14,10 +14,13 @@ import java.util.Objects;
 import java.util.UUID;
 
 @Entity
+// ts 기준 range partition 테이블, 스키마는 schema.sql에서 관리 (partition key를 포함해야 하므로 unique는 (decision_id, ts))
 @Table(name = "decision_logs", indexes = {
-        @Index(name = "idx_decision_id", columnList = "decision_id", unique = true),
-        @Index(name = "idx_ts_desc", columnList = "ts DESC"),
-        @Index(name = "idx_service_ts", columnList = "service, ts DESC")
+        @Index(name = "uk_decision_id_ts", columnList = "decision_id, ts", unique = true),
+        @Index(name = "idx_ts_id_desc", columnList = "ts DESC, id DESC"),
+        @Index(name = "idx_service_ts_id", columnList = "service, ts DESC, id DESC"),
+        @Index(name = "idx_requested_by_ts_id", columnList = "requested_by, ts DESC, id DESC"),
+        @Index(name = "idx_req_id_ts_id", columnList = "req_id, ts DESC, id DESC")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -27,7 +30,7 @@ public class DecisionLogEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "decision_id", nullable = false, unique = true)
+    @Column(name = "decision_id", nullable = false)
     private UUID decisionId;
 
     @Column(name = "ts", nullable = false)
@@ -62,6 +65,11 @@ public class DecisionLogEntity {
     @Column(name = "raw", columnDefinition = "jsonb")
     private Map<String, Object> raw;
 
+    // 적재 시점에 추출한 reasons/policies (shared.extractor.Decision)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "decision_context", columnDefinition = "jsonb")
+    private Map<String, Object> decisionContext;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
@@ -0,0 +1,25 @@
+package com.example.opa.policydecisionlog.command.infra.db.model;
+
+import com.example.opa.policydecisionlog.shared.extractor.Decision.PolicyResult;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// 쓰기 전용 row: jsonb 컬럼은 직렬화된 JSON byte로만 보관 (Map 변환 없음)
+public record DecisionLogInsertRow(
+        UUID decisionId,
+        OffsetDateTime ts,
+        String path,
+        boolean overallAllow,
+        String requestedBy,
+        Long reqId,
+        UUID opaInstanceId,
+        String opaVersion,
+        String service,
+        byte[] bundles,
+        byte[] raw,
+        byte[] decisionContext,
+        List<PolicyResult> policies        // rollup 집계용 (컬럼 아님)
+) {
+}
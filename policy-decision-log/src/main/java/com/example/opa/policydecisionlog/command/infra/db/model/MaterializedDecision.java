@@ -0,0 +1,12 @@
+package com.example.opa.policydecisionlog.command.infra.db.model;
+
+import com.example.opa.policydecisionlog.shared.extractor.Decision.PolicyResult;
+
+import java.util.List;
+
+// 적재 시점 추출 결과: decision_context 컬럼 값(JSON byte)과 rollup 집계용 정책별 결과
+public record MaterializedDecision(
+        byte[] json,
+        List<PolicyResult> policies
+) {
+}
@@ -0,0 +1,43 @@
+package com.example.opa.policydecisionlog.command.infra.db.partition;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// decision_logs의 일 단위 partition: [day 00:00 UTC, day+1 00:00 UTC)
+public record DecisionLogPartition(LocalDate day) {
+
+    public static final String PARENT_TABLE = "decision_logs";
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern NAME = Pattern.compile(PARENT_TABLE + "_p(\\d{8})");
+
+    public static Optional<DecisionLogPartition> fromName(String tableName) {
+        Matcher matcher = NAME.matcher(tableName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(new DecisionLogPartition(LocalDate.parse(matcher.group(1), SUFFIX)));
+    }
+
+    public String name() {
+        return PARENT_TABLE + "_p" + day.format(SUFFIX);
+    }
+
+    public OffsetDateTime from() {
+        return day.atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    public OffsetDateTime to() {
+        return day.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    public String createSql() {
+        return "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s 00:00:00+00') TO ('%s 00:00:00+00')"
+                .formatted(name(), PARENT_TABLE, day, day.plusDays(1));
+    }
+}
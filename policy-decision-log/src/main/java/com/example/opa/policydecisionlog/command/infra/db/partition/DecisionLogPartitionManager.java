@@ -0,0 +1,102 @@
+package com.example.opa.policydecisionlog.command.infra.db.partition;
+
+import com.example.opa.policydecisionlog.shared.config.PartitionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * decision_logs partition lifecycle
+ * - 오늘부터 premakeDays 일 뒤까지 partition을 미리 생성
+ * - retentionDays 이전 partition은 detach (dropExpired면 DROP) → 대량 DELETE 없이 보관 기간 관리
+ * - default partition에 들어간 만료 레코드는 DELETE로 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DecisionLogPartitionManager {
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = ?
+            """;
+
+    private static final String PURGE_DEFAULT_SQL =
+            "DELETE FROM " + DecisionLogPartition.PARENT_TABLE + "_default WHERE ts < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${opa.partition.cron:0 5 * * * *}")
+    public void maintain() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            maintain(LocalDate.now(ZoneOffset.UTC));
+        } catch (DataAccessException e) {
+            log.error("Failed to maintain decision_logs partitions", e);
+        }
+    }
+
+    void maintain(LocalDate today) {
+        createFuturePartitions(today);
+        expirePartitions(today.minusDays(properties.retentionDays()));
+    }
+
+    private void createFuturePartitions(LocalDate today) {
+        for (int i = 0; i <= properties.premakeDays(); i++) {
+            DecisionLogPartition partition = new DecisionLogPartition(today.plusDays(i));
+            try {
+                jdbcTemplate.execute(partition.createSql());
+            } catch (DataAccessException e) {
+                // default partition에 이미 같은 범위의 레코드가 있으면 생성 실패, 다음 partition은 계속 진행
+                log.error("Failed to create partition: {}", partition.name(), e);
+            }
+        }
+        log.debug("Ensured decision_logs partitions: {} ~ {}", today, today.plusDays(properties.premakeDays()));
+    }
+
+    // cutoff 이전 날짜의 partition을 만료 처리
+    private void expirePartitions(LocalDate cutoff) {
+        List<DecisionLogPartition> expired = jdbcTemplate
+                .queryForList(LIST_PARTITIONS_SQL, String.class, DecisionLogPartition.PARENT_TABLE)
+                .stream()
+                .map(DecisionLogPartition::fromName)
+                .flatMap(Optional::stream)
+                .filter(partition -> partition.day().isBefore(cutoff))
+                .toList();
+
+        for (DecisionLogPartition partition : expired) {
+            jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s"
+                    .formatted(DecisionLogPartition.PARENT_TABLE, partition.name()));
+            if (properties.dropExpired()) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition.name());
+            }
+            log.info("Expired partition {}: dropped={}", partition.name(), properties.dropExpired());
+        }
+
+        int purged = jdbcTemplate.update(PURGE_DEFAULT_SQL, new DecisionLogPartition(cutoff).from());
+        if (purged > 0) {
+            log.info("Purged {} expired row(s) from default partition", purged);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.opa.policydecisionlog.command.infra.db.rollup;
+
+import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogInsertRow;
+import com.example.opa.policydecisionlog.shared.extractor.Decision.PolicyResult;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/*
+ * 한 batch에서 새로 적재된 row를 분 단위 bucket + 차원 키로 미리 합산한 결과
+ * - 같은 키는 batch 안에서 하나로 병합되어 rollup 테이블에는 키당 한 번만 upsert
+ * - 키 정렬 순서가 고정되어 있어 동시에 upsert하는 consumer 간 row lock 획득 순서가 같음 (deadlock 방지)
+ */
+public record DecisionRollupBatch(
+        SortedMap<DecisionKey, Long> decisions,
+        SortedMap<PolicyKey, PolicyCount> policies
+) {
+
+    private static final Comparator<String> NULLABLE = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    public static DecisionRollupBatch from(List<DecisionLogInsertRow> rows) {
+        SortedMap<DecisionKey, Long> decisions = new TreeMap<>(DecisionKey.ORDER);
+        SortedMap<PolicyKey, PolicyCount> policies = new TreeMap<>(PolicyKey.ORDER);
+
+        for (DecisionLogInsertRow row : rows) {
+            OffsetDateTime bucket = bucketOf(row.ts());
+            decisions.merge(
+                    new DecisionKey(bucket, row.service(), row.path(), row.overallAllow(), row.opaVersion()),
+                    1L, Long::sum);
+
+            if (row.policies() == null) {
+                continue;
+            }
+            for (PolicyResult policy : row.policies()) {
+                if (policy.policy() == null) {
+                    continue;
+                }
+                policies.merge(
+                        new PolicyKey(bucket, row.service(), policy.policy(), policy.allow()),
+                        new PolicyCount(1, policy.violationsCount()),
+                        PolicyCount::plus);
+            }
+        }
+        return new DecisionRollupBatch(decisions, policies);
+    }
+
+    public boolean isEmpty() {
+        return decisions.isEmpty();
+    }
+
+    static OffsetDateTime bucketOf(OffsetDateTime ts) {
+        return ts.withOffsetSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    public record DecisionKey(
+            OffsetDateTime bucket,
+            String service,
+            String path,
+            boolean overallAllow,
+            String opaVersion
+    ) {
+        static final Comparator<DecisionKey> ORDER = Comparator.comparing(DecisionKey::bucket)
+                .thenComparing(DecisionKey::service, NULLABLE)
+                .thenComparing(DecisionKey::path, NULLABLE)
+                .thenComparing(DecisionKey::overallAllow)
+                .thenComparing(DecisionKey::opaVersion, NULLABLE);
+    }
+
+    public record PolicyKey(
+            OffsetDateTime bucket,
+            String service,
+            String policy,
+            boolean allow
+    ) {
+        static final Comparator<PolicyKey> ORDER = Comparator.comparing(PolicyKey::bucket)
+                .thenComparing(PolicyKey::service, NULLABLE)
+                .thenComparing(PolicyKey::policy)
+                .thenComparing(PolicyKey::allow);
+    }
+
+    public record PolicyCount(
+            long evaluations,
+            long violations
+    ) {
+        PolicyCount plus(PolicyCount other) {
+            return new PolicyCount(evaluations + other.evaluations, violations + other.violations);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.opa.policydecisionlog.command.infra.db.rollup;
+
+import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogInsertRow;
+import com.example.opa.policydecisionlog.command.infra.db.rollup.DecisionRollupBatch.DecisionKey;
+import com.example.opa.policydecisionlog.command.infra.db.rollup.DecisionRollupBatch.PolicyCount;
+import com.example.opa.policydecisionlog.command.infra.db.rollup.DecisionRollupBatch.PolicyKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * decision_logs 적재와 같은 트랜잭션에서 rollup 테이블을 증분 갱신
+ * - 실제로 INSERT된 row만 집계하므로 Kafka 재전달(ON CONFLICT DO NOTHING)로 인한 중복 집계 없음
+ * - batch 단위로 합산한 뒤 키당 한 번 upsert (count += EXCLUDED.count)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DecisionRollupWriter {
+
+    private static final String UPSERT_DECISION_SQL = """
+            INSERT INTO decision_rollups_minute (bucket, service, path, overall_allow, opa_version, decisions)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (bucket, service, path, overall_allow, opa_version)
+            DO UPDATE SET decisions = decision_rollups_minute.decisions + EXCLUDED.decisions
+            """;
+
+    private static final String UPSERT_POLICY_SQL = """
+            INSERT INTO policy_rollups_minute (bucket, service, policy, allow, evaluations, violations)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (bucket, service, policy, allow)
+            DO UPDATE SET evaluations = policy_rollups_minute.evaluations + EXCLUDED.evaluations,
+                          violations = policy_rollups_minute.violations + EXCLUDED.violations
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 호출자의 트랜잭션 안에서 실행되어야 함, 실행한 batch statement 수를 반환
+    public int merge(List<DecisionLogInsertRow> insertedRows) {
+        DecisionRollupBatch batch = DecisionRollupBatch.from(insertedRows);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_DECISION_SQL, decisionArgs(batch.decisions()));
+        int statements = 1;
+        if (!batch.policies().isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_POLICY_SQL, policyArgs(batch.policies()));
+            statements++;
+        }
+        log.debug("Merged rollups: rows={}, decisionKeys={}, policyKeys={}",
+                insertedRows.size(), batch.decisions().size(), batch.policies().size());
+        return statements;
+    }
+
+    private List<Object[]> decisionArgs(Map<DecisionKey, Long> decisions) {
+        List<Object[]> args = new ArrayList<>(decisions.size());
+        decisions.forEach((key, count) -> args.add(new Object[]{
+                key.bucket(), key.service(), key.path(), key.overallAllow(), key.opaVersion(), count
+        }));
+        return args;
+    }
+
+    private List<Object[]> policyArgs(Map<PolicyKey, PolicyCount> policies) {
+        List<Object[]> args = new ArrayList<>(policies.size());
+        policies.forEach((key, count) -> args.add(new Object[]{
+                key.bucket(), key.service(), key.policy(), key.allow(), count.evaluations(), count.violations()
+        }));
+        return args;
+    }
+}
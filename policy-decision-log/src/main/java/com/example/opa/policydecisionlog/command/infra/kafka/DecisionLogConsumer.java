@@ -7,39 +7,60 @@ import com.example.opa.policydecisionlog.command.infra.kafka.exception.KafkaInfr
 import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
-import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class DecisionLogConsumer {
+public class DecisionLogConsumer implements ConsumerAwareRebalanceListener {
+
+    private static final Comparator<TopicPartition> PARTITION_ORDER =
+            Comparator.comparing(TopicPartition::topic).thenComparingInt(TopicPartition::partition);
 
     private final PersistDecisionLogUseCase persistDecisionLogUseCase;
     private final JsonMapper jsonMapper;
     private final DecisionLogMetrics metrics;
 
+    /*
+     * 재시도 대기 중인 partition별 시도 횟수 (nack 시점의 partition 첫 offset 기준)
+     * - nack 후 각 partition은 같은 offset부터 다시 poll 되지만 batch 안의 partition 순서는 바뀔 수 있으므로
+     *   batch 첫 record가 아니라 partition + 첫 offset으로 추적
+     * - 재전달된 batch의 attempt는 포함된 partition 중 가장 큰 값
+     * - 성공/parking으로 끝나거나 partition이 revoke/lost 되면 제거
+     */
+    private final Map<TopicPartition, PendingRetry> retryAttempts = new ConcurrentHashMap<>();
+
     @KafkaListener(topics = "${opa.kafka.topic:decision-logs}")
-    public void consume(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+    public void consume(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
         Instant start = Instant.now();
         log.debug("Received {} record(s) from Kafka", records.size());
 
         List<DecisionLogIngestCommand> commands = parseRecords(records);
 
         if (!commands.isEmpty()) {
-            persistCommands(commands);
+            if (!persistCommands(firstOffsets(records), commands, ack)) {
+                return;
+            }
             recordE2ELatency(commands);
         }
 
@@ -48,16 +69,14 @@ public class DecisionLogConsumer {
         log.info("Processed {} record(s), saved {} decision log(s)", records.size(), commands.size());
     }
 
-    private List<DecisionLogIngestCommand> parseRecords(List<ConsumerRecord<String, String>> records) {
+    private List<DecisionLogIngestCommand> parseRecords(List<ConsumerRecord<String, byte[]>> records) {
         List<DecisionLogIngestCommand> commands = new ArrayList<>();
 
-        for (ConsumerRecord<String, String> consumerRecord : records) {
+        for (ConsumerRecord<String, byte[]> consumerRecord : records) {
             try {
-                String jsonValue = consumerRecord.value();
-                JsonNode rawJson = jsonMapper.readTree(jsonValue);
-                DecisionLogIngestCommand command = jsonMapper.readValue(jsonValue, DecisionLogIngestCommand.class)
-                        .withRaw(rawJson);
-                commands.add(command);
+                // byte[]를 tree로 한 번만 파싱하고 command는 그 tree에서 생성
+                byte[] value = consumerRecord.value();
+                commands.add(DecisionLogIngestCommand.from(jsonMapper.readTree(value), value));
             } catch (Exception e) {
                 log.error("Failed to parse message: partition={}, offset={}",
                         consumerRecord.partition(), consumerRecord.offset(), e);
@@ -68,11 +87,58 @@ public class DecisionLogConsumer {
         return commands;
     }
 
-    private void persistCommands(List<DecisionLogIngestCommand> commands) {
-        PersistResult result = persistDecisionLogUseCase.execute(commands);
+    /*
+     * 일시적 DB 오류면 listener thread에서 sleep하지 않고 nack으로 재시도를 container에 맡김
+     * - container가 batch의 partition들을 첫 offset으로 되돌리고 backoff 동안 pause
+     * - pause 중에도 poll은 계속되므로 heartbeat/max.poll.interval이 유지되어 rebalance가 일어나지 않음
+     * - backoff가 지나면 resume 후 같은 batch가 다시 전달됨
+     */
+    private boolean persistCommands(Map<TopicPartition, Long> firstOffsets,
+                                    List<DecisionLogIngestCommand> commands,
+                                    Acknowledgment ack) {
+        int attempt = currentAttempt(firstOffsets);
+
+        PersistResult result = persistDecisionLogUseCase.execute(commands, attempt);
+        if (result == PersistResult.RETRY) {
+            firstOffsets.forEach((partition, offset) -> retryAttempts.put(partition, new PendingRetry(offset, attempt + 1)));
+            Duration backoff = persistDecisionLogUseCase.retryBackoff(attempt);
+            log.info("Pausing batch for {}ms before retry: batch={}, attempt={}", backoff.toMillis(), firstOffsets, attempt + 1);
+            ack.nack(0, backoff);
+            return false;
+        }
+        firstOffsets.keySet().forEach(retryAttempts::remove);
+
         if (result == PersistResult.FAILED) {
             throw new KafkaInfraException("Persist failed after retries and parking failed");
         }
+        return true;
+    }
+
+    // revoke/lost된 partition은 다른 consumer가 처음부터 다시 시도하므로 남은 시도 횟수를 버림
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        partitions.forEach(retryAttempts::remove);
+    }
+
+    // partition별 batch 첫 offset (partition 순으로 정렬해 로그에서도 같은 batch가 같은 모양으로 보이도록)
+    private static Map<TopicPartition, Long> firstOffsets(List<ConsumerRecord<String, byte[]>> records) {
+        Map<TopicPartition, Long> firstOffsets = new TreeMap<>(PARTITION_ORDER);
+        for (ConsumerRecord<String, byte[]> consumerRecord : records) {
+            firstOffsets.merge(new TopicPartition(consumerRecord.topic(), consumerRecord.partition()),
+                    consumerRecord.offset(), Math::min);
+        }
+        return firstOffsets;
+    }
+
+    private int currentAttempt(Map<TopicPartition, Long> firstOffsets) {
+        int attempt = 0;
+        for (Map.Entry<TopicPartition, Long> entry : firstOffsets.entrySet()) {
+            PendingRetry pending = retryAttempts.get(entry.getKey());
+            if (pending != null && pending.offset() == entry.getValue()) {
+                attempt = Math.max(attempt, pending.attempts());
+            }
+        }
+        return attempt;
     }
 
     private void recordE2ELatency(List<DecisionLogIngestCommand> commands) {
@@ -85,4 +151,7 @@ public class DecisionLogConsumer {
 
         metrics.recordEndToEndLatency(oldest);
     }
+
+    private record PendingRetry(long offset, int attempts) {
+    }
 }
@@ -1,72 +1,178 @@
 package com.example.opa.policydecisionlog.command.infra.kafka;
 
+import com.example.opa.policydecisionlog.command.app.dto.RawDecisionLog;
 import com.example.opa.policydecisionlog.command.app.port.DecisionLogEventPublisher;
 import com.example.opa.policydecisionlog.command.infra.kafka.exception.DecisionLogPublishException;
+import com.example.opa.policydecisionlog.command.infra.spool.DecisionLogSpool;
+import com.example.opa.policydecisionlog.command.infra.spool.SpoolUnavailableException;
 import com.example.opa.policydecisionlog.shared.config.KafkaCustomProperties;
-import com.example.opa.policydecisionlog.shared.exception.MissingDecisionIdException;
+import com.example.opa.policydecisionlog.shared.config.SpoolProperties;
 import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
-import tools.jackson.databind.json.JsonMapper;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 @Slf4j
 @Component
 public class DecisionLogEventPublisherImpl implements DecisionLogEventPublisher {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final JsonMapper jsonMapper;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
     private final KafkaCustomProperties properties;
+    private final SpoolProperties spoolProperties;
+    private final DecisionLogSpool spool;
     private final DecisionLogMetrics metrics;
+    private final LongSupplier nanoClock;
 
+    // 최근 Kafka 전송이 실패했는지와, 새 요청을 spool로 돌리는 기간의 끝
+    private volatile boolean sendFailing;
+    private final AtomicLong divertUntilNanos = new AtomicLong();
+
+    @Autowired
     public DecisionLogEventPublisherImpl(
-            @Qualifier("fastKafkaTemplate") KafkaTemplate<String, String> kafkaTemplate,
-            JsonMapper jsonMapper,
+            @Qualifier("fastKafkaTemplate") KafkaTemplate<String, byte[]> kafkaTemplate,
             KafkaCustomProperties properties,
+            SpoolProperties spoolProperties,
+            DecisionLogSpool spool,
             DecisionLogMetrics metrics
+    ) {
+        this(kafkaTemplate, properties, spoolProperties, spool, metrics, System::nanoTime);
+    }
+
+    DecisionLogEventPublisherImpl(
+            KafkaTemplate<String, byte[]> kafkaTemplate,
+            KafkaCustomProperties properties,
+            SpoolProperties spoolProperties,
+            DecisionLogSpool spool,
+            DecisionLogMetrics metrics,
+            LongSupplier nanoClock
     ) {
         this.kafkaTemplate = kafkaTemplate;
-        this.jsonMapper = jsonMapper;
         this.properties = properties;
+        this.spoolProperties = spoolProperties;
+        this.spool = spool;
         this.metrics = metrics;
+        this.nanoClock = nanoClock;
     }
 
     @Override
-    public void publish(List<Map<String, Object>> requests) {
-        for (Map<String, Object> request : requests) {
+    public void publish(List<RawDecisionLog> logs) {
+        // 최근 전송이 실패했으면 Kafka 장애가 이어지는 중으로 보고 timeout을 기다리지 않고 spool에 기록
+        // (spool backlog가 남아 있어도 Kafka가 정상이면 새 요청은 Kafka로 보내고 backlog는 drainer가 따로 비움)
+        if (spool.isEnabled() && shouldDivert() && trySpool(logs)) {
+            return;
+        }
+
+        // 요청 단위 deadline: 전체 레코드를 먼저 send 한 뒤 하나의 timeout 안에서 모든 future를 기다린다
+        long deadline = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(properties.fastProducer().getTimeoutMs());
+
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(logs.size());
+        for (RawDecisionLog decisionLog : logs) {
+            futures.add(send(decisionLog));
+        }
+
+        List<RawDecisionLog> failedLogs = new ArrayList<>();
+        Throwable lastError = null;
+
+        for (int i = 0; i < logs.size(); i++) {
+            String key = logs.get(i).decisionId();
             try {
-                String key = extractDecisionId(request);
-                String payload = jsonMapper.writeValueAsString(request);
-                var result = kafkaTemplate.send(properties.topic(), key, payload)
-                        .get(properties.fastProducer().getTimeoutMs(), TimeUnit.MILLISECONDS);
+                var result = awaitUntil(futures.get(i), deadline);
                 metrics.recordPublish(true);
-                log.info("Sent decision log: topic={}, partition={}, offset={}, decisionId={}",
+                log.debug("Sent decision log: topic={}, partition={}, offset={}, decisionId={}",
                         properties.topic(), result.getRecordMetadata().partition(),
                         result.getRecordMetadata().offset(), key);
-            } catch (ExecutionException | InterruptedException | TimeoutException e) {
+            } catch (ExecutionException | TimeoutException e) {
                 metrics.recordPublish(false);
-                log.error("Failed to send decision log: topic={}", properties.topic(), e);
-                if (e instanceof InterruptedException) {
-                    Thread.currentThread().interrupt();
+                failedLogs.add(logs.get(i));
+                lastError = e;
+                log.error("Failed to send decision log: topic={}, decisionId={}", properties.topic(), key, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (int j = i; j < logs.size(); j++) {
+                    metrics.recordPublish(false);
+                    failedLogs.add(logs.get(j));
                 }
-                throw new DecisionLogPublishException(properties.topic(), e);
+                lastError = e;
+                log.error("Interrupted while waiting for decision log sends: topic={}", properties.topic(), e);
+                break;
+            }
+        }
+
+        if (!failedLogs.isEmpty()) {
+            markSendFailed();
+            if (spool.isEnabled() && trySpool(failedLogs)) {
+                return;
             }
+            List<String> failedDecisionIds = failedLogs.stream().map(RawDecisionLog::decisionId).toList();
+            throw new DecisionLogPublishException(properties.topic(), failedDecisionIds, logs.size(), lastError);
         }
-        log.info("Published {} decision log(s) to Kafka", requests.size());
+        sendFailing = false;
+        log.info("Published {} decision log(s) to Kafka", logs.size());
     }
 
-    private String extractDecisionId(Map<String, Object> request) {
-        Object decisionId = request.get("decision_id");
-        if (decisionId == null) {
-            throw new MissingDecisionIdException();
+    /*
+     * 실패 후 divert-window-ms 동안은 spool로 보냄
+     * 기간이 끝나면 한 요청만 Kafka를 다시 시도(half-open)하고, 그 결과가 나올 때까지 나머지는 한 기간 더 spool로 보냄
+     */
+    private boolean shouldDivert() {
+        if (!sendFailing) {
+            return false;
         }
-        return decisionId.toString();
+        long until = divertUntilNanos.get();
+        long now = nanoClock.getAsLong();
+        if (now - until < 0) {
+            return true;
+        }
+        return !divertUntilNanos.compareAndSet(until, now + divertWindowNanos());
+    }
+
+    private void markSendFailed() {
+        divertUntilNanos.set(nanoClock.getAsLong() + divertWindowNanos());
+        sendFailing = true;
+    }
+
+    private long divertWindowNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(spoolProperties.divertWindowMs());
+    }
+
+    private boolean trySpool(List<RawDecisionLog> logs) {
+        try {
+            spool.append(logs);
+            metrics.recordSpoolAppended(logs.size());
+            log.warn("Spooled {} decision log(s) locally for later delivery to: {}", logs.size(), properties.topic());
+            return true;
+        } catch (SpoolUnavailableException e) {
+            log.error("Failed to spool {} decision log(s)", logs.size(), e);
+            return false;
+        }
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> send(RawDecisionLog decisionLog) {
+        try {
+            return kafkaTemplate.send(properties.topic(), decisionLog.decisionId(), decisionLog.payload());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private SendResult<String, byte[]> awaitUntil(
+            CompletableFuture<SendResult<String, byte[]>> future,
+            long deadline
+    ) throws ExecutionException, InterruptedException, TimeoutException {
+        long remaining = Math.max(0, deadline - System.nanoTime());
+        return future.get(remaining, TimeUnit.NANOSECONDS);
     }
 }
@@ -0,0 +1,57 @@
+package com.example.opa.policydecisionlog.command.infra.kafka;
+
+import com.example.opa.policydecisionlog.command.app.port.PublishPressureProbe;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+public class KafkaPublishPressureProbe implements PublishPressureProbe {
+
+    private static final String PRODUCER_METRICS_GROUP = "producer-metrics";
+    private static final String BUFFER_AVAILABLE_BYTES = "buffer-available-bytes";
+    private static final String BUFFER_TOTAL_BYTES = "buffer-total-bytes";
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    public KafkaPublishPressureProbe(@Qualifier("fastKafkaTemplate") KafkaTemplate<String, byte[]> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    @Override
+    public double bufferUtilization() {
+        double available = -1;
+        double total = -1;
+        try {
+            for (Map.Entry<MetricName, ? extends Metric> entry : kafkaTemplate.metrics().entrySet()) {
+                MetricName name = entry.getKey();
+                if (!PRODUCER_METRICS_GROUP.equals(name.group())) {
+                    continue;
+                }
+                if (BUFFER_AVAILABLE_BYTES.equals(name.name())) {
+                    available = toDouble(entry.getValue().metricValue());
+                } else if (BUFFER_TOTAL_BYTES.equals(name.name())) {
+                    total = toDouble(entry.getValue().metricValue());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("Failed to read producer buffer metrics", e);
+            return 0.0;
+        }
+
+        if (available < 0 || total <= 0) {
+            return 0.0;
+        }
+        return 1.0 - (available / total);
+    }
+
+    private double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : -1;
+    }
+}
@@ -2,86 +2,296 @@ package com.example.opa.policydecisionlog.command.infra.kafka;
 
 import com.example.opa.policydecisionlog.command.app.usecase.PersistDecisionLogUseCase;
 import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
+import com.example.opa.policydecisionlog.command.app.dto.ParkedDecisionLog;
 import com.example.opa.policydecisionlog.command.app.dto.PersistResult;
 import com.example.opa.policydecisionlog.command.app.port.ParkingLotPublisher;
 import com.example.opa.policydecisionlog.shared.config.KafkaCustomProperties;
 import com.example.opa.policydecisionlog.shared.kafka.ParkingHeaders;
 import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/*
+ * parking lot batch 복구
+ * - delay tier topic(예: .1m/.2m/.1h)과 tier 도입 전 기본 topic을 함께 구독
+ *   (tier 안에서는 notBefore가 offset 순서대로 증가하므로 head record가 due가 될 때까지만 멈춤)
+ * - poll한 record 중 NOT_BEFORE가 지난 것만 모아 saveAll 한 번으로 저장 (실패 시 use case가 record별 fallback)
+ * - partition마다 아직 due가 아닌 첫 record에서 멈추고, 그 앞까지만 commit한 뒤 그 offset으로 seek + partition pause
+ * - DB circuit이 열려 RETRY면 같은 방식으로 남은 시간만큼 pause (attempt 소모 없음)
+ * - DLQ/parking-dlq 전송은 복구 결과를 본 뒤 멈춘 offset 앞의 record만 (seek 후 다시 읽을 record를 미리 보내지 않음)
+ * - pause는 container의 partition pause를 사용하므로 poll/heartbeat는 계속되고 다른 partition은 그대로 소비
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class ParkingLotConsumer {
+public class ParkingLotConsumer implements ConsumerAwareRebalanceListener {
 
-    private static final Duration POLL_INTERVAL = Duration.ofSeconds(30);
+    static final String LISTENER_ID = "parking-lot-recovery";
+    private static final long RESUME_CHECK_INTERVAL_MS = 1000;
 
     private final PersistDecisionLogUseCase persistDecisionLogUseCase;
     private final ParkingLotPublisher parkingLotPublisher;
+    private final ConsumerRecordRecoverer dlqRecoverer;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
     private final JsonMapper jsonMapper;
     private final KafkaCustomProperties properties;
     private final DecisionLogMetrics metrics;
 
+    // pause한 partition과 resume할 시각 (epoch ms)
+    private final Map<TopicPartition, Long> pausedUntil = new ConcurrentHashMap<>();
+
+    public ParkingLotConsumer(
+            PersistDecisionLogUseCase persistDecisionLogUseCase,
+            ParkingLotPublisher parkingLotPublisher,
+            @Qualifier("dlqRecoverer") ConsumerRecordRecoverer dlqRecoverer,
+            KafkaListenerEndpointRegistry listenerRegistry,
+            JsonMapper jsonMapper,
+            KafkaCustomProperties properties,
+            DecisionLogMetrics metrics
+    ) {
+        this.persistDecisionLogUseCase = persistDecisionLogUseCase;
+        this.parkingLotPublisher = parkingLotPublisher;
+        this.dlqRecoverer = dlqRecoverer;
+        this.listenerRegistry = listenerRegistry;
+        this.jsonMapper = jsonMapper;
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
     @KafkaListener(
-            topics = "${opa.kafka.parking-lot-topic:decision-logs-parking}",
+            id = LISTENER_ID,
+            idIsGroup = false,
+            topics = "#{__listener.recoveryTopics()}",
             containerFactory = "parkingKafkaListenerContainerFactory"
     )
-    public void consume(
-            @Payload String payload,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            @Header(ParkingHeaders.RETRY_ATTEMPT) int attempt,
-            @Header(ParkingHeaders.NOT_BEFORE) long notBefore,
-            Acknowledgment ack
-    ) {
-        log.debug("Received parking record: partition={}, offset={}, attempt={}, notBefore={}",
-                partition, offset, attempt, notBefore);
-
+    public void consume(List<ConsumerRecord<String, String>> records, Consumer<?, ?> consumer) {
         long nowMillis = Instant.now().toEpochMilli();
-        if (nowMillis < notBefore) {
-            long waitMs = Math.min(notBefore - nowMillis, POLL_INTERVAL.toMillis());
-            log.debug("Not ready yet, waiting {}ms: partition={}, offset={}", waitMs, partition, offset);
-            ack.nack(Duration.ofMillis(waitMs));
+        log.debug("Received {} parking record(s)", records.size());
+
+        Map<TopicPartition, PartitionProgress> partitions = new LinkedHashMap<>();
+        List<ConsumerRecord<String, String>> dueRecords = new ArrayList<>();
+        List<ParkedDecisionLog> parked = new ArrayList<>();
+        List<TerminalRecord> terminalRecords = new ArrayList<>();
+
+        for (ConsumerRecord<String, String> consumerRecord : records) {
+            TopicPartition partition = new TopicPartition(consumerRecord.topic(), consumerRecord.partition());
+            PartitionProgress progress = partitions.computeIfAbsent(partition, key -> new PartitionProgress());
+            if (progress.isBlocked()) {
+                continue;
+            }
+            long notBefore = ParkingHeaders.longValue(consumerRecord.headers(), ParkingHeaders.NOT_BEFORE);
+            if (nowMillis < notBefore) {
+                progress.block(consumerRecord.offset(), notBefore);
+                continue;
+            }
+            progress.processed(consumerRecord.offset());
+
+            int attempt = (int) ParkingHeaders.longValue(consumerRecord.headers(), ParkingHeaders.RETRY_ATTEMPT);
+            DecisionLogIngestCommand command;
+            try {
+                command = parse(consumerRecord);
+            } catch (RuntimeException e) {
+                terminalRecords.add(new TerminalRecord(consumerRecord, null, attempt, e));
+                continue;
+            }
+            if (properties.parkingRecovery().isMaxRetryExceeded(attempt)) {
+                terminalRecords.add(new TerminalRecord(consumerRecord, command, attempt, null));
+                continue;
+            }
+            dueRecords.add(consumerRecord);
+            parked.add(new ParkedDecisionLog(command, attempt));
+        }
+
+        int recovered = recover(dueRecords, parked, partitions);
+        sendTerminal(terminalRecords, partitions);
+        commitAndPause(consumer, partitions);
+        log.info("Processed {} parking record(s): due={}, recovered={}", records.size(), parked.size(), recovered);
+    }
+
+    // @KafkaListener topics SpEL에서 호출 (#{__listener.recoveryTopics()})
+    public String[] recoveryTopics() {
+        return properties.parkingRecoveryTopics().toArray(String[]::new);
+    }
+
+    // resume 시각이 지난 partition을 다시 소비 (pause 요청과 마찬가지로 container가 다음 poll 전에 반영)
+    @Scheduled(fixedDelay = RESUME_CHECK_INTERVAL_MS)
+    void resumeDuePartitions() {
+        if (pausedUntil.isEmpty()) {
             return;
         }
+        long nowMillis = Instant.now().toEpochMilli();
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID);
+        pausedUntil.forEach((partition, until) -> {
+            if (until <= nowMillis && pausedUntil.remove(partition, until) && container != null) {
+                container.resumePartition(partition);
+                log.debug("Resumed parking partition: {}", partition);
+            }
+        });
+    }
 
-        DecisionLogIngestCommand command;
-        try {
-            JsonNode rawJson = jsonMapper.readTree(payload);
-            command = jsonMapper.readValue(payload, DecisionLogIngestCommand.class)
-                    .withRaw(rawJson);
-        } catch (RuntimeException e) {
-            log.error("Failed to parse parking message, sending to DLQ: partition={}, offset={}", partition, offset, e);
-            throw e;
+    /*
+     * revoke/lost된 partition은 commit된 offset(멈춘 위치)부터 새 owner가 다시 읽으므로 resume 예약을 버림
+     * container의 pause 요청도 함께 지워 같은 partition을 다시 할당받았을 때 멈춘 채로 남지 않도록 함
+     */
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID);
+        for (TopicPartition partition : partitions) {
+            if (pausedUntil.remove(partition) != null && container != null) {
+                container.resumePartition(partition);
+            }
         }
+    }
+
+    private DecisionLogIngestCommand parse(ConsumerRecord<String, String> consumerRecord) {
+        byte[] payloadBytes = consumerRecord.value().getBytes(StandardCharsets.UTF_8);
+        return DecisionLogIngestCommand.from(jsonMapper.readTree(payloadBytes), payloadBytes);
+    }
 
-        if (properties.parkingRecovery().isMaxRetryExceeded(attempt)) {
-            parkingLotPublisher.toParkingDlq(command);
+    /*
+     * 파싱 실패는 DLQ, 최대 재시도 초과는 parking-dlq로 보냄
+     * - 복구 결과로 partition이 더 앞선 offset에서 멈췄으면 seek 후 다시 읽게 되므로 그 offset 이후 record는 보내지 않음
+     * - batch 전체를 error handler로 넘기면 seek 해둔 partition의 offset까지 commit될 수 있으므로 listener가 직접 DLQ
+     */
+    private void sendTerminal(List<TerminalRecord> terminalRecords, Map<TopicPartition, PartitionProgress> partitions) {
+        for (TerminalRecord terminal : terminalRecords) {
+            ConsumerRecord<String, String> consumerRecord = terminal.consumerRecord();
+            TopicPartition partition = new TopicPartition(consumerRecord.topic(), consumerRecord.partition());
+            if (partitions.get(partition).isBlockedAt(consumerRecord.offset())) {
+                continue;
+            }
+            if (terminal.parseError() != null) {
+                log.error("Failed to parse parking message, sending to DLQ: partition={}, offset={}",
+                        consumerRecord.partition(), consumerRecord.offset(), terminal.parseError());
+                dlqRecoverer.accept(consumerRecord, terminal.parseError());
+                continue;
+            }
+            parkingLotPublisher.toParkingDlq(terminal.command());
             metrics.recordParkingDlqSent(1);
             log.warn("Max retry exceeded, sent to parking DLQ: partition={}, offset={}, decisionId={}, attempt={}",
-                    partition, offset, command.decisionId(), attempt);
-            ack.acknowledge();
-            return;
+                    partition, consumerRecord.offset(), terminal.command().decisionId(), terminal.attempt());
+        }
+    }
+
+    private int recover(List<ConsumerRecord<String, String>> dueRecords, List<ParkedDecisionLog> parked,
+                        Map<TopicPartition, PartitionProgress> partitions) {
+        List<PersistResult> results = persistDecisionLogUseCase.executeRecoveryBatch(parked);
+        int recovered = 0;
+        long resumeAt = 0;
+        for (int i = 0; i < results.size(); i++) {
+            ConsumerRecord<String, String> consumerRecord = dueRecords.get(i);
+            PersistResult result = results.get(i);
+            if (result == PersistResult.RETRY) {
+                if (resumeAt == 0) {
+                    resumeAt = Instant.now().plus(persistDecisionLogUseCase.recoveryBackoff()).toEpochMilli();
+                }
+                partitions.get(new TopicPartition(consumerRecord.topic(), consumerRecord.partition()))
+                        .block(consumerRecord.offset(), resumeAt);
+            } else if (result == PersistResult.SUCCESS) {
+                recovered++;
+            }
+        }
+        if (recovered > 0) {
+            metrics.recordParkingRecovered(recovered);
+        }
+        if (resumeAt != 0) {
+            log.info("DB circuit open, pausing parking recovery until {}", Instant.ofEpochMilli(resumeAt));
+        }
+        return recovered;
+    }
+
+    private void commitAndPause(Consumer<?, ?> consumer, Map<TopicPartition, PartitionProgress> partitions) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        MessageListenerContainer container = null;
+        for (Map.Entry<TopicPartition, PartitionProgress> entry : partitions.entrySet()) {
+            TopicPartition partition = entry.getKey();
+            PartitionProgress progress = entry.getValue();
+            long commitOffset = progress.commitOffset();
+            if (commitOffset >= 0) {
+                offsets.put(partition, new OffsetAndMetadata(commitOffset));
+            }
+            if (progress.isBlocked()) {
+                if (container == null) {
+                    container = listenerRegistry.getListenerContainer(LISTENER_ID);
+                }
+                consumer.seek(partition, progress.blockedOffset);
+                pausedUntil.merge(partition, progress.resumeAt, Math::max);
+                if (container != null) {
+                    container.pausePartition(partition);
+                }
+                log.debug("Paused parking partition until {}: partition={}, offset={}",
+                        Instant.ofEpochMilli(progress.resumeAt), partition, progress.blockedOffset);
+            }
+        }
+        if (!offsets.isEmpty()) {
+            consumer.commitSync(offsets);
+        }
+    }
+
+    // DB 복구 대상이 아니라 DLQ/parking-dlq로 보낼 record (parseError가 있으면 DLQ)
+    private record TerminalRecord(
+            ConsumerRecord<String, String> consumerRecord,
+            DecisionLogIngestCommand command,
+            int attempt,
+            RuntimeException parseError
+    ) {
+    }
+
+    // partition별 진행 상태: 처리한 마지막 offset과, 멈춘 위치(seek 대상)와 resume 시각
+    private static final class PartitionProgress {
+        private long lastProcessedOffset = -1;
+        private long blockedOffset = -1;
+        private long resumeAt;
+
+        boolean isBlocked() {
+            return blockedOffset >= 0;
+        }
+
+        // seek 후 다시 읽을 offset인지
+        boolean isBlockedAt(long offset) {
+            return isBlocked() && offset >= blockedOffset;
+        }
+
+        void processed(long offset) {
+            lastProcessedOffset = offset;
+        }
+
+        // 더 앞선 offset에서 멈추면 그 위치가 우선
+        void block(long offset, long until) {
+            if (!isBlocked() || offset < blockedOffset) {
+                blockedOffset = offset;
+                resumeAt = until;
+            }
         }
 
-        PersistResult result = persistDecisionLogUseCase.executeRecovery(command, attempt);
-        if (result == PersistResult.SUCCESS) {
-            metrics.recordParkingRecovered(1);
-            log.info("Parking recovery success: partition={}, offset={}, decisionId={}, attempt={}",
-                    partition, offset, command.decisionId(), attempt);
+        // 다음에 읽을 offset (commit할 것이 없으면 -1)
+        long commitOffset() {
+            if (isBlocked()) {
+                return blockedOffset;
+            }
+            return lastProcessedOffset >= 0 ? lastProcessedOffset + 1 : -1;
         }
-        ack.acknowledge();
     }
 }
@@ -15,6 +15,7 @@ import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -44,8 +45,10 @@ public class ParkingLotPublisherImpl implements ParkingLotPublisher {
 
     @Override
     public void publish(List<DecisionLogIngestCommand> commands) {
-        long nowMillis = Instant.now().toEpochMilli();
-        long notBefore = nowMillis + properties.parkingRecovery().initialBackoffMs();
+        // 첫 parking은 attempt 0의 backoff tier로 보냄
+        long delayMs = properties.parkingRecovery().tierDelay(0);
+        String topic = properties.parkingTierTopic(delayMs);
+        long notBefore = Instant.now().toEpochMilli() + delayMs;
 
         for (DecisionLogIngestCommand command : commands) {
             if (command.decisionId() == null) {
@@ -53,10 +56,10 @@ public class ParkingLotPublisherImpl implements ParkingLotPublisher {
             }
             try {
                 String key = command.decisionId().toString();
-                String payload = jsonMapper.writeValueAsString(command);
+                String payload = payloadOf(command);
 
                 Message<String> message = MessageBuilder.withPayload(payload)
-                        .setHeader(KafkaHeaders.TOPIC, properties.parkingLotTopic())
+                        .setHeader(KafkaHeaders.TOPIC, topic)
                         .setHeader(KafkaHeaders.KEY, key)
                         .setHeader(ParkingHeaders.RETRY_ATTEMPT, 0)
                         .setHeader(ParkingHeaders.NOT_BEFORE, notBefore)
@@ -65,14 +68,14 @@ public class ParkingLotPublisherImpl implements ParkingLotPublisher {
                 var result = parkingKafkaTemplate.send(message)
                         .get(properties.parkingProducer().getTimeoutMs(), TimeUnit.MILLISECONDS);
                 log.info("Sent to parking lot: topic={}, partition={}, offset={}, decisionId={}, notBefore={}",
-                        properties.parkingLotTopic(), result.getRecordMetadata().partition(),
+                        topic, result.getRecordMetadata().partition(),
                         result.getRecordMetadata().offset(), key, notBefore);
             } catch (ExecutionException | InterruptedException | TimeoutException e) {
-                log.error("Failed to send to parking lot: topic={}, decisionId={}", properties.parkingLotTopic(), command.decisionId(), e);
+                log.error("Failed to send to parking lot: topic={}, decisionId={}", topic, command.decisionId(), e);
                 if (e instanceof InterruptedException) {
                     Thread.currentThread().interrupt();
                 }
-                throw new KafkaInfraException("Failed to publish to parking lot: " + properties.parkingLotTopic(), e);
+                throw new KafkaInfraException("Failed to publish to parking lot: " + topic, e);
             }
         }
         log.info("Sent {} command(s) to parking lot", commands.size());
@@ -84,15 +87,17 @@ public class ParkingLotPublisherImpl implements ParkingLotPublisher {
             throw new MissingDecisionIdException();
         }
 
-        long nowMillis = Instant.now().toEpochMilli();
-        long notBefore = nowMillis + properties.parkingRecovery().calculateNextBackoff(attempt);
+        // tier topic은 delay가 하나뿐이라 partition 안에서 notBefore가 offset 순서대로 증가
+        long delayMs = properties.parkingRecovery().tierDelay(attempt);
+        String topic = properties.parkingTierTopic(delayMs);
+        long notBefore = Instant.now().toEpochMilli() + delayMs;
 
         try {
             String key = command.decisionId().toString();
-            String payload = jsonMapper.writeValueAsString(command);
+            String payload = payloadOf(command);
 
             Message<String> message = MessageBuilder.withPayload(payload)
-                    .setHeader(KafkaHeaders.TOPIC, properties.parkingLotTopic())
+                    .setHeader(KafkaHeaders.TOPIC, topic)
                     .setHeader(KafkaHeaders.KEY, key)
                     .setHeader(ParkingHeaders.RETRY_ATTEMPT, attempt)
                     .setHeader(ParkingHeaders.NOT_BEFORE, notBefore)
@@ -101,15 +106,15 @@ public class ParkingLotPublisherImpl implements ParkingLotPublisher {
             var result = parkingKafkaTemplate.send(message)
                     .get(properties.parkingProducer().getTimeoutMs(), TimeUnit.MILLISECONDS);
             log.info("Republished to parking lot: topic={}, partition={}, offset={}, decisionId={}, attempt={}, notBefore={}",
-                    properties.parkingLotTopic(), result.getRecordMetadata().partition(),
+                    topic, result.getRecordMetadata().partition(),
                     result.getRecordMetadata().offset(), key, attempt, notBefore);
         } catch (ExecutionException | InterruptedException | TimeoutException e) {
             log.error("Failed to republish to parking lot: topic={}, decisionId={}, attempt={}",
-                    properties.parkingLotTopic(), command.decisionId(), attempt, e);
+                    topic, command.decisionId(), attempt, e);
             if (e instanceof InterruptedException) {
                 Thread.currentThread().interrupt();
             }
-            throw new KafkaInfraException("Failed to publish to parking lot: " + properties.parkingLotTopic(), e);
+            throw new KafkaInfraException("Failed to publish to parking lot: " + topic, e);
         }
     }
 
@@ -121,7 +126,7 @@ public class ParkingLotPublisherImpl implements ParkingLotPublisher {
 
         try {
             String key = command.decisionId().toString();
-            String payload = jsonMapper.writeValueAsString(command);
+            String payload = payloadOf(command);
 
             Message<String> message = MessageBuilder.withPayload(payload)
                     .setHeader(KafkaHeaders.TOPIC, properties.dlqTopic())
@@ -151,7 +156,7 @@ public class ParkingLotPublisherImpl implements ParkingLotPublisher {
 
         try {
             String key = command.decisionId().toString();
-            String payload = jsonMapper.writeValueAsString(command);
+            String payload = payloadOf(command);
 
             Message<String> message = MessageBuilder.withPayload(payload)
                     .setHeader(KafkaHeaders.TOPIC, properties.parkingDlqTopic())
@@ -172,4 +177,12 @@ public class ParkingLotPublisherImpl implements ParkingLotPublisher {
             throw new KafkaInfraException("Failed to publish to parking DLQ: " + properties.parkingDlqTopic(), e);
         }
     }
+
+    // 원본 record byte가 있으면 그대로 보내 from()으로 다시 읽었을 때 raw가 바뀌지 않도록 함
+    private String payloadOf(DecisionLogIngestCommand command) {
+        if (command.rawBytes() != null) {
+            return new String(command.rawBytes(), StandardCharsets.UTF_8);
+        }
+        return jsonMapper.writeValueAsString(command);
+    }
 }
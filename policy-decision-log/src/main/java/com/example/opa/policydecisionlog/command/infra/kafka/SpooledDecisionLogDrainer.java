@@ -0,0 +1,148 @@
+package com.example.opa.policydecisionlog.command.infra.kafka;
+
+import com.example.opa.policydecisionlog.command.app.dto.InfrastructureFailureEvent;
+import com.example.opa.policydecisionlog.command.app.port.InfrastructureFailureWriter;
+import com.example.opa.policydecisionlog.command.infra.spool.DecisionLogSpool;
+import com.example.opa.policydecisionlog.command.infra.spool.SpooledDecisionLog;
+import com.example.opa.policydecisionlog.shared.config.KafkaCustomProperties;
+import com.example.opa.policydecisionlog.shared.config.SpoolProperties;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+public class SpooledDecisionLogDrainer {
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final KafkaCustomProperties kafkaProperties;
+    private final SpoolProperties spoolProperties;
+    private final DecisionLogSpool spool;
+    private final InfrastructureFailureWriter failureWriter;
+    private final DecisionLogMetrics metrics;
+
+    // 직전 tick이 실패 없이 끝났는지 (scheduler 스레드에서만 접근)
+    private boolean healthy;
+
+    public SpooledDecisionLogDrainer(
+            @Qualifier("fastKafkaTemplate") KafkaTemplate<String, byte[]> kafkaTemplate,
+            KafkaCustomProperties kafkaProperties,
+            SpoolProperties spoolProperties,
+            DecisionLogSpool spool,
+            InfrastructureFailureWriter failureWriter,
+            DecisionLogMetrics metrics
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.kafkaProperties = kafkaProperties;
+        this.spoolProperties = spoolProperties;
+        this.spool = spool;
+        this.failureWriter = failureWriter;
+        this.metrics = metrics;
+    }
+
+    /*
+     * 직전 tick에 실패가 있었으면(또는 기동 직후) drainRatePerSecond * drainIntervalMs 만큼만 전송해 복구 직후 Kafka로 몰리는 부하를 제한
+     * 그 tick이 모두 성공하면 Kafka가 정상으로 보고 다음 tick부터는 상한 없이 drainBatchSize씩 이어서 backlog를 비움
+     * (전송 중인 batch의 ack를 기다린 뒤 다음 batch를 읽으므로 Kafka가 받는 속도 이상으로 보내지는 않음)
+     */
+    @Scheduled(fixedDelayString = "${opa.ingest.spool.drain-interval-ms:200}")
+    public void drain() {
+        if (!spool.isEnabled()) {
+            return;
+        }
+        boolean uncapped = healthy;
+        int budget = uncapped ? spoolProperties.drainBatchSize() : spoolProperties.drainBudgetPerTick();
+        List<SpooledDecisionLog> batch;
+        do {
+            batch = spool.read(budget);
+            if (batch.isEmpty()) {
+                return;
+            }
+            healthy = drainBatch(batch);
+        } while (uncapped && healthy && batch.size() == budget);
+    }
+
+    // batch를 모두 전송(또는 영구 실패로 건너뜀)했으면 true
+    private boolean drainBatch(List<SpooledDecisionLog> batch) {
+        long deadline = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(kafkaProperties.fastProducer().getTimeoutMs());
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(batch.size());
+        for (SpooledDecisionLog record : batch) {
+            futures.add(send(record));
+        }
+
+        // checkpoint는 앞에서부터 연속으로 처리된 레코드까지만 이동
+        // 재시도해도 성공할 수 없는 레코드(크기 초과, 직렬화 오류)는 실패 파일에 남기고 건너뛰어 head에서 막히지 않도록 함
+        int drained = 0;
+        int rejected = 0;
+        try {
+            for (CompletableFuture<SendResult<String, byte[]>> future : futures) {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                try {
+                    future.get(remaining, TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    if (!isPermanentFailure(e)) {
+                        throw e;
+                    }
+                    reject(batch.get(drained), e.getCause());
+                    rejected++;
+                }
+                drained++;
+            }
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Failed to drain spooled decision log: topic={}, decisionId={}",
+                    kafkaProperties.topic(), batch.get(drained).decisionId(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while draining spooled decision logs", e);
+        }
+
+        if (drained > 0) {
+            spool.commit(batch.get(drained - 1));
+            metrics.recordSpoolDrained(drained - rejected);
+            log.info("Drained {} spooled decision log(s) to Kafka, rejected={}, pendingBytes={}",
+                    drained - rejected, rejected, spool.pendingBytes());
+        }
+        return drained == batch.size();
+    }
+
+    static boolean isPermanentFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RecordTooLargeException || cause instanceof SerializationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reject(SpooledDecisionLog record, Throwable cause) {
+        log.error("Spooled decision log can never be sent, skipping: topic={}, decisionId={}",
+                kafkaProperties.topic(), record.decisionId(), cause);
+        failureWriter.write(InfrastructureFailureEvent.of(
+                kafkaProperties.topic(), -1, -1, record.decisionId(),
+                new String(record.payload(), StandardCharsets.UTF_8), String.valueOf(cause)));
+        metrics.recordSpoolRejected(1);
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> send(SpooledDecisionLog record) {
+        try {
+            return kafkaTemplate.send(kafkaProperties.topic(), record.decisionId(), record.payload());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -1,8 +1,21 @@
 package com.example.opa.policydecisionlog.command.infra.kafka.exception;
 
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
 public class DecisionLogPublishException extends RuntimeException {
 
+    private final List<String> failedDecisionIds;
+
     public DecisionLogPublishException(String topic, Throwable cause) {
         super("Failed to publish decision log to: " + topic, cause);
+        this.failedDecisionIds = List.of();
+    }
+
+    public DecisionLogPublishException(String topic, List<String> failedDecisionIds, int total, Throwable cause) {
+        super("Failed to publish " + failedDecisionIds.size() + "/" + total + " decision log(s) to: " + topic, cause);
+        this.failedDecisionIds = List.copyOf(failedDecisionIds);
     }
 }
@@ -0,0 +1,307 @@
+package com.example.opa.policydecisionlog.command.infra.spool;
+
+import com.example.opa.policydecisionlog.command.app.dto.RawDecisionLog;
+import com.example.opa.policydecisionlog.shared.config.SpoolProperties;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/*
+ * Kafka 전송에 실패한 decision log를 로컬 디스크에 보관하는 write-ahead spool
+ * - append-only memory-mapped 세그먼트에 기록하고, drain된 세그먼트는 재사용
+ * - drain 위치는 checkpoint 파일에 기록되며 재시작 시 그 위치부터 다시 전송 (at-least-once)
+ * - fsync는 기본적으로 append마다 수행, force-interval-ms를 주면 요청 스레드 대신 scheduler가 주기적으로 수행
+ */
+@Slf4j
+@Component
+public class DecisionLogSpool {
+
+    private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d{20})\\.spool");
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final long FORCE_CHECK_INTERVAL_MS = 100;
+
+    private final SpoolProperties properties;
+    private final DecisionLogMetrics metrics;
+
+    private final TreeMap<Long, SpoolSegment> segments = new TreeMap<>();
+    private final Deque<Path> recycled = new ArrayDeque<>();
+    private SpoolCheckpoint checkpoint;
+    private Path directory;
+    private boolean available;
+    private boolean dirty;
+    private long lastForceMillis;
+
+    public DecisionLogSpool(SpoolProperties properties, DecisionLogMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @PostConstruct
+    synchronized void init() {
+        if (!properties.enabled()) {
+            return;
+        }
+        directory = Path.of(properties.path());
+        try {
+            Files.createDirectories(directory);
+            checkpoint = SpoolCheckpoint.open(directory.resolve(CHECKPOINT_FILE));
+            openExistingSegments();
+            if (segments.isEmpty()) {
+                openSegment(checkpoint.segmentId());
+            }
+            available = true;
+            metrics.registerSpoolGauges(this::pendingBytes, segments::size);
+            log.info("Decision log spool initialized: path={}, segments={}, pendingBytes={}",
+                    directory, segments.size(), pendingBytes());
+        } catch (IOException e) {
+            log.error("Failed to initialize decision log spool: path={}", directory, e);
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        for (SpoolSegment segment : segments.values()) {
+            closeQuietly(segment);
+        }
+        segments.clear();
+        if (checkpoint != null) {
+            try {
+                checkpoint.close();
+            } catch (IOException e) {
+                log.warn("Failed to close spool checkpoint", e);
+            }
+        }
+        available = false;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled() && available;
+    }
+
+    public synchronized boolean hasBacklog() {
+        return pendingBytes() > 0;
+    }
+
+    /*
+     * 요청 단위로 전부 기록하거나 아무것도 기록하지 않음
+     * (일부만 남으면 그 레코드는 drain되는데 호출자는 전체를 실패로 응답해 client 재전송으로 중복이 생김)
+     */
+    public synchronized void append(List<RawDecisionLog> logs) {
+        if (!isEnabled()) {
+            throw new SpoolUnavailableException("Decision log spool is not available");
+        }
+        List<byte[]> keys = new ArrayList<>(logs.size());
+        for (RawDecisionLog decisionLog : logs) {
+            keys.add(decisionLog.decisionId().getBytes(StandardCharsets.UTF_8));
+        }
+        ensureCapacity(logs, keys);
+
+        SpoolSegment first = segments.lastEntry().getValue();
+        int firstPosition = first.writePosition();
+        try {
+            for (int i = 0; i < logs.size(); i++) {
+                byte[] key = keys.get(i);
+                byte[] payload = logs.get(i).payload();
+                int recordSize = SpoolSegment.recordSize(key.length, payload.length);
+                SpoolSegment segment = segments.lastEntry().getValue();
+                if (!segment.hasRoom(recordSize)) {
+                    segment = roll();
+                }
+                segment.append(key, payload, 0, payload.length);
+            }
+        } catch (RuntimeException e) {
+            rollback(first, firstPosition);
+            throw e;
+        }
+        if (properties.forceIntervalMs() == 0) {
+            segments.lastEntry().getValue().force();
+        } else {
+            dirty = true;
+        }
+    }
+
+    // force-interval-ms가 설정된 경우 append에서 미룬 fsync를 주기적으로 수행 (roll 시에는 이전 세그먼트를 바로 force)
+    @Scheduled(fixedDelay = FORCE_CHECK_INTERVAL_MS)
+    synchronized void flush() {
+        if (!dirty || !isEnabled()) {
+            return;
+        }
+        long nowMillis = System.currentTimeMillis();
+        if (nowMillis - lastForceMillis < properties.forceIntervalMs()) {
+            return;
+        }
+        segments.lastEntry().getValue().force();
+        dirty = false;
+        lastForceMillis = nowMillis;
+    }
+
+    // checkpoint 이후의 레코드를 최대 maxRecords개 읽는다 (checkpoint는 commit 시에만 이동)
+    public synchronized List<SpooledDecisionLog> read(int maxRecords) {
+        List<SpooledDecisionLog> records = new ArrayList<>();
+        if (!isEnabled()) {
+            return records;
+        }
+        long segmentId = checkpoint.segmentId();
+        int position = checkpoint.position();
+
+        while (records.size() < maxRecords) {
+            SpoolSegment segment = segments.get(segmentId);
+            SpooledDecisionLog record = segment == null ? null : segment.read(position);
+            if (record != null) {
+                records.add(record);
+                position = record.nextPosition();
+                continue;
+            }
+            Long nextSegmentId = segments.higherKey(segmentId);
+            if (nextSegmentId == null) {
+                break;
+            }
+            segmentId = nextSegmentId;
+            position = 0;
+        }
+        return records;
+    }
+
+    public synchronized void commit(SpooledDecisionLog lastDrained) {
+        checkpoint.update(lastDrained.nextSegmentId(), lastDrained.nextPosition());
+        recycleDrainedSegments();
+    }
+
+    public synchronized long pendingBytes() {
+        if (!isEnabled()) {
+            return 0;
+        }
+        long pending = 0;
+        for (SpoolSegment segment : segments.tailMap(checkpoint.segmentId(), true).values()) {
+            int drained = segment.id() == checkpoint.segmentId() ? checkpoint.position() : 0;
+            pending += Math.max(0, segment.writePosition() - drained);
+        }
+        return pending;
+    }
+
+    private void openExistingSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                long id = Long.parseLong(matcher.group(1));
+                if (id < checkpoint.segmentId()) {
+                    recycle(file);
+                } else {
+                    segments.put(id, SpoolSegment.open(id, file, properties.segmentSize()));
+                }
+            }
+        }
+    }
+
+    // 기록 전에 레코드 크기와 필요한 세그먼트 수를 확인
+    private void ensureCapacity(List<RawDecisionLog> logs, List<byte[]> keys) {
+        SpoolSegment current = segments.lastEntry().getValue();
+        int position = current.writePosition();
+        int capacity = current.capacity();
+        int rolls = 0;
+        for (int i = 0; i < logs.size(); i++) {
+            int recordSize = SpoolSegment.recordSize(keys.get(i).length, logs.get(i).payload().length);
+            if (recordSize > properties.segmentSize()) {
+                throw new SpoolUnavailableException(
+                        "Decision log exceeds spool segment size: decisionId=" + logs.get(i).decisionId());
+            }
+            if (position + recordSize > capacity) {
+                rolls++;
+                position = 0;
+                capacity = properties.segmentSize();
+            }
+            position += recordSize;
+        }
+        if (segments.size() + rolls > properties.maxSegments()) {
+            throw new SpoolUnavailableException("Decision log spool is full: segments=" + segments.size());
+        }
+    }
+
+    // 세그먼트를 여는 중 I/O 오류 등으로 중간에 실패하면 이번 요청에서 쓴 레코드를 모두 되돌림
+    private void rollback(SpoolSegment first, int firstPosition) {
+        for (SpoolSegment segment : List.copyOf(segments.tailMap(first.id(), false).values())) {
+            segments.remove(segment.id());
+            segment.invalidate();
+            closeQuietly(segment);
+            recycle(segment.file());
+        }
+        first.truncate(firstPosition);
+        first.force();
+    }
+
+    private SpoolSegment roll() {
+        if (segments.size() >= properties.maxSegments()) {
+            throw new SpoolUnavailableException("Decision log spool is full: segments=" + segments.size());
+        }
+        SpoolSegment current = segments.lastEntry().getValue();
+        current.force();
+        try {
+            return openSegment(current.id() + 1);
+        } catch (IOException e) {
+            throw new SpoolUnavailableException("Failed to roll spool segment", e);
+        }
+    }
+
+    private SpoolSegment openSegment(long id) throws IOException {
+        Path file = directory.resolve("segment-%020d.spool".formatted(id));
+        Path reusable = recycled.poll();
+        if (reusable != null) {
+            Files.move(reusable, file);
+        }
+        SpoolSegment segment = SpoolSegment.open(id, file, properties.segmentSize());
+        segments.put(id, segment);
+        log.debug("Spool segment opened: id={}, recycled={}", id, reusable != null);
+        return segment;
+    }
+
+    private void recycleDrainedSegments() {
+        Map<Long, SpoolSegment> drained = segments.headMap(checkpoint.segmentId(), false);
+        for (SpoolSegment segment : List.copyOf(drained.values())) {
+            segments.remove(segment.id());
+            segment.invalidate();
+            closeQuietly(segment);
+            recycle(segment.file());
+        }
+    }
+
+    private void recycle(Path file) {
+        try {
+            if (recycled.size() < properties.recycledSegments()) {
+                recycled.add(file);
+            } else {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete drained spool segment: {}", file, e);
+        }
+    }
+
+    private void closeQuietly(SpoolSegment segment) {
+        try {
+            segment.force();
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Failed to close spool segment: {}", segment.file(), e);
+        }
+    }
+}
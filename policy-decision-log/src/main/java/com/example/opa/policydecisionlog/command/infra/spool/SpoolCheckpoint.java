@@ -0,0 +1,81 @@
+package com.example.opa.policydecisionlog.command.infra.spool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/*
+ * drain 진행 위치 (segmentId, position)
+ * layout: [long segmentId][int position][int crc]
+ */
+final class SpoolCheckpoint implements Closeable {
+
+    private static final int SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private long segmentId;
+    private int position;
+
+    private SpoolCheckpoint(FileChannel channel, MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static SpoolCheckpoint open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            SpoolCheckpoint checkpoint = new SpoolCheckpoint(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, SIZE));
+            checkpoint.load();
+            return checkpoint;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    long segmentId() {
+        return segmentId;
+    }
+
+    int position() {
+        return position;
+    }
+
+    void update(long segmentId, int position) {
+        buffer.putLong(0, segmentId);
+        buffer.putInt(Long.BYTES, position);
+        buffer.putInt(Long.BYTES + Integer.BYTES, checksum(segmentId, position));
+        buffer.force();
+        this.segmentId = segmentId;
+        this.position = position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // checkpoint가 손상되었으면 처음부터 다시 drain (중복은 decision_id 기준으로 DB에서 무시됨)
+    private void load() {
+        long storedSegmentId = buffer.getLong(0);
+        int storedPosition = buffer.getInt(Long.BYTES);
+        int storedCrc = buffer.getInt(Long.BYTES + Integer.BYTES);
+        if (storedPosition >= 0 && storedCrc == checksum(storedSegmentId, storedPosition)) {
+            this.segmentId = storedSegmentId;
+            this.position = storedPosition;
+        }
+    }
+
+    private int checksum(long segmentId, int position) {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(Long.BYTES + Integer.BYTES).putLong(segmentId).putInt(position).flip());
+        return (int) crc.getValue();
+    }
+}
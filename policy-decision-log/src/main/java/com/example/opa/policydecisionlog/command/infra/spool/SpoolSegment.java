@@ -0,0 +1,166 @@
+package com.example.opa.policydecisionlog.command.infra.spool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/*
+ * append-only 세그먼트 파일 (memory-mapped)
+ * record: [int length][int crc][short keyLength][key][payload], length = keyLength + payload 길이
+ * crc에는 segmentId가 포함되어 재사용(recycle)된 파일에 남은 이전 레코드는 복구 시 무시된다
+ */
+final class SpoolSegment implements Closeable {
+
+    static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES + Short.BYTES;
+
+    private final long id;
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+
+    private SpoolSegment(long id, Path file, FileChannel channel, MappedByteBuffer buffer) {
+        this.id = id;
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static SpoolSegment open(long id, Path file, int size) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            SpoolSegment segment = new SpoolSegment(id, file, channel, buffer);
+            segment.recover();
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static int recordSize(int keyLength, int payloadLength) {
+        return RECORD_HEADER_SIZE + keyLength + payloadLength;
+    }
+
+    long id() {
+        return id;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    boolean hasRoom(int recordSize) {
+        return writePosition + recordSize <= buffer.capacity();
+    }
+
+    void append(byte[] key, byte[] source, int offset, int length) {
+        int position = writePosition;
+        int bodyLength = key.length + length;
+
+        ByteBuffer view = buffer.duplicate();
+        view.position(position + RECORD_HEADER_SIZE);
+        view.put(key);
+        view.put(source, offset, length);
+        buffer.putShort(position + Integer.BYTES * 2, (short) key.length);
+        buffer.putInt(position + Integer.BYTES, checksum(key, source, offset, length));
+        // length는 마지막에 기록하여 레코드 commit 표시로 사용
+        buffer.putInt(position, bodyLength);
+
+        writePosition = position + RECORD_HEADER_SIZE + bodyLength;
+    }
+
+    // position 이후에 쓴 레코드를 버림 (length를 0으로 두어 재시작 시 recover도 그 앞에서 멈춤)
+    void truncate(int position) {
+        if (position + Integer.BYTES <= buffer.capacity()) {
+            buffer.putInt(position, 0);
+        }
+        writePosition = position;
+    }
+
+    // position 위치의 레코드를 읽는다. 더 읽을 레코드가 없으면 null
+    SpooledDecisionLog read(int position) {
+        if (position >= writePosition) {
+            return null;
+        }
+        int bodyLength = buffer.getInt(position);
+        int keyLength = buffer.getShort(position + Integer.BYTES * 2);
+
+        byte[] key = new byte[keyLength];
+        byte[] payload = new byte[bodyLength - keyLength];
+        buffer.get(position + RECORD_HEADER_SIZE, key);
+        buffer.get(position + RECORD_HEADER_SIZE + keyLength, payload);
+
+        int next = position + RECORD_HEADER_SIZE + bodyLength;
+        return new SpooledDecisionLog(new String(key, StandardCharsets.UTF_8), payload, id, next);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    // recycle 전에 첫 레코드를 무효화
+    void invalidate() {
+        buffer.putInt(0, 0);
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void recover() {
+        int position = 0;
+        int capacity = buffer.capacity();
+        while (position + RECORD_HEADER_SIZE <= capacity) {
+            int bodyLength = buffer.getInt(position);
+            if (bodyLength <= 0 || position + RECORD_HEADER_SIZE + bodyLength > capacity) {
+                break;
+            }
+            int crc = buffer.getInt(position + Integer.BYTES);
+            int keyLength = buffer.getShort(position + Integer.BYTES * 2);
+            if (keyLength < 0 || keyLength > bodyLength
+                    || crc != checksum(position + RECORD_HEADER_SIZE, bodyLength)) {
+                break;
+            }
+            position += RECORD_HEADER_SIZE + bodyLength;
+        }
+        writePosition = position;
+    }
+
+    private int checksum(byte[] key, byte[] source, int offset, int length) {
+        CRC32C crc = newChecksum();
+        crc.update(key);
+        crc.update(source, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private int checksum(int bodyOffset, int bodyLength) {
+        CRC32C crc = newChecksum();
+        crc.update(buffer.slice(bodyOffset, bodyLength));
+        return (int) crc.getValue();
+    }
+
+    private CRC32C newChecksum() {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, id));
+        return crc;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.opa.policydecisionlog.command.infra.spool;
+
+public class SpoolUnavailableException extends RuntimeException {
+
+    public SpoolUnavailableException(String message) {
+        super(message);
+    }
+
+    public SpoolUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
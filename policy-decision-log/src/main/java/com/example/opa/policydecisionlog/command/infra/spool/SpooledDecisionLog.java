@@ -0,0 +1,10 @@
+package com.example.opa.policydecisionlog.command.infra.spool;
+
+// nextSegmentId/nextPosition: 이 레코드까지 drain 했을 때 저장할 checkpoint 위치
+public record SpooledDecisionLog(
+        String decisionId,
+        byte[] payload,
+        long nextSegmentId,
+        int nextPosition
+) {
+}
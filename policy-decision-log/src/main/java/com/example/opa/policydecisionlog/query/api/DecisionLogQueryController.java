@@ -1,11 +1,20 @@
 package com.example.opa.policydecisionlog.query.api;
 
+import com.example.opa.policydecisionlog.query.api.dto.DecisionBatchItemResponse;
+import com.example.opa.policydecisionlog.query.api.dto.DecisionBatchRequest;
 import com.example.opa.policydecisionlog.query.api.dto.DecisionContextCursorResponse;
 import com.example.opa.policydecisionlog.query.api.dto.DecisionContextResponse;
 import com.example.opa.policydecisionlog.query.api.dto.DecisionLogCursorResponse;
 import com.example.opa.policydecisionlog.query.api.dto.DecisionLogResponse;
 import com.example.opa.policydecisionlog.query.api.dto.DecisionLogSearchRequest;
+import com.example.opa.policydecisionlog.query.api.dto.DecisionStatsRequest;
+import com.example.opa.policydecisionlog.query.api.dto.DecisionTimelineRequest;
+import com.example.opa.policydecisionlog.query.api.dto.DenyRateResponse;
+import com.example.opa.policydecisionlog.query.api.dto.OpaVersionStatsResponse;
+import com.example.opa.policydecisionlog.query.api.dto.PolicyFailureResponse;
+import com.example.opa.policydecisionlog.query.api.export.NdjsonExportWriter;
 import com.example.opa.policydecisionlog.query.api.mapper.RequestToQueryMapper;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionContextSummary;
 import com.example.opa.policydecisionlog.query.app.usecase.DecisionLogQueryService;
 import com.example.opa.policydecisionlog.shared.api.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,13 +23,18 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.util.UUID;
 
 @Slf4j
@@ -32,6 +46,7 @@ public class DecisionLogQueryController {
 
     private final DecisionLogQueryService queryService;
     private final RequestToQueryMapper mapper;
+    private final NdjsonExportWriter exportWriter;
 
     @Operation(summary = "Decision Log 단건 조회", description = "Decision ID로 단건 Decision Log를 조회합니다.")
     @ApiResponse(responseCode = "200", description = "OK")
@@ -66,6 +81,56 @@ public class DecisionLogQueryController {
         return DecisionLogCursorResponse.from(queryService.search(query));
     }
 
+    @Operation(summary = "요청 기준 Decision 타임라인 조회",
+            description = "requestedBy 또는 reqId(둘 다 지정 가능)로 구간 내 Decision을 시간순(오래된 것부터)으로 조회합니다. "
+                    + "(Cursor 기반 페이징을 지원, 구간 미지정 시 최근 24시간)")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @ApiResponse(responseCode = "400", description = "Bad Request",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/timeline")
+    public DecisionLogCursorResponse getTimeline(DecisionTimelineRequest request) {
+        log.info("GET /decisions/timeline with params: {}", request);
+        var query = mapper.toTimelineQuery(request);
+        return DecisionLogCursorResponse.from(queryService.timeline(query));
+    }
+
+    @Operation(summary = "Decision Log 내보내기 (NDJSON)",
+            description = "필터 조건에 맞는 Decision Log 전체를 한 줄에 하나씩 NDJSON으로 스트리밍합니다. "
+                    + "limit은 적용되지 않으며 Accept-Encoding: gzip이면 gzip으로 압축합니다.")
+    @ApiResponse(responseCode = "200", description = "OK",
+            content = @Content(mediaType = NdjsonExportWriter.APPLICATION_NDJSON,
+                    schema = @Schema(implementation = DecisionLogResponse.class)))
+    @GetMapping(value = "/export", produces = NdjsonExportWriter.APPLICATION_NDJSON)
+    public void exportDecisions(DecisionLogSearchRequest request,
+                                HttpServletRequest httpRequest,
+                                HttpServletResponse httpResponse) throws IOException {
+        log.info("GET /decisions/export with params: {}", request);
+        var query = mapper.toQuery(request);
+        long exported = exportWriter.<DecisionLogResponse>write(httpRequest, httpResponse, sink ->
+                queryService.export(query, readModel -> sink.accept(DecisionLogResponse.from(readModel))));
+        log.info("Exported {} decision log(s)", exported);
+    }
+
+    @Operation(summary = "Decision Log 일괄 조회 (NDJSON)",
+            description = "여러 Decision ID를 한 번에 조회합니다. 요청한 순서대로 ID마다 한 줄씩 스트리밍하며, "
+                    + "없는 ID는 found=false로 표시합니다. (최대 1000개)")
+    @ApiResponse(responseCode = "200", description = "OK",
+            content = @Content(mediaType = NdjsonExportWriter.APPLICATION_NDJSON,
+                    schema = @Schema(implementation = DecisionBatchItemResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Bad Request",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping(value = "/batch", produces = NdjsonExportWriter.APPLICATION_NDJSON)
+    public void getDecisions(@RequestBody DecisionBatchRequest request,
+                             HttpServletRequest httpRequest,
+                             HttpServletResponse httpResponse) throws IOException {
+        var query = mapper.toBatchQuery(request);
+        log.info("POST /decisions/batch with {} id(s)", query.decisionIds().size());
+        long resolved = exportWriter.<DecisionBatchItemResponse<DecisionLogResponse>>write(httpRequest, httpResponse, sink ->
+                queryService.lookup(query, (decisionId, readModel) -> sink.accept(
+                        DecisionBatchItemResponse.of(decisionId, readModel != null ? DecisionLogResponse.from(readModel) : null))));
+        log.info("Resolved {} of {} decision id(s)", resolved, query.decisionIds().size());
+    }
+
     @Operation(summary = "Decision Context Summary 목록 조회", description = "필터 조건으로 Decision Context Summary 목록을 조회합니다. (Cursor 기반 페이징을 지원)")
     @ApiResponse(responseCode = "200", description = "OK")
     @GetMapping("/contexts")
@@ -74,4 +139,53 @@ public class DecisionLogQueryController {
         var query = mapper.toQuery(request);
         return DecisionContextCursorResponse.from(queryService.searchContextSummaries(query));
     }
+
+    @Operation(summary = "Decision Context Summary 일괄 조회 (NDJSON)",
+            description = "여러 Decision ID의 Context Summary를 한 번에 조회합니다. 요청한 순서대로 ID마다 한 줄씩 스트리밍하며, "
+                    + "없는 ID는 found=false로 표시합니다. (최대 1000개)")
+    @ApiResponse(responseCode = "200", description = "OK",
+            content = @Content(mediaType = NdjsonExportWriter.APPLICATION_NDJSON,
+                    schema = @Schema(implementation = DecisionBatchItemResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Bad Request",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping(value = "/contexts/batch", produces = NdjsonExportWriter.APPLICATION_NDJSON)
+    public void getContexts(@RequestBody DecisionBatchRequest request,
+                            HttpServletRequest httpRequest,
+                            HttpServletResponse httpResponse) throws IOException {
+        var query = mapper.toBatchQuery(request);
+        log.info("POST /decisions/contexts/batch with {} id(s)", query.decisionIds().size());
+        long resolved = exportWriter.<DecisionBatchItemResponse<DecisionContextSummary>>write(httpRequest, httpResponse, sink ->
+                queryService.lookupContextSummaries(query, (decisionId, summary) -> sink.accept(
+                        DecisionBatchItemResponse.of(decisionId, summary))));
+        log.info("Resolved {} of {} context summary id(s)", resolved, query.decisionIds().size());
+    }
+
+    @Operation(summary = "거절률 시계열 조회", description = "rollup 테이블에서 bucket 단위 decision 수/거절 수/거절률을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @ApiResponse(responseCode = "400", description = "Bad Request",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/stats/deny-rate")
+    public DenyRateResponse getDenyRate(DecisionStatsRequest request) {
+        log.info("GET /decisions/stats/deny-rate with params: {}", request);
+        var query = mapper.toStatsQuery(request);
+        return DenyRateResponse.from(query.interval(), queryService.getDenyRate(query));
+    }
+
+    @Operation(summary = "거절 정책 순위 조회", description = "rollup 테이블에서 거절이 많은 정책을 상위 limit개 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @GetMapping("/stats/policies")
+    public PolicyFailureResponse getTopFailingPolicies(DecisionStatsRequest request) {
+        log.info("GET /decisions/stats/policies with params: {}", request);
+        var query = mapper.toStatsQuery(request);
+        return PolicyFailureResponse.from(queryService.getTopFailingPolicies(query));
+    }
+
+    @Operation(summary = "OPA 버전별 decision 수 조회", description = "rollup 테이블에서 OPA 버전별 decision 수/거절 수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @GetMapping("/stats/opa-versions")
+    public OpaVersionStatsResponse getOpaVersions(DecisionStatsRequest request) {
+        log.info("GET /decisions/stats/opa-versions with params: {}", request);
+        var query = mapper.toStatsQuery(request);
+        return OpaVersionStatsResponse.from(queryService.getOpaVersions(query));
+    }
 }
@@ -0,0 +1,23 @@
+package com.example.opa.policydecisionlog.query.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Decision 일괄 조회 결과 한 줄 (NDJSON, 요청 순서대로 ID마다 한 줄)")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DecisionBatchItemResponse<T>(
+        @Schema(description = "요청한 Decision ID")
+        UUID decisionId,
+
+        @Schema(description = "조회 여부 (false면 result 생략)")
+        boolean found,
+
+        @Schema(description = "조회 결과 (DecisionLogResponse 또는 DecisionContextSummary)")
+        T result
+) {
+    public static <T> DecisionBatchItemResponse<T> of(UUID decisionId, T result) {
+        return new DecisionBatchItemResponse<>(decisionId, result != null, result);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.opa.policydecisionlog.query.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Decision 일괄 조회 요청")
+public record DecisionBatchRequest(
+        @Schema(description = "조회할 Decision ID 목록 (최대 1000개, 응답은 이 순서를 따름)")
+        List<UUID> decisionIds,
+
+        @Schema(description = "조회할 필드 목록 (콤마 구분, decisionId/timestamp는 항상 포함, 미지정 시 use case 기본값)",
+                example = "path,overallAllow,service")
+        String fields
+) {
+}
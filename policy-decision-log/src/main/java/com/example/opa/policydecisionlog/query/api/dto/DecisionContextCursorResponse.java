@@ -4,7 +4,6 @@ import com.example.opa.policydecisionlog.query.app.dto.CursorPage;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionContextSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 
-import java.time.OffsetDateTime;
 import java.util.List;
 
 @Schema(description = "Decision Context Summary 목록 응답 (Cursor 페이징)")
@@ -13,7 +12,7 @@ public record DecisionContextCursorResponse(
         List<DecisionContextSummary> content,
 
         @Schema(description = "다음 페이지 커서 (다음 페이지가 없으면 null)")
-        OffsetDateTime nextCursor
+        String nextCursor
 ) {
     public static DecisionContextCursorResponse from(CursorPage<DecisionContextSummary> page) {
         return new DecisionContextCursorResponse(page.content(), page.nextCursor());
@@ -1,11 +1,11 @@
 package com.example.opa.policydecisionlog.query.api.dto;
 
 import com.example.opa.policydecisionlog.query.app.dto.DecisionContext;
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 @Schema(description = "Decision Context Response - 단건 디버깅용 상세 컨텍스트")
@@ -85,8 +85,9 @@ public record DecisionContextResponse(
             @Schema(description = "OPA 버전", example = "1.0.0")
             String version,
 
-            @Schema(description = "번들 정보")
-            Map<String, Object> bundles
+            @Schema(description = "번들 정보", type = "object")
+            @JsonRawValue
+            String bundles
     ) {
         public static OpaInfo from(DecisionContext.OpaInfo opaInfo) {
             return new OpaInfo(opaInfo.instanceId(), opaInfo.version(), opaInfo.bundles());
@@ -101,7 +102,7 @@ public record DecisionContextResponse(
             @Schema(description = "정책별 판단 결과")
             List<PolicyResult> policies
     ) {
-        public static Decision from(DecisionContext.Decision decision) {
+        public static Decision from(com.example.opa.policydecisionlog.shared.extractor.Decision decision) {
             return new Decision(
                     decision.reasons().stream().map(Reason::from).toList(),
                     decision.policies().stream().map(PolicyResult::from).toList()
@@ -120,7 +121,7 @@ public record DecisionContextResponse(
             @Schema(description = "가중치", example = "30")
             int weight
     ) {
-        public static Reason from(DecisionContext.Reason reason) {
+        public static Reason from(com.example.opa.policydecisionlog.shared.extractor.Decision.Reason reason) {
             return new Reason(Rule.from(reason.rule()), reason.message(), reason.weight());
         }
     }
@@ -139,7 +140,7 @@ public record DecisionContextResponse(
             @Schema(description = "규칙 타입", example = "required_software_macos")
             String type
     ) {
-        public static Rule from(DecisionContext.Rule rule) {
+        public static Rule from(com.example.opa.policydecisionlog.shared.extractor.Decision.Rule rule) {
             return new Rule(rule.policy(), rule.expression(), rule.name(), rule.type());
         }
     }
@@ -155,7 +156,7 @@ public record DecisionContextResponse(
             @Schema(description = "위반 개수")
             int violationsCount
     ) {
-        public static PolicyResult from(DecisionContext.PolicyResult policyResult) {
+        public static PolicyResult from(com.example.opa.policydecisionlog.shared.extractor.Decision.PolicyResult policyResult) {
             return new PolicyResult(policyResult.policy(), policyResult.allow(), policyResult.violationsCount());
         }
     }
@@ -4,7 +4,6 @@ import com.example.opa.policydecisionlog.query.app.dto.CursorPage;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
 import io.swagger.v3.oas.annotations.media.Schema;
 
-import java.time.OffsetDateTime;
 import java.util.List;
 
 @Schema(description = "Decision Log 목록 응답 (Cursor 페이징)")
@@ -13,7 +12,7 @@ public record DecisionLogCursorResponse(
         List<DecisionLogResponse> content,
 
         @Schema(description = "다음 페이지 커서 (다음 페이지가 없으면 null)")
-        OffsetDateTime nextCursor
+        String nextCursor
 ) {
     public static DecisionLogCursorResponse from(CursorPage<DecisionLogReadModel> page) {
         List<DecisionLogResponse> responses = page.content().stream()
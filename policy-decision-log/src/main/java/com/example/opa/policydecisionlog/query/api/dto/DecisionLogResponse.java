@@ -1,13 +1,15 @@
 package com.example.opa.policydecisionlog.query.api.dto;
 
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.OffsetDateTime;
-import java.util.Map;
 import java.util.UUID;
 
-@Schema(description = "Decision Log 응답")
+@Schema(description = "Decision Log 응답 (fields로 제외된 필드는 응답에서 생략)")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record DecisionLogResponse(
         @Schema(description = "Decision ID")
         UUID decisionId,
@@ -19,7 +21,7 @@ public record DecisionLogResponse(
         String path,
 
         @Schema(description = "전체 허용 여부")
-        boolean overallAllow,
+        Boolean overallAllow,
 
         @Schema(description = "요청자 IP", example = "192.168.1.100:12345")
         String requestedBy,
@@ -36,11 +38,13 @@ public record DecisionLogResponse(
         @Schema(description = "서비스명", example = "cloud_access")
         String service,
 
-        @Schema(description = "번들 정보")
-        Map<String, Object> bundles,
+        @Schema(description = "번들 정보", type = "object")
+        @JsonRawValue
+        String bundles,
 
-        @Schema(description = "원본 Decision Log (JSON)")
-        Map<String, Object> raw,
+        @Schema(description = "원본 Decision Log (JSON)", type = "object")
+        @JsonRawValue
+        String raw,
 
         @Schema(description = "생성 시간")
         OffsetDateTime createdAt
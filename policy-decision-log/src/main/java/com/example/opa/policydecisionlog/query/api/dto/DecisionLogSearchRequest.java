@@ -18,13 +18,24 @@ public record DecisionLogSearchRequest(
         @Schema(description = "서비스명 필터", example = "cloud_access")
         String service,
 
-        @Schema(description = "정책 경로 필터 (부분 일치)", example = "device_posture/response")
+        @Schema(description = "정책 경로 필터 (부분 일치, '/*'로 끝나면 하위 경로 prefix 일치)",
+                example = "cloud_access/device_posture/*")
         String path,
 
+        @Schema(description = "요청자 필터 (OPA requested_by, 일치)", example = "10.0.0.12")
+        String requestedBy,
+
+        @Schema(description = "요청 ID 필터 (OPA req_id, 일치)", example = "42")
+        Long reqId,
+
         @Schema(description = "조회 개수 (기본값: 20, 최대: 100)", example = "20")
         Integer limit,
 
-        @Schema(description = "페이징 커서 (이전 응답의 nextCursor 값)")
-        OffsetDateTime cursor
+        @Schema(description = "페이징 커서 (이전 응답의 nextCursor 값을 그대로 전달)", example = "AAAAAGd0hYAAAAAAAAAAAAAABAA")
+        String cursor,
+
+        @Schema(description = "조회할 필드 목록 (콤마 구분, decisionId/timestamp는 항상 포함, 미지정 시 전체)",
+                example = "path,overallAllow,service")
+        String fields
 ) {
 }
@@ -0,0 +1,24 @@
+package com.example.opa.policydecisionlog.query.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+
+@Schema(description = "Decision 집계 조회 요청 (rollup 기반)")
+public record DecisionStatsRequest(
+        @Schema(description = "집계 시작 시간 (포함, 기본값: to - 1시간)", example = "2025-01-01T00:00:00Z")
+        OffsetDateTime from,
+
+        @Schema(description = "집계 종료 시간 (미포함, 기본값: 현재)", example = "2025-01-01T01:00:00Z")
+        OffsetDateTime to,
+
+        @Schema(description = "서비스명 필터", example = "cloud_access")
+        String service,
+
+        @Schema(description = "시계열 bucket 단위 (minute, hour, day / 기본값: minute)", example = "minute")
+        String interval,
+
+        @Schema(description = "조회 개수 (상위 N개 집계에 사용, 기본값: 20, 최대: 100)", example = "10")
+        Integer limit
+) {
+}
@@ -0,0 +1,31 @@
+package com.example.opa.policydecisionlog.query.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+
+@Schema(description = "요청자/요청 ID 기준 Decision 타임라인 조회 요청 (requestedBy, reqId 중 하나 이상 필수)")
+public record DecisionTimelineRequest(
+        @Schema(description = "요청자 (OPA requested_by)", example = "10.0.0.12")
+        String requestedBy,
+
+        @Schema(description = "요청 ID (OPA req_id)", example = "42")
+        Long reqId,
+
+        @Schema(description = "조회 시작 시간 (기본값: to - 24시간)", example = "2025-01-01T00:00:00Z")
+        OffsetDateTime from,
+
+        @Schema(description = "조회 종료 시간 (기본값: 현재)", example = "2025-01-02T00:00:00Z")
+        OffsetDateTime to,
+
+        @Schema(description = "조회 개수 (기본값: 20, 최대: 100)", example = "20")
+        Integer limit,
+
+        @Schema(description = "페이징 커서 (이전 응답의 nextCursor 값을 그대로 전달)", example = "AAAAAGd0hYAAAAAAAAAAAAAABAA")
+        String cursor,
+
+        @Schema(description = "조회할 필드 목록 (콤마 구분, decisionId/timestamp는 항상 포함, 미지정 시 전체)",
+                example = "path,overallAllow,service")
+        String fields
+) {
+}
@@ -0,0 +1,40 @@
+package com.example.opa.policydecisionlog.query.api.dto;
+
+import com.example.opa.policydecisionlog.query.app.dto.DenyRatePoint;
+import com.example.opa.policydecisionlog.query.app.dto.RollupInterval;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Schema(description = "거절률 시계열 응답")
+public record DenyRateResponse(
+        @Schema(description = "bucket 단위", example = "minute")
+        String interval,
+
+        @Schema(description = "bucket별 집계 (decision이 없는 bucket은 생략)")
+        List<Point> points
+) {
+    public static DenyRateResponse from(RollupInterval interval, List<DenyRatePoint> points) {
+        return new DenyRateResponse(interval.getUnit(), points.stream().map(Point::from).toList());
+    }
+
+    @Schema(description = "bucket별 집계")
+    public record Point(
+            @Schema(description = "bucket 시작 시간 (UTC)")
+            OffsetDateTime bucket,
+
+            @Schema(description = "전체 decision 수")
+            long decisions,
+
+            @Schema(description = "거절된 decision 수")
+            long denied,
+
+            @Schema(description = "거절률 (denied / decisions)", example = "0.125")
+            double denyRate
+    ) {
+        public static Point from(DenyRatePoint point) {
+            return new Point(point.bucket(), point.decisions(), point.denied(), point.denyRate());
+        }
+    }
+}
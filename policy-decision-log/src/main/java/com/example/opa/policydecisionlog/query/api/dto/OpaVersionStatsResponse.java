@@ -0,0 +1,32 @@
+package com.example.opa.policydecisionlog.query.api.dto;
+
+import com.example.opa.policydecisionlog.query.app.dto.OpaVersionCount;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "OPA 버전별 decision 수 응답")
+public record OpaVersionStatsResponse(
+        @Schema(description = "decision 수 내림차순 OPA 버전 목록")
+        List<Item> versions
+) {
+    public static OpaVersionStatsResponse from(List<OpaVersionCount> counts) {
+        return new OpaVersionStatsResponse(counts.stream().map(Item::from).toList());
+    }
+
+    @Schema(description = "OPA 버전별 집계")
+    public record Item(
+            @Schema(description = "OPA 버전 (labels.version 미기록 시 null)", example = "1.0.0")
+            String opaVersion,
+
+            @Schema(description = "전체 decision 수")
+            long decisions,
+
+            @Schema(description = "거절된 decision 수")
+            long denied
+    ) {
+        public static Item from(OpaVersionCount count) {
+            return new Item(count.opaVersion(), count.decisions(), count.denied());
+        }
+    }
+}
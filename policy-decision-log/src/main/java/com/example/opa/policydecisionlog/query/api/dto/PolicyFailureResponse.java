@@ -0,0 +1,38 @@
+package com.example.opa.policydecisionlog.query.api.dto;
+
+import com.example.opa.policydecisionlog.query.app.dto.PolicyFailureCount;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "거절이 많은 정책 순위 응답")
+public record PolicyFailureResponse(
+        @Schema(description = "거절 수 내림차순 정책 목록")
+        List<Item> policies
+) {
+    public static PolicyFailureResponse from(List<PolicyFailureCount> counts) {
+        return new PolicyFailureResponse(counts.stream().map(Item::from).toList());
+    }
+
+    @Schema(description = "정책별 집계")
+    public record Item(
+            @Schema(description = "서비스명", example = "cloud_access")
+            String service,
+
+            @Schema(description = "정책 이름", example = "vaccine_policy")
+            String policy,
+
+            @Schema(description = "평가 수")
+            long evaluations,
+
+            @Schema(description = "거절 수")
+            long denied,
+
+            @Schema(description = "위반 합계")
+            long violations
+    ) {
+        public static Item from(PolicyFailureCount count) {
+            return new Item(count.service(), count.policy(), count.evaluations(), count.denied(), count.violations());
+        }
+    }
+}
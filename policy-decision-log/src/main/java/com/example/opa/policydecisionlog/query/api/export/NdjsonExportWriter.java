@@ -0,0 +1,91 @@
+package com.example.opa.policydecisionlog.query.api.export;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Enumeration;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * 조회 결과를 NDJSON(한 줄에 JSON 값 하나)으로 응답 stream에 바로 쓰는 writer
+ * - 결과를 목록으로 모으지 않고 row 단위로 직렬화해 쓰므로 export 크기와 무관하게 메모리 사용량이 일정
+ * - 요청의 Accept-Encoding에 gzip이 있으면 gzip으로 압축해 전송
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonExportWriter {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private static final String GZIP = "gzip";
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    private final JsonMapper jsonMapper;
+
+    // source는 전달받은 sink로 값을 한 건씩 넘기고 전체 건수를 반환
+    public <T> long write(HttpServletRequest request, HttpServletResponse response,
+                          ToLongFunction<Consumer<T>> source) throws IOException {
+        boolean gzip = acceptsGzip(request);
+        response.setContentType(APPLICATION_NDJSON);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+
+        try (OutputStream out = gzip
+                ? new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE)
+                : response.getOutputStream()) {
+            return source.applyAsLong(value -> writeLine(out, value));
+        }
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(jsonMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등: cursor 순회를 중단시키기 위해 unchecked로 전파
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> values = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (values != null && values.hasMoreElements()) {
+            for (String encoding : values.nextElement().split(",")) {
+                if (isAcceptedGzip(encoding)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // "gzip", "gzip;q=0.8"은 허용, "gzip;q=0"은 거부
+    private boolean isAcceptedGzip(String encoding) {
+        String[] parts = encoding.split(";");
+        if (!GZIP.equalsIgnoreCase(parts[0].trim())) {
+            return false;
+        }
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -1,14 +1,38 @@
 package com.example.opa.policydecisionlog.query.api.mapper;
 
+import com.example.opa.policydecisionlog.query.api.dto.DecisionBatchRequest;
 import com.example.opa.policydecisionlog.query.api.dto.DecisionLogSearchRequest;
+import com.example.opa.policydecisionlog.query.api.dto.DecisionStatsRequest;
+import com.example.opa.policydecisionlog.query.api.dto.DecisionTimelineRequest;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionBatchQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionLogField;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogSearchQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionStatsQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionTimelineQuery;
+import com.example.opa.policydecisionlog.query.app.dto.RollupInterval;
+import com.example.opa.policydecisionlog.query.app.dto.SearchCursor;
+import com.example.opa.policydecisionlog.shared.exception.MissingTimelineKeyException;
+import com.example.opa.policydecisionlog.shared.exception.TooManyDecisionIdsException;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 
 @Component
 public class RequestToQueryMapper {
 
     private static final int DEFAULT_LIMIT = 20;
     private static final int MAX_LIMIT = 100;
+    private static final Duration DEFAULT_STATS_RANGE = Duration.ofHours(1);
+    private static final int MAX_BATCH_IDS = 1000;
+    private static final Duration DEFAULT_TIMELINE_RANGE = Duration.ofHours(24);
 
     public DecisionLogSearchQuery toQuery(DecisionLogSearchRequest request) {
         int resolvedLimit = resolveLimit(request.limit());
@@ -18,11 +42,76 @@ public class RequestToQueryMapper {
                 request.allow(),
                 request.service(),
                 request.path(),
+                StringUtils.hasText(request.requestedBy()) ? request.requestedBy() : null,
+                request.reqId(),
                 resolvedLimit,
-                request.cursor()
+                resolveCursor(request.cursor()),
+                resolveFields(request.fields())
         );
     }
 
+    // 구간 미지정 시 최근 1시간, to는 포함하지 않음
+    public DecisionStatsQuery toStatsQuery(DecisionStatsRequest request) {
+        OffsetDateTime to = request.to() != null ? request.to() : OffsetDateTime.now(ZoneOffset.UTC);
+        OffsetDateTime from = request.from() != null ? request.from() : to.minus(DEFAULT_STATS_RANGE);
+        return new DecisionStatsQuery(
+                from,
+                to,
+                StringUtils.hasText(request.service()) ? request.service() : null,
+                StringUtils.hasText(request.interval())
+                        ? RollupInterval.fromName(request.interval().trim())
+                        : RollupInterval.MINUTE,
+                resolveLimit(request.limit())
+        );
+    }
+
+    // 구간 미지정 시 최근 24시간
+    public DecisionTimelineQuery toTimelineQuery(DecisionTimelineRequest request) {
+        String requestedBy = StringUtils.hasText(request.requestedBy()) ? request.requestedBy() : null;
+        if (requestedBy == null && request.reqId() == null) {
+            throw new MissingTimelineKeyException();
+        }
+        OffsetDateTime to = request.to() != null ? request.to() : OffsetDateTime.now(ZoneOffset.UTC);
+        OffsetDateTime from = request.from() != null ? request.from() : to.minus(DEFAULT_TIMELINE_RANGE);
+        return new DecisionTimelineQuery(
+                requestedBy,
+                request.reqId(),
+                from,
+                to,
+                resolveLimit(request.limit()),
+                resolveCursor(request.cursor()),
+                resolveFields(request.fields())
+        );
+    }
+
+    public DecisionBatchQuery toBatchQuery(DecisionBatchRequest request) {
+        List<UUID> decisionIds = request.decisionIds() == null ? List.of() : request.decisionIds().stream()
+                .filter(Objects::nonNull)
+                .toList();
+        if (decisionIds.size() > MAX_BATCH_IDS) {
+            throw new TooManyDecisionIdsException(decisionIds.size(), MAX_BATCH_IDS);
+        }
+        return new DecisionBatchQuery(decisionIds, resolveFields(request.fields()));
+    }
+
+    private SearchCursor resolveCursor(String cursor) {
+        return StringUtils.hasText(cursor) ? SearchCursor.decode(cursor) : null;
+    }
+
+    // 미지정 시 null (use case별 기본 컬럼 사용), 지정 시 필수 컬럼을 항상 포함
+    private Set<DecisionLogField> resolveFields(String fields) {
+        if (!StringUtils.hasText(fields)) {
+            return null;
+        }
+        Set<DecisionLogField> resolved = EnumSet.copyOf(DecisionLogField.REQUIRED);
+        for (String name : StringUtils.commaDelimitedListToStringArray(fields)) {
+            if (StringUtils.hasText(name)) {
+                resolved.add(DecisionLogField.fromName(name.trim()));
+            }
+        }
+        return resolved;
+    }
+
     private int resolveLimit(Integer limit) {
         if (limit == null || limit <= 0) {
             return DEFAULT_LIMIT;
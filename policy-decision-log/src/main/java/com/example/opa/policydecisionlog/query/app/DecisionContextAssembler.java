@@ -4,19 +4,24 @@ import com.example.opa.policydecisionlog.query.app.dto.DecisionContext;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionContext.*;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionContextSummary;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
-import com.example.opa.policydecisionlog.query.app.extractor.DecisionExtractor;
-import com.example.opa.policydecisionlog.query.app.extractor.DecisionExtractorRegistry;
+import com.example.opa.policydecisionlog.shared.extractor.Decision;
+import com.example.opa.policydecisionlog.shared.extractor.DecisionExtractor;
+import com.example.opa.policydecisionlog.shared.extractor.DecisionExtractorRegistry;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import tools.jackson.databind.JsonNode;
+import tools.jackson.core.JsonParser;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class DecisionContextAssembler {
 
     private final DecisionExtractorRegistry extractorRegistry;
     private final JsonMapper jsonMapper;
+    private final DecisionLogMetrics metrics;
 
     public DecisionContextSummary assembleSummary(DecisionLogReadModel readModel) {
         return new DecisionContextSummary(
@@ -31,16 +36,19 @@ public class DecisionContextAssembler {
     }
 
     public DecisionContext assemble(DecisionLogReadModel readModel) {
-        DecisionExtractor extractor = extractorRegistry.getExtractor(readModel.service());
-        JsonNode rawNode = jsonMapper.valueToTree(readModel.raw());
+        long start = System.nanoTime();
+        boolean materialized = readModel.decision() != null;
+        Decision decision = materialized ? readModel.decision() : buildDecision(readModel);
 
-        return new DecisionContext(
+        DecisionContext context = new DecisionContext(
                 buildRequest(readModel),
                 buildRequestInfo(readModel),
                 buildOpaInfo(readModel),
-                buildDecision(rawNode, extractor),
+                decision,
                 "/decisions/" + readModel.decisionId()
         );
+        metrics.recordContextAssemble(materialized, System.nanoTime() - start);
+        return context;
     }
 
     private Request buildRequest(DecisionLogReadModel readModel) {
@@ -68,10 +76,15 @@ public class DecisionContextAssembler {
         );
     }
 
-    private Decision buildDecision(JsonNode raw, DecisionExtractor extractor) {
-        return new Decision(
-                extractor.extractReasons(raw),
-                extractor.extractPolicies(raw)
-        );
+    // decision_context가 없는 행(적재 시점 추출 이전 데이터, 추출 실패)은 raw JSON 텍스트를 바로 파싱해 추출
+    // raw까지 비어 있으면 추출할 내용이 없으므로 빈 결과
+    private Decision buildDecision(DecisionLogReadModel readModel) {
+        if (readModel.raw() == null) {
+            return new Decision(List.of(), List.of());
+        }
+        DecisionExtractor extractor = extractorRegistry.getExtractor(readModel.service());
+        try (JsonParser parser = jsonMapper.createParser(readModel.raw())) {
+            return extractor.extract(parser);
+        }
     }
 }
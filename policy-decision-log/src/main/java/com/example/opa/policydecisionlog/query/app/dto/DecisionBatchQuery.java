@@ -0,0 +1,12 @@
+package com.example.opa.policydecisionlog.query.app.dto;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// 요청 순서를 유지한 Decision ID 목록 (중복 허용, 결과도 같은 순서로 반환)
+public record DecisionBatchQuery(
+        List<UUID> decisionIds,
+        Set<DecisionLogField> fields
+) {
+}
@@ -1,8 +1,8 @@
 package com.example.opa.policydecisionlog.query.app.dto;
 
+import com.example.opa.policydecisionlog.shared.extractor.Decision;
+
 import java.time.OffsetDateTime;
-import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 public record DecisionContext(
@@ -29,30 +29,6 @@ public record DecisionContext(
     public record OpaInfo(
             UUID instanceId,
             String version,
-            Map<String, Object> bundles
-    ) {}
-
-    public record Decision(
-            List<Reason> reasons,
-            List<PolicyResult> policies
-    ) {}
-
-    public record Reason(
-            Rule rule,
-            String message,
-            int weight
-    ) {}
-
-    public record Rule(
-            String policy,
-            String expression,
-            String name,
-            String type
-    ) {}
-
-    public record PolicyResult(
-            String policy,
-            boolean allow,
-            int violationsCount
+            String bundles
     ) {}
 }
@@ -1,11 +1,14 @@
 package com.example.opa.policydecisionlog.query.app.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record DecisionContextSummary(
         UUID decisionId,
-        boolean overallAllow,
+        Boolean overallAllow,
         String path,
         String service,
         OffsetDateTime timestamp,
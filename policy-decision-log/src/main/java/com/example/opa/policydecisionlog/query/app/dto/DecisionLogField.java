@@ -0,0 +1,59 @@
+package com.example.opa.policydecisionlog.query.app.dto;
+
+import com.example.opa.policydecisionlog.shared.exception.InvalidSearchFieldException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * 검색 시 조회할 컬럼 단위 (?fields= 의 값과 1:1)
+ * - decisionId, timestamp는 식별/커서에 필요하므로 항상 조회
+ * - bundles, raw(jsonb)는 명시적으로 요청될 때만 조회
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DecisionLogField {
+
+    DECISION_ID("decisionId"),
+    TIMESTAMP("timestamp"),
+    PATH("path"),
+    OVERALL_ALLOW("overallAllow"),
+    REQUESTED_BY("requestedBy"),
+    REQ_ID("reqId"),
+    OPA_INSTANCE_ID("opaInstanceId"),
+    OPA_VERSION("opaVersion"),
+    SERVICE("service"),
+    BUNDLES("bundles"),
+    RAW("raw"),
+    CREATED_AT("createdAt");
+
+    public static final Set<DecisionLogField> ALL =
+            Collections.unmodifiableSet(EnumSet.allOf(DecisionLogField.class));
+
+    public static final Set<DecisionLogField> REQUIRED =
+            Collections.unmodifiableSet(EnumSet.of(DECISION_ID, TIMESTAMP));
+
+    // DecisionContextSummary 구성에 필요한 컬럼
+    public static final Set<DecisionLogField> SUMMARY = Collections.unmodifiableSet(
+            EnumSet.of(DECISION_ID, TIMESTAMP, PATH, OVERALL_ALLOW, SERVICE, REQUESTED_BY));
+
+    private static final Map<String, DecisionLogField> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(DecisionLogField::getFieldName, Function.identity()));
+
+    private final String fieldName;
+
+    public static DecisionLogField fromName(String name) {
+        DecisionLogField field = BY_NAME.get(name);
+        if (field == null) {
+            throw new InvalidSearchFieldException(name);
+        }
+        return field;
+    }
+}
@@ -1,21 +1,25 @@
 package com.example.opa.policydecisionlog.query.app.dto;
 
+import com.example.opa.policydecisionlog.shared.extractor.Decision;
+
 import java.time.OffsetDateTime;
-import java.util.Map;
 import java.util.UUID;
 
+// bundles, raw는 DB에 저장된 JSON 텍스트 그대로 (응답에 raw JSON으로 그대로 실림)
 public record DecisionLogReadModel(
+        Long id,
         UUID decisionId,
         OffsetDateTime timestamp,
         String path,
-        boolean overallAllow,
+        Boolean overallAllow,
         String requestedBy,
         Long reqId,
         UUID opaInstanceId,
         String opaVersion,
         String service,
-        Map<String, Object> bundles,
-        Map<String, Object> raw,
-        OffsetDateTime createdAt
+        String bundles,
+        String raw,
+        OffsetDateTime createdAt,
+        Decision decision
 ) {
 }
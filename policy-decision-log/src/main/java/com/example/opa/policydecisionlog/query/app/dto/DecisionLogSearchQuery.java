@@ -1,6 +1,7 @@
 package com.example.opa.policydecisionlog.query.app.dto;
 
 import java.time.OffsetDateTime;
+import java.util.Set;
 
 public record DecisionLogSearchQuery(
         OffsetDateTime from,
@@ -8,7 +9,10 @@ public record DecisionLogSearchQuery(
         Boolean allow,
         String service,
         String path,
+        String requestedBy,
+        Long reqId,
         int limit,
-        OffsetDateTime cursor
+        SearchCursor cursor,
+        Set<DecisionLogField> fields
 ) {
 }
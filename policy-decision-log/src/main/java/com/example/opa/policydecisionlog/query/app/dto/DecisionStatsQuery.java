@@ -0,0 +1,13 @@
+package com.example.opa.policydecisionlog.query.app.dto;
+
+import java.time.OffsetDateTime;
+
+// 집계 조회 조건: [from, to) 구간의 rollup bucket만 읽음
+public record DecisionStatsQuery(
+        OffsetDateTime from,
+        OffsetDateTime to,
+        String service,
+        RollupInterval interval,
+        int limit
+) {
+}
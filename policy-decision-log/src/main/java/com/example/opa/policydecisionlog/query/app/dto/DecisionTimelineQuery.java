@@ -0,0 +1,16 @@
+package com.example.opa.policydecisionlog.query.app.dto;
+
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+// requestedBy/reqId 중 하나 이상과 [from, to] 구간으로 조회, (ts, id) 오름차순
+public record DecisionTimelineQuery(
+        String requestedBy,
+        Long reqId,
+        OffsetDateTime from,
+        OffsetDateTime to,
+        int limit,
+        SearchCursor cursor,
+        Set<DecisionLogField> fields
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.opa.policydecisionlog.query.app.dto;
+
+import java.time.OffsetDateTime;
+
+public record DenyRatePoint(
+        OffsetDateTime bucket,
+        long decisions,
+        long denied
+) {
+    public double denyRate() {
+        return decisions == 0 ? 0.0 : (double) denied / decisions;
+    }
+}
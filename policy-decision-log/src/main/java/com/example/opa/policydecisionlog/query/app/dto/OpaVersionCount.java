@@ -0,0 +1,8 @@
+package com.example.opa.policydecisionlog.query.app.dto;
+
+public record OpaVersionCount(
+        String opaVersion,
+        long decisions,
+        long denied
+) {
+}
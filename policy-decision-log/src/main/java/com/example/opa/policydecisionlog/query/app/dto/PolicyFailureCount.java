@@ -0,0 +1,10 @@
+package com.example.opa.policydecisionlog.query.app.dto;
+
+public record PolicyFailureCount(
+        String service,
+        String policy,
+        long evaluations,
+        long denied,
+        long violations
+) {
+}
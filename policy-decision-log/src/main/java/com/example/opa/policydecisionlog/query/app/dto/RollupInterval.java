@@ -0,0 +1,33 @@
+package com.example.opa.policydecisionlog.query.app.dto;
+
+import com.example.opa.policydecisionlog.shared.exception.InvalidRollupIntervalException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 집계 조회 시 시계열 bucket 단위 (?interval= 의 값, rollup은 분 단위로 저장되고 조회 시 묶음)
+@Getter
+@RequiredArgsConstructor
+public enum RollupInterval {
+
+    MINUTE("minute"),
+    HOUR("hour"),
+    DAY("day");
+
+    private static final Map<String, RollupInterval> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(RollupInterval::getUnit, Function.identity()));
+
+    private final String unit;
+
+    public static RollupInterval fromName(String name) {
+        RollupInterval interval = BY_NAME.get(name);
+        if (interval == null) {
+            throw new InvalidRollupIntervalException(name);
+        }
+        return interval;
+    }
+}
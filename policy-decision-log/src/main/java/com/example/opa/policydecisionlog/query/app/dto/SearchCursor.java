@@ -0,0 +1,55 @@
+package com.example.opa.policydecisionlog.query.app.dto;
+
+import com.example.opa.policydecisionlog.shared.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/*
+ * (ts, id) keyset 커서
+ * - 동일 ts를 가진 레코드가 페이지 경계에 걸쳐도 id로 구분되어 누락/중복 없이 이어서 조회
+ * - 클라이언트에는 base64url 문자열로만 노출 (내부 구조는 비공개)
+ */
+public record SearchCursor(
+        OffsetDateTime ts,
+        long id
+) {
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public String encode() {
+        Instant instant = ts.toInstant();
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(instant.getEpochSecond())
+                .putInt(instant.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static SearchCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor, e);
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new InvalidCursorException(cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        long id = buffer.getLong();
+        if (nano < 0 || nano > 999_999_999) {
+            throw new InvalidCursorException(cursor);
+        }
+        try {
+            Instant instant = Instant.ofEpochSecond(epochSecond, nano);
+            return new SearchCursor(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC), id);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor, e);
+        }
+    }
+}
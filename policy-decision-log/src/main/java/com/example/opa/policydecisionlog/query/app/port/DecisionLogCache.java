@@ -0,0 +1,20 @@
+package com.example.opa.policydecisionlog.query.app.port;
+
+import com.example.opa.policydecisionlog.query.app.dto.DecisionContext;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+// decision log는 저장 후 변경되지 않으므로 decisionId 단위로 조회 결과를 캐싱
+// loader가 예외를 던지면(미존재 등) 캐싱하지 않는다
+public interface DecisionLogCache {
+
+    DecisionLogReadModel getReadModel(UUID decisionId, Function<UUID, DecisionLogReadModel> loader);
+
+    DecisionContext getContext(
+            UUID decisionId,
+            Function<UUID, DecisionLogReadModel> loader,
+            Function<DecisionLogReadModel, DecisionContext> assembler
+    );
+}
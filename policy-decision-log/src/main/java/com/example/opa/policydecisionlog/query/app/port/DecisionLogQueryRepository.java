@@ -1,15 +1,27 @@
 package com.example.opa.policydecisionlog.query.app.port;
 
+import com.example.opa.policydecisionlog.query.app.dto.DecisionLogField;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogSearchQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionTimelineQuery;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface DecisionLogQueryRepository {
 
     Optional<DecisionLogReadModel> findByDecisionId(UUID decisionId);
 
-    List<DecisionLogReadModel> search(DecisionLogSearchQuery query);
+    List<DecisionLogReadModel> findByDecisionIds(Collection<UUID> decisionIds, Set<DecisionLogField> fields);
+
+    List<DecisionLogReadModel> timeline(DecisionTimelineQuery query, Set<DecisionLogField> fields);
+
+    List<DecisionLogReadModel> search(DecisionLogSearchQuery query, Set<DecisionLogField> fields);
+
+    // limit 없이 조건에 맞는 전체를 순서대로 흘려보냄 (호출자가 트랜잭션 안에서 소비 후 close)
+    Stream<DecisionLogReadModel> stream(DecisionLogSearchQuery query, Set<DecisionLogField> fields);
 }
@@ -0,0 +1,17 @@
+package com.example.opa.policydecisionlog.query.app.port;
+
+import com.example.opa.policydecisionlog.query.app.dto.DecisionStatsQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DenyRatePoint;
+import com.example.opa.policydecisionlog.query.app.dto.OpaVersionCount;
+import com.example.opa.policydecisionlog.query.app.dto.PolicyFailureCount;
+
+import java.util.List;
+
+public interface DecisionRollupQueryRepository {
+
+    List<DenyRatePoint> findDenyRate(DecisionStatsQuery query);
+
+    List<PolicyFailureCount> findTopFailingPolicies(DecisionStatsQuery query);
+
+    List<OpaVersionCount> findOpaVersions(DecisionStatsQuery query);
+}
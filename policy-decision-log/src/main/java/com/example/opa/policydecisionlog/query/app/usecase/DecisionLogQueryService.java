@@ -1,21 +1,40 @@
 package com.example.opa.policydecisionlog.query.app.usecase;
 
 import com.example.opa.policydecisionlog.query.app.DecisionContextAssembler;
+import com.example.opa.policydecisionlog.query.app.port.DecisionLogCache;
 import com.example.opa.policydecisionlog.query.app.port.DecisionLogQueryRepository;
+import com.example.opa.policydecisionlog.query.app.port.DecisionRollupQueryRepository;
 import com.example.opa.policydecisionlog.query.app.dto.CursorPage;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionBatchQuery;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionContext;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionContextSummary;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionLogField;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogSearchQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionStatsQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionTimelineQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DenyRatePoint;
+import com.example.opa.policydecisionlog.query.app.dto.OpaVersionCount;
+import com.example.opa.policydecisionlog.query.app.dto.PolicyFailureCount;
+import com.example.opa.policydecisionlog.query.app.dto.SearchCursor;
 import com.example.opa.policydecisionlog.shared.exception.DecisionNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -23,41 +42,147 @@ import java.util.function.Function;
 @Transactional(readOnly = true)
 public class DecisionLogQueryService {
 
+    // IN 목록 하나에 바인딩할 최대 ID 수 (요청 전체 상한은 api 계층에서 제한)
+    private static final int BATCH_CHUNK_SIZE = 500;
+
     private final DecisionLogQueryRepository repository;
     private final DecisionContextAssembler contextAssembler;
+    private final DecisionLogCache cache;
+    private final DecisionRollupQueryRepository rollupRepository;
 
     public DecisionLogReadModel getByDecisionId(UUID decisionId) {
-        log.debug("Finding decision log by decisionId: {}", decisionId);
-        return repository.findByDecisionId(decisionId)
-                .orElseThrow(() -> new DecisionNotFoundException(decisionId));
+        return cache.getReadModel(decisionId, this::findByDecisionId);
     }
 
     public DecisionContext getContextByDecisionId(UUID decisionId) {
-        var readModel = getByDecisionId(decisionId);
-        return contextAssembler.assemble(readModel);
+        return cache.getContext(decisionId, this::findByDecisionId, contextAssembler::assemble);
     }
 
     public CursorPage<DecisionLogReadModel> search(DecisionLogSearchQuery query) {
         log.debug("Searching decision logs: {}", query);
-        return searchAndPage(query, readModel -> readModel);
+        Set<DecisionLogField> fields = query.fields() != null ? query.fields() : DecisionLogField.ALL;
+        return searchAndPage(query, fields, readModel -> readModel);
     }
 
     public CursorPage<DecisionContextSummary> searchContextSummaries(DecisionLogSearchQuery query) {
         log.debug("Searching context summaries: {}", query);
-        return searchAndPage(query, contextAssembler::assembleSummary);
+        return searchAndPage(query, summaryFields(query.fields()), contextAssembler::assembleSummary);
+    }
+
+    // 한 요청자/요청의 decision을 시간순으로 이어서 조회 (커서는 마지막 항목 이후)
+    public CursorPage<DecisionLogReadModel> timeline(DecisionTimelineQuery query) {
+        log.debug("Reading decision timeline: {}", query);
+        Set<DecisionLogField> fields = query.fields() != null ? query.fields() : DecisionLogField.ALL;
+        return toPage(repository.timeline(query, fields), query.limit(), readModel -> readModel);
+    }
+
+    // 결과를 목록으로 모으지 않고 한 건씩 sink로 전달 (read-only 트랜잭션 안에서 cursor를 끝까지 소비)
+    public long export(DecisionLogSearchQuery query, Consumer<DecisionLogReadModel> sink) {
+        log.debug("Exporting decision logs: {}", query);
+        Set<DecisionLogField> fields = query.fields() != null ? query.fields() : DecisionLogField.ALL;
+        long count = 0;
+        try (Stream<DecisionLogReadModel> readModels = repository.stream(query, fields)) {
+            Iterator<DecisionLogReadModel> iterator = readModels.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 요청 순서대로 ID마다 한 번씩 sink 호출 (없는 ID는 null), 조회된 건수를 반환
+    public long lookup(DecisionBatchQuery query, BiConsumer<UUID, DecisionLogReadModel> sink) {
+        log.debug("Looking up {} decision log(s)", query.decisionIds().size());
+        Set<DecisionLogField> fields = query.fields() != null ? query.fields() : DecisionLogField.ALL;
+        return lookupAndEmit(query.decisionIds(), fields, readModel -> readModel, sink);
+    }
+
+    public long lookupContextSummaries(DecisionBatchQuery query, BiConsumer<UUID, DecisionContextSummary> sink) {
+        log.debug("Looking up {} context summary(ies)", query.decisionIds().size());
+        return lookupAndEmit(query.decisionIds(), summaryFields(query.fields()), contextAssembler::assembleSummary, sink);
+    }
+
+    public List<DenyRatePoint> getDenyRate(DecisionStatsQuery query) {
+        log.debug("Reading deny rate rollups: {}", query);
+        return rollupRepository.findDenyRate(query);
+    }
+
+    public List<PolicyFailureCount> getTopFailingPolicies(DecisionStatsQuery query) {
+        log.debug("Reading policy rollups: {}", query);
+        return rollupRepository.findTopFailingPolicies(query);
+    }
+
+    public List<OpaVersionCount> getOpaVersions(DecisionStatsQuery query) {
+        log.debug("Reading OPA version rollups: {}", query);
+        return rollupRepository.findOpaVersions(query);
     }
 
     private <T> CursorPage<T> searchAndPage(
             DecisionLogSearchQuery query,
+            Set<DecisionLogField> fields,
             Function<DecisionLogReadModel, T> mapper) {
-        List<DecisionLogReadModel> readModels = repository.search(query);
+        return toPage(repository.search(query, fields), query.limit(), mapper);
+    }
 
-        boolean hasNext = readModels.size() > query.limit();
-        List<DecisionLogReadModel> content = hasNext ? readModels.subList(0, query.limit()) : readModels;
+    // repository는 limit + 1건을 조회하므로 초과분이 있으면 다음 페이지가 있음
+    private <T> CursorPage<T> toPage(
+            List<DecisionLogReadModel> readModels,
+            int limit,
+            Function<DecisionLogReadModel, T> mapper) {
+        boolean hasNext = readModels.size() > limit;
+        List<DecisionLogReadModel> content = hasNext ? readModels.subList(0, limit) : readModels;
 
         List<T> mapped = content.stream().map(mapper).toList();
-        var nextCursor = hasNext ? content.getLast().timestamp() : null;
+        String nextCursor = hasNext ? nextCursor(content.getLast()) : null;
 
         return new CursorPage<>(mapped, nextCursor);
     }
+
+    private <T> long lookupAndEmit(
+            List<UUID> decisionIds,
+            Set<DecisionLogField> fields,
+            Function<DecisionLogReadModel, T> mapper,
+            BiConsumer<UUID, T> sink) {
+        Map<UUID, DecisionLogReadModel> found = new HashMap<>();
+        List<UUID> distinctIds = List.copyOf(new LinkedHashSet<>(decisionIds));
+        for (int start = 0; start < distinctIds.size(); start += BATCH_CHUNK_SIZE) {
+            List<UUID> chunk = distinctIds.subList(start, Math.min(start + BATCH_CHUNK_SIZE, distinctIds.size()));
+            // ts 내림차순이므로 같은 decisionId가 여러 건이면 최신 건을 사용
+            for (DecisionLogReadModel readModel : repository.findByDecisionIds(chunk, fields)) {
+                found.putIfAbsent(readModel.decisionId(), readModel);
+            }
+        }
+
+        long resolved = 0;
+        for (UUID decisionId : decisionIds) {
+            DecisionLogReadModel readModel = found.get(decisionId);
+            if (readModel != null) {
+                resolved++;
+            }
+            sink.accept(decisionId, readModel != null ? mapper.apply(readModel) : null);
+        }
+        return resolved;
+    }
+
+    private DecisionLogReadModel findByDecisionId(UUID decisionId) {
+        log.debug("Finding decision log by decisionId: {}", decisionId);
+        return repository.findByDecisionId(decisionId)
+                .orElseThrow(() -> new DecisionNotFoundException(decisionId));
+    }
+
+    // summary는 jsonb 컬럼을 사용하지 않으므로 fields가 주어져도 summary 컬럼 범위 안에서만 조회
+    private Set<DecisionLogField> summaryFields(Set<DecisionLogField> requested) {
+        if (requested == null) {
+            return DecisionLogField.SUMMARY;
+        }
+        Set<DecisionLogField> fields = EnumSet.noneOf(DecisionLogField.class);
+        fields.addAll(requested);
+        fields.retainAll(DecisionLogField.SUMMARY);
+        return fields;
+    }
+
+    private String nextCursor(DecisionLogReadModel last) {
+        return new SearchCursor(last.timestamp(), last.id()).encode();
+    }
 }
@@ -1,22 +1,34 @@
 package com.example.opa.policydecisionlog.query.infra;
 
 import com.example.opa.policydecisionlog.query.app.port.DecisionLogQueryRepository;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionLogField;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogSearchQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionTimelineQuery;
+import com.example.opa.policydecisionlog.query.app.dto.SearchCursor;
 import com.example.opa.policydecisionlog.query.infra.mapper.RowToReadModelMapper;
 import com.example.opa.policydecisionlog.query.infra.model.DecisionLogRow;
-import com.querydsl.core.types.ConstructorExpression;
-import com.querydsl.core.types.Projections;
+import com.example.opa.policydecisionlog.shared.config.QueryExportProperties;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static com.example.opa.policydecisionlog.command.infra.db.model.QDecisionLogEntity.decisionLogEntity;
 
@@ -24,62 +36,198 @@ import static com.example.opa.policydecisionlog.command.infra.db.model.QDecision
 @RequiredArgsConstructor
 public class DecisionLogQueryRepositoryImpl implements DecisionLogQueryRepository {
 
+    private static final String PATH_PREFIX_WILDCARD = "/*";
+
+    // jsonb 컬럼을 text로 캐스팅해 조회 (Hibernate의 JSON -> Map 변환 생략)
+    private static final StringExpression BUNDLES_JSON = jsonText(decisionLogEntity.bundles);
+    private static final StringExpression RAW_JSON = jsonText(decisionLogEntity.raw);
+    private static final StringExpression DECISION_CONTEXT_JSON = jsonText(decisionLogEntity.decisionContext);
+
     private final JPAQueryFactory queryFactory;
     private final RowToReadModelMapper mapper;
+    private final QueryExportProperties exportProperties;
 
+    // unique는 (decision_id, ts)이므로 같은 decisionId가 ts만 달리 여러 건일 수 있음 → 최신 건 사용 (batch 조회와 동일)
     @Override
     public Optional<DecisionLogReadModel> findByDecisionId(UUID decisionId) {
-        DecisionLogRow result = queryFactory
-                .select(projection())
+        Tuple result = queryFactory
+                .select(projection(DecisionLogField.ALL, DECISION_CONTEXT_JSON))
                 .from(decisionLogEntity)
                 .where(decisionLogEntity.decisionId.eq(decisionId))
-                .fetchOne();
+                .orderBy(decisionLogEntity.ts.desc(), decisionLogEntity.id.desc())
+                .fetchFirst();
+
+        return Optional.ofNullable(result).map(this::toRow).map(mapper::toReadModel);
+    }
 
-        return Optional.ofNullable(result).map(mapper::toReadModel);
+    // IN (...) 한 번으로 여러 decisionId를 조회 (청크 크기는 호출자가 제한)
+    @Override
+    public List<DecisionLogReadModel> findByDecisionIds(Collection<UUID> decisionIds, Set<DecisionLogField> fields) {
+        if (decisionIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .select(projection(fields))
+                .from(decisionLogEntity)
+                .where(decisionLogEntity.decisionId.in(decisionIds))
+                .orderBy(decisionLogEntity.ts.desc(), decisionLogEntity.id.desc())
+                .fetch()
+                .stream()
+                .map(this::toRow)
+                .map(mapper::toReadModel)
+                .toList();
     }
 
+    // 검색과 반대 방향인 (ts ASC, id ASC): 같은 인덱스를 역방향으로 스캔
     @Override
-    public List<DecisionLogReadModel> search(DecisionLogSearchQuery query) {
+    public List<DecisionLogReadModel> timeline(DecisionTimelineQuery query, Set<DecisionLogField> fields) {
         return queryFactory
-                .select(projection())
+                .select(projection(fields))
                 .from(decisionLogEntity)
                 .where(
-                        cursorCondition(query.cursor()),
+                        afterCursor(query.cursor()),
                         timestampFrom(query.from()),
                         timestampTo(query.to()),
-                        allowEquals(query.allow()),
-                        serviceEquals(query.service()),
-                        pathContains(query.path())
+                        requestedByEquals(query.requestedBy()),
+                        reqIdEquals(query.reqId())
                 )
-                .orderBy(decisionLogEntity.ts.desc())
+                .orderBy(decisionLogEntity.ts.asc(), decisionLogEntity.id.asc())
                 .limit(query.limit() + 1L)
                 .fetch()
                 .stream()
+                .map(this::toRow)
                 .map(mapper::toReadModel)
                 .toList();
     }
 
-    private ConstructorExpression<DecisionLogRow> projection() {
-        return Projections.constructor(
-                DecisionLogRow.class,
-                decisionLogEntity.id,
-                decisionLogEntity.decisionId,
+    @Override
+    public List<DecisionLogReadModel> search(DecisionLogSearchQuery query, Set<DecisionLogField> fields) {
+        return queryFactory
+                .select(projection(fields))
+                .from(decisionLogEntity)
+                .where(searchConditions(query))
+                .orderBy(decisionLogEntity.ts.desc(), decisionLogEntity.id.desc())
+                .limit(query.limit() + 1L)
+                .fetch()
+                .stream()
+                .map(this::toRow)
+                .map(mapper::toReadModel)
+                .toList();
+    }
+
+    /*
+     * forward-only 결과 stream: fetchSize만큼씩 DB cursor에서 가져오므로 전체 결과를 메모리에 올리지 않음
+     * - PostgreSQL JDBC는 autocommit이 꺼진 트랜잭션 안에서만 cursor 기반 fetch를 사용
+     * - entity가 아닌 Tuple projection이므로 persistence context에 쌓이지 않음
+     */
+    @Override
+    public Stream<DecisionLogReadModel> stream(DecisionLogSearchQuery query, Set<DecisionLogField> fields) {
+        return queryFactory
+                .select(projection(fields))
+                .from(decisionLogEntity)
+                .where(searchConditions(query))
+                .orderBy(decisionLogEntity.ts.desc(), decisionLogEntity.id.desc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportProperties.fetchSize())
+                .stream()
+                .map(this::toRow)
+                .map(mapper::toReadModel);
+    }
+
+    private Predicate[] searchConditions(DecisionLogSearchQuery query) {
+        return new Predicate[]{
+                cursorCondition(query.cursor()),
+                timestampFrom(query.from()),
+                timestampTo(query.to()),
+                allowEquals(query.allow()),
+                serviceEquals(query.service()),
+                pathMatches(query.path()),
+                requestedByEquals(query.requestedBy()),
+                reqIdEquals(query.reqId())
+        };
+    }
+
+    // 요청된 컬럼만 SELECT (id, decisionId, ts는 식별/커서용으로 항상 포함)
+    private Expression<?>[] projection(Set<DecisionLogField> fields, Expression<?>... extraColumns) {
+        List<Expression<?>> columns = new ArrayList<>();
+        columns.add(decisionLogEntity.id);
+        columns.add(decisionLogEntity.decisionId);
+        columns.add(decisionLogEntity.ts);
+        for (DecisionLogField field : fields) {
+            Expression<?> column = column(field);
+            if (!columns.contains(column)) {
+                columns.add(column);
+            }
+        }
+        columns.addAll(List.of(extraColumns));
+        return columns.toArray(Expression[]::new);
+    }
+
+    private Expression<?> column(DecisionLogField field) {
+        return switch (field) {
+            case DECISION_ID -> decisionLogEntity.decisionId;
+            case TIMESTAMP -> decisionLogEntity.ts;
+            case PATH -> decisionLogEntity.path;
+            case OVERALL_ALLOW -> decisionLogEntity.overallAllow;
+            case REQUESTED_BY -> decisionLogEntity.requestedBy;
+            case REQ_ID -> decisionLogEntity.reqId;
+            case OPA_INSTANCE_ID -> decisionLogEntity.opaInstanceId;
+            case OPA_VERSION -> decisionLogEntity.opaVersion;
+            case SERVICE -> decisionLogEntity.service;
+            case BUNDLES -> BUNDLES_JSON;
+            case RAW -> RAW_JSON;
+            case CREATED_AT -> decisionLogEntity.createdAt;
+        };
+    }
+
+    // SELECT 되지 않은 컬럼은 Tuple.get이 null을 반환
+    private DecisionLogRow toRow(Tuple tuple) {
+        return new DecisionLogRow(
+                tuple.get(decisionLogEntity.id),
+                tuple.get(decisionLogEntity.decisionId),
+                tuple.get(decisionLogEntity.ts),
+                tuple.get(decisionLogEntity.path),
+                tuple.get(decisionLogEntity.overallAllow),
+                tuple.get(decisionLogEntity.requestedBy),
+                tuple.get(decisionLogEntity.reqId),
+                tuple.get(decisionLogEntity.opaInstanceId),
+                tuple.get(decisionLogEntity.opaVersion),
+                tuple.get(decisionLogEntity.service),
+                tuple.get(BUNDLES_JSON),
+                tuple.get(RAW_JSON),
+                tuple.get(decisionLogEntity.createdAt),
+                tuple.get(DECISION_CONTEXT_JSON)
+        );
+    }
+
+    private static StringExpression jsonText(Expression<?> jsonColumn) {
+        return Expressions.stringTemplate("cast({0} as String)", jsonColumn);
+    }
+
+    // (ts, id) < (:ts, :id) row 비교로 (ts DESC, id DESC) 인덱스를 그대로 타고 이어서 조회
+    private BooleanExpression cursorCondition(SearchCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return Expressions.booleanTemplate(
+                "({0}, {1}) < ({2}, {3})",
                 decisionLogEntity.ts,
-                decisionLogEntity.path,
-                decisionLogEntity.overallAllow,
-                decisionLogEntity.requestedBy,
-                decisionLogEntity.reqId,
-                decisionLogEntity.opaInstanceId,
-                decisionLogEntity.opaVersion,
-                decisionLogEntity.service,
-                decisionLogEntity.bundles,
-                decisionLogEntity.raw,
-                decisionLogEntity.createdAt
+                decisionLogEntity.id,
+                cursor.ts(),
+                cursor.id()
         );
     }
 
-    private BooleanExpression cursorCondition(OffsetDateTime cursor) {
-        return cursor != null ? decisionLogEntity.ts.lt(cursor) : null;
+    private BooleanExpression afterCursor(SearchCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return Expressions.booleanTemplate(
+                "({0}, {1}) > ({2}, {3})",
+                decisionLogEntity.ts,
+                decisionLogEntity.id,
+                cursor.ts(),
+                cursor.id()
+        );
     }
 
     private BooleanExpression timestampFrom(OffsetDateTime from) {
@@ -98,7 +246,29 @@ public class DecisionLogQueryRepositoryImpl implements DecisionLogQueryRepositor
         return StringUtils.hasText(service) ? decisionLogEntity.service.eq(service) : null;
     }
 
-    private BooleanExpression pathContains(String path) {
-        return StringUtils.hasText(path) ? decisionLogEntity.path.contains(path) : null;
+    private BooleanExpression requestedByEquals(String requestedBy) {
+        return StringUtils.hasText(requestedBy) ? decisionLogEntity.requestedBy.eq(requestedBy) : null;
+    }
+
+    private BooleanExpression reqIdEquals(Long reqId) {
+        return reqId != null ? decisionLogEntity.reqId.eq(reqId) : null;
+    }
+
+    /*
+     * path 필터 형태에 따라 인덱스를 탈 수 있는 조건을 선택
+     * - "a/b/*": 하위 경로 prefix 일치 (path = 'a/b' OR path LIKE 'a/b/%') -> idx_path_prefix
+     *   segment 단위로 비교하므로 'a/b_v2' 같은 형제 경로는 제외
+     * - 그 외: 부분 일치 (path LIKE '%x%') -> idx_path_trgm
+     */
+    private BooleanExpression pathMatches(String path) {
+        if (!StringUtils.hasText(path)) {
+            return null;
+        }
+        if (path.endsWith(PATH_PREFIX_WILDCARD)) {
+            String parent = path.substring(0, path.length() - PATH_PREFIX_WILDCARD.length());
+            return parent.isEmpty() ? null : decisionLogEntity.path.eq(parent)
+                    .or(decisionLogEntity.path.startsWith(parent + "/"));
+        }
+        return decisionLogEntity.path.contains(path);
     }
 }
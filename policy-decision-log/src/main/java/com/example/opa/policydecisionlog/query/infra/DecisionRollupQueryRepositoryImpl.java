@@ -0,0 +1,109 @@
+package com.example.opa.policydecisionlog.query.infra;
+
+import com.example.opa.policydecisionlog.query.app.dto.DecisionStatsQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DenyRatePoint;
+import com.example.opa.policydecisionlog.query.app.dto.OpaVersionCount;
+import com.example.opa.policydecisionlog.query.app.dto.PolicyFailureCount;
+import com.example.opa.policydecisionlog.query.app.port.DecisionRollupQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/*
+ * rollup 테이블(decision_rollups_minute, policy_rollups_minute)만 읽는 집계 조회
+ * - 비용은 decision_logs row 수가 아니라 [from, to) 구간의 bucket 수에 비례
+ * - rollup 테이블은 엔티티가 아니므로 QueryDSL 대신 SQL로 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class DecisionRollupQueryRepositoryImpl implements DecisionRollupQueryRepository {
+
+    private static final String DENY_RATE_SQL = """
+            SELECT date_trunc(:unit, bucket, 'UTC') AS bucket,
+                   SUM(decisions) AS decisions,
+                   COALESCE(SUM(decisions) FILTER (WHERE NOT overall_allow), 0) AS denied
+            FROM decision_rollups_minute
+            WHERE bucket >= :from AND bucket < :to %s
+            GROUP BY 1
+            ORDER BY 1
+            """;
+
+    private static final String TOP_FAILING_POLICIES_SQL = """
+            SELECT service, policy,
+                   SUM(evaluations) AS evaluations,
+                   COALESCE(SUM(evaluations) FILTER (WHERE NOT allow), 0) AS denied,
+                   SUM(violations) AS violations
+            FROM policy_rollups_minute
+            WHERE bucket >= :from AND bucket < :to %s
+            GROUP BY service, policy
+            HAVING SUM(evaluations) FILTER (WHERE NOT allow) > 0
+            ORDER BY denied DESC, service, policy
+            LIMIT :limit
+            """;
+
+    private static final String OPA_VERSIONS_SQL = """
+            SELECT opa_version,
+                   SUM(decisions) AS decisions,
+                   COALESCE(SUM(decisions) FILTER (WHERE NOT overall_allow), 0) AS denied
+            FROM decision_rollups_minute
+            WHERE bucket >= :from AND bucket < :to %s
+            GROUP BY opa_version
+            ORDER BY decisions DESC
+            """;
+
+    private static final String SERVICE_CONDITION = "AND service = :service";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<DenyRatePoint> findDenyRate(DecisionStatsQuery query) {
+        MapSqlParameterSource params = parameters(query)
+                .addValue("unit", query.interval().getUnit());
+        return jdbcTemplate.query(withServiceCondition(DENY_RATE_SQL, query), params, (rs, rowNum) ->
+                new DenyRatePoint(
+                        rs.getObject("bucket", OffsetDateTime.class),
+                        rs.getLong("decisions"),
+                        rs.getLong("denied")
+                ));
+    }
+
+    @Override
+    public List<PolicyFailureCount> findTopFailingPolicies(DecisionStatsQuery query) {
+        MapSqlParameterSource params = parameters(query)
+                .addValue("limit", query.limit());
+        return jdbcTemplate.query(withServiceCondition(TOP_FAILING_POLICIES_SQL, query), params, (rs, rowNum) ->
+                new PolicyFailureCount(
+                        rs.getString("service"),
+                        rs.getString("policy"),
+                        rs.getLong("evaluations"),
+                        rs.getLong("denied"),
+                        rs.getLong("violations")
+                ));
+    }
+
+    @Override
+    public List<OpaVersionCount> findOpaVersions(DecisionStatsQuery query) {
+        return jdbcTemplate.query(withServiceCondition(OPA_VERSIONS_SQL, query), parameters(query), (rs, rowNum) ->
+                new OpaVersionCount(
+                        rs.getString("opa_version"),
+                        rs.getLong("decisions"),
+                        rs.getLong("denied")
+                ));
+    }
+
+    private MapSqlParameterSource parameters(DecisionStatsQuery query) {
+        return new MapSqlParameterSource()
+                .addValue("from", query.from())
+                .addValue("to", query.to())
+                .addValue("service", query.service());
+    }
+
+    private String withServiceCondition(String sql, DecisionStatsQuery query) {
+        return sql.formatted(StringUtils.hasText(query.service()) ? SERVICE_CONDITION : "");
+    }
+}
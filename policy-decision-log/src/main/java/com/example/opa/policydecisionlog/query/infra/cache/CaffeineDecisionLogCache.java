@@ -0,0 +1,141 @@
+package com.example.opa.policydecisionlog.query.infra.cache;
+
+import com.example.opa.policydecisionlog.query.app.dto.DecisionContext;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
+import com.example.opa.policydecisionlog.query.app.port.DecisionLogCache;
+import com.example.opa.policydecisionlog.shared.config.QueryCacheProperties;
+import com.example.opa.policydecisionlog.shared.extractor.Decision;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/*
+ * decisionId -> (ReadModel, DecisionContext) in-process 캐시
+ * - Caffeine(W-TinyLFU)로 빈도 기반 admission/eviction, 추정 byte 크기로 전체 용량 제한
+ * - DecisionContext는 최초 context 조회 시 조립되어 같은 entry에 함께 보관
+ */
+@Slf4j
+@Component
+public class CaffeineDecisionLogCache implements DecisionLogCache {
+
+    static final String READ_MODEL = "read_model";
+    static final String CONTEXT = "context";
+
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+    private static final int CONTEXT_ITEM_BYTES = 128;
+
+    private final boolean enabled;
+    private final Cache<UUID, CachedDecision> cache;
+    private final DecisionLogMetrics metrics;
+
+    public CaffeineDecisionLogCache(QueryCacheProperties properties, DecisionLogMetrics metrics) {
+        this.enabled = properties.enabled();
+        this.metrics = metrics;
+        this.cache = Caffeine.newBuilder()
+                .initialCapacity(properties.initialCapacity())
+                .maximumWeight(properties.maximumWeightBytes())
+                .weigher((UUID key, CachedDecision value) -> value.weight())
+                .build();
+        if (enabled) {
+            metrics.registerQueryCacheGauges(cache::estimatedSize, this::weightedSize);
+            log.info("Decision log query cache enabled: maximumWeightBytes={}", properties.maximumWeightBytes());
+        }
+    }
+
+    @Override
+    public DecisionLogReadModel getReadModel(UUID decisionId, Function<UUID, DecisionLogReadModel> loader) {
+        if (!enabled) {
+            return loader.apply(decisionId);
+        }
+        return lookup(decisionId, loader).readModel();
+    }
+
+    @Override
+    public DecisionContext getContext(
+            UUID decisionId,
+            Function<UUID, DecisionLogReadModel> loader,
+            Function<DecisionLogReadModel, DecisionContext> assembler
+    ) {
+        if (!enabled) {
+            return assembler.apply(loader.apply(decisionId));
+        }
+        CachedDecision cached = lookup(decisionId, loader);
+        if (cached.context() != null) {
+            metrics.recordQueryCacheLookup(CONTEXT, true);
+            return cached.context();
+        }
+        metrics.recordQueryCacheLookup(CONTEXT, false);
+        DecisionContext context = assembler.apply(cached.readModel());
+        // 그 사이 evict 되었으면 다시 넣지 않는다 (빈도가 낮은 key)
+        cache.asMap().computeIfPresent(decisionId,
+                (key, current) -> current.context() == null ? current.withContext(context) : current);
+        return context;
+    }
+
+    // loader 예외는 그대로 전파되며 캐시에 남지 않는다 (negative caching 없음)
+    private CachedDecision lookup(UUID decisionId, Function<UUID, DecisionLogReadModel> loader) {
+        AtomicBoolean loaded = new AtomicBoolean(false);
+        CachedDecision cached = cache.get(decisionId, key -> {
+            loaded.set(true);
+            return CachedDecision.of(loader.apply(key));
+        });
+        metrics.recordQueryCacheLookup(READ_MODEL, !loaded.get());
+        return cached;
+    }
+
+    private long weightedSize() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    record CachedDecision(DecisionLogReadModel readModel, DecisionContext context, int weight) {
+
+        static CachedDecision of(DecisionLogReadModel readModel) {
+            long weight = ENTRY_OVERHEAD_BYTES
+                    + estimateBytes(readModel.bundles())
+                    + estimateBytes(readModel.raw());
+            return new CachedDecision(readModel, null, clamp(weight));
+        }
+
+        // reason/policy 객체마다 고정 overhead에 실제 문자열 크기를 더함
+        CachedDecision withContext(DecisionContext context) {
+            long contextWeight = ENTRY_OVERHEAD_BYTES + estimateBytes(context.rawLink());
+            Decision decision = context.decision();
+            if (decision != null) {
+                for (Decision.Reason reason : nullToEmpty(decision.reasons())) {
+                    contextWeight += CONTEXT_ITEM_BYTES + estimateBytes(reason.message());
+                    Decision.Rule rule = reason.rule();
+                    if (rule != null) {
+                        contextWeight += estimateBytes(rule.policy()) + estimateBytes(rule.expression())
+                                + estimateBytes(rule.name()) + estimateBytes(rule.type());
+                    }
+                }
+                for (Decision.PolicyResult policy : nullToEmpty(decision.policies())) {
+                    contextWeight += CONTEXT_ITEM_BYTES + estimateBytes(policy.policy());
+                }
+            }
+            return new CachedDecision(readModel, context, clamp(weight + contextWeight));
+        }
+
+        private static <T> List<T> nullToEmpty(List<T> values) {
+            return values == null ? List.of() : values;
+        }
+
+        private static int clamp(long weight) {
+            return (int) Math.min(weight, Integer.MAX_VALUE);
+        }
+    }
+
+    // 문자열의 대략적인 heap 크기 (bundles/raw도 JSON 문자열로 보관)
+    static long estimateBytes(String value) {
+        return value == null ? 0 : 40L + 2L * value.length();
+    }
+}
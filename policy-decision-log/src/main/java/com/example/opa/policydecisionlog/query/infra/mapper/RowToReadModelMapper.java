@@ -1,14 +1,21 @@
 package com.example.opa.policydecisionlog.query.infra.mapper;
 
+import com.example.opa.policydecisionlog.shared.extractor.Decision;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
 import com.example.opa.policydecisionlog.query.infra.model.DecisionLogRow;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
 
 @Component
+@RequiredArgsConstructor
 public class RowToReadModelMapper {
 
+    private final JsonMapper jsonMapper;
+
     public DecisionLogReadModel toReadModel(DecisionLogRow row) {
         return new DecisionLogReadModel(
+                row.id(),
                 row.decisionId(),
                 row.ts(),
                 row.path(),
@@ -20,7 +27,12 @@ public class RowToReadModelMapper {
                 row.service(),
                 row.bundles(),
                 row.raw(),
-                row.createdAt()
+                row.createdAt(),
+                toDecision(row.decisionContext())
         );
     }
+
+    private Decision toDecision(String decisionContext) {
+        return decisionContext != null ? jsonMapper.readValue(decisionContext, Decision.class) : null;
+    }
 }
@@ -1,22 +1,23 @@
 package com.example.opa.policydecisionlog.query.infra.model;
 
 import java.time.OffsetDateTime;
-import java.util.Map;
 import java.util.UUID;
 
+// jsonb 컬럼(bundles, raw, decisionContext)은 Map으로 변환하지 않고 JSON 텍스트로 조회
 public record DecisionLogRow(
         Long id,
         UUID decisionId,
         OffsetDateTime ts,
         String path,
-        boolean overallAllow,
+        Boolean overallAllow,
         String requestedBy,
         Long reqId,
         UUID opaInstanceId,
         String opaVersion,
         String service,
-        Map<String, Object> bundles,
-        Map<String, Object> raw,
-        OffsetDateTime createdAt
+        String bundles,
+        String raw,
+        OffsetDateTime createdAt,
+        String decisionContext
 ) {
 }
@@ -1,8 +1,10 @@
 package com.example.opa.policydecisionlog.shared.api;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 
 @Schema(description = "에러 응답")
 public record ErrorResponse(
@@ -19,9 +21,18 @@ public record ErrorResponse(
         String path,
 
         @Schema(description = "발생 시간")
-        OffsetDateTime timestamp
+        OffsetDateTime timestamp,
+
+        @Schema(description = "전송에 실패해 재전송이 필요한 decision_id 목록 (ingest 503 응답에만 포함)")
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        List<String> failedDecisionIds
 ) {
     public static ErrorResponse of(int status, String error, String message, String path) {
-        return new ErrorResponse(status, error, message, path, OffsetDateTime.now());
+        return new ErrorResponse(status, error, message, path, OffsetDateTime.now(), null);
+    }
+
+    public static ErrorResponse of(int status, String error, String message, String path,
+                                   List<String> failedDecisionIds) {
+        return new ErrorResponse(status, error, message, path, OffsetDateTime.now(), failedDecisionIds);
     }
 }
@@ -1,12 +1,22 @@
 package com.example.opa.policydecisionlog.shared.api;
 
+import com.example.opa.policydecisionlog.command.api.filter.GzipSizeLimitExceededException;
 import com.example.opa.policydecisionlog.command.infra.kafka.exception.DecisionLogPublishException;
 import com.example.opa.policydecisionlog.shared.exception.DecisionNotFoundException;
+import com.example.opa.policydecisionlog.shared.exception.IngestRejectedException;
+import com.example.opa.policydecisionlog.shared.exception.InvalidCursorException;
+import com.example.opa.policydecisionlog.shared.exception.InvalidRollupIntervalException;
+import com.example.opa.policydecisionlog.shared.exception.InvalidSearchFieldException;
+import com.example.opa.policydecisionlog.shared.exception.MalformedDecisionLogException;
 import com.example.opa.policydecisionlog.shared.exception.MissingDecisionIdException;
+import com.example.opa.policydecisionlog.shared.exception.MissingTimelineKeyException;
+import com.example.opa.policydecisionlog.shared.exception.TooManyDecisionIdsException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -42,12 +52,34 @@ public class GlobalExceptionHandler {
                 HttpStatus.SERVICE_UNAVAILABLE.value(),
                 "Service Unavailable",
                 ex.getMessage(),
-                request.getRequestURI()
+                request.getRequestURI(),
+                ex.getFailedDecisionIds()
         );
 
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
 
+    @ExceptionHandler(IngestRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleIngestRejectedException(
+            IngestRejectedException ex,
+            HttpServletRequest request
+    ) {
+        HttpStatus status = ex.getReason() == IngestRejectedException.Reason.OVERLOADED
+                ? HttpStatus.TOO_MANY_REQUESTS
+                : HttpStatus.SERVICE_UNAVAILABLE;
+
+        ErrorResponse response = ErrorResponse.of(
+                status.value(),
+                status.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     @ExceptionHandler(MissingDecisionIdException.class)
     public ResponseEntity<ErrorResponse> handleMissingDecisionIdException(
             MissingDecisionIdException ex,
@@ -64,4 +96,136 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
+
+    @ExceptionHandler(MissingTimelineKeyException.class)
+    public ResponseEntity<ErrorResponse> handleMissingTimelineKeyException(
+            MissingTimelineKeyException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Missing timeline key: {}", ex.getMessage());
+
+        ErrorResponse response = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(MalformedDecisionLogException.class)
+    public ResponseEntity<ErrorResponse> handleMalformedDecisionLogException(
+            MalformedDecisionLogException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Malformed decision log request: {}", ex.getMessage());
+
+        ErrorResponse response = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(
+            InvalidCursorException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Invalid search cursor: {}", ex.getMessage());
+
+        ErrorResponse response = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(InvalidSearchFieldException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSearchFieldException(
+            InvalidSearchFieldException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Unknown search field requested: {}", ex.getField());
+
+        ErrorResponse response = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(InvalidRollupIntervalException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRollupIntervalException(
+            InvalidRollupIntervalException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Unknown rollup interval requested: {}", ex.getInterval());
+
+        ErrorResponse response = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(TooManyDecisionIdsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyDecisionIdsException(
+            TooManyDecisionIdsException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Batch lookup rejected: requested={}, max={}", ex.getRequested(), ex.getMax());
+
+        ErrorResponse response = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(
+            HttpMessageNotReadableException ex,
+            HttpServletRequest request
+    ) {
+        if (ex.getCause() instanceof GzipSizeLimitExceededException sizeEx) {
+            log.warn("Gzip request rejected: {}", sizeEx.getMessage());
+
+            ErrorResponse response = ErrorResponse.of(
+                    HttpStatus.CONTENT_TOO_LARGE.value(),
+                    "Content Too Large",
+                    sizeEx.getMessage(),
+                    request.getRequestURI()
+            );
+
+            return ResponseEntity.status(HttpStatus.CONTENT_TOO_LARGE).body(response);
+        }
+
+        log.warn("Unreadable request body: {}", ex.getMessage());
+
+        ErrorResponse response = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
 }
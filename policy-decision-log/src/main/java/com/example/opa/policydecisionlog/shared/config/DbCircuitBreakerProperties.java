@@ -0,0 +1,20 @@
+package com.example.opa.policydecisionlog.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "opa.persistence.circuit-breaker")
+public record DbCircuitBreakerProperties(
+        Boolean enabled,
+        int failureThreshold,       // 연속 인프라 실패(또는 지연 초과) 횟수, 도달 시 OPEN
+        long slowCallThresholdMs,   // 이 값을 넘는 저장은 성공해도 실패로 집계
+        long openDurationMs,        // OPEN 유지 시간, 지나면 HALF_OPEN으로 probe 허용
+        int halfOpenProbes          // CLOSED로 돌아가기 위해 필요한 연속 probe 성공 수
+) {
+    public DbCircuitBreakerProperties {
+        if (enabled == null) enabled = true;
+        if (failureThreshold <= 0) failureThreshold = 5;
+        if (slowCallThresholdMs <= 0) slowCallThresholdMs = 10000;
+        if (openDurationMs <= 0) openDurationMs = 30000;
+        if (halfOpenProbes <= 0) halfOpenProbes = 2;
+    }
+}
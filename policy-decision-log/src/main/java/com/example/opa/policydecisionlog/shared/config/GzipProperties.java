@@ -7,11 +7,13 @@ import org.springframework.util.StringUtils;
 public record GzipProperties(
         String path,
         long maxCompressedSize,
-        long maxDecompressedSize
+        long maxDecompressedSize,
+        int inflaterPoolSize
 ) {
     public static final String DEFAULT_PATH = "/logs";
     public static final long DEFAULT_MAX_COMPRESSED = 64L * 1024;
     public static final long DEFAULT_MAX_DECOMPRESSED = 1024L * 1024;
+    public static final int DEFAULT_INFLATER_POOL_SIZE = 32;
 
     public GzipProperties {
         if (!StringUtils.hasText(path)) {
@@ -23,5 +25,8 @@ public record GzipProperties(
         if (maxDecompressedSize <= 0) {
             maxDecompressedSize = DEFAULT_MAX_DECOMPRESSED;
         }
+        if (inflaterPoolSize <= 0) {
+            inflaterPoolSize = DEFAULT_INFLATER_POOL_SIZE;
+        }
     }
 }
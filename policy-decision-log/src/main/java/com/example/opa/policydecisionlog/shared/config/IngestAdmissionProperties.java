@@ -0,0 +1,28 @@
+package com.example.opa.policydecisionlog.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "opa.ingest.admission")
+public record IngestAdmissionProperties(
+        Boolean enabled,
+        int initialLimit,           // 동시 처리 가능한 ingest 요청 수 (시작값)
+        int minLimit,
+        int maxLimit,
+        long targetLatencyMs,       // 이 값을 넘는 publish 지연이 관측되면 limit 감소
+        double backoffRatio,
+        double maxBufferUtilization, // producer 버퍼 사용률 임계치
+        long retryAfterSeconds
+) {
+    public IngestAdmissionProperties {
+        if (enabled == null) enabled = true;
+        if (minLimit <= 0) minLimit = 2;
+        if (maxLimit <= 0) maxLimit = 200;
+        if (initialLimit <= 0) initialLimit = 20;
+        if (targetLatencyMs <= 0) targetLatencyMs = 1000;
+        if (backoffRatio <= 0 || backoffRatio >= 1) backoffRatio = 0.9;
+        if (maxBufferUtilization <= 0 || maxBufferUtilization > 1) maxBufferUtilization = 0.8;
+        if (retryAfterSeconds <= 0) retryAfterSeconds = 1;
+        maxLimit = Math.max(maxLimit, minLimit);
+        initialLimit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.opa.policydecisionlog.shared.config;
 
 import com.example.opa.policydecisionlog.command.app.dto.InfrastructureFailureEvent;
+import com.example.opa.policydecisionlog.command.infra.kafka.DecisionLogConsumer;
+import com.example.opa.policydecisionlog.command.infra.kafka.ParkingLotConsumer;
 import com.example.opa.policydecisionlog.command.infra.kafka.exception.KafkaInfraException;
 import com.example.opa.policydecisionlog.command.app.port.InfrastructureFailureWriter;
 import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
@@ -8,7 +10,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.jspecify.annotations.NullMarked;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
@@ -17,6 +21,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ContainerProperties;
@@ -24,6 +29,10 @@ import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.listener.MessageListenerContainer;
 
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Slf4j
 @Configuration
 public class KafkaConsumerConfig {
@@ -31,20 +40,26 @@ public class KafkaConsumerConfig {
     private final KafkaProperties kafkaProperties;
     private final KafkaCustomProperties customProperties;
     private final KafkaTemplate<String, String> dlqKafkaTemplate;
+    private final KafkaTemplate<String, byte[]> dlqBytesKafkaTemplate;
 
     public KafkaConsumerConfig(
             KafkaProperties kafkaProperties,
             KafkaCustomProperties customProperties,
-            @Qualifier("dlqKafkaTemplate") KafkaTemplate<String, String> dlqKafkaTemplate
+            @Qualifier("dlqKafkaTemplate") KafkaTemplate<String, String> dlqKafkaTemplate,
+            @Qualifier("dlqBytesKafkaTemplate") KafkaTemplate<String, byte[]> dlqBytesKafkaTemplate
     ) {
         this.kafkaProperties = kafkaProperties;
         this.customProperties = customProperties;
         this.dlqKafkaTemplate = dlqKafkaTemplate;
+        this.dlqBytesKafkaTemplate = dlqBytesKafkaTemplate;
     }
 
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
-        return new DefaultKafkaConsumerFactory<>(kafkaProperties.buildConsumerProperties());
+    public ConsumerFactory<String, byte[]> consumerFactory() {
+        var props = kafkaProperties.buildConsumerProperties();
+        // String 변환 없이 UTF-8 byte를 그대로 한 번만 파싱
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        return new DefaultKafkaConsumerFactory<>(props);
     }
 
     @Bean
@@ -54,10 +69,16 @@ public class KafkaConsumerConfig {
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
+    // error handler와 parking lot consumer(파싱 불가 record)가 함께 사용
     @Bean
-    public DefaultErrorHandler dlqErrorHandler(DecisionLogMetrics metrics) {
-        DeadLetterPublishingRecoverer dlqRecoverer = new DeadLetterPublishingRecoverer(
-                dlqKafkaTemplate,
+    public DeadLetterPublishingRecoverer dlqRecoverer(DecisionLogMetrics metrics) {
+        // main topic은 byte[], parking topic은 String 값을 가지므로 값 타입에 맞는 template으로 발행
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, dlqBytesKafkaTemplate);
+        templates.put(String.class, dlqKafkaTemplate);
+
+        return new DeadLetterPublishingRecoverer(
+                templates,
                 (rec, ex) -> new TopicPartition(customProperties.dlqTopic(), rec.partition())
         ) {
             @Override
@@ -68,7 +89,10 @@ public class KafkaConsumerConfig {
                 log.info("Sent to DLQ: topic={}, partition={}, offset={}", rec.topic(), rec.partition(), rec.offset());
             }
         };
+    }
 
+    @Bean
+    public DefaultErrorHandler dlqErrorHandler(DeadLetterPublishingRecoverer dlqRecoverer) {
         DefaultErrorHandler handler = new DefaultErrorHandler(
                 dlqRecoverer,
                 customProperties.consumerBackoff().toExponentialBackOff()
@@ -89,7 +113,7 @@ public class KafkaConsumerConfig {
                         rec.partition(),
                         rec.offset(),
                         rec.key() != null ? rec.key().toString() : null,
-                        rec.value() != null ? rec.value().toString() : null,
+                        valueAsString(rec.value()),
                         ex.getMessage()
                 )),
                 customProperties.consumerBackoff().toExponentialBackOff()
@@ -103,15 +127,18 @@ public class KafkaConsumerConfig {
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactory(
             DefaultErrorHandler dlqErrorHandler,
-            DefaultErrorHandler infraErrorHandler
+            DefaultErrorHandler infraErrorHandler,
+            DecisionLogConsumer decisionLogConsumer
     ) {
-        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.setBatchListener(true);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        // revoke된 partition의 재시도 횟수 정리
+        factory.getContainerProperties().setConsumerRebalanceListener(decisionLogConsumer);
         factory.setCommonErrorHandler(compositeErrorHandler(dlqErrorHandler, infraErrorHandler));
         return factory;
     }
@@ -119,17 +146,28 @@ public class KafkaConsumerConfig {
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, String> parkingKafkaListenerContainerFactory(
             DefaultErrorHandler dlqErrorHandler,
-            DefaultErrorHandler infraErrorHandler
+            DefaultErrorHandler infraErrorHandler,
+            ParkingLotConsumer parkingLotConsumer
     ) {
         ConcurrentKafkaListenerContainerFactory<String, String> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(parkingConsumerFactory());
-        factory.setBatchListener(false);
+        // due record를 모아 saveAll 한 번으로 복구, commit/seek/pause는 listener가 partition 단위로 직접 처리
+        factory.setBatchListener(true);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        // revoke된 partition의 resume 예약 정리
+        factory.getContainerProperties().setConsumerRebalanceListener(parkingLotConsumer);
         factory.setCommonErrorHandler(compositeErrorHandler(dlqErrorHandler, infraErrorHandler));
         return factory;
     }
 
+    private static String valueAsString(Object value) {
+        if (value instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value != null ? value.toString() : null;
+    }
+
     private CommonErrorHandler compositeErrorHandler(
             DefaultErrorHandler dlqHandler,
             DefaultErrorHandler infraHandler
@@ -3,6 +3,9 @@ package com.example.opa.policydecisionlog.shared.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.util.backoff.ExponentialBackOff;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @ConfigurationProperties(prefix = "opa.kafka")
 public record KafkaCustomProperties(
         String topic,
@@ -15,6 +18,26 @@ public record KafkaCustomProperties(
         ParkingRecoverySettings parkingRecovery,
         ConsumerBackoff consumerBackoff
 ) {
+    // tier topic 이름: {parkingLotTopic}.{delay} (예: decision-logs.parking-lot.5m)
+    public String parkingTierTopic(long delayMs) {
+        return parkingLotTopic + "." + delayLabel(delayMs);
+    }
+
+    // 복구 consumer가 구독하는 topic: 모든 tier + tier 도입 전 기본 topic (남은 record drain)
+    public List<String> parkingRecoveryTopics() {
+        List<String> topics = new ArrayList<>();
+        topics.add(parkingLotTopic);
+        parkingRecovery.delayTiersMs().forEach(delay -> topics.add(parkingTierTopic(delay)));
+        return topics;
+    }
+
+    private static String delayLabel(long delayMs) {
+        if (delayMs % 3600000 == 0) return delayMs / 3600000 + "h";
+        if (delayMs % 60000 == 0) return delayMs / 60000 + "m";
+        if (delayMs % 1000 == 0) return delayMs / 1000 + "s";
+        return delayMs + "ms";
+    }
+
     public record ProducerSettings(
             int retries,
             int deliveryTimeoutMs,  // 한 레코드 당 최대 시간
@@ -35,21 +58,49 @@ public record KafkaCustomProperties(
         }
     }
 
+    /*
+     * parking lot 복구 backoff와 delay tier
+     * - tier마다 delay가 하나뿐인 topic을 두어 partition 안에서 not-before가 offset 순서와 같도록 함
+     *   (head record가 항상 가장 먼저 due이므로 consumer는 head까지만 pause)
+     * - delayTiersMs를 지정하지 않으면 attempt별 backoff 값마다 tier 생성
+     * - 지정하면 backoff 이상인 가장 작은 tier로 올림 (없으면 가장 큰 tier)
+     */
     public record ParkingRecoverySettings(
             int maxRetryAttempts,
             long initialBackoffMs,
             double backoffMultiplier,
-            long maxBackoffMs
+            long maxBackoffMs,
+            List<Long> delayTiersMs
     ) {
         public ParkingRecoverySettings {
             if (maxRetryAttempts <= 0) maxRetryAttempts = 5;
             if (initialBackoffMs <= 0) initialBackoffMs = 60000;  // 1분
             if (backoffMultiplier <= 0) backoffMultiplier = 2.0;
             if (maxBackoffMs <= 0) maxBackoffMs = 3600000;  // 1시간
+            if (delayTiersMs == null || delayTiersMs.isEmpty()) {
+                delayTiersMs = new ArrayList<>();
+                for (int attempt = 0; attempt < maxRetryAttempts; attempt++) {
+                    delayTiersMs.add(backoff(initialBackoffMs, backoffMultiplier, maxBackoffMs, attempt));
+                }
+            }
+            delayTiersMs = delayTiersMs.stream().filter(delay -> delay > 0).distinct().sorted().toList();
         }
 
         public long calculateNextBackoff(int attempt) {
-            long backoff = (long) (initialBackoffMs * Math.pow(backoffMultiplier, attempt));
+            return backoff(initialBackoffMs, backoffMultiplier, maxBackoffMs, attempt);
+        }
+
+        // 다음 시도까지 실제로 기다릴 시간 = 해당 attempt의 backoff를 담는 tier의 delay
+        public long tierDelay(int attempt) {
+            long backoff = calculateNextBackoff(attempt);
+            return delayTiersMs.stream()
+                    .filter(delay -> delay >= backoff)
+                    .findFirst()
+                    .orElse(delayTiersMs.getLast());
+        }
+
+        private static long backoff(long initialBackoffMs, double multiplier, long maxBackoffMs, int attempt) {
+            long backoff = (long) (initialBackoffMs * Math.pow(multiplier, attempt));
             return Math.min(backoff, maxBackoffMs);
         }
 
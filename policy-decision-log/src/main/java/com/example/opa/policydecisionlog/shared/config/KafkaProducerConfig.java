@@ -1,6 +1,7 @@
 package com.example.opa.policydecisionlog.shared.config;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -25,18 +26,21 @@ public class KafkaProducerConfig {
     }
 
     @Bean
-    public ProducerFactory<String, String> fastProducerFactory() {
+    public ProducerFactory<String, byte[]> fastProducerFactory() {
         return new DefaultKafkaProducerFactory<>(fastProducerConfigs());
     }
 
     @Bean
     public Map<String, Object> fastProducerConfigs() {
         var settings = customProperties.fastProducer();
-        return buildProducerConfigs(settings);
+        Map<String, Object> props = buildProducerConfigs(settings);
+        // 수신 body의 원본 byte를 재직렬화 없이 그대로 발행
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return props;
     }
 
     @Bean
-    public KafkaTemplate<String, String> fastKafkaTemplate() {
+    public KafkaTemplate<String, byte[]> fastKafkaTemplate() {
         return new KafkaTemplate<>(fastProducerFactory());
     }
 
@@ -72,6 +76,19 @@ public class KafkaProducerConfig {
         return new KafkaTemplate<>(dlqProducerFactory());
     }
 
+    @Bean
+    public ProducerFactory<String, byte[]> dlqBytesProducerFactory() {
+        Map<String, Object> props = new HashMap<>(dlqProducerConfigs());
+        // main topic consumer가 byte[]로 수신한 레코드를 원본 그대로 DLQ에 발행
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> dlqBytesKafkaTemplate() {
+        return new KafkaTemplate<>(dlqBytesProducerFactory());
+    }
+
     private Map<String, Object> buildProducerConfigs(KafkaCustomProperties.ProducerSettings settings) {
         Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
         props.put(ProducerConfig.RETRIES_CONFIG, settings.retries());
@@ -0,0 +1,20 @@
+package com.example.opa.policydecisionlog.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "opa.partition")
+public record PartitionProperties(
+        Boolean enabled,
+        int premakeDays,
+        int retentionDays,
+        Boolean dropExpired,
+        String cron
+) {
+    public PartitionProperties {
+        if (enabled == null) enabled = true;
+        if (premakeDays <= 0) premakeDays = 7;
+        if (retentionDays <= 0) retentionDays = 30;
+        if (dropExpired == null) dropExpired = true;
+        if (cron == null || cron.isBlank()) cron = "0 5 * * * *";
+    }
+}
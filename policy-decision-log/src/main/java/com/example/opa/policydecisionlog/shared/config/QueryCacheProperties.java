@@ -0,0 +1,16 @@
+package com.example.opa.policydecisionlog.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "opa.query.cache")
+public record QueryCacheProperties(
+        Boolean enabled,
+        long maximumWeightBytes,
+        int initialCapacity
+) {
+    public QueryCacheProperties {
+        if (enabled == null) enabled = true;
+        if (maximumWeightBytes <= 0) maximumWeightBytes = 64L * 1024 * 1024;
+        if (initialCapacity <= 0) initialCapacity = 256;
+    }
+}
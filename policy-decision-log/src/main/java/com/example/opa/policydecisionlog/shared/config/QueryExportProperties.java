@@ -0,0 +1,12 @@
+package com.example.opa.policydecisionlog.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "opa.query.export")
+public record QueryExportProperties(
+        int fetchSize
+) {
+    public QueryExportProperties {
+        if (fetchSize <= 0) fetchSize = 1000;
+    }
+}
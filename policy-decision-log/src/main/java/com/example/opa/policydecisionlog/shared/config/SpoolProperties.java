@@ -0,0 +1,39 @@
+package com.example.opa.policydecisionlog.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.StringUtils;
+
+@ConfigurationProperties(prefix = "opa.ingest.spool")
+public record SpoolProperties(
+        Boolean enabled,
+        String path,
+        int segmentSize,            // 세그먼트 파일 크기 (mmap 단위)
+        int maxSegments,            // 보관 가능한 최대 세그먼트 수 (초과 시 spool 불가)
+        int recycledSegments,       // drain 완료 후 재사용을 위해 남겨둘 세그먼트 수
+        long drainIntervalMs,
+        int drainRatePerSecond,     // Kafka 복구 시 재전송 속도 상한
+        int drainBatchSize,
+        long forceIntervalMs,       // 0이면 append마다 fsync, 양수면 그 주기로 모아서 fsync (crash 시 그 구간 유실 가능)
+        long divertWindowMs         // Kafka 전송 실패 후 새 요청을 Kafka 대신 spool로 보내는 시간
+) {
+    public static final String DEFAULT_PATH = "./data/spool";
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    public SpoolProperties {
+        if (enabled == null) enabled = true;
+        if (!StringUtils.hasText(path)) path = DEFAULT_PATH;
+        if (segmentSize <= 0) segmentSize = DEFAULT_SEGMENT_SIZE;
+        if (maxSegments <= 0) maxSegments = 16;
+        if (recycledSegments < 0) recycledSegments = 2;
+        if (drainIntervalMs <= 0) drainIntervalMs = 200;
+        if (drainRatePerSecond <= 0) drainRatePerSecond = 5000;
+        if (drainBatchSize <= 0) drainBatchSize = 1000;
+        if (forceIntervalMs < 0) forceIntervalMs = 0;
+        if (divertWindowMs <= 0) divertWindowMs = 5000;
+    }
+
+    public int drainBudgetPerTick() {
+        long budget = drainRatePerSecond * drainIntervalMs / 1000;
+        return (int) Math.clamp(budget, 1, drainBatchSize);
+    }
+}
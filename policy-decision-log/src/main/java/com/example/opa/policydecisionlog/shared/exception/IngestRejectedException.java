@@ -0,0 +1,21 @@
+package com.example.opa.policydecisionlog.shared.exception;
+
+import lombok.Getter;
+
+@Getter
+public class IngestRejectedException extends RuntimeException {
+
+    public enum Reason {
+        OVERLOADED,
+        BACKPRESSURE
+    }
+
+    private final Reason reason;
+    private final long retryAfterSeconds;
+
+    public IngestRejectedException(Reason reason, long retryAfterSeconds, String message) {
+        super(message);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.opa.policydecisionlog.shared.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidRollupIntervalException extends RuntimeException {
+
+    private final String interval;
+
+    public InvalidRollupIntervalException(String interval) {
+        super("Unknown rollup interval: " + interval);
+        this.interval = interval;
+    }
+}
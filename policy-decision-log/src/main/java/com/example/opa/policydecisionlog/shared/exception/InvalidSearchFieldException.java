@@ -0,0 +1,14 @@
+package com.example.opa.policydecisionlog.shared.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidSearchFieldException extends RuntimeException {
+
+    private final String field;
+
+    public InvalidSearchFieldException(String field) {
+        super("Unknown search field: " + field);
+        this.field = field;
+    }
+}
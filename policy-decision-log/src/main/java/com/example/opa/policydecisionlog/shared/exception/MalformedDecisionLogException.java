@@ -0,0 +1,12 @@
+package com.example.opa.policydecisionlog.shared.exception;
+
+public class MalformedDecisionLogException extends RuntimeException {
+
+    public MalformedDecisionLogException(String message) {
+        super("Malformed decision log request: " + message);
+    }
+
+    public MalformedDecisionLogException(String message, Throwable cause) {
+        super("Malformed decision log request: " + message, cause);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.opa.policydecisionlog.shared.exception;
+
+public class MissingTimelineKeyException extends RuntimeException {
+
+    public MissingTimelineKeyException() {
+        super("requestedBy or reqId is required for timeline lookup");
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.opa.policydecisionlog.shared.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyDecisionIdsException extends RuntimeException {
+
+    private final int requested;
+    private final int max;
+
+    public TooManyDecisionIdsException(int requested, int max) {
+        super("Too many decision ids: requested=" + requested + ", max=" + max);
+        this.requested = requested;
+        this.max = max;
+    }
+}
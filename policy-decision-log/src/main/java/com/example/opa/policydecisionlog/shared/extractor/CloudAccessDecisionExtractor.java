@@ -0,0 +1,156 @@
+package com.example.opa.policydecisionlog.shared.extractor;
+
+import com.example.opa.policydecisionlog.shared.extractor.Decision.PolicyResult;
+import com.example.opa.policydecisionlog.shared.extractor.Decision.Reason;
+import com.example.opa.policydecisionlog.shared.extractor.Decision.Rule;
+import com.example.opa.policydecisionlog.shared.extractor.plan.JsonPathPlan;
+import com.example.opa.policydecisionlog.shared.extractor.plan.JsonValues;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonParser;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.opa.policydecisionlog.shared.extractor.RawJsonKeys.*;
+
+@Component
+public class CloudAccessDecisionExtractor implements DecisionExtractor {
+
+    private static final String SERVICE_NAME = "cloud_access";
+
+    private static final String BREAKDOWN_ITEM = path(RESULT, SCORE, BREAKDOWN + "[*]");
+    private static final String POLICY_ITEM = path(RESULT, POLICIES + "[*]");
+    private static final String POLICY_DATA_PATH = path(POLICY_ITEM, POLICY_DATA);
+    private static final String RULE_ITEM = path(POLICY_DATA_PATH, RESULTS + "[*]");
+
+    // 필드 순서와 무관하게 동작하도록 원소 단위로 상태를 모은 뒤 onEnd에서 확정
+    private static final JsonPathPlan<Extraction> PLAN = JsonPathPlan.<Extraction>builder()
+            .onStart(RESULT, Extraction::resultFound)
+            .onValue(path(RESULT, ALLOW), (p, s) -> s.allow = JsonValues.asBoolean(p))
+            .onStart(BREAKDOWN_ITEM, Extraction::startBreakdown)
+            .onValue(path(BREAKDOWN_ITEM, POLICY), (p, s) -> s.breakdownPolicy = JsonValues.asString(p, null))
+            .onValue(path(BREAKDOWN_ITEM, WEIGHT), (p, s) -> s.breakdownWeight = JsonValues.asInt(p))
+            .onEnd(BREAKDOWN_ITEM, Extraction::endBreakdown)
+            .onStart(POLICY_ITEM, Extraction::startPolicy)
+            .onValue(path(POLICY_ITEM, POLICY_NAME), (p, s) -> s.policy.name = JsonValues.asString(p, null))
+            .onValue(path(POLICY_DATA_PATH, ALLOW), (p, s) -> s.policy.allow = JsonValues.asBoolean(p))
+            .onValue(path(POLICY_DATA_PATH, VIOLATIONS), (p, s) -> s.policy.violationsCount = JsonValues.size(p))
+            .onStart(RULE_ITEM, Extraction::startRule)
+            .onValue(path(RULE_ITEM, ALLOW), (p, s) -> s.rule.allow = JsonValues.asBoolean(p))
+            .onValue(path(RULE_ITEM, NAME), (p, s) -> s.rule.name = JsonValues.asString(p, null))
+            .onValue(path(RULE_ITEM, TYPE), (p, s) -> s.rule.type = JsonValues.asString(p, null))
+            .onValue(path(RULE_ITEM, EXPRESSION), (p, s) -> s.rule.expression = JsonValues.asString(p, null))
+            // violations가 object여도 필드 값마다 reason을 만듦 (array 원소만 보면 object 형태의 reason이 사라짐)
+            .onValue(path(RULE_ITEM, VIOLATIONS), (p, s) -> JsonValues.forEachValue(p,
+                    element -> s.rule.violations.add(JsonValues.asString(element, ""))))
+            .onEnd(RULE_ITEM, Extraction::endRule)
+            .onEnd(POLICY_ITEM, Extraction::endPolicy)
+            .build();
+
+    @Override
+    public String service() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public Decision extract(JsonParser raw) {
+        Extraction extraction = PLAN.execute(raw, new Extraction());
+        return new Decision(extraction.reasons(), extraction.policies);
+    }
+
+    private static String path(String... segments) {
+        return String.join(".", segments);
+    }
+
+    private static final class Extraction {
+
+        private boolean resultFound;
+        private boolean allow;
+
+        private final Map<String, Integer> weights = new HashMap<>();
+        private String breakdownPolicy;
+        private int breakdownWeight;
+
+        private PolicyState policy;
+        private RuleState rule;
+        private final List<PendingReason> pendingReasons = new ArrayList<>();
+        private final List<PolicyResult> policies = new ArrayList<>();
+
+        private void resultFound() {
+            resultFound = true;
+        }
+
+        private void startBreakdown() {
+            breakdownPolicy = null;
+            breakdownWeight = 0;
+        }
+
+        private void endBreakdown() {
+            if (breakdownPolicy != null) {
+                weights.put(breakdownPolicy, breakdownWeight);
+            }
+        }
+
+        private void startPolicy() {
+            policy = new PolicyState();
+        }
+
+        private void startRule() {
+            rule = new RuleState();
+        }
+
+        private void endRule() {
+            if (!rule.allow) {
+                policy.rules.add(rule);
+            }
+        }
+
+        private void endPolicy() {
+            for (RuleState failed : policy.rules) {
+                Rule ruleInfo = new Rule(policy.name, failed.expression, failed.name, failed.type);
+                for (String violation : failed.violations) {
+                    pendingReasons.add(new PendingReason(ruleInfo, violation));
+                }
+            }
+            if (policy.name != null) {
+                policies.add(new PolicyResult(policy.name, policy.allow, policy.violationsCount));
+            }
+        }
+
+        // weight(score.breakdown)는 policies 뒤에 올 수도 있으므로 마지막에 결합
+        private List<Reason> reasons() {
+            if (!resultFound || allow || pendingReasons.isEmpty()) {
+                return List.of();
+            }
+            List<Reason> reasons = new ArrayList<>(pendingReasons.size());
+            for (PendingReason pending : pendingReasons) {
+                String policyName = pending.rule().policy();
+                int weight = policyName != null ? weights.getOrDefault(policyName, 0) : 0;
+                reasons.add(new Reason(pending.rule(), pending.message(), weight));
+            }
+            reasons.sort(Comparator.comparingInt(Reason::weight).reversed());
+            return reasons;
+        }
+    }
+
+    private static final class PolicyState {
+        private String name;
+        private boolean allow;
+        private int violationsCount;
+        private final List<RuleState> rules = new ArrayList<>();
+    }
+
+    private static final class RuleState {
+        private boolean allow;
+        private String name;
+        private String type;
+        private String expression;
+        private final List<String> violations = new ArrayList<>();
+    }
+
+    private record PendingReason(Rule rule, String message) {
+    }
+}
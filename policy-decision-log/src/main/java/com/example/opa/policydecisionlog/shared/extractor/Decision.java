@@ -0,0 +1,29 @@
+package com.example.opa.policydecisionlog.shared.extractor;
+
+import java.util.List;
+
+// raw에서 추출한 reasons/policies (command 적재 시점과 query 조회 시점이 함께 사용)
+public record Decision(
+        List<Reason> reasons,
+        List<PolicyResult> policies
+) {
+
+    public record Reason(
+            Rule rule,
+            String message,
+            int weight
+    ) {}
+
+    public record Rule(
+            String policy,
+            String expression,
+            String name,
+            String type
+    ) {}
+
+    public record PolicyResult(
+            String policy,
+            boolean allow,
+            int violationsCount
+    ) {}
+}
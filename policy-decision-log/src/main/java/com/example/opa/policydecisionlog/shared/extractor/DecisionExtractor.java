@@ -0,0 +1,12 @@
+package com.example.opa.policydecisionlog.shared.extractor;
+
+import tools.jackson.core.JsonParser;
+
+public interface DecisionExtractor {
+
+    // 담당 서비스명 (registry에서 서비스명으로 바로 조회), 기본 extractor는 null
+    String service();
+
+    // raw decision log를 streaming으로 읽어 reasons/policies 추출
+    Decision extract(JsonParser raw);
+}
@@ -0,0 +1,36 @@
+package com.example.opa.policydecisionlog.shared.extractor;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class DecisionExtractorRegistry {
+
+    private final Map<String, DecisionExtractor> extractors;
+    private final DefaultDecisionExtractor defaultExtractor;
+
+    public DecisionExtractorRegistry(List<DecisionExtractor> extractors, DefaultDecisionExtractor defaultExtractor) {
+        Map<String, DecisionExtractor> byService = new HashMap<>();
+        for (DecisionExtractor extractor : extractors) {
+            if (extractor.service() == null) {
+                continue;
+            }
+            DecisionExtractor previous = byService.putIfAbsent(extractor.service(), extractor);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate decision extractor for service: " + extractor.service());
+            }
+        }
+        this.extractors = Map.copyOf(byService);
+        this.defaultExtractor = defaultExtractor;
+    }
+
+    public DecisionExtractor getExtractor(String service) {
+        if (service == null) {
+            return defaultExtractor;
+        }
+        return extractors.getOrDefault(service, defaultExtractor);
+    }
+}
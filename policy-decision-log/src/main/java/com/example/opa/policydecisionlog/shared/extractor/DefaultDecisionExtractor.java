@@ -0,0 +1,20 @@
+package com.example.opa.policydecisionlog.shared.extractor;
+
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonParser;
+
+import java.util.List;
+
+@Component
+public class DefaultDecisionExtractor implements DecisionExtractor {
+
+    @Override
+    public String service() {
+        return null;
+    }
+
+    @Override
+    public Decision extract(JsonParser raw) {
+        return new Decision(List.of(), List.of());
+    }
+}
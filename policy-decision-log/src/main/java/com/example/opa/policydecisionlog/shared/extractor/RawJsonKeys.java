@@ -1,4 +1,4 @@
-package com.example.opa.policydecisionlog.query.app.extractor;
+package com.example.opa.policydecisionlog.shared.extractor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -0,0 +1,133 @@
+package com.example.opa.policydecisionlog.shared.extractor.plan;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/*
+ * JSON path 목록을 trie로 컴파일해 streaming parser 위에서 한 번에 실행하는 추출 계획
+ * - path 문법: "result.policies[*].policy_data.results[*]" (필드는 '.', 배열 원소는 '[*]')
+ * - 등록되지 않은 하위 트리는 skipChildren으로 건너뛰어 tree를 만들지 않음
+ * - onStart/onEnd: 해당 위치의 값 시작/종료 시 호출 (필드 순서와 무관하게 상태를 모으기 위함)
+ * - onValue: 해당 위치의 값을 handler가 직접 읽음 (container면 handler가 소비하지 않은 나머지는 skip)
+ */
+public final class JsonPathPlan<S> {
+
+    private static final String ANY_ELEMENT = "[*]";
+
+    private final Node<S> root;
+
+    private JsonPathPlan(Node<S> root) {
+        this.root = root;
+    }
+
+    public static <S> Builder<S> builder() {
+        return new Builder<>();
+    }
+
+    public S execute(JsonParser parser, S state) {
+        if (parser.nextToken() != null) {
+            walk(parser, root, state);
+        }
+        return state;
+    }
+
+    private void walk(JsonParser parser, Node<S> node, S state) {
+        if (node.start != null) {
+            node.start.accept(state);
+        }
+        if (node.value != null) {
+            node.value.accept(parser, state);
+            if (parser.currentToken().isStructStart()) {
+                parser.skipChildren();
+            }
+        } else {
+            walkChildren(parser, node, state);
+        }
+        if (node.end != null) {
+            node.end.accept(state);
+        }
+    }
+
+    private void walkChildren(JsonParser parser, Node<S> node, S state) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT && !node.fields.isEmpty()) {
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                Node<S> child = node.fields.get(parser.currentName());
+                parser.nextToken();
+                if (child != null) {
+                    walk(parser, child, state);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY && node.element != null) {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                walk(parser, node.element, state);
+            }
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    private static final class Node<S> {
+        private final Map<String, Node<S>> fields = new HashMap<>();
+        private Node<S> element;
+        private Consumer<S> start;
+        private Consumer<S> end;
+        private BiConsumer<JsonParser, S> value;
+    }
+
+    public static final class Builder<S> {
+
+        private final Node<S> root = new Node<>();
+
+        private Builder() {
+        }
+
+        public Builder<S> onStart(String path, Consumer<S> handler) {
+            resolve(path).start = handler;
+            return this;
+        }
+
+        public Builder<S> onEnd(String path, Consumer<S> handler) {
+            resolve(path).end = handler;
+            return this;
+        }
+
+        public Builder<S> onValue(String path, BiConsumer<JsonParser, S> handler) {
+            resolve(path).value = handler;
+            return this;
+        }
+
+        public JsonPathPlan<S> build() {
+            return new JsonPathPlan<>(root);
+        }
+
+        private Node<S> resolve(String path) {
+            Node<S> node = root;
+            for (String segment : path.split("\\.")) {
+                String name = segment;
+                int elements = 0;
+                while (name.endsWith(ANY_ELEMENT)) {
+                    name = name.substring(0, name.length() - ANY_ELEMENT.length());
+                    elements++;
+                }
+                if (!name.isEmpty()) {
+                    node = node.fields.computeIfAbsent(name, key -> new Node<>());
+                }
+                for (int i = 0; i < elements; i++) {
+                    if (node.element == null) {
+                        node.element = new Node<>();
+                    }
+                    node = node.element;
+                }
+            }
+            return node;
+        }
+    }
+}
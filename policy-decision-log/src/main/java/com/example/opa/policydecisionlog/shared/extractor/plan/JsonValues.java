@@ -0,0 +1,73 @@
+package com.example.opa.policydecisionlog.shared.extractor.plan;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
+import java.util.function.Consumer;
+
+// onValue handler에서 현재 값을 JsonNode.asXxx와 같은 규칙으로 읽는 helper
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsonValues {
+
+    // 문자열/숫자/boolean은 문자열로, null/object/array는 defaultValue
+    public static String asString(JsonParser parser, String defaultValue) {
+        return parser.currentToken().isScalarValue()
+                ? parser.getValueAsString(defaultValue)
+                : defaultValue;
+    }
+
+    public static boolean asBoolean(JsonParser parser) {
+        return parser.currentToken().isScalarValue() && parser.getValueAsBoolean(false);
+    }
+
+    public static int asInt(JsonParser parser) {
+        return parser.currentToken().isScalarValue() ? parser.getValueAsInt(0) : 0;
+    }
+
+    // JsonNode 순회처럼 array 원소 또는 object 필드 값마다 handler 호출 (scalar는 없음), 값 전체를 소비
+    public static void forEachValue(JsonParser parser, Consumer<JsonParser> handler) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_ARRAY) {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                handleElement(parser, handler);
+            }
+        } else if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                parser.nextToken();
+                handleElement(parser, handler);
+            }
+        }
+    }
+
+    private static void handleElement(JsonParser parser, Consumer<JsonParser> handler) {
+        handler.accept(parser);
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+        }
+    }
+
+    // array 원소 수 또는 object 필드 수 (scalar는 0), 값 전체를 소비
+    public static int size(JsonParser parser) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_ARRAY) {
+            int count = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+                count++;
+            }
+            return count;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            int count = 0;
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                parser.nextToken();
+                parser.skipChildren();
+                count++;
+            }
+            return count;
+        }
+        return 0;
+    }
+}
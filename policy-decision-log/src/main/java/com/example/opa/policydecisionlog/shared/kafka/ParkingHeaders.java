@@ -1,9 +1,23 @@
 package com.example.opa.policydecisionlog.shared.kafka;
 
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
 public final class ParkingHeaders {
 
     private ParkingHeaders() {}
 
     public static final String RETRY_ATTEMPT = "x-retry-attempt";
     public static final String NOT_BEFORE = "x-not-before";
+
+    // Message로 발행한 숫자 header는 header mapper가 JSON 텍스트로 직렬화 (없으면 0)
+    public static long longValue(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        if (header == null || header.value() == null) {
+            return 0;
+        }
+        return Long.parseLong(new String(header.value(), StandardCharsets.UTF_8).trim());
+    }
 }
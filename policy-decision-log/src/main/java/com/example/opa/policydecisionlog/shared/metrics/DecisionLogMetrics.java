@@ -6,12 +6,15 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Component
 public class DecisionLogMetrics {
 
     private static final String PREFIX = "decision_log";
 
+    private final MeterRegistry registry;
+
     // Ingest
     private final Counter ingestTotal;
 
@@ -19,11 +22,18 @@ public class DecisionLogMetrics {
     private final Counter publishSuccess;
     private final Counter publishFailure;
 
+    // Spool
+    private final Counter spoolAppended;
+    private final Counter spoolDrained;
+    private final Counter spoolRejected;
+
     // Consume
     private final Timer consumeProcessTime;
+    private final Timer contextMaterializeTime;
     private final Counter dbSaveSuccess;
     private final Counter dbSaveFailure;
     private final Counter dbSaveRetry;
+    private final Counter dbCircuitRejected;
 
     // DLQ / Parking
     private final Counter dlqSent;
@@ -31,10 +41,15 @@ public class DecisionLogMetrics {
     private final Counter parkingSent;
     private final Counter parkingRecovered;
 
+    // Poison isolation
+    private final DistributionSummary poisonIsolationDbCalls;
+
     // E2E
     private final Timer endToEndLatency;
 
     public DecisionLogMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
         // Ingest
         this.ingestTotal = Counter.builder(PREFIX + ".ingest.total")
                 .description("Total ingested decision log requests")
@@ -49,11 +64,28 @@ public class DecisionLogMetrics {
                 .description("Failed to publish to Kafka")
                 .register(registry);
 
+        // Spool
+        this.spoolAppended = Counter.builder(PREFIX + ".spool.appended")
+                .description("Decision logs written to the local spool instead of Kafka")
+                .register(registry);
+
+        this.spoolDrained = Counter.builder(PREFIX + ".spool.drained")
+                .description("Decision logs drained from the local spool to Kafka")
+                .register(registry);
+
+        this.spoolRejected = Counter.builder(PREFIX + ".spool.rejected")
+                .description("Spooled decision logs skipped because Kafka can never accept them")
+                .register(registry);
+
         // Consume
         this.consumeProcessTime = Timer.builder(PREFIX + ".consume.process_time")
                 .description("Time to process consumed batch")
                 .register(registry);
 
+        this.contextMaterializeTime = Timer.builder(PREFIX + ".context.materialize")
+                .description("Time to extract reasons/policies at write time")
+                .register(registry);
+
         this.dbSaveSuccess = Counter.builder(PREFIX + ".db.save.success")
                 .description("Successful DB saves")
                 .register(registry);
@@ -66,6 +98,10 @@ public class DecisionLogMetrics {
                 .description("DB save retry attempts")
                 .register(registry);
 
+        this.dbCircuitRejected = Counter.builder(PREFIX + ".db.circuit.rejected")
+                .description("DB saves skipped because the circuit breaker was open")
+                .register(registry);
+
         // DLQ / Parking
         this.dlqSent = Counter.builder(PREFIX + ".dlq.sent")
                 .description("Messages sent to DLQ")
@@ -83,6 +119,11 @@ public class DecisionLogMetrics {
                 .description("Messages recovered from parking lot")
                 .register(registry);
 
+        // Poison isolation
+        this.poisonIsolationDbCalls = DistributionSummary.builder(PREFIX + ".poison.isolation.db_calls")
+                .description("DB round trips spent per poison record while isolating a failed batch")
+                .register(registry);
+
         // E2E
         this.endToEndLatency = Timer.builder(PREFIX + ".e2e.latency")
                 .description("End-to-end latency from OPA timestamp to DB save")
@@ -93,6 +134,27 @@ public class DecisionLogMetrics {
         ingestTotal.increment(count);
     }
 
+    public void recordIngestRejected(String reason) {
+        Counter.builder(PREFIX + ".ingest.rejected")
+                .description("Ingest requests rejected by admission control")
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    public void registerAdmissionGauges(Supplier<Number> limit, Supplier<Number> inFlightRequests,
+                                        Supplier<Number> inFlightRecords) {
+        Gauge.builder(PREFIX + ".ingest.admission.limit", limit)
+                .description("Adaptive limit of concurrent ingest requests")
+                .register(registry);
+        Gauge.builder(PREFIX + ".ingest.inflight.requests", inFlightRequests)
+                .description("Ingest requests currently publishing to Kafka")
+                .register(registry);
+        Gauge.builder(PREFIX + ".ingest.inflight.records", inFlightRecords)
+                .description("Decision logs currently being published to Kafka")
+                .register(registry);
+    }
+
     public void recordPublish(boolean success) {
         if (success) {
             publishSuccess.increment();
@@ -101,6 +163,57 @@ public class DecisionLogMetrics {
         }
     }
 
+    public void recordSpoolAppended(int count) {
+        spoolAppended.increment(count);
+    }
+
+    public void recordSpoolDrained(int count) {
+        spoolDrained.increment(count);
+    }
+
+    public void recordSpoolRejected(int count) {
+        spoolRejected.increment(count);
+    }
+
+    public void registerSpoolGauges(Supplier<Number> pendingBytes, Supplier<Number> segments) {
+        Gauge.builder(PREFIX + ".spool.pending.bytes", pendingBytes)
+                .description("Bytes in the local spool not yet drained to Kafka")
+                .register(registry);
+        Gauge.builder(PREFIX + ".spool.segments", segments)
+                .description("Spool segment files currently in use")
+                .register(registry);
+    }
+
+    public void recordContextMaterialize(long nanos) {
+        contextMaterializeTime.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordContextAssemble(boolean materialized, long nanos) {
+        Timer.builder(PREFIX + ".context.assemble")
+                .description("Time to assemble a DecisionContext on read")
+                .tag("source", materialized ? "materialized" : "raw")
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordQueryCacheLookup(String cache, boolean hit) {
+        Counter.builder(PREFIX + ".query.cache.requests")
+                .description("Decision lookups served by the in-process query cache")
+                .tag("cache", cache)
+                .tag("result", hit ? "hit" : "miss")
+                .register(registry)
+                .increment();
+    }
+
+    public void registerQueryCacheGauges(Supplier<Number> size, Supplier<Number> weightBytes) {
+        Gauge.builder(PREFIX + ".query.cache.size", size)
+                .description("Decisions currently held in the query cache")
+                .register(registry);
+        Gauge.builder(PREFIX + ".query.cache.weight.bytes", weightBytes)
+                .description("Estimated heap bytes held by the query cache")
+                .register(registry);
+    }
+
     public void recordConsume(Duration processTime) {
         consumeProcessTime.record(processTime);
     }
@@ -124,6 +237,21 @@ public class DecisionLogMetrics {
         dbSaveRetry.increment();
     }
 
+    public void recordDbCircuitRejected() {
+        dbCircuitRejected.increment();
+    }
+
+    // 0: CLOSED, 1: HALF_OPEN, 2: OPEN
+    public void registerDbCircuitGauge(Supplier<Number> state) {
+        Gauge.builder(PREFIX + ".db.circuit.state", state)
+                .description("DB circuit breaker state (0=closed, 1=half-open, 2=open)")
+                .register(registry);
+    }
+
+    public void recordPoisonIsolation(int poisonRecords, int dbCalls) {
+        poisonIsolationDbCalls.record((double) dbCalls / poisonRecords);
+    }
+
     public void recordDlqSent(int count) {
         dlqSent.increment(count);
     }
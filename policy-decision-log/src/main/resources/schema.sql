@@ -0,0 +1,97 @@
+-- path 부분 일치 검색용 trigram 인덱스
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 기존 단일 테이블(partition 이전 버전)이 있으면 이관을 위해 테이블/인덱스/시퀀스 이름을 비켜둠
+-- 이름이 겹치면 아래 CREATE ... IF NOT EXISTS가 건너뛰어지므로 먼저 rename
+-- 데이터 복사는 기동과 분리해 scripts/migrate-unpartitioned-decision-logs.sql로 batch 실행
+-- (Spring ScriptUtils는 $$ quoting을 인식하지 못하므로 DO 본문은 작은따옴표로 감쌈)
+DO '
+DECLARE
+    legacy_index record;
+    legacy_sequence text;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_class WHERE oid = to_regclass(''decision_logs'') AND relkind = ''r'') THEN
+        RETURN;
+    END IF;
+    ALTER TABLE decision_logs RENAME TO decision_logs_unpartitioned;
+    FOR legacy_index IN
+        SELECT c.relname
+        FROM pg_index i
+        JOIN pg_class c ON c.oid = i.indexrelid
+        WHERE i.indrelid = to_regclass(''decision_logs_unpartitioned'')
+    LOOP
+        EXECUTE format(''ALTER INDEX %I RENAME TO %I'',
+                legacy_index.relname, left(legacy_index.relname, 48) || ''_unpartitioned'');
+    END LOOP;
+    legacy_sequence := pg_get_serial_sequence(''decision_logs_unpartitioned'', ''id'');
+    IF legacy_sequence IS NOT NULL THEN
+        EXECUTE format(''ALTER SEQUENCE %s RENAME TO decision_logs_unpartitioned_id_seq'', legacy_sequence);
+    END IF;
+END';
+
+-- decision_logs: ts 기준 일 단위 range partition
+-- partition 생성/보관 주기는 DecisionLogPartitionManager가 관리
+CREATE TABLE IF NOT EXISTS decision_logs (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    decision_id     UUID         NOT NULL,
+    ts              TIMESTAMPTZ  NOT NULL,
+    path            VARCHAR(255) NOT NULL,
+    overall_allow   BOOLEAN      NOT NULL,
+    requested_by    VARCHAR(255),
+    req_id          BIGINT,
+    opa_instance_id UUID,
+    opa_version     VARCHAR(255),
+    service         VARCHAR(255),
+    bundles         JSONB,
+    raw             JSONB,
+    decision_context JSONB,
+    created_at      TIMESTAMPTZ  NOT NULL,
+    PRIMARY KEY (id, ts),
+    CONSTRAINT uk_decision_id_ts UNIQUE (decision_id, ts)
+) PARTITION BY RANGE (ts);
+
+-- 적재 시점에 추출한 reasons/policies (기존 테이블에도 추가)
+ALTER TABLE decision_logs ADD COLUMN IF NOT EXISTS decision_context JSONB;
+
+-- 검색 페이징의 (ts, id) keyset 커서와 동일한 정렬 순서
+DROP INDEX IF EXISTS idx_ts_desc;
+DROP INDEX IF EXISTS idx_service_ts;
+CREATE INDEX IF NOT EXISTS idx_ts_id_desc ON decision_logs (ts DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_service_ts_id ON decision_logs (service, ts DESC, id DESC);
+
+-- 요청 기준 조회(requestedBy/reqId 필터, 타임라인): 등치 조건 + 같은 (ts, id) 순서
+-- 타임라인은 오름차순이므로 같은 인덱스를 역방향으로 스캔
+CREATE INDEX IF NOT EXISTS idx_requested_by_ts_id ON decision_logs (requested_by, ts DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_req_id_ts_id ON decision_logs (req_id, ts DESC, id DESC);
+
+-- path 필터: 부분 일치(LIKE '%x%')는 trigram GIN, 하위 경로(LIKE 'a/b/%')는 text_pattern_ops btree
+CREATE INDEX IF NOT EXISTS idx_path_trgm ON decision_logs USING gin (path gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_path_prefix ON decision_logs (path text_pattern_ops);
+
+-- 미리 생성된 범위를 벗어난 레코드(지연 도착, clock skew) 수용
+CREATE TABLE IF NOT EXISTS decision_logs_default PARTITION OF decision_logs DEFAULT;
+
+-- 대시보드 집계용 분 단위 rollup (적재 트랜잭션에서 DecisionRollupWriter가 증분 upsert)
+-- decision_logs partition 보관 기간과 무관하게 유지
+CREATE TABLE IF NOT EXISTS decision_rollups_minute (
+    bucket        TIMESTAMPTZ  NOT NULL,
+    service       VARCHAR(255),
+    path          VARCHAR(255) NOT NULL,
+    overall_allow BOOLEAN      NOT NULL,
+    opa_version   VARCHAR(255),
+    decisions     BIGINT       NOT NULL,
+    CONSTRAINT uk_decision_rollups_minute
+        UNIQUE NULLS NOT DISTINCT (bucket, service, path, overall_allow, opa_version)
+);
+
+-- 정책별 평가 결과 rollup (decision_context.policies 기준)
+CREATE TABLE IF NOT EXISTS policy_rollups_minute (
+    bucket      TIMESTAMPTZ  NOT NULL,
+    service     VARCHAR(255),
+    policy      VARCHAR(255) NOT NULL,
+    allow       BOOLEAN      NOT NULL,
+    evaluations BIGINT       NOT NULL,
+    violations  BIGINT       NOT NULL,
+    CONSTRAINT uk_policy_rollups_minute
+        UNIQUE NULLS NOT DISTINCT (bucket, service, policy, allow)
+);
@@ -1,28 +1,37 @@
 package com.example.opa.policydecisionlog.command.api;
 
+import com.example.opa.policydecisionlog.command.api.parser.DecisionLogArraySplitter;
+import com.example.opa.policydecisionlog.command.app.dto.RawDecisionLog;
 import com.example.opa.policydecisionlog.command.app.usecase.PublishDecisionLogUseCase;
+import com.example.opa.policydecisionlog.command.infra.kafka.exception.DecisionLogPublishException;
 import com.example.opa.policydecisionlog.shared.config.GzipProperties;
+import com.example.opa.policydecisionlog.shared.exception.IngestRejectedException;
 import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(DecisionLogIngestController.class)
+@Import(DecisionLogArraySplitter.class)
 class DecisionLogIngestControllerTest {
 
     @Autowired
@@ -108,7 +117,7 @@ class DecisionLogIngestControllerTest {
                 ]
                 """.formatted(decisionId1, decisionId2);
 
-        ArgumentCaptor<List<Map<String, Object>>> captor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<RawDecisionLog>> captor = ArgumentCaptor.forClass(List.class);
 
         // when
         mockMvc.perform(post("/logs")
@@ -118,9 +127,96 @@ class DecisionLogIngestControllerTest {
 
         // then
         then(publishDecisionLogUseCase).should().execute(captor.capture());
-        List<Map<String, Object>> captured = captor.getValue();
+        List<RawDecisionLog> captured = captor.getValue();
         assertThat(captured).hasSize(2);
-        assertThat(captured.get(0)).containsEntry("decision_id", decisionId1.toString());
-        assertThat(captured.get(1)).containsEntry("decision_id", decisionId2.toString());
+        assertThat(captured.get(0).decisionId()).isEqualTo(decisionId1.toString());
+        assertThat(captured.get(1).decisionId()).isEqualTo(decisionId2.toString());
+        assertThat(new String(captured.get(1).payload(), StandardCharsets.UTF_8))
+                .startsWith("{")
+                .endsWith("}")
+                .contains("cloud_access/policy/main");
+    }
+
+    @Test
+    @DisplayName("[POST] Decision Log 수집 - decision_id 누락 시 400")
+    void givenMissingDecisionId_whenIngestLogs_thenReturnsBadRequest() throws Exception {
+        // given
+        String requestBody = """
+                [{"path": "cloud_access/policy/main"}]
+                """;
+
+        // when & then
+        mockMvc.perform(post("/logs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isBadRequest());
+
+        then(publishDecisionLogUseCase).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("[POST] Decision Log 수집 - JSON 배열이 아니면 400")
+    void givenNonArrayBody_whenIngestLogs_thenReturnsBadRequest() throws Exception {
+        // given
+        String requestBody = """
+                {"decision_id": "%s"}
+                """.formatted(UUID.randomUUID());
+
+        // when & then
+        mockMvc.perform(post("/logs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isBadRequest());
+
+        then(publishDecisionLogUseCase).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("[POST] Decision Log 수집 - 동시 요청 한도 초과 시 429와 Retry-After")
+    void givenOverloaded_whenIngestLogs_thenReturnsTooManyRequests() throws Exception {
+        // given
+        String requestBody = "[]";
+        willThrow(new IngestRejectedException(IngestRejectedException.Reason.OVERLOADED, 2, "overloaded"))
+                .given(publishDecisionLogUseCase).execute(anyList());
+
+        // when & then
+        mockMvc.perform(post("/logs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"));
+    }
+
+    @Test
+    @DisplayName("[POST] Decision Log 수집 - producer 버퍼 포화 시 503과 Retry-After")
+    void givenBackpressure_whenIngestLogs_thenReturnsServiceUnavailable() throws Exception {
+        // given
+        String requestBody = "[]";
+        willThrow(new IngestRejectedException(IngestRejectedException.Reason.BACKPRESSURE, 1, "buffer full"))
+                .given(publishDecisionLogUseCase).execute(anyList());
+
+        // when & then
+        mockMvc.perform(post("/logs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @DisplayName("[POST] Decision Log 수집 - 일부 전송 실패 시 503과 실패한 decision_id 목록")
+    void givenPartialPublishFailure_whenIngestLogs_thenReturnsFailedDecisionIds() throws Exception {
+        // given
+        String failedId = UUID.randomUUID().toString();
+        String requestBody = "[]";
+        willThrow(new DecisionLogPublishException("decision-logs", List.of(failedId), 3, new RuntimeException("timeout")))
+                .given(publishDecisionLogUseCase).execute(anyList());
+
+        // when & then
+        mockMvc.perform(post("/logs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.failedDecisionIds[0]").value(failedId));
     }
 }
@@ -19,6 +19,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.zip.GZIPOutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
@@ -32,7 +33,7 @@ class GzipDecompressionFilterTest {
 
     @BeforeEach
     void setUp() {
-        gzipProperties = new GzipProperties("/logs", 64 * 1024, 1024 * 1024);
+        gzipProperties = new GzipProperties("/logs", 64 * 1024, 1024 * 1024, 4);
         filter = new GzipDecompressionFilter(gzipProperties);
         filterChain = mock(FilterChain.class);
     }
@@ -131,7 +132,7 @@ class GzipDecompressionFilterTest {
         @DisplayName("압축된 크기가 제한을 초과하면 413 에러를 반환한다")
         void givenOversizedCompressedContent_whenDoFilter_thenReturns413() throws ServletException, IOException {
             // given
-            GzipProperties smallLimitProps = new GzipProperties("/logs", 10, 1024 * 1024);
+            GzipProperties smallLimitProps = new GzipProperties("/logs", 10, 1024 * 1024, 4);
             GzipDecompressionFilter smallLimitFilter = new GzipDecompressionFilter(smallLimitProps);
 
             byte[] gzippedContent = gzip("This content is larger than 10 bytes when compressed");
@@ -172,14 +173,15 @@ class GzipDecompressionFilterTest {
         }
 
         @Test
-        @DisplayName("gzip 요청이 주어지면 Content-Length가 압축 해제된 크기로 업데이트된다")
-        void givenGzipRequest_whenDoFilter_thenUpdatesContentLength() throws ServletException, IOException {
+        @DisplayName("gzip 요청이 주어지면 Content-Length는 알 수 없음(-1)으로 노출된다")
+        void givenGzipRequest_whenDoFilter_thenContentLengthIsUnknown() throws ServletException, IOException {
             // given
             String originalContent = "Hello, World!";
             byte[] gzippedContent = gzip(originalContent);
 
             MockHttpServletRequest request = new MockHttpServletRequest("POST", "/logs");
             request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            request.addHeader(HttpHeaders.CONTENT_LENGTH, gzippedContent.length);
             request.setContent(gzippedContent);
             MockHttpServletResponse response = new MockHttpServletResponse();
 
@@ -189,9 +191,72 @@ class GzipDecompressionFilterTest {
             // then
             then(filterChain).should().doFilter(argThat(req -> {
                 HttpServletRequest wrappedRequest = (HttpServletRequest) req;
-                return wrappedRequest.getContentLength() == originalContent.length();
+                return wrappedRequest.getContentLength() == -1
+                        && wrappedRequest.getHeader(HttpHeaders.CONTENT_LENGTH) == null
+                        && !wrappedRequest.getHeaders(HttpHeaders.CONTENT_LENGTH).hasMoreElements();
             }), eq(response));
         }
+
+        @Test
+        @DisplayName("압축 해제 크기가 제한을 초과하면 읽는 시점에 GzipSizeLimitExceededException 발생")
+        void givenOversizedDecompressedContent_whenRead_thenThrowsSizeLimitExceeded() throws ServletException, IOException {
+            // given
+            GzipProperties smallLimitProps = new GzipProperties("/logs", 64 * 1024, 100, 4);
+            GzipDecompressionFilter smallLimitFilter = new GzipDecompressionFilter(smallLimitProps);
+
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/logs");
+            request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            request.setContent(gzip("x".repeat(101)));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            FilterChain readingChain = (req, res) -> assertThatThrownBy(
+                    () -> ((HttpServletRequest) req).getInputStream().readAllBytes())
+                    .isInstanceOf(GzipSizeLimitExceededException.class);
+
+            // when & then
+            smallLimitFilter.doFilterInternal(request, response, readingChain);
+        }
+
+        @Test
+        @DisplayName("압축 해제 크기가 제한과 같으면 정상적으로 읽는다")
+        void givenDecompressedContentAtLimit_whenRead_thenReadsAll() throws ServletException, IOException {
+            // given
+            String originalContent = "x".repeat(100);
+            GzipProperties exactLimitProps = new GzipProperties("/logs", 64 * 1024, 100, 4);
+            GzipDecompressionFilter exactLimitFilter = new GzipDecompressionFilter(exactLimitProps);
+
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/logs");
+            request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            request.setContent(gzip(originalContent));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            FilterChain readingChain = (req, res) -> assertThat(
+                    new String(((HttpServletRequest) req).getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo(originalContent);
+
+            // when & then
+            exactLimitFilter.doFilterInternal(request, response, readingChain);
+        }
+
+        @Test
+        @DisplayName("여러 요청이 연속으로 들어와도 풀에서 재사용한 Inflater로 정상 해제한다")
+        void givenSequentialRequests_whenDoFilter_thenReusesPooledInflater() throws ServletException, IOException {
+            for (int i = 0; i < 10; i++) {
+                // given
+                String originalContent = "request-" + i + "-" + "y".repeat(i * 1000);
+                MockHttpServletRequest request = new MockHttpServletRequest("POST", "/logs");
+                request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                request.setContent(gzip(originalContent));
+                MockHttpServletResponse response = new MockHttpServletResponse();
+
+                FilterChain readingChain = (req, res) -> assertThat(
+                        new String(((HttpServletRequest) req).getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                        .isEqualTo(originalContent);
+
+                // when & then
+                filter.doFilterInternal(request, response, readingChain);
+            }
+        }
     }
 
     private byte[] gzip(String content) throws IOException {
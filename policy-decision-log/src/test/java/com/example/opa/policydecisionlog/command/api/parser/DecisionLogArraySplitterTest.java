@@ -0,0 +1,112 @@
+package com.example.opa.policydecisionlog.command.api.parser;
+
+import com.example.opa.policydecisionlog.command.app.dto.RawDecisionLog;
+import com.example.opa.policydecisionlog.shared.exception.MalformedDecisionLogException;
+import com.example.opa.policydecisionlog.shared.exception.MissingDecisionIdException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DecisionLogArraySplitterTest {
+
+    private DecisionLogArraySplitter splitter;
+
+    @BeforeEach
+    void setUp() {
+        splitter = new DecisionLogArraySplitter(JsonMapper.builder().build());
+    }
+
+    @Nested
+    @DisplayName("split")
+    class Split {
+
+        @Test
+        @DisplayName("배열 원소마다 원본 byte 범위와 decision_id를 찾는다")
+        void givenArray_whenSplit_thenReturnsElementRanges() {
+            // given
+            UUID decisionId1 = UUID.randomUUID();
+            UUID decisionId2 = UUID.randomUUID();
+            String element1 = """
+                    {"path": "cloud_access/policy/main", "input": {"decision_id": "nested"}, "decision_id": "%s"}"""
+                    .formatted(decisionId1);
+            String element2 = """
+                    {"decision_id": "%s", "result": {"allow": false, "policies": [{"policy_name": "한글"}]}}"""
+                    .formatted(decisionId2);
+            byte[] body = ("[\n  " + element1 + ",\n  " + element2 + "\n]").getBytes(StandardCharsets.UTF_8);
+
+            // when
+            List<RawDecisionLog> logs = splitter.split(body);
+
+            // then
+            assertThat(logs).hasSize(2);
+            assertThat(logs.get(0).decisionId()).isEqualTo(decisionId1.toString());
+            assertThat(logs.get(1).decisionId()).isEqualTo(decisionId2.toString());
+            assertThat(new String(logs.get(0).payload(), StandardCharsets.UTF_8)).isEqualTo(element1);
+            assertThat(new String(logs.get(1).payload(), StandardCharsets.UTF_8)).isEqualTo(element2);
+        }
+
+        @Test
+        @DisplayName("빈 배열이면 빈 목록을 반환한다")
+        void givenEmptyArray_whenSplit_thenReturnsEmptyList() {
+            // when
+            List<RawDecisionLog> logs = splitter.split("[]".getBytes(StandardCharsets.UTF_8));
+
+            // then
+            assertThat(logs).isEmpty();
+        }
+
+        @Test
+        @DisplayName("decision_id가 없으면 MissingDecisionIdException 발생")
+        void givenMissingDecisionId_whenSplit_thenThrowsMissingDecisionIdException() {
+            // given
+            byte[] body = "[{\"path\": \"cloud_access/policy/main\"}]".getBytes(StandardCharsets.UTF_8);
+
+            // when & then
+            assertThatThrownBy(() -> splitter.split(body))
+                    .isInstanceOf(MissingDecisionIdException.class);
+        }
+
+        @Test
+        @DisplayName("배열이 아니면 MalformedDecisionLogException 발생")
+        void givenObjectBody_whenSplit_thenThrowsMalformedDecisionLogException() {
+            // given
+            byte[] body = "{\"decision_id\": \"x\"}".getBytes(StandardCharsets.UTF_8);
+
+            // when & then
+            assertThatThrownBy(() -> splitter.split(body))
+                    .isInstanceOf(MalformedDecisionLogException.class);
+        }
+
+        @Test
+        @DisplayName("JSON 문법 오류면 MalformedDecisionLogException 발생")
+        void givenBrokenJson_whenSplit_thenThrowsMalformedDecisionLogException() {
+            // given
+            byte[] body = "[{\"decision_id\": \"x\"".getBytes(StandardCharsets.UTF_8);
+
+            // when & then
+            assertThatThrownBy(() -> splitter.split(body))
+                    .isInstanceOf(MalformedDecisionLogException.class);
+        }
+
+        @Test
+        @DisplayName("배열 뒤에 다른 token이 있으면 MalformedDecisionLogException 발생")
+        void givenTrailingContent_whenSplit_thenThrowsMalformedDecisionLogException() {
+            // given
+            byte[] body = "[{\"decision_id\": \"x\"}] {\"decision_id\": \"y\"}".getBytes(StandardCharsets.UTF_8);
+
+            // when & then
+            assertThatThrownBy(() -> splitter.split(body))
+                    .isInstanceOf(MalformedDecisionLogException.class)
+                    .hasMessageContaining("after JSON array");
+        }
+    }
+}
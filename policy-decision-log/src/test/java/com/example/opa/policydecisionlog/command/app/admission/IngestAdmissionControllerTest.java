@@ -0,0 +1,165 @@
+package com.example.opa.policydecisionlog.command.app.admission;
+
+import com.example.opa.policydecisionlog.command.app.port.PublishPressureProbe;
+import com.example.opa.policydecisionlog.shared.config.IngestAdmissionProperties;
+import com.example.opa.policydecisionlog.shared.exception.IngestRejectedException;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngestAdmissionControllerTest {
+
+    @Mock
+    private PublishPressureProbe pressureProbe;
+
+    @Mock
+    private DecisionLogMetrics metrics;
+
+    private IngestAdmissionController createController(int initialLimit, int minLimit, int maxLimit) {
+        IngestAdmissionProperties properties = new IngestAdmissionProperties(
+                true, initialLimit, minLimit, maxLimit, 1000, 0.5, 0.8, 3);
+        return new IngestAdmissionController(pressureProbe, properties, metrics);
+    }
+
+    @Nested
+    @DisplayName("acquire")
+    class Acquire {
+
+        @Test
+        @DisplayName("limit 이내면 permit 발급")
+        void givenUnderLimit_whenAcquire_thenReturnsPermit() {
+            // given
+            IngestAdmissionController controller = createController(2, 1, 10);
+
+            // when
+            IngestAdmissionController.Permit permit = controller.acquire(5);
+
+            // then
+            assertThat(permit).isNotNull();
+        }
+
+        @Test
+        @DisplayName("동시 요청이 limit에 도달하면 OVERLOADED로 거절")
+        void givenLimitReached_whenAcquire_thenRejectsOverloaded() {
+            // given
+            IngestAdmissionController controller = createController(2, 1, 10);
+            controller.acquire(1);
+            controller.acquire(1);
+
+            // when & then
+            assertThatThrownBy(() -> controller.acquire(1))
+                    .isInstanceOf(IngestRejectedException.class)
+                    .satisfies(ex -> {
+                        IngestRejectedException rejected = (IngestRejectedException) ex;
+                        assertThat(rejected.getReason()).isEqualTo(IngestRejectedException.Reason.OVERLOADED);
+                        assertThat(rejected.getRetryAfterSeconds()).isEqualTo(3);
+                    });
+            then(metrics).should().recordIngestRejected("overloaded");
+        }
+
+        @Test
+        @DisplayName("producer 버퍼 사용률이 임계치 이상이면 BACKPRESSURE로 거절")
+        void givenBufferFull_whenAcquire_thenRejectsBackpressure() {
+            // given
+            IngestAdmissionController controller = createController(2, 1, 10);
+            given(pressureProbe.bufferUtilization()).willReturn(0.9);
+
+            // when & then
+            assertThatThrownBy(() -> controller.acquire(1))
+                    .isInstanceOf(IngestRejectedException.class)
+                    .extracting(ex -> ((IngestRejectedException) ex).getReason())
+                    .isEqualTo(IngestRejectedException.Reason.BACKPRESSURE);
+            then(metrics).should().recordIngestRejected("backpressure");
+        }
+
+        @Test
+        @DisplayName("release 후에는 다시 permit 발급")
+        void givenReleased_whenAcquire_thenReturnsPermit() {
+            // given
+            IngestAdmissionController controller = createController(1, 1, 10);
+            controller.acquire(1).release(true);
+
+            // when
+            IngestAdmissionController.Permit permit = controller.acquire(1);
+
+            // then
+            assertThat(permit).isNotNull();
+        }
+
+        @Test
+        @DisplayName("비활성화 상태면 limit과 무관하게 permit 발급")
+        void givenDisabled_whenAcquire_thenAlwaysAdmits() {
+            // given
+            IngestAdmissionProperties properties = new IngestAdmissionProperties(
+                    false, 1, 1, 1, 1000, 0.5, 0.8, 1);
+            IngestAdmissionController controller = new IngestAdmissionController(pressureProbe, properties, metrics);
+
+            // when
+            controller.acquire(1);
+            controller.acquire(1);
+
+            // then
+            then(pressureProbe).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("limit 조정")
+    class AdjustLimit {
+
+        @Test
+        @DisplayName("실패하면 limit 감소 (minLimit 이하로는 감소하지 않음)")
+        void givenFailure_whenRelease_thenDecreasesLimit() {
+            // given
+            IngestAdmissionController controller = createController(8, 2, 10);
+
+            // when
+            controller.acquire(1).release(false);
+            int afterFirst = controller.currentLimit();
+            controller.acquire(1).release(false);
+            controller.acquire(1).release(false);
+
+            // then
+            assertThat(afterFirst).isEqualTo(4);
+            assertThat(controller.currentLimit()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("limit에 근접한 부하에서 성공하면 limit 증가")
+        void givenSuccessNearLimit_whenRelease_thenIncreasesLimit() {
+            // given
+            IngestAdmissionController controller = createController(2, 1, 10);
+            IngestAdmissionController.Permit first = controller.acquire(1);
+
+            // when
+            first.release(true);
+
+            // then
+            assertThat(controller.currentLimit()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("같은 permit을 여러 번 release해도 한 번만 반영")
+        void givenDoubleRelease_whenRelease_thenAppliedOnce() {
+            // given
+            IngestAdmissionController controller = createController(8, 2, 10);
+            IngestAdmissionController.Permit permit = controller.acquire(1);
+
+            // when
+            permit.release(false);
+            permit.release(false);
+
+            // then
+            assertThat(controller.currentLimit()).isEqualTo(4);
+        }
+    }
+}
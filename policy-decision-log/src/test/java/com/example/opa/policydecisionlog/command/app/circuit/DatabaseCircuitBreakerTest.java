@@ -0,0 +1,132 @@
+package com.example.opa.policydecisionlog.command.app.circuit;
+
+import com.example.opa.policydecisionlog.command.app.circuit.DatabaseCircuitBreaker.State;
+import com.example.opa.policydecisionlog.command.app.error.ErrorClassifier;
+import com.example.opa.policydecisionlog.shared.config.DbCircuitBreakerProperties;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseCircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Mock
+    private DecisionLogMetrics metrics;
+
+    private final AtomicLong clock = new AtomicLong();
+    private DatabaseCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        DbCircuitBreakerProperties properties = new DbCircuitBreakerProperties(true, 3, 1000, 30000, 2);
+        breaker = new DatabaseCircuitBreaker(new ErrorClassifier(), properties, metrics, clock::get);
+    }
+
+    private void failRetryable(int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.tryAcquire();
+            breaker.onFailure(new ConnectException("Connection refused"));
+        }
+    }
+
+    @Test
+    @DisplayName("연속 인프라 실패가 임계치에 도달하면 OPEN되어 저장을 거절한다")
+    void givenConsecutiveRetryableFailures_whenThresholdReached_thenOpensAndRejects() {
+        // when
+        failRetryable(3);
+
+        // then
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.retryAfter()).isEqualTo(Duration.ofSeconds(30));
+        then(metrics).should().recordDbCircuitRejected();
+    }
+
+    @Test
+    @DisplayName("데이터 오류는 DB가 응답한 것이므로 실패로 집계하지 않는다")
+    void givenNonRetryableFailures_whenOnFailure_thenStaysClosed() {
+        // when
+        failRetryable(2);
+        breaker.onFailure(new IllegalArgumentException("value too long"));
+        failRetryable(2);
+
+        // then
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("지연 임계치를 넘은 성공은 실패로 집계한다")
+    void givenSlowCalls_whenOnSuccess_thenOpens() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            breaker.tryAcquire();
+            breaker.onSuccess(TimeUnit.SECONDS.toNanos(2));
+        }
+
+        // then
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    @DisplayName("OPEN 시간이 지나면 probe를 하나씩 허용하고 연속 성공하면 CLOSED로 돌아간다")
+    void givenOpenElapsed_whenProbesSucceed_thenCloses() {
+        // given
+        failRetryable(3);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        // when & then
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.onSuccess(FAST);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess(FAST);
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN probe가 실패하면 다시 OPEN된다")
+    void givenHalfOpen_whenProbeFails_thenReopens() {
+        // given
+        failRetryable(3);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        // when
+        failRetryable(1);
+
+        // then
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN probe가 결과 없이 끝나 release 되면 다음 probe를 허용한다")
+    void givenHalfOpenProbe_whenReleased_thenAllowsNextProbe() {
+        // given
+        failRetryable(3);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        // when
+        breaker.release();
+
+        // then
+        assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+}
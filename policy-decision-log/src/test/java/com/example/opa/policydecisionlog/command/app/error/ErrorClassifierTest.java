@@ -1,5 +1,6 @@
 package com.example.opa.policydecisionlog.command.app.error;
 
+import com.example.opa.policydecisionlog.command.app.circuit.CircuitOpenException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -40,6 +41,16 @@ class ErrorClassifierTest {
             assertThat(result).isFalse();
         }
 
+        @Test
+        @DisplayName("circuit breaker가 거절한 저장이면 true 반환")
+        void givenCircuitOpenException_whenIsRetryable_thenReturnsTrue() {
+            // when
+            boolean result = classifier.isRetryable(new CircuitOpenException());
+
+            // then
+            assertThat(result).isTrue();
+        }
+
         @Test
         @DisplayName("ConnectException이면 true 반환")
         void givenConnectException_whenIsRetryable_thenReturnsTrue() {
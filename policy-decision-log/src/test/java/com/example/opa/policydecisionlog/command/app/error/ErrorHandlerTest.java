@@ -1,6 +1,11 @@
 package com.example.opa.policydecisionlog.command.app.error;
 
+import com.example.opa.policydecisionlog.command.app.circuit.CircuitOpenException;
+import com.example.opa.policydecisionlog.command.app.circuit.DatabaseCircuitBreaker;
 import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
+import com.example.opa.policydecisionlog.command.app.dto.IsolatedSaveResult;
+import com.example.opa.policydecisionlog.command.app.dto.ParkedDecisionLog;
+import com.example.opa.policydecisionlog.command.app.dto.PersistResult;
 import com.example.opa.policydecisionlog.command.app.port.DecisionLogPersistence;
 import com.example.opa.policydecisionlog.command.app.port.ParkingLotPublisher;
 import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
@@ -16,8 +21,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.*;
@@ -31,12 +39,18 @@ class ErrorHandlerTest {
     @Mock
     private ErrorClassifier errorClassifier;
 
+    @Mock
+    private PoisonRecordValidator validator;
+
     @Mock
     private ParkingLotPublisher parkingLotPublisher;
 
     @Mock
     private DecisionLogPersistence persistence;
 
+    @Mock
+    private DatabaseCircuitBreaker circuitBreaker;
+
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private DecisionLogMetrics metrics;
 
@@ -63,74 +77,181 @@ class ErrorHandlerTest {
     }
 
     @Nested
-    @DisplayName("handle - Non-retryable 에러 (Bisect)")
+    @DisplayName("handle - Non-retryable 에러 (poison 격리)")
     class HandleNonRetryable {
 
         @Test
-        @DisplayName("단일 커맨드 실패 시 DLQ로 전송")
-        void givenSingleCommand_whenHandle_thenSendsToDlq() {
+        @DisplayName("pre-flight에서 못 찾으면 savepoint 격리 저장 결과의 실패 row만 DLQ로 전송")
+        void givenUnknownCause_whenHandle_thenIsolatesBySavepoint() {
             // given
-            DecisionLogIngestCommand command = createCommand();
-            List<DecisionLogIngestCommand> commands = List.of(command);
+            DecisionLogIngestCommand cmd0 = createCommand();
+            DecisionLogIngestCommand cmd1 = createCommand();
+            List<DecisionLogIngestCommand> commands = List.of(cmd0, cmd1);
             RuntimeException error = new RuntimeException("Data error");
 
             given(errorClassifier.isRetryable(error)).willReturn(false);
-            willThrow(error).given(persistence).saveAll(commands);
+            given(persistence.saveIsolated(commands)).willReturn(new IsolatedSaveResult(List.of(cmd1), 8));
+            given(circuitBreaker.tryAcquire()).willReturn(true);
 
             // when
             errorHandler.handle(commands, error);
 
             // then
-            then(parkingLotPublisher).should().toDlq(command);
+            then(persistence).should(never()).saveAll(any());
+            then(parkingLotPublisher).should().toDlq(cmd1);
+            then(parkingLotPublisher).should(never()).toDlq(cmd0);
             then(metrics).should().recordDlqSent(1);
+            then(metrics).should().recordPoisonIsolation(1, 9);
         }
 
         @Test
-        @DisplayName("여러 커맨드 중 하나만 실패 시 Bisect로 찾아서 DLQ로 전송")
-        void givenMultipleCommands_whenOneFails_thenBisectFindsAndSendsToDlq() {
+        @DisplayName("pre-flight에서 걸러내면 나머지는 saveAll 한 번으로 저장")
+        void givenPreflightFailure_whenHandle_thenSavesRestOnce() {
+            // given
+            DecisionLogIngestCommand valid = createCommand();
+            DecisionLogIngestCommand poison = createCommand();
+            List<DecisionLogIngestCommand> commands = List.of(valid, poison);
+            RuntimeException error = new RuntimeException("Data error");
+
+            given(errorClassifier.isRetryable(error)).willReturn(false);
+            given(validator.validate(any())).willReturn(Optional.empty());
+            given(validator.validate(poison)).willReturn(Optional.of("path is null"));
+            given(circuitBreaker.tryAcquire()).willReturn(true);
+
+            // when
+            errorHandler.handle(commands, error);
+
+            // then
+            then(persistence).should().saveAll(List.of(valid));
+            then(persistence).should(never()).saveIsolated(any());
+            then(parkingLotPublisher).should().toDlq(poison);
+            then(metrics).should().recordPoisonIsolation(1, 2);
+        }
+
+        @Test
+        @DisplayName("pre-flight 후에도 저장이 실패하면 savepoint 격리 저장으로 넘어감")
+        void givenSaveStillFails_whenHandle_thenFallsBackToSavepoint() {
             // given
             DecisionLogIngestCommand cmd0 = createCommand();
             DecisionLogIngestCommand cmd1 = createCommand();
-            DecisionLogIngestCommand cmd2 = createCommand();
-            List<DecisionLogIngestCommand> commands = List.of(cmd0, cmd1, cmd2);
+            DecisionLogIngestCommand poison = createCommand();
+            List<DecisionLogIngestCommand> commands = List.of(cmd0, cmd1, poison);
             RuntimeException error = new RuntimeException("Data error");
 
             given(errorClassifier.isRetryable(error)).willReturn(false);
-
-            willAnswer(invocation -> {  // cmd2 실패
-                List<?> args = invocation.getArgument(0);
-                if (args.contains(cmd2)) {
-                    throw error;
-                }
-                return null;
-            }).given(persistence).saveAll(any());
+            given(validator.validate(any())).willReturn(Optional.empty());
+            given(validator.validate(poison)).willReturn(Optional.of("path is null"));
+            willThrow(error).given(persistence).saveAll(List.of(cmd0, cmd1));
+            given(persistence.saveIsolated(List.of(cmd0, cmd1))).willReturn(new IsolatedSaveResult(List.of(cmd1), 8));
+            given(circuitBreaker.tryAcquire()).willReturn(true);
 
             // when
             errorHandler.handle(commands, error);
 
             // then
-            then(parkingLotPublisher).should().toDlq(cmd2);
+            then(parkingLotPublisher).should().toDlq(poison);
+            then(parkingLotPublisher).should().toDlq(cmd1);
             then(parkingLotPublisher).should(never()).toDlq(cmd0);
-            then(parkingLotPublisher).should(never()).toDlq(cmd1);
-            then(metrics).should().recordDlqSent(1);
+            then(metrics).should().recordDlqSent(2);
+            then(metrics).should().recordPoisonIsolation(2, 10);
+        }
+
+        @Test
+        @DisplayName("모든 row가 pre-flight에서 걸러지면 DB를 호출하지 않음")
+        void givenAllInvalid_whenHandle_thenNoDbCall() {
+            // given
+            DecisionLogIngestCommand command = createCommand();
+            RuntimeException error = new RuntimeException("Data error");
+
+            given(errorClassifier.isRetryable(error)).willReturn(false);
+            given(validator.validate(command)).willReturn(Optional.of("decision_id is null"));
+
+            // when
+            errorHandler.handle(List.of(command), error);
+
+            // then
+            then(persistence).shouldHaveNoInteractions();
+            then(parkingLotPublisher).should().toDlq(command);
+            then(metrics).should().recordPoisonIsolation(1, 1);
+        }
+
+        @Test
+        @DisplayName("격리 저장 중 인프라 오류가 나면 남은 row를 Parking Lot으로 발행")
+        void givenRetryableErrorDuringIsolation_whenHandle_thenPublishesToParkingLot() {
+            // given
+            List<DecisionLogIngestCommand> commands = List.of(createCommand(), createCommand());
+            RuntimeException error = new RuntimeException("Data error");
+            RuntimeException infraError = new RuntimeException("Connection refused");
+
+            given(errorClassifier.isRetryable(error)).willReturn(false);
+            given(errorClassifier.isRetryable(infraError)).willReturn(true);
+            given(persistence.saveIsolated(commands)).willThrow(infraError);
+            given(circuitBreaker.tryAcquire()).willReturn(true);
+
+            // when
+            errorHandler.handle(commands, error);
+
+            // then
+            then(parkingLotPublisher).should().publish(commands);
+            then(metrics).should().recordParkingSent(2);
+            then(parkingLotPublisher).should(never()).toDlq(any());
+        }
+
+        @Test
+        @DisplayName("circuit이 격리 저장을 허용하지 않으면 DB 호출 없이 남은 row를 Parking Lot으로 발행")
+        void givenCircuitOpen_whenIsolate_thenPublishesToParkingLotWithoutDbCall() {
+            // given
+            List<DecisionLogIngestCommand> commands = List.of(createCommand(), createCommand());
+            RuntimeException error = new RuntimeException("Data error");
+
+            given(errorClassifier.isRetryable(error)).willReturn(false);
+            given(errorClassifier.isRetryable(any(CircuitOpenException.class))).willReturn(true);
+            given(circuitBreaker.tryAcquire()).willReturn(false);
+
+            // when
+            errorHandler.handle(commands, error);
+
+            // then
+            then(persistence).shouldHaveNoInteractions();
+            then(parkingLotPublisher).should().publish(commands);
+            then(parkingLotPublisher).should(never()).toDlq(any());
         }
 
         @Test
-        @DisplayName("모든 커맨드가 성공하면 DLQ 전송 없음")
-        void givenAllSucceed_whenBisect_thenNoDlqSent() {
+        @DisplayName("격리 저장 중 Error가 나면 circuit probe를 반납하고 그대로 던짐")
+        void givenErrorDuringIsolation_whenHandle_thenReleasesProbe() {
+            // given
+            List<DecisionLogIngestCommand> commands = List.of(createCommand(), createCommand());
+            RuntimeException error = new RuntimeException("Data error");
+            OutOfMemoryError oom = new OutOfMemoryError("Java heap space");
+
+            given(errorClassifier.isRetryable(error)).willReturn(false);
+            given(circuitBreaker.tryAcquire()).willReturn(true);
+            given(persistence.saveIsolated(commands)).willThrow(oom);
+
+            // when & then
+            assertThatThrownBy(() -> errorHandler.handle(commands, error)).isSameAs(oom);
+            then(circuitBreaker).should().release();
+            then(circuitBreaker).should(never()).onFailure(any());
+        }
+
+        @Test
+        @DisplayName("격리 저장 결과 실패 row가 없으면 DLQ 전송 없음")
+        void givenAllSucceed_whenIsolate_thenNoDlqSent() {
             // given
             List<DecisionLogIngestCommand> commands = List.of(createCommand(), createCommand());
             RuntimeException error = new RuntimeException("Initial error");
 
             given(errorClassifier.isRetryable(error)).willReturn(false);
-            willDoNothing().given(persistence).saveAll(any());
+            given(persistence.saveIsolated(commands)).willReturn(new IsolatedSaveResult(List.of(), 8));
+            given(circuitBreaker.tryAcquire()).willReturn(true);
 
             // when
             errorHandler.handle(commands, error);
 
             // then
-            then(persistence).should().saveAll(commands);
             then(parkingLotPublisher).should(never()).toDlq(any());
+            then(metrics).should(never()).recordPoisonIsolation(anyInt(), anyInt());
         }
 
         @Test
@@ -194,6 +315,75 @@ class ErrorHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("isolateRecovery")
+    class IsolateRecovery {
+
+        @Test
+        @DisplayName("한 트랜잭션의 savepoint 격리로 저장하고 실패한 row만 DLQ")
+        void givenSavepointFailure_whenIsolateRecovery_thenSendsOnlyFailedToDlq() {
+            // given
+            DecisionLogIngestCommand good = createCommand();
+            DecisionLogIngestCommand poison = createCommand();
+            given(circuitBreaker.tryAcquire()).willReturn(true);
+            given(persistence.saveIsolated(List.of(good, poison))).willReturn(new IsolatedSaveResult(List.of(poison), 8));
+
+            // when
+            List<PersistResult> results = errorHandler.isolateRecovery(List.of(
+                    new ParkedDecisionLog(good, 0), new ParkedDecisionLog(poison, 2)));
+
+            // then
+            assertThat(results).containsExactly(PersistResult.SUCCESS, PersistResult.PARKED);
+            then(persistence).should(never()).save(any());
+            then(parkingLotPublisher).should().toDlq(poison);
+            then(parkingLotPublisher).should(never()).toDlq(good);
+            then(metrics).should().recordPoisonIsolation(1, 9);
+        }
+
+        @Test
+        @DisplayName("circuit이 거절하면 첫 저장 대상부터는 DLQ/재발행 없이 RETRY")
+        void givenCircuitRejects_whenIsolateRecovery_thenRetriesFromFirstValid() {
+            // given
+            DecisionLogIngestCommand leadingPoison = createCommand();
+            DecisionLogIngestCommand valid = createCommand();
+            DecisionLogIngestCommand trailingPoison = createCommand();
+            given(validator.validate(any())).willReturn(Optional.empty());
+            given(validator.validate(leadingPoison)).willReturn(Optional.of("path is null"));
+            given(validator.validate(trailingPoison)).willReturn(Optional.of("path is null"));
+            given(circuitBreaker.tryAcquire()).willReturn(false);
+
+            // when
+            List<PersistResult> results = errorHandler.isolateRecovery(List.of(
+                    new ParkedDecisionLog(leadingPoison, 0), new ParkedDecisionLog(valid, 0),
+                    new ParkedDecisionLog(trailingPoison, 0)));
+
+            // then
+            assertThat(results).containsExactly(PersistResult.PARKED, PersistResult.RETRY, PersistResult.RETRY);
+            then(parkingLotPublisher).should().toDlq(leadingPoison);
+            then(parkingLotPublisher).should(never()).toDlq(trailingPoison);
+            then(persistence).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("격리 중 인프라 오류면 저장 대상만 다음 attempt로 재발행")
+        void givenRetryableErrorDuringIsolation_whenIsolateRecovery_thenRetriesValidRecords() {
+            // given
+            DecisionLogIngestCommand valid = createCommand();
+            RuntimeException dbError = new RuntimeException("Connection refused");
+            given(circuitBreaker.tryAcquire()).willReturn(true);
+            given(persistence.saveIsolated(List.of(valid))).willThrow(dbError);
+            given(errorClassifier.isRetryable(dbError)).willReturn(true);
+
+            // when
+            List<PersistResult> results = errorHandler.isolateRecovery(List.of(new ParkedDecisionLog(valid, 3)));
+
+            // then
+            assertThat(results).containsExactly(PersistResult.PARKED);
+            then(parkingLotPublisher).should().retry(valid, 4);
+            then(parkingLotPublisher).should(never()).toDlq(any());
+        }
+    }
+
     private DecisionLogIngestCommand createCommand() {
         return new DecisionLogIngestCommand(
                 UUID.randomUUID(),
@@ -0,0 +1,105 @@
+package com.example.opa.policydecisionlog.command.app.error;
+
+import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PoisonRecordValidatorTest {
+
+    private final PoisonRecordValidator validator = new PoisonRecordValidator();
+
+    @Nested
+    @DisplayName("validate")
+    class Validate {
+
+        @Test
+        @DisplayName("제약을 모두 만족하면 통과")
+        void givenValidCommand_whenValidate_thenReturnsEmpty() {
+            // given
+            DecisionLogIngestCommand command = createCommand(UUID.randomUUID(), OffsetDateTime.now(),
+                    "cloud_access/policy/main", "user1", "{\"result\":{\"allow\":true}}");
+
+            // when
+            Optional<String> violation = validator.validate(command);
+
+            // then
+            assertThat(violation).isEmpty();
+        }
+
+        @Test
+        @DisplayName("NOT NULL 컬럼 값이 없으면 실패")
+        void givenMissingRequiredField_whenValidate_thenReturnsViolation() {
+            // when & then
+            assertThat(validator.validate(createCommand(null, OffsetDateTime.now(), "a/b", null, null)))
+                    .contains("decision_id is null");
+            assertThat(validator.validate(createCommand(UUID.randomUUID(), null, "a/b", null, null)))
+                    .contains("timestamp is null");
+            assertThat(validator.validate(createCommand(UUID.randomUUID(), OffsetDateTime.now(), null, null, null)))
+                    .contains("path is null");
+        }
+
+        @Test
+        @DisplayName("VARCHAR(255)를 넘는 값이면 실패")
+        void givenOversizedValue_whenValidate_thenReturnsViolation() {
+            // given
+            String requestedBy = "u".repeat(PoisonRecordValidator.MAX_VARCHAR_LENGTH + 1);
+            DecisionLogIngestCommand command = createCommand(UUID.randomUUID(), OffsetDateTime.now(),
+                    "cloud_access/policy/main", requestedBy, null);
+
+            // when
+            Optional<String> violation = validator.validate(command);
+
+            // then
+            assertThat(violation).hasValueSatisfying(reason -> assertThat(reason).startsWith("requested_by"));
+        }
+
+        @Test
+        @DisplayName("raw JSON에 \\u0000 escape가 있으면 jsonb가 거부하므로 실패")
+        void givenNulEscapeInRaw_whenValidate_thenReturnsViolation() {
+            // given
+            DecisionLogIngestCommand command = createCommand(UUID.randomUUID(), OffsetDateTime.now(),
+                    "cloud_access/policy/main", null, "{\"input\":{\"name\":\"a\\u0000b\"}}");
+
+            // when
+            Optional<String> violation = validator.validate(command);
+
+            // then
+            assertThat(violation).hasValueSatisfying(reason -> assertThat(reason).startsWith("raw"));
+        }
+    }
+
+    @Nested
+    @DisplayName("containsNulEscape")
+    class ContainsNulEscape {
+
+        @Test
+        @DisplayName("escape된 backslash 뒤의 u0000은 일반 텍스트로 판단")
+        void givenEscapedBackslash_whenContainsNulEscape_thenReturnsFalse() {
+            // when & then
+            assertThat(PoisonRecordValidator.containsNulEscape(bytes("{\"a\":\"\\\\u0000\"}"))).isFalse();
+            assertThat(PoisonRecordValidator.containsNulEscape(bytes("{\"a\":\"\\\\\\u0000\"}"))).isTrue();
+            assertThat(PoisonRecordValidator.containsNulEscape(bytes("{\"a\":\"\\u0001\"}"))).isFalse();
+        }
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static DecisionLogIngestCommand createCommand(UUID decisionId, OffsetDateTime timestamp, String path,
+                                                          String requestedBy, String rawJson) {
+        return new DecisionLogIngestCommand(
+                decisionId, timestamp, path, requestedBy, null,
+                null, null, null, null, null,
+                rawJson != null ? bytes(rawJson) : null
+        );
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.opa.policydecisionlog.command.app.usecase;
 
+import com.example.opa.policydecisionlog.command.app.circuit.CircuitOpenException;
+import com.example.opa.policydecisionlog.command.app.circuit.DatabaseCircuitBreaker;
 import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
+import com.example.opa.policydecisionlog.command.app.dto.ParkedDecisionLog;
 import com.example.opa.policydecisionlog.command.app.dto.PersistResult;
+import com.example.opa.policydecisionlog.command.app.error.ErrorClassifier;
 import com.example.opa.policydecisionlog.command.app.error.ErrorHandler;
 import com.example.opa.policydecisionlog.command.app.port.DecisionLogPersistence;
 import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
@@ -14,11 +18,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
@@ -35,6 +41,12 @@ class PersistDecisionLogUseCaseTest {
     @Mock
     private ErrorHandler errorHandler;
 
+    @Mock
+    private ErrorClassifier errorClassifier;
+
+    @Mock
+    private DatabaseCircuitBreaker circuitBreaker;
+
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private DecisionLogMetrics metrics;
 
@@ -48,9 +60,10 @@ class PersistDecisionLogUseCaseTest {
             // given
             List<DecisionLogIngestCommand> commands = List.of(createCommand());
             willDoNothing().given(persistence).saveAll(commands);
+            given(circuitBreaker.tryAcquire()).willReturn(true);
 
             // when
-            PersistResult result = useCase.execute(commands);
+            PersistResult result = useCase.execute(commands, 0);
 
             // then
             assertThat(result).isEqualTo(PersistResult.SUCCESS);
@@ -59,44 +72,67 @@ class PersistDecisionLogUseCaseTest {
         }
 
         @Test
-        @DisplayName("첫 번째 시도 실패 후 두 번째 시도 성공 시 SUCCESS 반환")
-        void givenFirstFailSecondSuccess_whenExecute_thenReturnsSuccess() {
+        @DisplayName("일시적 오류이고 시도 횟수가 남았으면 대기 없이 RETRY 반환")
+        void givenRetryableError_whenExecute_thenReturnsRetryWithoutParking() {
             // given
             List<DecisionLogIngestCommand> commands = List.of(createCommand());
-            willThrow(new RuntimeException("DB error"))
-                    .willDoNothing()
-                    .given(persistence).saveAll(commands);
+            RuntimeException dbError = new RuntimeException("Connection refused");
+            willThrow(dbError).given(persistence).saveAll(commands);
+            given(errorClassifier.isRetryable(dbError)).willReturn(true);
+            given(circuitBreaker.state()).willReturn(DatabaseCircuitBreaker.State.CLOSED);
+            given(circuitBreaker.tryAcquire()).willReturn(true);
 
             // when
-            PersistResult result = useCase.execute(commands);
+            PersistResult result = useCase.execute(commands, 0);
 
             // then
-            assertThat(result).isEqualTo(PersistResult.SUCCESS);
-            then(persistence).should(times(2)).saveAll(commands);
+            assertThat(result).isEqualTo(PersistResult.RETRY);
+            then(persistence).should(times(1)).saveAll(commands);
             then(errorHandler).shouldHaveNoInteractions();
+            then(metrics).should().recordDbSaveRetry();
         }
 
         @Test
-        @DisplayName("모든 재시도 실패 후 ErrorHandler가 정상 처리하면 PARKED 반환")
-        void givenAllRetriesFail_whenErrorHandlerSucceeds_thenReturnsParked() {
+        @DisplayName("마지막 시도도 실패하고 ErrorHandler가 정상 처리하면 PARKED 반환")
+        void givenLastAttemptFails_whenErrorHandlerSucceeds_thenReturnsParked() {
             // given
             List<DecisionLogIngestCommand> commands = List.of(createCommand());
-            RuntimeException dbError = new RuntimeException("DB error");
+            RuntimeException dbError = new RuntimeException("Connection refused");
             willThrow(dbError).given(persistence).saveAll(commands);
+            given(errorClassifier.isRetryable(dbError)).willReturn(true);
             willDoNothing().given(errorHandler).handle(eq(commands), any(Throwable.class));
+            given(circuitBreaker.tryAcquire()).willReturn(true);
 
             // when
-            PersistResult result = useCase.execute(commands);
+            PersistResult result = useCase.execute(commands, 2);
 
             // then
             assertThat(result).isEqualTo(PersistResult.PARKED);
-            then(persistence).should(times(2)).saveAll(commands);
-            then(errorHandler).should().handle(eq(commands), any(Throwable.class));
+            then(errorHandler).should().handle(commands, dbError);
         }
 
         @Test
-        @DisplayName("모든 재시도 실패 후 ErrorHandler도 실패하면 FAILED 반환")
-        void givenAllRetriesFail_whenErrorHandlerFails_thenReturnsFailed() {
+        @DisplayName("데이터 오류면 재시도 없이 바로 ErrorHandler로 위임")
+        void givenNonRetryableError_whenExecute_thenDelegatesImmediately() {
+            // given
+            List<DecisionLogIngestCommand> commands = List.of(createCommand());
+            RuntimeException dataError = new RuntimeException("value too long");
+            willThrow(dataError).given(persistence).saveAll(commands);
+            given(errorClassifier.isRetryable(dataError)).willReturn(false);
+            given(circuitBreaker.tryAcquire()).willReturn(true);
+
+            // when
+            PersistResult result = useCase.execute(commands, 0);
+
+            // then
+            assertThat(result).isEqualTo(PersistResult.PARKED);
+            then(errorHandler).should().handle(commands, dataError);
+            then(metrics).should(never()).recordDbSaveRetry();
+        }
+
+        @Test
+        @DisplayName("마지막 시도 실패 후 ErrorHandler도 실패하면 FAILED 반환")
+        void givenLastAttemptFails_whenErrorHandlerFails_thenReturnsFailed() {
             // given
             List<DecisionLogIngestCommand> commands = List.of(createCommand());
             RuntimeException dbError = new RuntimeException("DB error");
@@ -104,36 +140,224 @@ class PersistDecisionLogUseCaseTest {
 
             willThrow(dbError).given(persistence).saveAll(commands);
             willThrow(handlerError).given(errorHandler).handle(eq(commands), any(Throwable.class));
+            given(circuitBreaker.tryAcquire()).willReturn(true);
 
             // when
-            PersistResult result = useCase.execute(commands);
+            PersistResult result = useCase.execute(commands, 2);
 
             // then
             assertThat(result).isEqualTo(PersistResult.FAILED);
         }
 
+        @Test
+        @DisplayName("circuit이 열려 있으면 DB 시도 없이 parking으로 위임")
+        void givenCircuitOpen_whenExecute_thenParksWithoutDbAttempt() {
+            // given
+            List<DecisionLogIngestCommand> commands = List.of(createCommand());
+            given(circuitBreaker.tryAcquire()).willReturn(false);
+
+            // when
+            PersistResult result = useCase.execute(commands, 0);
+
+            // then
+            assertThat(result).isEqualTo(PersistResult.PARKED);
+            then(persistence).shouldHaveNoInteractions();
+            then(errorHandler).should().handle(eq(commands), any(CircuitOpenException.class));
+        }
+
+        @Test
+        @DisplayName("이번 실패로 circuit이 열리면 남은 시도 없이 바로 parking으로 위임")
+        void givenCircuitOpensOnFailure_whenExecute_thenSkipsRetry() {
+            // given
+            List<DecisionLogIngestCommand> commands = List.of(createCommand());
+            RuntimeException dbError = new RuntimeException("Connection refused");
+            willThrow(dbError).given(persistence).saveAll(commands);
+            given(errorClassifier.isRetryable(dbError)).willReturn(true);
+            given(circuitBreaker.state()).willReturn(DatabaseCircuitBreaker.State.OPEN);
+            given(circuitBreaker.tryAcquire()).willReturn(true);
+
+            // when
+            PersistResult result = useCase.execute(commands, 0);
+
+            // then
+            assertThat(result).isEqualTo(PersistResult.PARKED);
+            then(circuitBreaker).should().onFailure(dbError);
+            then(errorHandler).should().handle(commands, dbError);
+        }
+
+        @Test
+        @DisplayName("저장 중 Error가 나면 circuit probe를 반납하고 그대로 던짐")
+        void givenError_whenExecute_thenReleasesProbeAndRethrows() {
+            // given
+            List<DecisionLogIngestCommand> commands = List.of(createCommand());
+            StackOverflowError error = new StackOverflowError();
+            given(circuitBreaker.tryAcquire()).willReturn(true);
+            willThrow(error).given(persistence).saveAll(commands);
+
+            // when & then
+            assertThatThrownBy(() -> useCase.execute(commands, 0)).isSameAs(error);
+            then(circuitBreaker).should().release();
+            then(circuitBreaker).should(never()).onFailure(any());
+            then(errorHandler).shouldHaveNoInteractions();
+        }
+
         @Test
         @DisplayName("빈 목록이 주어지면 저장 시도")
         void givenEmptyList_whenExecute_thenStillCallsPersistence() {
             // given
             List<DecisionLogIngestCommand> commands = List.of();
             willDoNothing().given(persistence).saveAll(commands);
+            given(circuitBreaker.tryAcquire()).willReturn(true);
 
             // when
-            PersistResult result = useCase.execute(commands);
+            PersistResult result = useCase.execute(commands, 0);
 
             // then
             assertThat(result).isEqualTo(PersistResult.SUCCESS);
             then(persistence).should().saveAll(commands);
         }
 
-        private DecisionLogIngestCommand createCommand() {
-            return new DecisionLogIngestCommand(
-                    UUID.randomUUID(),
-                    OffsetDateTime.now(),
-                    "cloud_access/policy/main",
-                    null, null, null, null, null, null, null
-            );
+        @Test
+        @DisplayName("재시도 대기 시간은 시도 횟수에 따라 늘어나고 마지막 값에서 유지")
+        void givenAttempts_whenRetryBackoff_thenGrowsAndCaps() {
+            // when & then
+            assertThat(useCase.retryBackoff(0)).isEqualTo(Duration.ofSeconds(1));
+            assertThat(useCase.retryBackoff(1)).isEqualTo(Duration.ofSeconds(2));
+            assertThat(useCase.retryBackoff(5)).isEqualTo(Duration.ofSeconds(2));
         }
     }
+
+    @Nested
+    @DisplayName("executeRecovery")
+    class ExecuteRecovery {
+
+        @Test
+        @DisplayName("circuit이 probe를 허용하지 않으면 DB 시도 없이 RETRY 반환")
+        void givenCircuitRejects_whenExecuteRecovery_thenReturnsRetry() {
+            // given
+            given(circuitBreaker.tryAcquire()).willReturn(false);
+
+            // when
+            PersistResult result = useCase.executeRecovery(createCommand(), 1);
+
+            // then
+            assertThat(result).isEqualTo(PersistResult.RETRY);
+            then(persistence).shouldHaveNoInteractions();
+            then(errorHandler).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("저장 실패 시 circuit에 보고하고 recovery 오류 처리로 위임")
+        void givenSaveFails_whenExecuteRecovery_thenReportsAndParks() {
+            // given
+            DecisionLogIngestCommand command = createCommand();
+            RuntimeException dbError = new RuntimeException("Connection refused");
+            given(circuitBreaker.tryAcquire()).willReturn(true);
+            willThrow(dbError).given(persistence).save(command);
+
+            // when
+            PersistResult result = useCase.executeRecovery(command, 1);
+
+            // then
+            assertThat(result).isEqualTo(PersistResult.PARKED);
+            then(circuitBreaker).should().onFailure(dbError);
+            then(errorHandler).should().handleRecovery(command, 1, dbError);
+        }
+
+        @Test
+        @DisplayName("batch 복구는 saveAll 한 번으로 저장")
+        void givenParkedLogs_whenExecuteRecoveryBatch_thenSavesOnce() {
+            // given
+            List<ParkedDecisionLog> parked = List.of(
+                    new ParkedDecisionLog(createCommand(), 0), new ParkedDecisionLog(createCommand(), 2));
+            given(circuitBreaker.tryAcquire()).willReturn(true);
+
+            // when
+            List<PersistResult> results = useCase.executeRecoveryBatch(parked);
+
+            // then
+            assertThat(results).containsExactly(PersistResult.SUCCESS, PersistResult.SUCCESS);
+            then(persistence).should().saveAll(List.of(parked.get(0).command(), parked.get(1).command()));
+            then(persistence).should(never()).save(any());
+        }
+
+        @Test
+        @DisplayName("batch 데이터 오류면 record별 저장 없이 ErrorHandler의 격리 결과를 반환")
+        void givenDataError_whenExecuteRecoveryBatch_thenDelegatesIsolation() {
+            // given
+            List<ParkedDecisionLog> parked = List.of(
+                    new ParkedDecisionLog(createCommand(), 0), new ParkedDecisionLog(createCommand(), 1));
+            RuntimeException batchError = new RuntimeException("value too long");
+            given(circuitBreaker.tryAcquire()).willReturn(true);
+            willThrow(batchError).given(persistence).saveAll(anyList());
+            given(errorClassifier.isRetryable(batchError)).willReturn(false);
+            given(errorHandler.isolateRecovery(parked))
+                    .willReturn(List.of(PersistResult.SUCCESS, PersistResult.PARKED));
+
+            // when
+            List<PersistResult> results = useCase.executeRecoveryBatch(parked);
+
+            // then
+            assertThat(results).containsExactly(PersistResult.SUCCESS, PersistResult.PARKED);
+            then(persistence).should(never()).save(any());
+            then(circuitBreaker).should(times(1)).tryAcquire();
+        }
+
+        @Test
+        @DisplayName("batch 인프라 오류면 DB를 다시 호출하지 않고 전부 다음 attempt로 재발행")
+        void givenRetryableError_whenExecuteRecoveryBatch_thenRepublishesAll() {
+            // given
+            DecisionLogIngestCommand first = createCommand();
+            DecisionLogIngestCommand second = createCommand();
+            RuntimeException dbError = new RuntimeException("Connection refused");
+            given(circuitBreaker.tryAcquire()).willReturn(true);
+            willThrow(dbError).given(persistence).saveAll(anyList());
+            given(errorClassifier.isRetryable(dbError)).willReturn(true);
+
+            // when
+            List<PersistResult> results = useCase.executeRecoveryBatch(List.of(
+                    new ParkedDecisionLog(first, 0), new ParkedDecisionLog(second, 3)));
+
+            // then
+            assertThat(results).containsExactly(PersistResult.PARKED, PersistResult.PARKED);
+            then(persistence).should(never()).save(any());
+            then(errorHandler).should().handleRecovery(first, 0, dbError);
+            then(errorHandler).should().handleRecovery(second, 3, dbError);
+        }
+
+        @Test
+        @DisplayName("circuit이 허용하지 않으면 batch 전체 RETRY")
+        void givenCircuitRejects_whenExecuteRecoveryBatch_thenAllRetry() {
+            // given
+            given(circuitBreaker.tryAcquire()).willReturn(false);
+
+            // when
+            List<PersistResult> results = useCase.executeRecoveryBatch(List.of(
+                    new ParkedDecisionLog(createCommand(), 0), new ParkedDecisionLog(createCommand(), 0)));
+
+            // then
+            assertThat(results).containsExactly(PersistResult.RETRY, PersistResult.RETRY);
+            then(persistence).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("pause 시간은 circuit의 남은 OPEN 시간이며 최소 1초")
+        void givenRetryAfter_whenRecoveryBackoff_thenUsesAtLeastMinimum() {
+            // given
+            given(circuitBreaker.retryAfter()).willReturn(Duration.ofSeconds(12), Duration.ZERO);
+
+            // when & then
+            assertThat(useCase.recoveryBackoff()).isEqualTo(Duration.ofSeconds(12));
+            assertThat(useCase.recoveryBackoff()).isEqualTo(Duration.ofSeconds(1));
+        }
+    }
+
+    private static DecisionLogIngestCommand createCommand() {
+        return new DecisionLogIngestCommand(
+                UUID.randomUUID(),
+                OffsetDateTime.now(),
+                "cloud_access/policy/main",
+                null, null, null, null, null, null, null
+        );
+    }
 }
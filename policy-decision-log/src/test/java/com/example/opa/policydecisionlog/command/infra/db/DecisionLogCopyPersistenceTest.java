@@ -0,0 +1,77 @@
+package com.example.opa.policydecisionlog.command.infra.db;
+
+import com.example.opa.policydecisionlog.command.infra.db.DecisionLogCopyPersistence.InsertedKey;
+import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogInsertRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DecisionLogCopyPersistenceTest {
+
+    private static DecisionLogInsertRow row(UUID decisionId, OffsetDateTime ts) {
+        return new DecisionLogInsertRow(
+                decisionId, ts, "cloud_access/device_posture/response", true,
+                null, null, null, "1.0.0", "cloud_access",
+                null, null, null, List.of()
+        );
+    }
+
+    @Test
+    @DisplayName("batch 안에 같은 (decision_id, ts)가 두 번 있으면 반환된 키 하나당 한 row만 rollup 대상")
+    void givenDuplicateRowsInBatch_whenInsertedRows_thenConsumesEachKeyOnce() {
+        // given
+        UUID decisionId = UUID.randomUUID();
+        OffsetDateTime ts = OffsetDateTime.parse("2026-01-01T00:00:00Z");
+        DecisionLogInsertRow first = row(decisionId, ts);
+        DecisionLogInsertRow duplicate = row(decisionId, ts);
+
+        // when
+        List<DecisionLogInsertRow> inserted = DecisionLogCopyPersistence.insertedRows(
+                List.of(first, duplicate), Set.of(InsertedKey.of(decisionId, ts)));
+
+        // then
+        assertThat(inserted).containsExactly(first);
+    }
+
+    @Test
+    @DisplayName("decision_id가 같아도 ts가 다르면 반환된 키의 ts와 일치하는 row만 rollup 대상")
+    void givenSameDecisionIdWithDifferentTs_whenInsertedRows_thenMatchesByTs() {
+        // given
+        UUID decisionId = UUID.randomUUID();
+        OffsetDateTime existingTs = OffsetDateTime.parse("2026-01-01T00:00:00Z");
+        OffsetDateTime newTs = OffsetDateTime.parse("2026-01-01T00:00:05Z");
+        DecisionLogInsertRow existing = row(decisionId, existingTs);
+        DecisionLogInsertRow newer = row(decisionId, newTs);
+
+        // when
+        List<DecisionLogInsertRow> inserted = DecisionLogCopyPersistence.insertedRows(
+                List.of(existing, newer), Set.of(InsertedKey.of(decisionId, newTs)));
+
+        // then
+        assertThat(inserted).containsExactly(newer);
+    }
+
+    @Test
+    @DisplayName("DB가 돌려준 ts는 offset과 microsecond 이하 정밀도가 달라도 같은 키로 본다")
+    void givenTsWithOtherOffsetAndNanos_whenInsertedRows_thenMatches() {
+        // given
+        UUID decisionId = UUID.randomUUID();
+        OffsetDateTime rowTs = OffsetDateTime.of(2026, 1, 1, 9, 0, 0, 123_456_789, ZoneOffset.ofHours(9));
+        OffsetDateTime returnedTs = OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 123_456_000, ZoneOffset.UTC);
+        DecisionLogInsertRow row = row(decisionId, rowTs);
+
+        // when
+        List<DecisionLogInsertRow> inserted = DecisionLogCopyPersistence.insertedRows(
+                List.of(row), Set.of(InsertedKey.of(decisionId, returnedTs)));
+
+        // then
+        assertThat(inserted).containsExactly(row);
+    }
+}
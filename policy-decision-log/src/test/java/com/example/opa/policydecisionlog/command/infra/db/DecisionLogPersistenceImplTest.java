@@ -0,0 +1,41 @@
+package com.example.opa.policydecisionlog.command.infra.db;
+
+import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogInsertRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DecisionLogPersistenceImplTest {
+
+    private static DecisionLogInsertRow row() {
+        return new DecisionLogInsertRow(
+                UUID.randomUUID(), OffsetDateTime.parse("2026-01-01T00:00:00Z"),
+                "cloud_access/device_posture/response", true,
+                null, null, null, "1.0.0", "cloud_access",
+                null, null, null, List.of()
+        );
+    }
+
+    @Test
+    @DisplayName("update count가 양수인 row만 rollup 대상이고 0(중복)과 SUCCESS_NO_INFO는 제외")
+    void givenMixedUpdateCounts_whenInsertedRows_thenKeepsOnlyPositiveCounts() {
+        // given
+        DecisionLogInsertRow inserted = row();
+        DecisionLogInsertRow skipped = row();
+        DecisionLogInsertRow unknown = row();
+        int[] updateCounts = {1, 0, Statement.SUCCESS_NO_INFO};
+
+        // when
+        List<DecisionLogInsertRow> result = DecisionLogPersistenceImpl.insertedRows(
+                List.of(inserted, skipped, unknown), updateCounts);
+
+        // then
+        assertThat(result).containsExactly(inserted);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.opa.policydecisionlog.command.infra.db;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PgBinaryCopyWriterTest {
+
+    @Test
+    @DisplayName("header, row, trailer를 COPY binary 형식으로 기록")
+    void givenRow_whenWrite_thenProducesBinaryCopyFormat() throws IOException {
+        // given
+        UUID decisionId = UUID.randomUUID();
+        OffsetDateTime ts = OffsetDateTime.of(2000, 1, 1, 0, 0, 1, 0, ZoneOffset.UTC);
+        byte[] json = "{\"allow\":true}".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (PgBinaryCopyWriter writer = new PgBinaryCopyWriter(out)) {
+            writer.startRow(6);
+            writer.writeUuid(decisionId);
+            writer.writeTimestamptz(ts);
+            writer.writeText("cloud_access");
+            writer.writeBoolean(true);
+            writer.writeInt8(null);
+            writer.writeJsonb(json);
+        }
+
+        // then
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        byte[] signature = new byte[11];
+        in.readFully(signature);
+        assertThat(new String(signature, 0, 6, StandardCharsets.US_ASCII)).isEqualTo("PGCOPY");
+        assertThat(in.readInt()).isZero();
+        assertThat(in.readInt()).isZero();
+
+        assertThat(in.readShort()).isEqualTo((short) 6);
+        assertThat(in.readInt()).isEqualTo(16);
+        assertThat(new UUID(in.readLong(), in.readLong())).isEqualTo(decisionId);
+        assertThat(in.readInt()).isEqualTo(8);
+        assertThat(in.readLong()).isEqualTo(1_000_000L);
+        assertThat(in.readInt()).isEqualTo(12);
+        assertThat(new String(in.readNBytes(12), StandardCharsets.UTF_8)).isEqualTo("cloud_access");
+        assertThat(in.readInt()).isEqualTo(1);
+        assertThat(in.readByte()).isEqualTo((byte) 1);
+        assertThat(in.readInt()).isEqualTo(-1);
+        assertThat(in.readInt()).isEqualTo(json.length + 1);
+        assertThat(in.readByte()).isEqualTo((byte) 1);
+        assertThat(in.readNBytes(json.length)).isEqualTo(json);
+
+        assertThat(in.readShort()).isEqualTo((short) -1);
+        assertThat(in.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("2000-01-01 이전 timestamp는 음수 microseconds로 기록")
+    void givenTimestampBeforePgEpoch_whenWrite_thenWritesNegativeMicros() throws IOException {
+        // given
+        OffsetDateTime ts = OffsetDateTime.of(1999, 12, 31, 23, 59, 59, 0, ZoneOffset.UTC);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (PgBinaryCopyWriter writer = new PgBinaryCopyWriter(out)) {
+            writer.startRow(1);
+            writer.writeTimestamptz(ts);
+        }
+
+        // then
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        in.skipNBytes(19 + 2 + 4);
+        assertThat(in.readLong()).isEqualTo(-1_000_000L);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.opa.policydecisionlog.command.infra.db;
+
+import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
+import com.example.opa.policydecisionlog.command.app.dto.IsolatedSaveResult;
+import com.example.opa.policydecisionlog.command.infra.db.mapper.CommandToEntityMapper;
+import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogInsertRow;
+import com.example.opa.policydecisionlog.command.infra.db.rollup.DecisionRollupWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SavepointIsolatedWriterTest {
+
+    @InjectMocks
+    private SavepointIsolatedWriter writer;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CommandToEntityMapper mapper;
+
+    @Mock
+    private DecisionRollupWriter rollupWriter;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TransactionStatus status;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(status);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("데이터 오류 row만 savepoint로 되돌리고 나머지는 같은 트랜잭션에서 저장")
+    void givenPoisonRow_whenSave_thenRollsBackOnlyThatRow() {
+        // given
+        DecisionLogIngestCommand good = createCommand();
+        DecisionLogIngestCommand poison = createCommand();
+        DecisionLogInsertRow goodRow = createRow(good.decisionId());
+        DecisionLogInsertRow poisonRow = createRow(poison.decisionId());
+        Object goodSavepoint = new Object();
+        Object poisonSavepoint = new Object();
+
+        given(mapper.toInsertRow(good)).willReturn(goodRow);
+        given(mapper.toInsertRow(poison)).willReturn(poisonRow);
+        given(status.createSavepoint()).willReturn(goodSavepoint, poisonSavepoint);
+        given(jdbcTemplate.update(anyString(), any(SqlParameterSource.class)))
+                .willReturn(1)
+                .willThrow(new DataIntegrityViolationException("value too long"));
+        given(rollupWriter.merge(List.of(goodRow))).willReturn(1);
+
+        // when
+        IsolatedSaveResult result = writer.save(List.of(good, poison));
+
+        // then
+        assertThat(result.failed()).containsExactly(poison);
+        // row마다 SAVEPOINT, INSERT, RELEASE/ROLLBACK TO (6) + rollup merge (1) + COMMIT (1)
+        assertThat(result.dbCalls()).isEqualTo(8);
+        then(status).should().releaseSavepoint(goodSavepoint);
+        then(status).should().rollbackToSavepoint(poisonSavepoint);
+        then(rollupWriter).should().merge(List.of(goodRow));
+    }
+
+    @Test
+    @DisplayName("매핑에 실패한 row는 DB를 호출하지 않으므로 DB 호출 수에 포함하지 않음")
+    void givenUnmappableRow_whenSave_thenCountsOnlyExecutedCalls() {
+        // given
+        DecisionLogIngestCommand unmappable = createCommand();
+        given(mapper.toInsertRow(unmappable)).willThrow(new IllegalArgumentException("invalid raw"));
+
+        // when
+        IsolatedSaveResult result = writer.save(List.of(unmappable));
+
+        // then
+        assertThat(result.failed()).containsExactly(unmappable);
+        // rollup 대상이 없어 merge는 statement를 실행하지 않고 COMMIT만 남음
+        assertThat(result.dbCalls()).isEqualTo(1);
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("데이터 오류가 아니면 트랜잭션 전체를 실패시킴")
+    void givenInfraError_whenSave_thenPropagates() {
+        // given
+        DecisionLogIngestCommand command = createCommand();
+        given(mapper.toInsertRow(command)).willReturn(createRow(command.decisionId()));
+        given(jdbcTemplate.update(anyString(), any(SqlParameterSource.class)))
+                .willThrow(new DataAccessResourceFailureException("connection reset"));
+
+        // when & then
+        assertThatThrownBy(() -> writer.save(List.of(command)))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        then(rollupWriter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("빈 목록이면 트랜잭션을 열지 않음")
+    void givenEmptyList_whenSave_thenNoTransaction() {
+        // when
+        IsolatedSaveResult result = writer.save(List.of());
+
+        // then
+        assertThat(result.failed()).isEmpty();
+        assertThat(result.dbCalls()).isZero();
+        then(transactionTemplate).shouldHaveNoInteractions();
+    }
+
+    private static DecisionLogIngestCommand createCommand() {
+        return new DecisionLogIngestCommand(
+                UUID.randomUUID(),
+                OffsetDateTime.now(),
+                "cloud_access/policy/main",
+                null, null, null, null, null, null, null
+        );
+    }
+
+    private static DecisionLogInsertRow createRow(UUID decisionId) {
+        return new DecisionLogInsertRow(decisionId, OffsetDateTime.now(), "cloud_access/policy/main", true,
+                null, null, null, null, "cloud_access", null, null, null, List.of());
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.opa.policydecisionlog.command.infra.db.partition;
+
+import com.example.opa.policydecisionlog.shared.config.PartitionProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DecisionLogPartitionManagerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private DecisionLogPartitionManager createManager(boolean dropExpired) {
+        return new DecisionLogPartitionManager(jdbcTemplate, new PartitionProperties(true, 2, 30, dropExpired, null));
+    }
+
+    @Nested
+    @DisplayName("maintain")
+    class Maintain {
+
+        @Test
+        @DisplayName("오늘부터 premakeDays 일 뒤까지 partition 생성")
+        void givenPremakeDays_whenMaintain_thenCreatesFuturePartitions() {
+            // given
+            DecisionLogPartitionManager manager = createManager(true);
+            given(jdbcTemplate.queryForList(anyString(), eq(String.class), any())).willReturn(List.of());
+
+            // when
+            manager.maintain(TODAY);
+
+            // then
+            then(jdbcTemplate).should().execute(contains("decision_logs_p20260310 PARTITION OF decision_logs"));
+            then(jdbcTemplate).should().execute(contains("decision_logs_p20260311 PARTITION OF decision_logs"));
+            then(jdbcTemplate).should().execute(contains("decision_logs_p20260312 PARTITION OF decision_logs"));
+            then(jdbcTemplate).should(never()).execute(contains("decision_logs_p20260313"));
+        }
+
+        @Test
+        @DisplayName("보관 기간이 지난 partition만 detach 후 drop")
+        void givenExpiredPartition_whenMaintain_thenDetachesAndDrops() {
+            // given
+            DecisionLogPartitionManager manager = createManager(true);
+            given(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                    .willReturn(List.of("decision_logs_p20260207", "decision_logs_p20260208", "decision_logs_default"));
+
+            // when
+            manager.maintain(TODAY);
+
+            // then
+            then(jdbcTemplate).should().execute("ALTER TABLE decision_logs DETACH PARTITION decision_logs_p20260207");
+            then(jdbcTemplate).should().execute("DROP TABLE IF EXISTS decision_logs_p20260207");
+            then(jdbcTemplate).should(never()).execute(contains("DETACH PARTITION decision_logs_p20260208"));
+            then(jdbcTemplate).should(never()).execute(contains("DETACH PARTITION decision_logs_default"));
+        }
+
+        @Test
+        @DisplayName("dropExpired가 false면 detach만 수행")
+        void givenDropDisabled_whenMaintain_thenOnlyDetaches() {
+            // given
+            DecisionLogPartitionManager manager = createManager(false);
+            given(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                    .willReturn(List.of("decision_logs_p20260101"));
+
+            // when
+            manager.maintain(TODAY);
+
+            // then
+            then(jdbcTemplate).should().execute("ALTER TABLE decision_logs DETACH PARTITION decision_logs_p20260101");
+            then(jdbcTemplate).should(never()).execute(startsWith("DROP TABLE"));
+        }
+    }
+
+    @Nested
+    @DisplayName("DecisionLogPartition")
+    class Partition {
+
+        @Test
+        @DisplayName("partition 이름에서 날짜를 복원")
+        void givenPartitionName_whenFromName_thenParsesDay() {
+            // when
+            Optional<DecisionLogPartition> partition = DecisionLogPartition.fromName("decision_logs_p20260310");
+
+            // then
+            assertThat(partition).map(DecisionLogPartition::day).contains(TODAY);
+            assertThat(DecisionLogPartition.fromName("decision_logs_default")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("UTC 하루 범위로 partition 생성 SQL 작성")
+        void givenDay_whenCreateSql_thenUsesUtcDayRange() {
+            // when
+            String sql = new DecisionLogPartition(TODAY).createSql();
+
+            // then
+            assertThat(sql).isEqualTo("CREATE TABLE IF NOT EXISTS decision_logs_p20260310 PARTITION OF decision_logs "
+                    + "FOR VALUES FROM ('2026-03-10 00:00:00+00') TO ('2026-03-11 00:00:00+00')");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.opa.policydecisionlog.command.infra.db.rollup;
+
+import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogInsertRow;
+import com.example.opa.policydecisionlog.command.infra.db.rollup.DecisionRollupBatch.DecisionKey;
+import com.example.opa.policydecisionlog.command.infra.db.rollup.DecisionRollupBatch.PolicyCount;
+import com.example.opa.policydecisionlog.command.infra.db.rollup.DecisionRollupBatch.PolicyKey;
+import com.example.opa.policydecisionlog.shared.extractor.Decision.PolicyResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class DecisionRollupBatchTest {
+
+    private static final OffsetDateTime BUCKET = OffsetDateTime.parse("2025-01-01T09:30:00Z");
+
+    private static DecisionLogInsertRow row(OffsetDateTime ts, boolean allow, String opaVersion,
+                                            List<PolicyResult> policies) {
+        return new DecisionLogInsertRow(
+                UUID.randomUUID(), ts, "cloud_access/device_posture/response", allow,
+                null, null, null, opaVersion, "cloud_access",
+                null, null, null, policies
+        );
+    }
+
+    @Test
+    @DisplayName("같은 분 bucket과 차원 키의 row는 하나로 합산된다")
+    void givenRowsInSameMinute_whenFrom_thenMergesByKey() {
+        // given
+        List<DecisionLogInsertRow> rows = List.of(
+                row(BUCKET.plusSeconds(1), false, "1.0.0", List.of()),
+                row(BUCKET.plusSeconds(59), false, "1.0.0", List.of()),
+                row(BUCKET.plusSeconds(30), true, "1.0.0", List.of()),
+                row(BUCKET.plusMinutes(1), false, "1.0.0", List.of())
+        );
+
+        // when
+        DecisionRollupBatch batch = DecisionRollupBatch.from(rows);
+
+        // then
+        String path = "cloud_access/device_posture/response";
+        assertThat(batch.decisions()).containsExactly(
+                entry(new DecisionKey(BUCKET, "cloud_access", path, false, "1.0.0"), 2L),
+                entry(new DecisionKey(BUCKET, "cloud_access", path, true, "1.0.0"), 1L),
+                entry(new DecisionKey(BUCKET.plusMinutes(1), "cloud_access", path, false, "1.0.0"), 1L)
+        );
+    }
+
+    @Test
+    @DisplayName("정책별 평가 수와 위반 수를 합산하고 이름 없는 정책은 제외한다")
+    void givenPolicies_whenFrom_thenSumsEvaluationsAndViolations() {
+        // given
+        List<DecisionLogInsertRow> rows = List.of(
+                row(BUCKET, false, "1.0.0", List.of(
+                        new PolicyResult("vaccine_policy", false, 2),
+                        new PolicyResult(null, false, 1))),
+                row(BUCKET.plusSeconds(10), false, null, List.of(
+                        new PolicyResult("vaccine_policy", false, 1)))
+        );
+
+        // when
+        DecisionRollupBatch batch = DecisionRollupBatch.from(rows);
+
+        // then
+        assertThat(batch.policies()).containsExactly(
+                entry(new PolicyKey(BUCKET, "cloud_access", "vaccine_policy", false), new PolicyCount(2, 3))
+        );
+    }
+
+    @Test
+    @DisplayName("bucket은 UTC 기준 분 단위로 절삭된다")
+    void givenOffsetTimestamp_whenBucketOf_thenTruncatesToUtcMinute() {
+        // given
+        OffsetDateTime ts = OffsetDateTime.parse("2025-01-01T18:30:45.123+09:00");
+
+        // when & then
+        assertThat(DecisionRollupBatch.bucketOf(ts)).isEqualTo(BUCKET);
+    }
+
+    @Test
+    @DisplayName("적재된 row가 없으면 빈 batch를 반환한다")
+    void givenNoRows_whenFrom_thenReturnsEmptyBatch() {
+        // when
+        DecisionRollupBatch batch = DecisionRollupBatch.from(List.of());
+
+        // then
+        assertThat(batch.isEmpty()).isTrue();
+        assertThat(batch.policies()).isEmpty();
+    }
+}
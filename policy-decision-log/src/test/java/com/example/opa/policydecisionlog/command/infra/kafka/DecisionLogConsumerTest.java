@@ -1,27 +1,35 @@
 package com.example.opa.policydecisionlog.command.infra.kafka;
 
 import com.example.opa.policydecisionlog.command.app.usecase.PersistDecisionLogUseCase;
+import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
 import com.example.opa.policydecisionlog.command.app.dto.PersistResult;
 import com.example.opa.policydecisionlog.command.infra.kafka.exception.KafkaInfraException;
 import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,15 +60,15 @@ class DecisionLogConsumerTest {
         @DisplayName("정상 파싱 및 저장 시 ack 호출")
         void givenValidRecords_whenConsume_thenAcknowledges() {
             // given
-            List<ConsumerRecord<String, String>> records = createConsumerRecords();
+            List<ConsumerRecord<String, byte[]>> records = createConsumerRecords();
 
-            given(persistDecisionLogUseCase.execute(anyList())).willReturn(PersistResult.SUCCESS);
+            given(persistDecisionLogUseCase.execute(anyList(), anyInt())).willReturn(PersistResult.SUCCESS);
 
             // when
             consumer.consume(records, acknowledgment);
 
             // then
-            then(persistDecisionLogUseCase).should().execute(anyList());
+            then(persistDecisionLogUseCase).should().execute(anyList(), anyInt());
             then(acknowledgment).should().acknowledge();
         }
 
@@ -68,7 +76,7 @@ class DecisionLogConsumerTest {
         @DisplayName("빈 레코드 목록이면 persist 호출 없이 ack")
         void givenEmptyRecords_whenConsume_thenAcknowledgesWithoutPersist() {
             // given
-            List<ConsumerRecord<String, String>> records = List.of();
+            List<ConsumerRecord<String, byte[]>> records = List.of();
 
             // when
             consumer.consume(records, acknowledgment);
@@ -78,13 +86,42 @@ class DecisionLogConsumerTest {
             then(acknowledgment).should().acknowledge();
         }
 
+        @Test
+        @DisplayName("byte[] 값을 한 번 파싱한 tree로 command 생성 (raw와 하위 노드 공유)")
+        @SuppressWarnings("unchecked")
+        void givenByteRecord_whenConsume_thenBuildsCommandFromSingleTree() {
+            // given
+            UUID decisionId = UUID.randomUUID();
+            String json = """
+                    {"decision_id": "%s", "timestamp": "2026-01-05T10:00:00Z", "path": "cloud_access/policy/main",
+                     "req_id": 7, "labels": {"version": "1.0.0"}, "result": {"allow": true}}
+                    """.formatted(decisionId);
+            ConsumerRecord<String, byte[]> consumerRecord = new ConsumerRecord<>("decision-logs", 0, 0L,
+                    decisionId.toString(), json.getBytes(StandardCharsets.UTF_8));
+            ArgumentCaptor<List<DecisionLogIngestCommand>> captor = ArgumentCaptor.forClass(List.class);
+
+            given(persistDecisionLogUseCase.execute(anyList(), anyInt())).willReturn(PersistResult.SUCCESS);
+
+            // when
+            consumer.consume(List.of(consumerRecord), acknowledgment);
+
+            // then
+            then(persistDecisionLogUseCase).should().execute(captor.capture(), eq(0));
+            DecisionLogIngestCommand command = captor.getValue().getFirst();
+            assertThat(command.decisionId()).isEqualTo(decisionId);
+            assertThat(command.reqId()).isEqualTo(7L);
+            assertThat(command.opaVersion()).isEqualTo("1.0.0");
+            assertThat(command.result()).isSameAs(command.raw().get("result"));
+        }
+
         @Test
         @DisplayName("파싱 실패 시 BatchListenerFailedException 발생")
         void givenInvalidJson_whenConsume_thenThrowsBatchListenerFailedException() {
             // given
             String invalidJson = "{ invalid json }";
-            ConsumerRecord<String, String> consumerRecord = new ConsumerRecord<>("decision-logs", 0, 123L, "key", invalidJson);
-            List<ConsumerRecord<String, String>> records = List.of(consumerRecord);
+            ConsumerRecord<String, byte[]> consumerRecord = new ConsumerRecord<>("decision-logs", 0, 123L, "key",
+                    invalidJson.getBytes(StandardCharsets.UTF_8));
+            List<ConsumerRecord<String, byte[]>> records = List.of(consumerRecord);
 
             // when & then
             assertThatThrownBy(() -> consumer.consume(records, acknowledgment))
@@ -98,9 +135,9 @@ class DecisionLogConsumerTest {
         @DisplayName("persist FAILED 반환 시 KafkaInfraException 발생")
         void givenPersistFails_whenConsume_thenThrowsKafkaInfraException() {
             // given
-            List<ConsumerRecord<String, String>> records = createConsumerRecords();
+            List<ConsumerRecord<String, byte[]>> records = createConsumerRecords();
 
-            given(persistDecisionLogUseCase.execute(anyList())).willReturn(PersistResult.FAILED);
+            given(persistDecisionLogUseCase.execute(anyList(), anyInt())).willReturn(PersistResult.FAILED);
 
             // when & then
             assertThatThrownBy(() -> consumer.consume(records, acknowledgment))
@@ -110,13 +147,76 @@ class DecisionLogConsumerTest {
             then(acknowledgment).shouldHaveNoInteractions();
         }
 
+        @Test
+        @DisplayName("persist RETRY 반환 시 ack 없이 backoff만큼 nack하고, 재전달되면 다음 attempt로 호출")
+        void givenPersistRetry_whenConsume_thenNacksAndRetriesWithNextAttempt() {
+            // given
+            List<ConsumerRecord<String, byte[]>> records = createConsumerRecords();
+            Duration backoff = Duration.ofSeconds(1);
+
+            given(persistDecisionLogUseCase.execute(anyList(), eq(0))).willReturn(PersistResult.RETRY);
+            given(persistDecisionLogUseCase.retryBackoff(0)).willReturn(backoff);
+            given(persistDecisionLogUseCase.execute(anyList(), eq(1))).willReturn(PersistResult.SUCCESS);
+
+            // when
+            consumer.consume(records, acknowledgment);
+            consumer.consume(records, acknowledgment);
+
+            // then
+            then(acknowledgment).should().nack(0, backoff);
+            then(persistDecisionLogUseCase).should().execute(anyList(), eq(1));
+            then(acknowledgment).should(times(1)).acknowledge();
+        }
+
+        @Test
+        @DisplayName("재전달된 batch의 partition 순서가 바뀌어도 같은 batch로 보고 attempt를 이어감")
+        void givenReorderedRedelivery_whenConsume_thenContinuesAttemptCount() {
+            // given
+            ConsumerRecord<String, byte[]> partition0 = createConsumerRecord(0, 10L);
+            ConsumerRecord<String, byte[]> partition1 = createConsumerRecord(1, 20L);
+            Duration backoff = Duration.ofSeconds(1);
+
+            given(persistDecisionLogUseCase.execute(anyList(), eq(0))).willReturn(PersistResult.RETRY);
+            given(persistDecisionLogUseCase.retryBackoff(0)).willReturn(backoff);
+            given(persistDecisionLogUseCase.execute(anyList(), eq(1))).willReturn(PersistResult.SUCCESS);
+
+            // when
+            consumer.consume(List.of(partition0, partition1), acknowledgment);
+            consumer.consume(List.of(partition1, partition0), acknowledgment);
+
+            // then
+            then(persistDecisionLogUseCase).should().execute(anyList(), eq(1));
+            then(acknowledgment).should().acknowledge();
+        }
+
+        @Test
+        @DisplayName("재시도 대기 중인 partition이 revoke 되면 시도 횟수를 버리고 처음부터 시도")
+        void givenRevokedPartition_whenConsumeAgain_thenStartsFromFirstAttempt() {
+            // given
+            ConsumerRecord<String, byte[]> consumerRecord = createConsumerRecord(0, 10L);
+            Duration backoff = Duration.ofSeconds(1);
+
+            given(persistDecisionLogUseCase.execute(anyList(), eq(0)))
+                    .willReturn(PersistResult.RETRY, PersistResult.SUCCESS);
+            given(persistDecisionLogUseCase.retryBackoff(0)).willReturn(backoff);
+
+            // when
+            consumer.consume(List.of(consumerRecord), acknowledgment);
+            consumer.onPartitionsRevokedBeforeCommit(null, List.of(new TopicPartition("decision-logs", 0)));
+            consumer.consume(List.of(consumerRecord), acknowledgment);
+
+            // then
+            then(persistDecisionLogUseCase).should(times(2)).execute(anyList(), eq(0));
+            then(persistDecisionLogUseCase).should(never()).execute(anyList(), eq(1));
+        }
+
         @Test
         @DisplayName("persist PARKED 반환 시 정상 ack")
         void givenPersistParked_whenConsume_thenAcknowledges() {
             // given
-            List<ConsumerRecord<String, String>> records = createConsumerRecords();
+            List<ConsumerRecord<String, byte[]>> records = createConsumerRecords();
 
-            given(persistDecisionLogUseCase.execute(anyList())).willReturn(PersistResult.PARKED);
+            given(persistDecisionLogUseCase.execute(anyList(), anyInt())).willReturn(PersistResult.PARKED);
 
             // when
             consumer.consume(records, acknowledgment);
@@ -126,7 +226,16 @@ class DecisionLogConsumerTest {
         }
     }
 
-    private static List<ConsumerRecord<String, String>> createConsumerRecords() {
+    private static ConsumerRecord<String, byte[]> createConsumerRecord(int partition, long offset) {
+        UUID decisionId = UUID.randomUUID();
+        String json = """
+                    {"decision_id": "%s", "timestamp": "2026-01-05T10:00:00Z", "path": "cloud_access/policy/main"}
+                    """.formatted(decisionId);
+        return new ConsumerRecord<>("decision-logs", partition, offset, decisionId.toString(),
+                json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<ConsumerRecord<String, byte[]>> createConsumerRecords() {
         UUID decisionId1 = UUID.randomUUID();
         UUID decisionId2 = UUID.randomUUID();
         String json1 = """
@@ -136,8 +245,10 @@ class DecisionLogConsumerTest {
                     {"decision_id": "%s", "timestamp": "2026-01-05T10:01:00Z", "path": "cloud_access/policy/main"}
                     """.formatted(decisionId2);
 
-        ConsumerRecord<String, String> record1 = new ConsumerRecord<>("decision-logs", 0, 0L, decisionId1.toString(), json1);
-        ConsumerRecord<String, String> record2 = new ConsumerRecord<>("decision-logs", 0, 1L, decisionId2.toString(), json2);
+        ConsumerRecord<String, byte[]> record1 = new ConsumerRecord<>("decision-logs", 0, 0L, decisionId1.toString(),
+                json1.getBytes(StandardCharsets.UTF_8));
+        ConsumerRecord<String, byte[]> record2 = new ConsumerRecord<>("decision-logs", 0, 1L, decisionId2.toString(),
+                json2.getBytes(StandardCharsets.UTF_8));
         return List.of(record1, record2);
     }
 }
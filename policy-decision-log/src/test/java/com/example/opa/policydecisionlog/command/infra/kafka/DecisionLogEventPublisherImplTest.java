@@ -1,9 +1,12 @@
 package com.example.opa.policydecisionlog.command.infra.kafka;
 
+import com.example.opa.policydecisionlog.command.app.dto.RawDecisionLog;
 import com.example.opa.policydecisionlog.command.infra.kafka.exception.DecisionLogPublishException;
+import com.example.opa.policydecisionlog.command.infra.spool.DecisionLogSpool;
+import com.example.opa.policydecisionlog.command.infra.spool.SpoolUnavailableException;
 import com.example.opa.policydecisionlog.shared.config.KafkaCustomProperties;
 import com.example.opa.policydecisionlog.shared.config.KafkaCustomProperties.ProducerSettings;
-import com.example.opa.policydecisionlog.shared.exception.MissingDecisionIdException;
+import com.example.opa.policydecisionlog.shared.config.SpoolProperties;
 import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,14 +18,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
-import tools.jackson.databind.json.JsonMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
@@ -34,28 +38,36 @@ class DecisionLogEventPublisherImplTest {
     private DecisionLogEventPublisherImpl publisher;
 
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
 
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
-    private SendResult<String, String> sendResult;
+    private SendResult<String, byte[]> sendResult;
+
+    @Mock
+    private DecisionLogSpool spool;
 
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private DecisionLogMetrics metrics;
 
     private static final String TOPIC = "decision-logs";
+    private static final long DIVERT_WINDOW_MS = 5000;
+
+    private final AtomicLong nanoTime = new AtomicLong();
 
     @BeforeEach
     void setUp() {
-        JsonMapper jsonMapper = JsonMapper.builder().build();
         ProducerSettings producerSettings = new ProducerSettings(3, 30000, 10000, 5000);
         KafkaCustomProperties.ParkingRecoverySettings parkingRecovery =
-                new KafkaCustomProperties.ParkingRecoverySettings(5, 60000, 2.0, 3600000);
+                new KafkaCustomProperties.ParkingRecoverySettings(5, 60000, 2.0, 3600000, null);
         KafkaCustomProperties properties = new KafkaCustomProperties(
                 TOPIC, "decision-logs-dlq", "decision-logs-parking", "decision-logs-parking-dlq",
                 producerSettings, producerSettings, producerSettings, parkingRecovery,
                 new KafkaCustomProperties.ConsumerBackoff(1000, 2.0, 10000, 30000)
         );
-        publisher = new DecisionLogEventPublisherImpl(kafkaTemplate, jsonMapper, properties, metrics);
+        SpoolProperties spoolProperties = new SpoolProperties(
+                true, "./data/spool", 4096, 4, 1, 200, 5000, 1000, 0, DIVERT_WINDOW_MS);
+        publisher = new DecisionLogEventPublisherImpl(
+                kafkaTemplate, properties, spoolProperties, spool, metrics, nanoTime::get);
     }
 
     @Nested
@@ -67,17 +79,17 @@ class DecisionLogEventPublisherImplTest {
         void givenValidRequests_whenPublish_thenSendsToKafka() {
             // given
             UUID decisionId = UUID.randomUUID();
-            Map<String, Object> request = createRequest(decisionId);
-            List<Map<String, Object>> requests = List.of(request);
+            RawDecisionLog request = createRequest(decisionId);
+            List<RawDecisionLog> requests = List.of(request);
 
-            given(kafkaTemplate.send(eq(TOPIC), eq(decisionId.toString()), anyString()))
+            given(kafkaTemplate.send(eq(TOPIC), eq(decisionId.toString()), any(byte[].class)))
                     .willReturn(CompletableFuture.completedFuture(sendResult));
 
             // when
             publisher.publish(requests);
 
             // then
-            then(kafkaTemplate).should().send(eq(TOPIC), eq(decisionId.toString()), anyString());
+            then(kafkaTemplate).should().send(eq(TOPIC), eq(decisionId.toString()), any(byte[].class));
         }
 
         @Test
@@ -86,36 +98,37 @@ class DecisionLogEventPublisherImplTest {
             // given
             UUID decisionId1 = UUID.randomUUID();
             UUID decisionId2 = UUID.randomUUID();
-            List<Map<String, Object>> requests = List.of(
+            List<RawDecisionLog> requests = List.of(
                     createRequest(decisionId1),
                     createRequest(decisionId2)
             );
 
-            given(kafkaTemplate.send(eq(TOPIC), anyString(), anyString()))
+            given(kafkaTemplate.send(eq(TOPIC), anyString(), any(byte[].class)))
                     .willReturn(CompletableFuture.completedFuture(sendResult));
 
             // when
             publisher.publish(requests);
 
             // then
-            then(kafkaTemplate).should(times(2)).send(eq(TOPIC), anyString(), anyString());
+            then(kafkaTemplate).should(times(2)).send(eq(TOPIC), anyString(), any(byte[].class));
         }
 
         @Test
-        @DisplayName("decision_id가 없으면 MissingDecisionIdException 발생")
-        void givenMissingDecisionId_whenPublish_thenThrowsMissingDecisionIdException() {
+        @DisplayName("잘라낸 payload를 복사 없이 그대로 전송")
+        void givenRawDecisionLog_whenPublish_thenSendsPayloadWithoutCopy() {
             // given
-            Map<String, Object> request = Map.of(
-                    "path", "cloud_access/policy/main",
-                    "timestamp", "2025-01-05T10:00:00Z"
-            );
-            List<Map<String, Object>> requests = List.of(request);
+            UUID decisionId = UUID.randomUUID();
+            byte[] payload = ("{\"decision_id\":\"" + decisionId + "\"}").getBytes(StandardCharsets.UTF_8);
+            RawDecisionLog request = new RawDecisionLog(decisionId.toString(), payload);
 
-            // when & then
-            assertThatThrownBy(() -> publisher.publish(requests))
-                    .isInstanceOf(MissingDecisionIdException.class);
+            given(kafkaTemplate.send(eq(TOPIC), eq(decisionId.toString()), any(byte[].class)))
+                    .willReturn(CompletableFuture.completedFuture(sendResult));
 
-            then(kafkaTemplate).shouldHaveNoInteractions();
+            // when
+            publisher.publish(List.of(request));
+
+            // then
+            then(kafkaTemplate).should().send(eq(TOPIC), eq(decisionId.toString()), same(payload));
         }
 
         @Test
@@ -123,12 +136,12 @@ class DecisionLogEventPublisherImplTest {
         void givenKafkaFailure_whenPublish_thenThrowsDecisionLogPublishException() {
             // given
             UUID decisionId = UUID.randomUUID();
-            Map<String, Object> request = createRequest(decisionId);
-            List<Map<String, Object>> requests = List.of(request);
+            RawDecisionLog request = createRequest(decisionId);
+            List<RawDecisionLog> requests = List.of(request);
 
-            CompletableFuture<SendResult<String, String>> failedFuture = new CompletableFuture<>();
+            CompletableFuture<SendResult<String, byte[]>> failedFuture = new CompletableFuture<>();
             failedFuture.completeExceptionally(new ExecutionException(new RuntimeException("Kafka error")));
-            given(kafkaTemplate.send(eq(TOPIC), anyString(), anyString()))
+            given(kafkaTemplate.send(eq(TOPIC), anyString(), any(byte[].class)))
                     .willReturn(failedFuture);
 
             // when & then
@@ -141,12 +154,12 @@ class DecisionLogEventPublisherImplTest {
         void givenTimeout_whenPublish_thenThrowsDecisionLogPublishException() {
             // given
             UUID decisionId = UUID.randomUUID();
-            Map<String, Object> request = createRequest(decisionId);
-            List<Map<String, Object>> requests = List.of(request);
+            RawDecisionLog request = createRequest(decisionId);
+            List<RawDecisionLog> requests = List.of(request);
 
-            CompletableFuture<SendResult<String, String>> timeoutFuture = new CompletableFuture<>();
+            CompletableFuture<SendResult<String, byte[]>> timeoutFuture = new CompletableFuture<>();
             timeoutFuture.completeExceptionally(new TimeoutException("Timeout"));
-            given(kafkaTemplate.send(eq(TOPIC), anyString(), anyString()))
+            given(kafkaTemplate.send(eq(TOPIC), anyString(), any(byte[].class)))
                     .willReturn(timeoutFuture);
 
             // when & then
@@ -154,6 +167,141 @@ class DecisionLogEventPublisherImplTest {
                     .isInstanceOf(DecisionLogPublishException.class);
         }
 
+        @Test
+        @DisplayName("일부 레코드 실패 시 전체를 먼저 전송하고 실패한 decisionId를 보고")
+        void givenPartialFailure_whenPublish_thenSendsAllAndReportsFailedIds() {
+            // given
+            UUID failedId = UUID.randomUUID();
+            UUID successId = UUID.randomUUID();
+            List<RawDecisionLog> requests = List.of(createRequest(failedId), createRequest(successId));
+
+            given(kafkaTemplate.send(eq(TOPIC), eq(failedId.toString()), any(byte[].class)))
+                    .willReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
+            given(kafkaTemplate.send(eq(TOPIC), eq(successId.toString()), any(byte[].class)))
+                    .willReturn(CompletableFuture.completedFuture(sendResult));
+
+            // when & then
+            assertThatThrownBy(() -> publisher.publish(requests))
+                    .isInstanceOf(DecisionLogPublishException.class)
+                    .hasMessageContaining("1/2")
+                    .extracting(e -> ((DecisionLogPublishException) e).getFailedDecisionIds())
+                    .isEqualTo(List.of(failedId.toString()));
+
+            then(kafkaTemplate).should(times(2)).send(eq(TOPIC), anyString(), any(byte[].class));
+            then(metrics).should().recordPublish(true);
+            then(metrics).should().recordPublish(false);
+        }
+
+        @Test
+        @DisplayName("send 호출 자체가 예외를 던져도 나머지 레코드는 전송")
+        void givenSendThrows_whenPublish_thenContinuesWithOtherRecords() {
+            // given
+            UUID throwingId = UUID.randomUUID();
+            UUID successId = UUID.randomUUID();
+            List<RawDecisionLog> requests = List.of(createRequest(throwingId), createRequest(successId));
+
+            given(kafkaTemplate.send(eq(TOPIC), eq(throwingId.toString()), any(byte[].class)))
+                    .willThrow(new RuntimeException("max.block.ms exceeded"));
+            given(kafkaTemplate.send(eq(TOPIC), eq(successId.toString()), any(byte[].class)))
+                    .willReturn(CompletableFuture.completedFuture(sendResult));
+
+            // when & then
+            assertThatThrownBy(() -> publisher.publish(requests))
+                    .isInstanceOf(DecisionLogPublishException.class);
+
+            then(kafkaTemplate).should().send(eq(TOPIC), eq(successId.toString()), any(byte[].class));
+        }
+
+        @Test
+        @DisplayName("spool이 활성화되어 있으면 전송 실패한 레코드만 spool에 기록하고 예외를 던지지 않음")
+        void givenSpoolEnabled_whenKafkaFails_thenSpoolsFailedRecords() {
+            // given
+            UUID failedId = UUID.randomUUID();
+            UUID successId = UUID.randomUUID();
+            RawDecisionLog failed = createRequest(failedId);
+            List<RawDecisionLog> requests = List.of(failed, createRequest(successId));
+
+            given(spool.isEnabled()).willReturn(true);
+            given(kafkaTemplate.send(eq(TOPIC), eq(failedId.toString()), any(byte[].class)))
+                    .willReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
+            given(kafkaTemplate.send(eq(TOPIC), eq(successId.toString()), any(byte[].class)))
+                    .willReturn(CompletableFuture.completedFuture(sendResult));
+
+            // when
+            publisher.publish(requests);
+
+            // then
+            then(spool).should().append(List.of(failed));
+            then(metrics).should().recordSpoolAppended(1);
+        }
+
+        @Test
+        @DisplayName("직전 전송이 실패했으면 divert 기간 동안 Kafka를 거치지 않고 spool에 기록")
+        void givenRecentSendFailure_whenPublish_thenAppendsToSpoolDirectly() {
+            // given
+            List<RawDecisionLog> failed = List.of(createRequest(UUID.randomUUID()));
+            List<RawDecisionLog> requests = List.of(createRequest(UUID.randomUUID()));
+
+            given(spool.isEnabled()).willReturn(true);
+            given(kafkaTemplate.send(eq(TOPIC), anyString(), any(byte[].class)))
+                    .willReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
+            publisher.publish(failed);
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(DIVERT_WINDOW_MS - 1));
+
+            // when
+            publisher.publish(requests);
+
+            // then
+            then(spool).should().append(requests);
+            then(kafkaTemplate).should(times(1)).send(eq(TOPIC), anyString(), any(byte[].class));
+        }
+
+        @Test
+        @DisplayName("Kafka가 복구되면 spool backlog가 남아 있어도 새 요청은 Kafka로 전송")
+        void givenBacklogAfterKafkaRecovered_whenPublish_thenSendsToKafka() {
+            // given
+            UUID failedId = UUID.randomUUID();
+            UUID firstId = UUID.randomUUID();
+            UUID secondId = UUID.randomUUID();
+
+            given(spool.isEnabled()).willReturn(true);
+            lenient().when(spool.hasBacklog()).thenReturn(true);
+            given(kafkaTemplate.send(eq(TOPIC), eq(failedId.toString()), any(byte[].class)))
+                    .willReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
+            given(kafkaTemplate.send(eq(TOPIC), eq(firstId.toString()), any(byte[].class)))
+                    .willReturn(CompletableFuture.completedFuture(sendResult));
+            given(kafkaTemplate.send(eq(TOPIC), eq(secondId.toString()), any(byte[].class)))
+                    .willReturn(CompletableFuture.completedFuture(sendResult));
+            publisher.publish(List.of(createRequest(failedId)));
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(DIVERT_WINDOW_MS));
+
+            // when - divert 기간이 지나 한 요청이 Kafka를 다시 시도하고, 성공하면 이후 요청도 Kafka로
+            publisher.publish(List.of(createRequest(firstId)));
+            publisher.publish(List.of(createRequest(secondId)));
+
+            // then
+            then(kafkaTemplate).should().send(eq(TOPIC), eq(firstId.toString()), any(byte[].class));
+            then(kafkaTemplate).should().send(eq(TOPIC), eq(secondId.toString()), any(byte[].class));
+            then(spool).should(times(1)).append(anyList());
+        }
+
+        @Test
+        @DisplayName("spool 기록도 실패하면 DecisionLogPublishException 발생")
+        void givenSpoolFull_whenKafkaFails_thenThrowsDecisionLogPublishException() {
+            // given
+            List<RawDecisionLog> requests = List.of(createRequest(UUID.randomUUID()));
+
+            given(spool.isEnabled()).willReturn(true);
+            given(kafkaTemplate.send(eq(TOPIC), anyString(), any(byte[].class)))
+                    .willReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
+            willThrow(new SpoolUnavailableException("Decision log spool is full"))
+                    .given(spool).append(anyList());
+
+            // when & then
+            assertThatThrownBy(() -> publisher.publish(requests))
+                    .isInstanceOf(DecisionLogPublishException.class);
+        }
+
         @Test
         @DisplayName("빈 리스트면 아무 작업도 하지 않음")
         void givenEmptyList_whenPublish_thenDoesNothing() {
@@ -165,11 +313,10 @@ class DecisionLogEventPublisherImplTest {
         }
     }
 
-    private Map<String, Object> createRequest(UUID decisionId) {
-        return Map.of(
-                "decision_id", decisionId.toString(),
-                "path", "cloud_access/policy/main",
-                "timestamp", "2025-01-05T10:00:00Z"
-        );
+    private RawDecisionLog createRequest(UUID decisionId) {
+        byte[] payload = """
+                {"decision_id": "%s", "path": "cloud_access/policy/main", "timestamp": "2025-01-05T10:00:00Z"}""".formatted(decisionId)
+                .getBytes(StandardCharsets.UTF_8);
+        return new RawDecisionLog(decisionId.toString(), payload);
     }
 }
@@ -2,31 +2,48 @@ package com.example.opa.policydecisionlog.command.infra.kafka;
 
 import com.example.opa.policydecisionlog.command.app.usecase.PersistDecisionLogUseCase;
 import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
+import com.example.opa.policydecisionlog.command.app.dto.ParkedDecisionLog;
 import com.example.opa.policydecisionlog.command.app.dto.PersistResult;
 import com.example.opa.policydecisionlog.command.app.port.ParkingLotPublisher;
 import com.example.opa.policydecisionlog.shared.config.KafkaCustomProperties;
+import com.example.opa.policydecisionlog.shared.kafka.ParkingHeaders;
 import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.listener.MessageListenerContainer;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ParkingLotConsumerTest {
 
+    private static final String TOPIC = "decision-logs-parking";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+
     private ParkingLotConsumer consumer;
 
     @Mock
@@ -36,13 +53,21 @@ class ParkingLotConsumerTest {
     private ParkingLotPublisher parkingLotPublisher;
 
     @Mock
-    private Acknowledgment ack;
+    private ConsumerRecordRecoverer dlqRecoverer;
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private MessageListenerContainer container;
+
+    @Mock
+    private Consumer<?, ?> kafkaConsumer;
 
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private DecisionLogMetrics metrics;
 
     private JsonMapper jsonMapper;
-    private KafkaCustomProperties properties;
 
     @BeforeEach
     void setUp() {
@@ -50,15 +75,15 @@ class ParkingLotConsumerTest {
         KafkaCustomProperties.ProducerSettings producerSettings =
                 new KafkaCustomProperties.ProducerSettings(3, 30000, 10000, 5000);
         KafkaCustomProperties.ParkingRecoverySettings parkingRecovery =
-                new KafkaCustomProperties.ParkingRecoverySettings(5, 60000, 2.0, 3600000);
-        properties = new KafkaCustomProperties(
-                "decision-logs", "decision-logs-dlq", "decision-logs-parking", "decision-logs-parking-dlq",
+                new KafkaCustomProperties.ParkingRecoverySettings(5, 60000, 2.0, 3600000, null);
+        KafkaCustomProperties properties = new KafkaCustomProperties(
+                "decision-logs", "decision-logs-dlq", TOPIC, "decision-logs-parking-dlq",
                 producerSettings, producerSettings, producerSettings, parkingRecovery,
                 new KafkaCustomProperties.ConsumerBackoff(1000, 2.0, 10000, 30000)
         );
         consumer = new ParkingLotConsumer(
-                persistDecisionLogUseCase, parkingLotPublisher,
-                jsonMapper, properties, metrics
+                persistDecisionLogUseCase, parkingLotPublisher, dlqRecoverer,
+                listenerRegistry, jsonMapper, properties, metrics
         );
     }
 
@@ -67,39 +92,86 @@ class ParkingLotConsumerTest {
     class NotBeforeCheck {
 
         @Test
-        @DisplayName("now < not-before 면 nack 호출")
-        void givenNotBeforeInFuture_whenConsume_thenNack() {
+        @DisplayName("due가 아닌 record에서 partition을 멈추고 그 offset으로 seek 후 pause")
+        void givenNotBeforeInFuture_whenConsume_thenSeeksAndPausesPartition() {
             // given
-            UUID decisionId = UUID.randomUUID();
-            long notBefore = System.currentTimeMillis() + 60000; // 1분 후
-            String payload = createPayload(decisionId);
+            ConsumerRecord<String, String> due = createRecord(0, 10L, 0, pastNotBefore());
+            ConsumerRecord<String, String> notDue = createRecord(0, 11L, 0, System.currentTimeMillis() + 60000);
+            ConsumerRecord<String, String> afterNotDue = createRecord(0, 12L, 0, pastNotBefore());
+            given(listenerRegistry.getListenerContainer(ParkingLotConsumer.LISTENER_ID)).willReturn(container);
+            given(persistDecisionLogUseCase.executeRecoveryBatch(anyList()))
+                    .willReturn(List.of(PersistResult.SUCCESS));
 
             // when
-            consumer.consume(payload, 0, 0L, 0, notBefore, ack);
+            consumer.consume(List.of(due, notDue, afterNotDue), kafkaConsumer);
 
             // then
-            then(ack).should().nack(any(Duration.class));
-            then(ack).should(never()).acknowledge();
-            then(persistDecisionLogUseCase).shouldHaveNoInteractions();
+            then(persistDecisionLogUseCase).should().executeRecoveryBatch(argThat(parked -> parked.size() == 1));
+            then(kafkaConsumer).should().seek(PARTITION_0, 11L);
+            then(container).should().pausePartition(PARTITION_0);
+            then(kafkaConsumer).should().commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(11L)));
         }
 
         @Test
-        @DisplayName("now >= not-before 면 처리 진행")
-        void givenNotBeforePassed_whenConsume_thenProcess() {
+        @DisplayName("다른 partition은 멈춘 partition과 무관하게 처리하고 끝까지 commit")
+        void givenBlockedPartition_whenConsume_thenOtherPartitionsProceed() {
             // given
-            UUID decisionId = UUID.randomUUID();
-            long notBefore = System.currentTimeMillis() - 1000; // 1초 전
-            String payload = createPayload(decisionId);
+            ConsumerRecord<String, String> notDue = createRecord(0, 5L, 0, System.currentTimeMillis() + 60000);
+            ConsumerRecord<String, String> due = createRecord(1, 7L, 0, pastNotBefore());
+            given(listenerRegistry.getListenerContainer(ParkingLotConsumer.LISTENER_ID)).willReturn(container);
+            given(persistDecisionLogUseCase.executeRecoveryBatch(anyList()))
+                    .willReturn(List.of(PersistResult.SUCCESS));
 
-            given(persistDecisionLogUseCase.executeRecovery(any(), anyInt()))
-                    .willReturn(PersistResult.SUCCESS);
+            // when
+            consumer.consume(List.of(notDue, due), kafkaConsumer);
+
+            // then
+            then(container).should().pausePartition(PARTITION_0);
+            then(container).should(never()).pausePartition(PARTITION_1);
+            then(kafkaConsumer).should().commitSync(Map.of(
+                    PARTITION_0, new OffsetAndMetadata(5L),
+                    PARTITION_1, new OffsetAndMetadata(8L)));
+            then(metrics).should().recordParkingRecovered(1);
+        }
+
+        @Test
+        @DisplayName("resume 시각이 지난 partition만 resume")
+        void givenPauseElapsed_whenResumeDuePartitions_thenResumes() {
+            // given
+            ConsumerRecord<String, String> retried = createRecord(0, 5L, 0, pastNotBefore());
+            ConsumerRecord<String, String> longWait = createRecord(1, 3L, 0, System.currentTimeMillis() + 60000);
+            given(listenerRegistry.getListenerContainer(ParkingLotConsumer.LISTENER_ID)).willReturn(container);
+            given(persistDecisionLogUseCase.executeRecoveryBatch(anyList()))
+                    .willReturn(List.of(PersistResult.RETRY));
+            given(persistDecisionLogUseCase.recoveryBackoff()).willReturn(Duration.ZERO);
+            consumer.consume(List.of(retried, longWait), kafkaConsumer);
 
             // when
-            consumer.consume(payload, 0, 0L, 0, notBefore, ack);
+            consumer.resumeDuePartitions();
 
             // then
-            then(ack).should().acknowledge();
-            then(persistDecisionLogUseCase).should().executeRecovery(any(), eq(0));
+            then(container).should().resumePartition(PARTITION_0);
+            then(container).should(never()).resumePartition(PARTITION_1);
+        }
+
+        @Test
+        @DisplayName("revoke된 partition은 resume 예약을 버리고 pause 요청을 해제")
+        void givenPausedPartitionRevoked_whenRebalance_thenDropsResumeSchedule() {
+            // given
+            ConsumerRecord<String, String> notDue = createRecord(0, 5L, 0, System.currentTimeMillis() + 60000);
+            ConsumerRecord<String, String> due = createRecord(1, 7L, 0, pastNotBefore());
+            given(listenerRegistry.getListenerContainer(ParkingLotConsumer.LISTENER_ID)).willReturn(container);
+            given(persistDecisionLogUseCase.executeRecoveryBatch(anyList()))
+                    .willReturn(List.of(PersistResult.SUCCESS));
+            consumer.consume(List.of(notDue, due), kafkaConsumer);
+
+            // when
+            consumer.onPartitionsRevokedBeforeCommit(kafkaConsumer, List.of(PARTITION_0, PARTITION_1));
+            consumer.resumeDuePartitions();
+
+            // then - pause 요청 해제는 revoke 시 한 번뿐이고, 멈추지 않았던 partition은 건드리지 않음
+            then(container).should(times(1)).resumePartition(PARTITION_0);
+            then(container).should(never()).resumePartition(PARTITION_1);
         }
     }
 
@@ -108,40 +180,47 @@ class ParkingLotConsumerTest {
     class MaxRetryCheck {
 
         @Test
-        @DisplayName("attempt >= maxRetry 면 parking-dlq로 이동")
+        @DisplayName("attempt >= maxRetry 면 parking-dlq로 이동하고 저장 대상에서 제외")
         void givenMaxRetryExceeded_whenConsume_thenSendToParkingDlq() {
-            // given
-            UUID decisionId = UUID.randomUUID();
-            long notBefore = System.currentTimeMillis() - 1000;
-            String payload = createPayload(decisionId);
+            // given - maxRetry=5이므로 5는 초과
+            ConsumerRecord<String, String> exceeded = createRecord(0, 0L, 5, pastNotBefore());
+            ConsumerRecord<String, String> retryable = createRecord(0, 1L, 2, pastNotBefore());
+            given(persistDecisionLogUseCase.executeRecoveryBatch(anyList()))
+                    .willReturn(List.of(PersistResult.SUCCESS));
 
-            // when - maxRetry=5이므로 5는 초과
-            consumer.consume(payload, 0, 0L, 5, notBefore, ack);
+            // when
+            consumer.consume(List.of(exceeded, retryable), kafkaConsumer);
 
             // then
             then(parkingLotPublisher).should().toParkingDlq(any(DecisionLogIngestCommand.class));
             then(metrics).should().recordParkingDlqSent(1);
-            then(ack).should().acknowledge();
-            then(persistDecisionLogUseCase).shouldHaveNoInteractions();
+            then(persistDecisionLogUseCase).should().executeRecoveryBatch(
+                    argThat(parked -> parked.size() == 1 && parked.getFirst().attempt() == 2));
+            then(kafkaConsumer).should().commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(2L)));
         }
 
         @Test
-        @DisplayName("attempt < maxRetry 면 정상 처리 시도")
-        void givenRetryNotExceeded_whenConsume_thenTryProcess() {
+        @DisplayName("앞선 record가 RETRY로 멈춘 partition에서는 그 뒤 초과 record를 parking-dlq로 보내지 않음")
+        void givenEarlierRetry_whenConsume_thenDoesNotSendLaterRecordToParkingDlq() {
             // given
-            UUID decisionId = UUID.randomUUID();
-            long notBefore = System.currentTimeMillis() - 1000;
-            String payload = createPayload(decisionId);
-
-            given(persistDecisionLogUseCase.executeRecovery(any(), anyInt()))
-                    .willReturn(PersistResult.SUCCESS);
+            ConsumerRecord<String, String> retried = createRecord(0, 3L, 1, pastNotBefore());
+            ConsumerRecord<String, String> exceeded = createRecord(0, 4L, 5, pastNotBefore());
+            ConsumerRecord<String, String> otherPartition = createRecord(1, 8L, 5, pastNotBefore());
+            given(listenerRegistry.getListenerContainer(ParkingLotConsumer.LISTENER_ID)).willReturn(container);
+            given(persistDecisionLogUseCase.executeRecoveryBatch(anyList()))
+                    .willReturn(List.of(PersistResult.RETRY));
+            given(persistDecisionLogUseCase.recoveryBackoff()).willReturn(Duration.ofSeconds(20));
 
             // when
-            consumer.consume(payload, 0, 0L, 2, notBefore, ack);
+            consumer.consume(List.of(retried, exceeded, otherPartition), kafkaConsumer);
 
-            // then
-            then(parkingLotPublisher).should(never()).toParkingDlq(any());
-            then(persistDecisionLogUseCase).should().executeRecovery(any(), eq(2));
+            // then - seek 후 다시 읽을 offset 4는 보내지 않고, 멈추지 않은 partition 1만 보냄
+            then(parkingLotPublisher).should(times(1)).toParkingDlq(any(DecisionLogIngestCommand.class));
+            then(metrics).should().recordParkingDlqSent(1);
+            then(kafkaConsumer).should().seek(PARTITION_0, 3L);
+            then(kafkaConsumer).should().commitSync(Map.of(
+                    PARTITION_0, new OffsetAndMetadata(3L),
+                    PARTITION_1, new OffsetAndMetadata(9L)));
         }
     }
 
@@ -150,46 +229,118 @@ class ParkingLotConsumerTest {
     class DbSave {
 
         @Test
-        @DisplayName("복구 성공 시 메트릭 기록하고 ack")
-        void givenRecoverySuccess_whenConsume_thenRecordMetricsAndAck() {
+        @DisplayName("due record를 한 번에 복구하고 메트릭 기록 후 commit")
+        void givenDueRecords_whenConsume_thenRecoversInOneBatch() {
             // given
-            UUID decisionId = UUID.randomUUID();
-            long notBefore = System.currentTimeMillis() - 1000;
-            String payload = createPayload(decisionId);
+            ConsumerRecord<String, String> first = createRecord(0, 0L, 0, pastNotBefore());
+            ConsumerRecord<String, String> second = createRecord(0, 1L, 1, pastNotBefore());
+            ConsumerRecord<String, String> third = createRecord(1, 4L, 3, pastNotBefore());
+            given(persistDecisionLogUseCase.executeRecoveryBatch(anyList()))
+                    .willReturn(List.of(PersistResult.SUCCESS, PersistResult.PARKED, PersistResult.SUCCESS));
 
-            given(persistDecisionLogUseCase.executeRecovery(any(), anyInt()))
-                    .willReturn(PersistResult.SUCCESS);
+            // when
+            consumer.consume(List.of(first, second, third), kafkaConsumer);
+
+            // then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<ParkedDecisionLog>> captor = ArgumentCaptor.forClass(List.class);
+            then(persistDecisionLogUseCase).should().executeRecoveryBatch(captor.capture());
+            assertThat(captor.getValue()).extracting(ParkedDecisionLog::attempt).containsExactly(0, 1, 3);
+            then(metrics).should().recordParkingRecovered(2);
+            then(kafkaConsumer).should().commitSync(Map.of(
+                    PARTITION_0, new OffsetAndMetadata(2L),
+                    PARTITION_1, new OffsetAndMetadata(5L)));
+            then(kafkaConsumer).should(never()).seek(any(TopicPartition.class), anyLong());
+        }
+
+        @Test
+        @DisplayName("DB circuit이 열려 RETRY면 그 record부터 seek 후 pause (attempt 유지)")
+        void givenCircuitOpen_whenConsume_thenPausesFromRetriedRecord() {
+            // given
+            ConsumerRecord<String, String> first = createRecord(0, 3L, 1, pastNotBefore());
+            ConsumerRecord<String, String> second = createRecord(0, 4L, 1, pastNotBefore());
+            given(listenerRegistry.getListenerContainer(ParkingLotConsumer.LISTENER_ID)).willReturn(container);
+            given(persistDecisionLogUseCase.executeRecoveryBatch(anyList()))
+                    .willReturn(List.of(PersistResult.RETRY, PersistResult.RETRY));
+            given(persistDecisionLogUseCase.recoveryBackoff()).willReturn(Duration.ofSeconds(20));
 
             // when
-            consumer.consume(payload, 0, 0L, 0, notBefore, ack);
+            consumer.consume(List.of(first, second), kafkaConsumer);
 
             // then
-            then(persistDecisionLogUseCase).should().executeRecovery(any(), eq(0));
-            then(metrics).should().recordParkingRecovered(1);
-            then(ack).should().acknowledge();
+            then(kafkaConsumer).should().seek(PARTITION_0, 3L);
+            then(container).should().pausePartition(PARTITION_0);
+            then(parkingLotPublisher).shouldHaveNoInteractions();
+            then(metrics).should(never()).recordParkingRecovered(anyInt());
         }
 
         @Test
-        @DisplayName("복구 PARKED 반환 시 ack (재시도로 parking에 전송됨)")
-        void givenRecoveryParked_whenConsume_thenAck() {
+        @DisplayName("파싱할 수 없는 record는 바로 DLQ로 보내고 나머지는 계속 처리")
+        void givenUnparseablePayload_whenConsume_thenSendsToDlqAndContinues() {
             // given
-            UUID decisionId = UUID.randomUUID();
-            long notBefore = System.currentTimeMillis() - 1000;
-            String payload = createPayload(decisionId);
+            ConsumerRecord<String, String> broken = createRecord(0, 0L, "not-json", 0, pastNotBefore());
+            ConsumerRecord<String, String> valid = createRecord(0, 1L, 0, pastNotBefore());
+            given(persistDecisionLogUseCase.executeRecoveryBatch(anyList()))
+                    .willReturn(List.of(PersistResult.SUCCESS));
+
+            // when
+            consumer.consume(List.of(broken, valid), kafkaConsumer);
+
+            // then
+            then(dlqRecoverer).should().accept(eq(broken), any(Exception.class));
+            then(kafkaConsumer).should().commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(2L)));
+        }
 
-            given(persistDecisionLogUseCase.executeRecovery(any(), anyInt()))
-                    .willReturn(PersistResult.PARKED);
+        @Test
+        @DisplayName("앞선 record가 RETRY로 멈추면 그 뒤 파싱 불가 record는 DLQ로 보내지 않고 다시 읽음")
+        void givenEarlierRetry_whenConsume_thenDoesNotSendLaterUnparseableToDlq() {
+            // given
+            ConsumerRecord<String, String> retried = createRecord(0, 0L, 0, pastNotBefore());
+            ConsumerRecord<String, String> broken = createRecord(0, 1L, "not-json", 0, pastNotBefore());
+            given(listenerRegistry.getListenerContainer(ParkingLotConsumer.LISTENER_ID)).willReturn(container);
+            given(persistDecisionLogUseCase.executeRecoveryBatch(anyList()))
+                    .willReturn(List.of(PersistResult.RETRY));
+            given(persistDecisionLogUseCase.recoveryBackoff()).willReturn(Duration.ofSeconds(20));
 
             // when
-            consumer.consume(payload, 0, 0L, 1, notBefore, ack);
+            consumer.consume(List.of(retried, broken), kafkaConsumer);
 
             // then
-            then(persistDecisionLogUseCase).should().executeRecovery(any(), eq(1));
-            then(metrics).should(never()).recordParkingRecovered(anyInt());
-            then(ack).should().acknowledge();
+            then(dlqRecoverer).shouldHaveNoInteractions();
+            then(kafkaConsumer).should().seek(PARTITION_0, 0L);
+            then(kafkaConsumer).should().commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(0L)));
         }
     }
 
+    @Test
+    @DisplayName("기본 topic과 backoff에서 파생된 delay tier topic을 모두 구독")
+    void givenDerivedTiers_whenRecoveryTopics_thenIncludesBaseAndTierTopics() {
+        // when
+        String[] topics = consumer.recoveryTopics();
+
+        // then
+        assertThat(topics).containsExactly(
+                TOPIC, TOPIC + ".1m", TOPIC + ".2m", TOPIC + ".4m", TOPIC + ".8m", TOPIC + ".16m");
+    }
+
+    private static long pastNotBefore() {
+        return System.currentTimeMillis() - 1000;
+    }
+
+    private ConsumerRecord<String, String> createRecord(int partition, long offset, int attempt, long notBefore) {
+        return createRecord(partition, offset, createPayload(UUID.randomUUID()), attempt, notBefore);
+    }
+
+    private ConsumerRecord<String, String> createRecord(int partition, long offset, String payload,
+                                                        int attempt, long notBefore) {
+        ConsumerRecord<String, String> consumerRecord = new ConsumerRecord<>(TOPIC, partition, offset, null, payload);
+        consumerRecord.headers().add(ParkingHeaders.RETRY_ATTEMPT,
+                String.valueOf(attempt).getBytes(StandardCharsets.UTF_8));
+        consumerRecord.headers().add(ParkingHeaders.NOT_BEFORE,
+                String.valueOf(notBefore).getBytes(StandardCharsets.UTF_8));
+        return consumerRecord;
+    }
+
     private String createPayload(UUID decisionId) {
         DecisionLogIngestCommand command = new DecisionLogIngestCommand(
                 decisionId,
@@ -22,6 +22,7 @@ import org.springframework.kafka.support.SendResult;
 import org.springframework.messaging.Message;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -39,6 +40,8 @@ class ParkingLotPublisherImplTest {
 
     private ParkingLotPublisherImpl publisher;
 
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
     @Mock
     private KafkaTemplate<String, String> parkingKafkaTemplate;
 
@@ -55,16 +58,19 @@ class ParkingLotPublisherImplTest {
 
     @BeforeEach
     void setUp() {
-        JsonMapper jsonMapper = JsonMapper.builder().build();
+        publisher = createPublisher(null);
+    }
+
+    private ParkingLotPublisherImpl createPublisher(List<Long> delayTiersMs) {
         ProducerSettings producerSettings = new ProducerSettings(3, 30000, 10000, 5000);
         KafkaCustomProperties.ParkingRecoverySettings parkingRecovery =
-                new KafkaCustomProperties.ParkingRecoverySettings(5, 60000, 2.0, 3600000);
+                new KafkaCustomProperties.ParkingRecoverySettings(5, 60000, 2.0, 3600000, delayTiersMs);
         KafkaCustomProperties properties = new KafkaCustomProperties(
                 "decision-logs", "decision-logs-dlq", PARKING_LOT_TOPIC, "decision-logs-parking-dlq",
                 producerSettings, producerSettings, producerSettings, parkingRecovery,
                 new KafkaCustomProperties.ConsumerBackoff(1000, 2.0, 10000, 30000)
         );
-        publisher = new ParkingLotPublisherImpl(parkingKafkaTemplate, dlqKafkaTemplate, jsonMapper, properties);
+        return new ParkingLotPublisherImpl(parkingKafkaTemplate, dlqKafkaTemplate, jsonMapper, properties);
     }
 
     @Nested
@@ -89,7 +95,7 @@ class ParkingLotPublisherImplTest {
             then(parkingKafkaTemplate).should().send(messageCaptor.capture());
             Message<String> captured = messageCaptor.getValue();
             assertThat(captured.getHeaders())
-                    .containsEntry(KafkaHeaders.TOPIC, PARKING_LOT_TOPIC)
+                    .containsEntry(KafkaHeaders.TOPIC, PARKING_LOT_TOPIC + ".1m")
                     .containsEntry(KafkaHeaders.KEY, decisionId.toString())
                     .containsKey(ParkingHeaders.RETRY_ATTEMPT)
                     .containsKey(ParkingHeaders.NOT_BEFORE);
@@ -115,6 +121,54 @@ class ParkingLotPublisherImplTest {
             assertThat(captured.getHeaders()).containsEntry(ParkingHeaders.RETRY_ATTEMPT, 0);
         }
 
+        @Test
+        @DisplayName("원본 record byte가 있으면 payload로 그대로 전송")
+        void givenRawBytes_whenPublish_thenSendsOriginalRecord() {
+            // given
+            UUID decisionId = UUID.randomUUID();
+            String original = """
+                    {"decision_id": "%s", "path": "cloud_access/policy/main", "metrics": {"timer_ns": 1}}"""
+                    .formatted(decisionId);
+            byte[] rawBytes = original.getBytes(StandardCharsets.UTF_8);
+            DecisionLogIngestCommand command = DecisionLogIngestCommand.from(jsonMapper.readTree(rawBytes), rawBytes);
+
+            given(parkingKafkaTemplate.send(any(Message.class)))
+                    .willReturn(CompletableFuture.completedFuture(sendResult));
+
+            // when
+            publisher.publish(List.of(command));
+
+            // then
+            then(parkingKafkaTemplate).should().send(messageCaptor.capture());
+            assertThat(messageCaptor.getValue().getPayload()).isEqualTo(original);
+        }
+
+        @Test
+        @DisplayName("원본 byte가 없으면 from()이 다시 읽을 수 있는 snake_case JSON으로 직렬화")
+        void givenNoRawBytes_whenPublish_thenPayloadRoundTripsThroughFrom() {
+            // given
+            UUID decisionId = UUID.randomUUID();
+            DecisionLogIngestCommand command = new DecisionLogIngestCommand(
+                    decisionId, OffsetDateTime.now(), "cloud_access/policy/main",
+                    "10.0.0.1:1234", 42L, null, null, null, null, null
+            );
+
+            given(parkingKafkaTemplate.send(any(Message.class)))
+                    .willReturn(CompletableFuture.completedFuture(sendResult));
+
+            // when
+            publisher.publish(List.of(command));
+
+            // then
+            then(parkingKafkaTemplate).should().send(messageCaptor.capture());
+            byte[] payload = messageCaptor.getValue().getPayload().getBytes(StandardCharsets.UTF_8);
+            DecisionLogIngestCommand parsed = DecisionLogIngestCommand.from(jsonMapper.readTree(payload), payload);
+            assertThat(parsed.decisionId()).isEqualTo(decisionId);
+            assertThat(parsed.requestedBy()).isEqualTo("10.0.0.1:1234");
+            assertThat(parsed.reqId()).isEqualTo(42L);
+            assertThat(parsed.raw().has("raw")).isFalse();
+        }
+
         @Test
         @DisplayName("여러 커맨드 발행 시 각각 전송")
         void givenMultipleCommands_whenPublish_thenSendsEach() {
@@ -197,6 +251,61 @@ class ParkingLotPublisherImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("retry")
+    class Retry {
+
+        @Test
+        @DisplayName("다음 backoff에 해당하는 delay tier topic으로 보내고 notBefore는 tier delay만큼 뒤")
+        void givenAttempt_whenRetry_thenRoutesToBackoffTier() {
+            // given
+            UUID decisionId = UUID.randomUUID();
+            given(parkingKafkaTemplate.send(any(Message.class)))
+                    .willReturn(CompletableFuture.completedFuture(sendResult));
+            long before = System.currentTimeMillis();
+
+            // when
+            publisher.retry(createCommand(decisionId), 3);
+
+            // then
+            then(parkingKafkaTemplate).should().send(messageCaptor.capture());
+            Message<String> captured = messageCaptor.getValue();
+            assertThat(captured.getHeaders())
+                    .containsEntry(KafkaHeaders.TOPIC, PARKING_LOT_TOPIC + ".8m")
+                    .containsEntry(ParkingHeaders.RETRY_ATTEMPT, 3);
+            assertThat((Long) captured.getHeaders().get(ParkingHeaders.NOT_BEFORE))
+                    .isBetween(before + 480000, System.currentTimeMillis() + 480000);
+        }
+
+        @Test
+        @DisplayName("tier를 지정하면 backoff 이상인 가장 작은 tier로 올림")
+        void givenConfiguredTiers_whenRetry_thenRoundsUpToNextTier() {
+            // given
+            ParkingLotPublisherImpl tiered = createPublisher(List.of(60000L, 300000L, 1800000L, 3600000L));
+            given(parkingKafkaTemplate.send(any(Message.class)))
+                    .willReturn(CompletableFuture.completedFuture(sendResult));
+
+            // when
+            tiered.retry(createCommand(UUID.randomUUID()), 1);
+            tiered.retry(createCommand(UUID.randomUUID()), 4);
+
+            // then
+            then(parkingKafkaTemplate).should(times(2)).send(messageCaptor.capture());
+            assertThat(messageCaptor.getAllValues())
+                    .extracting(message -> message.getHeaders().get(KafkaHeaders.TOPIC))
+                    .containsExactly(PARKING_LOT_TOPIC + ".5m", PARKING_LOT_TOPIC + ".30m");
+        }
+
+        @Test
+        @DisplayName("decisionId가 없으면 MissingDecisionIdException 발생")
+        void givenNullDecisionId_whenRetry_thenThrowsMissingDecisionIdException() {
+            // when & then
+            assertThatThrownBy(() -> publisher.retry(createCommand(null), 1))
+                    .isInstanceOf(MissingDecisionIdException.class);
+            then(parkingKafkaTemplate).shouldHaveNoInteractions();
+        }
+    }
+
     private DecisionLogIngestCommand createCommand(UUID decisionId) {
         return new DecisionLogIngestCommand(
                 decisionId,
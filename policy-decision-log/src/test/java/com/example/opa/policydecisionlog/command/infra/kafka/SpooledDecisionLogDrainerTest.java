@@ -0,0 +1,236 @@
+package com.example.opa.policydecisionlog.command.infra.kafka;
+
+import com.example.opa.policydecisionlog.command.app.dto.InfrastructureFailureEvent;
+import com.example.opa.policydecisionlog.command.app.port.InfrastructureFailureWriter;
+import com.example.opa.policydecisionlog.command.infra.spool.DecisionLogSpool;
+import com.example.opa.policydecisionlog.command.infra.spool.SpooledDecisionLog;
+import com.example.opa.policydecisionlog.shared.config.KafkaCustomProperties;
+import com.example.opa.policydecisionlog.shared.config.KafkaCustomProperties.ProducerSettings;
+import com.example.opa.policydecisionlog.shared.config.SpoolProperties;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpooledDecisionLogDrainerTest {
+
+    private static final String TOPIC = "decision-logs";
+
+    private SpooledDecisionLogDrainer drainer;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private SendResult<String, byte[]> sendResult;
+
+    @Mock
+    private DecisionLogSpool spool;
+
+    @Mock
+    private InfrastructureFailureWriter failureWriter;
+
+    @Mock
+    private DecisionLogMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        drainer = createDrainer(5000, 1000);
+    }
+
+    @Nested
+    @DisplayName("drain")
+    class Drain {
+
+        @Test
+        @DisplayName("모두 전송되면 마지막 레코드까지 checkpoint 이동")
+        void givenAllSent_whenDrain_thenCommitsLastRecord() {
+            // given
+            SpooledDecisionLog first = createRecord(1);
+            SpooledDecisionLog second = createRecord(2);
+            givenSpooled(first, second);
+            givenSendResult(first, CompletableFuture.completedFuture(sendResult));
+            givenSendResult(second, CompletableFuture.completedFuture(sendResult));
+
+            // when
+            drainer.drain();
+
+            // then
+            then(spool).should().commit(second);
+            then(metrics).should().recordSpoolDrained(2);
+            then(failureWriter).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("일시적 실패가 나면 그 앞까지만 checkpoint 이동")
+        void givenTransientFailure_whenDrain_thenCommitsBeforeFailure() {
+            // given
+            SpooledDecisionLog first = createRecord(1);
+            SpooledDecisionLog second = createRecord(2);
+            givenSpooled(first, second);
+            givenSendResult(first, CompletableFuture.completedFuture(sendResult));
+            givenSendResult(second, CompletableFuture.failedFuture(new TimeoutException("broker down")));
+
+            // when
+            drainer.drain();
+
+            // then
+            then(spool).should().commit(first);
+            then(metrics).should().recordSpoolDrained(1);
+        }
+
+        @Test
+        @DisplayName("head 레코드가 일시적으로 실패하면 checkpoint를 옮기지 않음")
+        void givenTransientFailureAtHead_whenDrain_thenDoesNotCommit() {
+            // given
+            SpooledDecisionLog first = createRecord(1);
+            givenSpooled(first);
+            givenSendResult(first, CompletableFuture.failedFuture(new TimeoutException("broker down")));
+
+            // when
+            drainer.drain();
+
+            // then
+            then(spool).should(never()).commit(any());
+            then(failureWriter).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("크기 초과처럼 재시도해도 실패할 레코드는 실패 파일에 남기고 건너뜀")
+        void givenRecordTooLargeAtHead_whenDrain_thenRejectsAndCommitsPastIt() {
+            // given
+            SpooledDecisionLog tooLarge = createRecord(1);
+            SpooledDecisionLog next = createRecord(2);
+            givenSpooled(tooLarge, next);
+            givenSendResult(tooLarge, CompletableFuture.failedFuture(new RecordTooLargeException("too large")));
+            givenSendResult(next, CompletableFuture.completedFuture(sendResult));
+
+            // when
+            drainer.drain();
+
+            // then
+            then(failureWriter).should().write(argThat((InfrastructureFailureEvent event) ->
+                    event.key().equals(tooLarge.decisionId()) && event.topic().equals(TOPIC)));
+            then(metrics).should().recordSpoolRejected(1);
+            then(metrics).should().recordSpoolDrained(1);
+            then(spool).should().commit(next);
+        }
+
+        @Test
+        @DisplayName("직전 tick이 모두 성공하면 다음 tick은 rate 상한 없이 backlog가 빌 때까지 batch를 이어서 전송")
+        void givenPreviousTickSucceeded_whenDrain_thenDrainsWithoutRateCap() {
+            // given - rate 상한은 tick당 1건, batch는 2건
+            SpooledDecisionLogDrainer smallBatchDrainer = createDrainer(5, 2);
+            SpooledDecisionLog first = createRecord(1);
+            SpooledDecisionLog second = createRecord(2);
+            SpooledDecisionLog third = createRecord(3);
+            given(spool.isEnabled()).willReturn(true);
+            given(spool.read(1)).willReturn(List.of(first));
+            given(spool.read(2)).willReturn(List.of(second, third), List.of());
+            givenSendResult(first, CompletableFuture.completedFuture(sendResult));
+            givenSendResult(second, CompletableFuture.completedFuture(sendResult));
+            givenSendResult(third, CompletableFuture.completedFuture(sendResult));
+            smallBatchDrainer.drain();
+
+            // when
+            smallBatchDrainer.drain();
+
+            // then
+            then(spool).should(times(1)).read(1);
+            then(spool).should(times(2)).read(2);
+            then(spool).should().commit(third);
+        }
+
+        @Test
+        @DisplayName("전송이 실패한 다음 tick은 다시 rate 상한만큼만 전송")
+        void givenPreviousTickFailed_whenDrain_thenDrainsWithRateCap() {
+            // given
+            SpooledDecisionLogDrainer smallBatchDrainer = createDrainer(5, 2);
+            SpooledDecisionLog first = createRecord(1);
+            given(spool.isEnabled()).willReturn(true);
+            given(spool.read(1)).willReturn(List.of(first));
+            givenSendResult(first, CompletableFuture.failedFuture(new TimeoutException("broker down")));
+            smallBatchDrainer.drain();
+
+            // when
+            smallBatchDrainer.drain();
+
+            // then
+            then(spool).should(times(2)).read(1);
+            then(spool).should(never()).read(2);
+            then(spool).should(never()).commit(any());
+        }
+
+        @Test
+        @DisplayName("spool이 비활성화되어 있으면 아무 작업도 하지 않음")
+        void givenDisabledSpool_whenDrain_thenDoesNothing() {
+            // given
+            given(spool.isEnabled()).willReturn(false);
+
+            // when
+            drainer.drain();
+
+            // then
+            then(spool).should(never()).read(anyInt());
+            then(kafkaTemplate).shouldHaveNoInteractions();
+        }
+    }
+
+    @Test
+    @DisplayName("원인 체인에 RecordTooLarge/Serialization 예외가 있으면 영구 실패로 판단")
+    void givenWrappedError_whenIsPermanentFailure_thenChecksCauseChain() {
+        // when & then
+        assertThat(SpooledDecisionLogDrainer.isPermanentFailure(
+                new RuntimeException(new RecordTooLargeException("too large")))).isTrue();
+        assertThat(SpooledDecisionLogDrainer.isPermanentFailure(
+                new RuntimeException(new TimeoutException("timeout")))).isFalse();
+    }
+
+    private SpooledDecisionLogDrainer createDrainer(int drainRatePerSecond, int drainBatchSize) {
+        ProducerSettings producerSettings = new ProducerSettings(3, 30000, 10000, 5000);
+        KafkaCustomProperties kafkaProperties = new KafkaCustomProperties(
+                TOPIC, "decision-logs-dlq", "decision-logs-parking", "decision-logs-parking-dlq",
+                producerSettings, producerSettings, producerSettings,
+                new KafkaCustomProperties.ParkingRecoverySettings(5, 60000, 2.0, 3600000, null),
+                new KafkaCustomProperties.ConsumerBackoff(1000, 2.0, 10000, 30000)
+        );
+        SpoolProperties spoolProperties = new SpoolProperties(
+                true, "./data/spool", 4096, 4, 1, 200, drainRatePerSecond, drainBatchSize, 0, 5000);
+        return new SpooledDecisionLogDrainer(
+                kafkaTemplate, kafkaProperties, spoolProperties, spool, failureWriter, metrics);
+    }
+
+    private void givenSpooled(SpooledDecisionLog... records) {
+        given(spool.isEnabled()).willReturn(true);
+        given(spool.read(anyInt())).willReturn(List.of(records));
+    }
+
+    private void givenSendResult(SpooledDecisionLog record, CompletableFuture<SendResult<String, byte[]>> result) {
+        given(kafkaTemplate.send(eq(TOPIC), eq(record.decisionId()), any(byte[].class))).willReturn(result);
+    }
+
+    private static SpooledDecisionLog createRecord(int position) {
+        String decisionId = UUID.randomUUID().toString();
+        byte[] payload = ("{\"decision_id\": \"" + decisionId + "\"}").getBytes(StandardCharsets.UTF_8);
+        return new SpooledDecisionLog(decisionId, payload, 0, position);
+    }
+}
@@ -3,7 +3,10 @@ package com.example.opa.policydecisionlog.command.infra.mapper;
 import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand;
 import com.example.opa.policydecisionlog.command.app.dto.DecisionLogIngestCommand.Labels;
 import com.example.opa.policydecisionlog.command.infra.db.mapper.CommandToEntityMapper;
-import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogEntity;
+import com.example.opa.policydecisionlog.command.infra.db.mapper.DecisionContextMaterializer;
+import com.example.opa.policydecisionlog.command.infra.db.model.DecisionLogInsertRow;
+import com.example.opa.policydecisionlog.command.infra.db.model.MaterializedDecision;
+import com.example.opa.policydecisionlog.shared.extractor.Decision.PolicyResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,30 +14,36 @@ import org.junit.jupiter.api.Test;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 class CommandToEntityMapperTest {
 
     private CommandToEntityMapper mapper;
     private JsonMapper jsonMapper;
+    private DecisionContextMaterializer contextMaterializer;
 
     @BeforeEach
     void setUp() {
         jsonMapper = JsonMapper.builder().build();
-        mapper = new CommandToEntityMapper(jsonMapper);
+        contextMaterializer = mock(DecisionContextMaterializer.class);
+        mapper = new CommandToEntityMapper(jsonMapper, contextMaterializer);
     }
 
     @Nested
-    @DisplayName("toEntity")
-    class ToEntity {
+    @DisplayName("toInsertRow")
+    class ToInsertRow {
 
         @Test
-        @DisplayName("모든 필드가 있는 Command가 주어지면 DecisionLogEntity로 정상 매핑된다")
-        void givenCommandWithAllFields_whenToEntity_thenMapsCorrectly() {
+        @DisplayName("모든 필드가 있는 Command가 주어지면 DecisionLogInsertRow로 정상 매핑된다")
+        void givenCommandWithAllFields_whenToInsertRow_thenMapsCorrectly() {
             // given
             UUID decisionId = UUID.randomUUID();
             UUID opaInstanceId = UUID.randomUUID();
@@ -51,25 +60,25 @@ class CommandToEntityMapperTest {
             );
 
             // when
-            DecisionLogEntity entity = mapper.toEntity(command);
+            DecisionLogInsertRow row = mapper.toInsertRow(command);
 
             // then
-            assertThat(entity.getDecisionId()).isEqualTo(decisionId);
-            assertThat(entity.getTs()).isEqualTo(timestamp);
-            assertThat(entity.getPath()).isEqualTo("cloud_access/policy/main");
-            assertThat(entity.isOverallAllow()).isTrue();
-            assertThat(entity.getRequestedBy()).isEqualTo("192.168.65.1:30825");
-            assertThat(entity.getReqId()).isEqualTo(1L);
-            assertThat(entity.getOpaInstanceId()).isEqualTo(opaInstanceId);
-            assertThat(entity.getOpaVersion()).isEqualTo("1.0.0");
-            assertThat(entity.getService()).isEqualTo("cloud_access");
-            assertThat(entity.getBundles()).containsEntry("bundle1", "v1");
-            assertThat(entity.getRaw()).containsEntry("raw", "data");
+            assertThat(row.decisionId()).isEqualTo(decisionId);
+            assertThat(row.ts()).isEqualTo(timestamp);
+            assertThat(row.path()).isEqualTo("cloud_access/policy/main");
+            assertThat(row.overallAllow()).isTrue();
+            assertThat(row.requestedBy()).isEqualTo("192.168.65.1:30825");
+            assertThat(row.reqId()).isEqualTo(1L);
+            assertThat(row.opaInstanceId()).isEqualTo(opaInstanceId);
+            assertThat(row.opaVersion()).isEqualTo("1.0.0");
+            assertThat(row.service()).isEqualTo("cloud_access");
+            assertThat(jsonMapper.readTree(row.bundles())).isEqualTo(bundles);
+            assertThat(jsonMapper.readTree(row.raw())).isEqualTo(raw);
         }
 
         @Test
         @DisplayName("result가 null인 Command가 주어지면 overallAllow가 false이다")
-        void givenCommandWithNullResult_whenToEntity_thenOverallAllowIsFalse() {
+        void givenCommandWithNullResult_whenToInsertRow_thenOverallAllowIsFalse() {
             // given
             DecisionLogIngestCommand command = new DecisionLogIngestCommand(
                     UUID.randomUUID(), OffsetDateTime.now(), "cloud_access/policy/main",
@@ -77,15 +86,15 @@ class CommandToEntityMapperTest {
             );
 
             // when
-            DecisionLogEntity entity = mapper.toEntity(command);
+            DecisionLogInsertRow row = mapper.toInsertRow(command);
 
             // then
-            assertThat(entity.isOverallAllow()).isFalse();
+            assertThat(row.overallAllow()).isFalse();
         }
 
         @Test
         @DisplayName("allow가 false인 result가 주어지면 overallAllow가 false이다")
-        void givenResultWithAllowFalse_whenToEntity_thenOverallAllowIsFalse() {
+        void givenResultWithAllowFalse_whenToInsertRow_thenOverallAllowIsFalse() {
             // given
             JsonNode result = jsonMapper.valueToTree(Map.of("allow", false));
 
@@ -95,15 +104,15 @@ class CommandToEntityMapperTest {
             );
 
             // when
-            DecisionLogEntity entity = mapper.toEntity(command);
+            DecisionLogInsertRow row = mapper.toInsertRow(command);
 
             // then
-            assertThat(entity.isOverallAllow()).isFalse();
+            assertThat(row.overallAllow()).isFalse();
         }
 
         @Test
         @DisplayName("path에서 service를 추출한다")
-        void givenPathWithService_whenToEntity_thenExtractsService() {
+        void givenPathWithService_whenToInsertRow_thenExtractsService() {
             // given
             DecisionLogIngestCommand command = new DecisionLogIngestCommand(
                     UUID.randomUUID(), OffsetDateTime.now(), "cloud_access/device_posture/response",
@@ -111,15 +120,15 @@ class CommandToEntityMapperTest {
             );
 
             // when
-            DecisionLogEntity entity = mapper.toEntity(command);
+            DecisionLogInsertRow row = mapper.toInsertRow(command);
 
             // then
-            assertThat(entity.getService()).isEqualTo("cloud_access");
+            assertThat(row.service()).isEqualTo("cloud_access");
         }
 
         @Test
-        @DisplayName("bundles가 null이면 빈 Map이 저장된다")
-        void givenNullBundles_whenToEntity_thenEmptyMap() {
+        @DisplayName("bundles가 null이면 빈 JSON 객체가 저장된다")
+        void givenNullBundles_whenToInsertRow_thenEmptyObject() {
             // given
             DecisionLogIngestCommand command = new DecisionLogIngestCommand(
                     UUID.randomUUID(), OffsetDateTime.now(), "cloud_access/policy/main",
@@ -127,15 +136,15 @@ class CommandToEntityMapperTest {
             );
 
             // when
-            DecisionLogEntity entity = mapper.toEntity(command);
+            DecisionLogInsertRow row = mapper.toInsertRow(command);
 
             // then
-            assertThat(entity.getBundles()).isEmpty();
+            assertThat(new String(row.bundles(), StandardCharsets.UTF_8)).isEqualTo("{}");
         }
 
         @Test
         @DisplayName("labels가 null이면 opaInstanceId와 opaVersion이 null이다")
-        void givenNullLabels_whenToEntity_thenOpaFieldsAreNull() {
+        void givenNullLabels_whenToInsertRow_thenOpaFieldsAreNull() {
             // given
             DecisionLogIngestCommand command = new DecisionLogIngestCommand(
                     UUID.randomUUID(), OffsetDateTime.now(), "cloud_access/policy/main",
@@ -143,11 +152,53 @@ class CommandToEntityMapperTest {
             );
 
             // when
-            DecisionLogEntity entity = mapper.toEntity(command);
+            DecisionLogInsertRow row = mapper.toInsertRow(command);
 
             // then
-            assertThat(entity.getOpaInstanceId()).isNull();
-            assertThat(entity.getOpaVersion()).isNull();
+            assertThat(row.opaInstanceId()).isNull();
+            assertThat(row.opaVersion()).isNull();
+        }
+
+        @Test
+        @DisplayName("원본 byte가 있으면 raw는 재직렬화 없이 그대로 사용한다")
+        void givenRawBytes_whenToInsertRow_thenUsesOriginalBytes() {
+            // given
+            byte[] rawBytes = "{\"decision_id\": \"x\"}".getBytes(StandardCharsets.UTF_8);
+            JsonNode raw = jsonMapper.readTree(rawBytes);
+
+            DecisionLogIngestCommand command = new DecisionLogIngestCommand(
+                    UUID.randomUUID(), OffsetDateTime.now(), "cloud_access/policy/main",
+                    null, null, null, null, null, null, raw, rawBytes
+            );
+
+            // when
+            DecisionLogInsertRow row = mapper.toInsertRow(command);
+
+            // then
+            assertThat(row.raw()).isSameAs(rawBytes);
+        }
+
+        @Test
+        @DisplayName("적재 시점에 추출한 decision context가 row에 포함된다")
+        void givenCommand_whenToInsertRow_thenIncludesMaterializedDecisionContext() {
+            // given
+            JsonNode raw = jsonMapper.valueToTree(Map.of("result", Map.of("allow", false)));
+            DecisionLogIngestCommand command = new DecisionLogIngestCommand(
+                    UUID.randomUUID(), OffsetDateTime.now(), "cloud_access/policy/main",
+                    null, null, null, null, null, null, raw
+            );
+            byte[] decisionContext = "{\"reasons\":[],\"policies\":[]}".getBytes(StandardCharsets.UTF_8);
+            List<PolicyResult> policies = List.of(new PolicyResult("vaccine_policy", false, 1));
+
+            given(contextMaterializer.materialize("cloud_access", raw))
+                    .willReturn(new MaterializedDecision(decisionContext, policies));
+
+            // when
+            DecisionLogInsertRow row = mapper.toInsertRow(command);
+
+            // then
+            assertThat(row.decisionContext()).isEqualTo(decisionContext);
+            assertThat(row.policies()).isEqualTo(policies);
         }
     }
 }
@@ -0,0 +1,98 @@
+package com.example.opa.policydecisionlog.command.infra.mapper;
+
+import com.example.opa.policydecisionlog.command.infra.db.mapper.DecisionContextMaterializer;
+import com.example.opa.policydecisionlog.command.infra.db.model.MaterializedDecision;
+import com.example.opa.policydecisionlog.shared.extractor.Decision;
+import com.example.opa.policydecisionlog.shared.extractor.CloudAccessDecisionExtractor;
+import com.example.opa.policydecisionlog.shared.extractor.DecisionExtractorRegistry;
+import com.example.opa.policydecisionlog.shared.extractor.DefaultDecisionExtractor;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class DecisionContextMaterializerTest {
+
+    private static final String DENIED_RAW_JSON = """
+            {
+                "result": {
+                    "allow": false,
+                    "score": {"breakdown": [{"policy": "vaccine_policy", "weight": 30}]},
+                    "policies": [
+                        {
+                            "policy_name": "vaccine_policy",
+                            "policy_data": {
+                                "allow": false,
+                                "results": [
+                                    {
+                                        "name": "vaccine",
+                                        "type": "vaccine_macos",
+                                        "expression": "all",
+                                        "allow": false,
+                                        "violations": ["V3 백신 미설치"]
+                                    }
+                                ],
+                                "violations": ["V3 백신 미설치"]
+                            }
+                        }
+                    ]
+                }
+            }
+            """;
+
+    @Mock
+    private DecisionLogMetrics metrics;
+
+    private JsonMapper jsonMapper;
+    private DecisionContextMaterializer materializer;
+
+    @BeforeEach
+    void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        DecisionExtractorRegistry registry = new DecisionExtractorRegistry(
+                List.of(new CloudAccessDecisionExtractor()), new DefaultDecisionExtractor());
+        materializer = new DecisionContextMaterializer(registry, jsonMapper, metrics);
+    }
+
+    @Test
+    @DisplayName("서비스 extractor로 reasons/policies를 추출해 JSON으로 직렬화한다")
+    void givenDeniedRaw_whenMaterialize_thenSerializesReasonsAndPolicies() {
+        // given
+        JsonNode raw = jsonMapper.readTree(DENIED_RAW_JSON);
+
+        // when
+        MaterializedDecision materialized = materializer.materialize("cloud_access", raw);
+
+        // then
+        Decision decision = jsonMapper.readValue(materialized.json(), Decision.class);
+        assertThat(decision.reasons()).hasSize(1);
+        assertThat(decision.reasons().getFirst().message()).isEqualTo("V3 백신 미설치");
+        assertThat(decision.reasons().getFirst().weight()).isEqualTo(30);
+        assertThat(decision.policies()).hasSize(1);
+        assertThat(decision.policies().getFirst().violationsCount()).isEqualTo(1);
+        assertThat(materialized.policies()).isEqualTo(decision.policies());
+        then(metrics).should().recordContextMaterialize(anyLong());
+    }
+
+    @Test
+    @DisplayName("raw가 없으면 null을 반환한다")
+    void givenNullRaw_whenMaterialize_thenReturnsNull() {
+        // when
+        MaterializedDecision materialized = materializer.materialize("cloud_access", null);
+
+        // then
+        assertThat(materialized).isNull();
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.opa.policydecisionlog.command.infra.spool;
+
+import com.example.opa.policydecisionlog.command.app.dto.RawDecisionLog;
+import com.example.opa.policydecisionlog.shared.config.SpoolProperties;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class DecisionLogSpoolTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private DecisionLogMetrics metrics;
+
+    private final List<DecisionLogSpool> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(DecisionLogSpool::close);
+    }
+
+    private DecisionLogSpool createSpool(int segmentSize, int maxSegments) {
+        return createSpool(segmentSize, maxSegments, 0);
+    }
+
+    private DecisionLogSpool createSpool(int segmentSize, int maxSegments, long forceIntervalMs) {
+        SpoolProperties properties = new SpoolProperties(
+                true, directory.toString(), segmentSize, maxSegments, 1, 200, 5000, 1000, forceIntervalMs, 5000);
+        DecisionLogSpool spool = new DecisionLogSpool(properties, metrics);
+        spool.init();
+        opened.add(spool);
+        return spool;
+    }
+
+    @Nested
+    @DisplayName("append / read")
+    class AppendAndRead {
+
+        @Test
+        @DisplayName("기록한 순서대로 decisionId와 원본 payload를 읽음")
+        void givenAppendedLogs_whenRead_thenReturnsInOrder() {
+            // given
+            DecisionLogSpool spool = createSpool(4096, 4);
+            RawDecisionLog first = createLog();
+            RawDecisionLog second = createLog();
+            spool.append(List.of(first, second));
+
+            // when
+            List<SpooledDecisionLog> records = spool.read(10);
+
+            // then
+            assertThat(records).hasSize(2);
+            assertThat(records.get(0).decisionId()).isEqualTo(first.decisionId());
+            assertThat(records.get(0).payload()).isEqualTo(first.payload());
+            assertThat(records.get(1).decisionId()).isEqualTo(second.decisionId());
+            assertThat(spool.hasBacklog()).isTrue();
+        }
+
+        @Test
+        @DisplayName("commit 이후에는 commit 위치 다음 레코드부터 읽음")
+        void givenCommitted_whenRead_thenStartsAfterCheckpoint() {
+            // given
+            DecisionLogSpool spool = createSpool(4096, 4);
+            RawDecisionLog first = createLog();
+            RawDecisionLog second = createLog();
+            spool.append(List.of(first, second));
+            spool.commit(spool.read(1).getFirst());
+
+            // when
+            List<SpooledDecisionLog> records = spool.read(10);
+
+            // then
+            assertThat(records).extracting(SpooledDecisionLog::decisionId).containsExactly(second.decisionId());
+        }
+
+        @Test
+        @DisplayName("모두 commit하면 backlog가 없음")
+        void givenAllCommitted_whenHasBacklog_thenFalse() {
+            // given
+            DecisionLogSpool spool = createSpool(4096, 4);
+            spool.append(List.of(createLog(), createLog()));
+            spool.commit(spool.read(10).getLast());
+
+            // when & then
+            assertThat(spool.hasBacklog()).isFalse();
+            assertThat(spool.read(10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("segment")
+    class Segment {
+
+        @Test
+        @DisplayName("세그먼트가 가득 차면 다음 세그먼트로 넘어가고 순서대로 읽음")
+        void givenSegmentFull_whenAppend_thenRollsToNextSegment() {
+            // given
+            DecisionLogSpool spool = createSpool(512, 8);
+            List<RawDecisionLog> logs = Stream.generate(DecisionLogSpoolTest.this::createLog).limit(10).toList();
+
+            // when
+            spool.append(logs);
+
+            // then
+            assertThat(spool.read(100))
+                    .extracting(SpooledDecisionLog::decisionId)
+                    .containsExactlyElementsOf(logs.stream().map(RawDecisionLog::decisionId).toList());
+        }
+
+        @Test
+        @DisplayName("최대 세그먼트 수를 넘으면 SpoolUnavailableException 발생")
+        void givenMaxSegmentsReached_whenAppend_thenThrowsSpoolUnavailableException() {
+            // given
+            DecisionLogSpool spool = createSpool(512, 1);
+            List<RawDecisionLog> logs = Stream.generate(DecisionLogSpoolTest.this::createLog).limit(10).toList();
+
+            // when & then - 들어가는 앞쪽 레코드도 기록하지 않음
+            assertThatThrownBy(() -> spool.append(logs))
+                    .isInstanceOf(SpoolUnavailableException.class);
+            assertThat(spool.read(100)).isEmpty();
+            assertThat(spool.hasBacklog()).isFalse();
+        }
+
+        @Test
+        @DisplayName("요청 중 하나가 세그먼트보다 크면 요청 전체를 기록하지 않음")
+        void givenOversizedLogInRequest_whenAppend_thenWritesNothing() {
+            // given
+            DecisionLogSpool spool = createSpool(512, 4);
+            RawDecisionLog existing = createLog();
+            spool.append(List.of(existing));
+            RawDecisionLog oversized = new RawDecisionLog(UUID.randomUUID().toString(), new byte[1024]);
+
+            // when & then
+            assertThatThrownBy(() -> spool.append(List.of(createLog(), oversized)))
+                    .isInstanceOf(SpoolUnavailableException.class);
+            assertThat(spool.read(100))
+                    .extracting(SpooledDecisionLog::decisionId)
+                    .containsExactly(existing.decisionId());
+        }
+
+        @Test
+        @DisplayName("drain이 끝난 세그먼트는 재사용되고 이전 레코드는 다시 읽히지 않음")
+        void givenDrainedSegment_whenRollAgain_thenReusesFileWithoutStaleRecords() throws Exception {
+            // given
+            DecisionLogSpool spool = createSpool(512, 2);
+            List<RawDecisionLog> logs = Stream.generate(DecisionLogSpoolTest.this::createLog).limit(4).toList();
+            spool.append(logs);
+            spool.commit(spool.read(100).getLast());
+
+            List<RawDecisionLog> more = Stream.generate(DecisionLogSpoolTest.this::createLog).limit(4).toList();
+
+            // when
+            spool.append(more);
+
+            // then
+            assertThat(spool.read(100))
+                    .extracting(SpooledDecisionLog::decisionId)
+                    .containsExactlyElementsOf(more.stream().map(RawDecisionLog::decisionId).toList());
+            try (Stream<Path> files = Files.list(directory)) {
+                assertThat(files.filter(p -> p.getFileName().toString().endsWith(".spool")).count())
+                        .isLessThanOrEqualTo(2);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("recovery")
+    class Recovery {
+
+        @Test
+        @DisplayName("재시작하면 checkpoint 이후의 레코드부터 다시 읽음")
+        void givenRestart_whenRead_thenResumesFromCheckpoint() {
+            // given
+            DecisionLogSpool spool = createSpool(4096, 4);
+            RawDecisionLog first = createLog();
+            RawDecisionLog second = createLog();
+            spool.append(List.of(first, second));
+            spool.commit(spool.read(1).getFirst());
+            spool.close();
+
+            // when
+            DecisionLogSpool restarted = createSpool(4096, 4);
+
+            // then
+            assertThat(restarted.read(10))
+                    .extracting(SpooledDecisionLog::decisionId)
+                    .containsExactly(second.decisionId());
+        }
+
+        @Test
+        @DisplayName("force-interval-ms를 주면 append는 fsync를 미루고 flush 이후 재시작해도 레코드가 남음")
+        void givenForceInterval_whenFlushAndRestart_thenKeepsRecords() {
+            // given
+            DecisionLogSpool spool = createSpool(4096, 4, 1000);
+            RawDecisionLog first = createLog();
+            spool.append(List.of(first));
+
+            // when
+            spool.flush();
+            spool.close();
+            DecisionLogSpool restarted = createSpool(4096, 4, 1000);
+
+            // then
+            assertThat(restarted.read(10))
+                    .extracting(SpooledDecisionLog::decisionId)
+                    .containsExactly(first.decisionId());
+        }
+    }
+
+    private RawDecisionLog createLog() {
+        String decisionId = UUID.randomUUID().toString();
+        byte[] payload = """
+                {"decision_id": "%s", "path": "cloud_access/policy/main"}""".formatted(decisionId)
+                .getBytes(StandardCharsets.UTF_8);
+        return new RawDecisionLog(decisionId, payload);
+    }
+}
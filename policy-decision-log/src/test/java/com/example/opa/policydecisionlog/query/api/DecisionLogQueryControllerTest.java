@@ -1,33 +1,53 @@
 package com.example.opa.policydecisionlog.query.api;
 
+import com.example.opa.policydecisionlog.query.api.export.NdjsonExportWriter;
 import com.example.opa.policydecisionlog.query.api.mapper.RequestToQueryMapper;
 import com.example.opa.policydecisionlog.query.app.usecase.DecisionLogQueryService;
 import com.example.opa.policydecisionlog.query.app.dto.CursorPage;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionBatchQuery;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogSearchQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionStatsQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionTimelineQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DenyRatePoint;
+import com.example.opa.policydecisionlog.query.app.dto.RollupInterval;
+import com.example.opa.policydecisionlog.query.app.dto.SearchCursor;
 import com.example.opa.policydecisionlog.query.fixture.DecisionLogReadModelFixture;
 import com.example.opa.policydecisionlog.shared.config.GzipProperties;
 import com.example.opa.policydecisionlog.shared.exception.DecisionNotFoundException;
+import com.example.opa.policydecisionlog.shared.exception.InvalidRollupIntervalException;
+import com.example.opa.policydecisionlog.shared.exception.MissingTimelineKeyException;
+import com.example.opa.policydecisionlog.shared.exception.TooManyDecisionIdsException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(DecisionLogQueryController.class)
+@Import(NdjsonExportWriter.class)
 class DecisionLogQueryControllerTest {
 
     @Autowired
@@ -65,6 +85,22 @@ class DecisionLogQueryControllerTest {
             then(queryService).should().getByDecisionId(decisionId);
         }
 
+        @Test
+        @DisplayName("[GET] Decision Log 단건 조회 - raw, bundles JSON 텍스트가 객체로 그대로 실린다")
+        void givenJsonText_whenGetDecision_thenEmbedsRawJsonVerbatim() throws Exception {
+            // given
+            UUID decisionId = UUID.randomUUID();
+            DecisionLogReadModel readModel = DecisionLogReadModelFixture.createWithDecisionId(decisionId);
+
+            given(queryService.getByDecisionId(decisionId)).willReturn(readModel);
+
+            // when & then
+            mockMvc.perform(get("/decisions/{decisionId}", decisionId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.raw.key").value("value"))
+                    .andExpect(jsonPath("$.bundles.bundle1").value("v1"));
+        }
+
         @Test
         @DisplayName("[GET] Decision Log 단건 조회 - 존재하지 않는 ID")
         void givenNonExistingDecisionId_whenGetDecision_thenReturnsNotFound() throws Exception {
@@ -98,7 +134,7 @@ class DecisionLogQueryControllerTest {
             // given
             DecisionLogReadModel readModel = DecisionLogReadModelFixture.createDefault();
             DecisionLogSearchQuery query = new DecisionLogSearchQuery(
-                    null, null, null, null, null, 20, null
+                    null, null, null, null, null, null, null, 20, null, null
             );
             CursorPage<DecisionLogReadModel> page = new CursorPage<>(List.of(readModel), null);
 
@@ -121,7 +157,7 @@ class DecisionLogQueryControllerTest {
         void givenNoResults_whenSearchDecisions_thenReturnsEmptyArray() throws Exception {
             // given
             DecisionLogSearchQuery query = new DecisionLogSearchQuery(
-                    null, null, null, null, null, 20, null
+                    null, null, null, null, null, null, null, 20, null, null
             );
             CursorPage<DecisionLogReadModel> emptyPage = new CursorPage<>(List.of(), null);
 
@@ -147,9 +183,10 @@ class DecisionLogQueryControllerTest {
             DecisionLogReadModel readModel2 = DecisionLogReadModelFixture.createWithTimestamp(ts2);
 
             DecisionLogSearchQuery query = new DecisionLogSearchQuery(
-                    null, null, null, null, null, 2, null
+                    null, null, null, null, null, null, null, 2, null, null
             );
-            CursorPage<DecisionLogReadModel> page = new CursorPage<>(List.of(readModel1, readModel2), ts2);
+            String nextCursor = new SearchCursor(ts2, 1L).encode();
+            CursorPage<DecisionLogReadModel> page = new CursorPage<>(List.of(readModel1, readModel2), nextCursor);
 
             given(mapper.toQuery(any())).willReturn(query);
             given(queryService.search(query)).willReturn(page);
@@ -158,7 +195,7 @@ class DecisionLogQueryControllerTest {
             mockMvc.perform(get("/decisions").param("limit", "2"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.content.length()").value(2))
-                    .andExpect(jsonPath("$.nextCursor").exists());
+                    .andExpect(jsonPath("$.nextCursor").value(nextCursor));
         }
 
         @Test
@@ -166,7 +203,7 @@ class DecisionLogQueryControllerTest {
         void givenFilterParams_whenSearchDecisions_thenFiltersResults() throws Exception {
             // given
             DecisionLogSearchQuery query = new DecisionLogSearchQuery(
-                    null, null, true, "cloud_access", "/policy/main", 20, null
+                    null, null, true, "cloud_access", "/policy/main", null, null, 20, null, null
             );
             CursorPage<DecisionLogReadModel> emptyPage = new CursorPage<>(List.of(), null);
 
@@ -184,4 +221,164 @@ class DecisionLogQueryControllerTest {
             then(queryService).should().search(query);
         }
     }
+
+    @Nested
+    @DisplayName("GET /decisions/stats/deny-rate")
+    class GetDenyRate {
+
+        @Test
+        @DisplayName("[GET] 거절률 시계열 조회 - 정상 호출")
+        void givenRollups_whenGetDenyRate_thenReturnsPoints() throws Exception {
+            // given
+            OffsetDateTime bucket = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+            DecisionStatsQuery query = new DecisionStatsQuery(
+                    bucket, bucket.plusHours(1), "cloud_access", RollupInterval.MINUTE, 20);
+
+            given(mapper.toStatsQuery(any())).willReturn(query);
+            given(queryService.getDenyRate(query)).willReturn(List.of(new DenyRatePoint(bucket, 4, 1)));
+
+            // when & then
+            mockMvc.perform(get("/decisions/stats/deny-rate").param("service", "cloud_access"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.interval").value("minute"))
+                    .andExpect(jsonPath("$.points.length()").value(1))
+                    .andExpect(jsonPath("$.points[0].decisions").value(4))
+                    .andExpect(jsonPath("$.points[0].denied").value(1))
+                    .andExpect(jsonPath("$.points[0].denyRate").value(0.25));
+        }
+
+        @Test
+        @DisplayName("[GET] 거절률 시계열 조회 - 알 수 없는 interval")
+        void givenUnknownInterval_whenGetDenyRate_thenReturnsBadRequest() throws Exception {
+            // given
+            given(mapper.toStatsQuery(any())).willThrow(new InvalidRollupIntervalException("week"));
+
+            // when & then
+            mockMvc.perform(get("/decisions/stats/deny-rate").param("interval", "week"))
+                    .andExpect(status().isBadRequest());
+
+            then(queryService).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /decisions/export")
+    class ExportDecisions {
+
+        @Test
+        @DisplayName("[GET] Decision Log 내보내기 - 한 줄에 하나씩 NDJSON으로 응답")
+        void givenReadModels_whenExportDecisions_thenStreamsNdjson() throws Exception {
+            // given
+            DecisionLogSearchQuery query = new DecisionLogSearchQuery(
+                    null, null, null, "cloud_access", null, null, null, 20, null, null
+            );
+            DecisionLogReadModel first = DecisionLogReadModelFixture.createDefault();
+            DecisionLogReadModel second = DecisionLogReadModelFixture.createDefault();
+
+            given(mapper.toQuery(any())).willReturn(query);
+            given(queryService.export(eq(query), any())).willAnswer(invocation -> {
+                Consumer<DecisionLogReadModel> sink = invocation.getArgument(1);
+                sink.accept(first);
+                sink.accept(second);
+                return 2L;
+            });
+
+            // when
+            MvcResult result = mockMvc.perform(get("/decisions/export").param("service", "cloud_access"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(NdjsonExportWriter.APPLICATION_NDJSON))
+                    .andReturn();
+
+            // then
+            String[] lines = result.getResponse().getContentAsString().split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).contains(first.decisionId().toString());
+            assertThat(lines[1]).contains(second.decisionId().toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /decisions/batch")
+    class GetDecisions {
+
+        @Test
+        @DisplayName("[POST] Decision Log 일괄 조회 - 요청 순서대로 NDJSON으로 응답하고 없는 ID를 표시")
+        void givenPartialHits_whenGetDecisions_thenStreamsNdjsonInRequestOrder() throws Exception {
+            // given
+            UUID miss = UUID.randomUUID();
+            DecisionLogReadModel hit = DecisionLogReadModelFixture.createDefault();
+            DecisionBatchQuery query = new DecisionBatchQuery(List.of(miss, hit.decisionId()), null);
+
+            given(mapper.toBatchQuery(any())).willReturn(query);
+            given(queryService.lookup(eq(query), any())).willAnswer(invocation -> {
+                BiConsumer<UUID, DecisionLogReadModel> sink = invocation.getArgument(1);
+                sink.accept(miss, null);
+                sink.accept(hit.decisionId(), hit);
+                return 1L;
+            });
+
+            // when
+            MvcResult result = mockMvc.perform(post("/decisions/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"decisionIds\":[\"" + miss + "\",\"" + hit.decisionId() + "\"]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(NdjsonExportWriter.APPLICATION_NDJSON))
+                    .andReturn();
+
+            // then
+            String[] lines = result.getResponse().getContentAsString().split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).contains(miss.toString()).contains("\"found\":false").doesNotContain("result");
+            assertThat(lines[1]).contains(hit.decisionId().toString()).contains("\"found\":true");
+        }
+
+        @Test
+        @DisplayName("[POST] Decision Log 일괄 조회 - 최대 개수 초과 시 400 응답")
+        void givenTooManyIds_whenGetDecisions_thenReturnsBadRequest() throws Exception {
+            // given
+            given(mapper.toBatchQuery(any())).willThrow(new TooManyDecisionIdsException(1001, 1000));
+
+            // when & then
+            mockMvc.perform(post("/decisions/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"decisionIds\":[]}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /decisions/timeline")
+    class GetTimeline {
+
+        @Test
+        @DisplayName("[GET] Decision 타임라인 조회 - 정상 호출")
+        void givenRequestedBy_whenGetTimeline_thenReturnsOkWithResults() throws Exception {
+            // given
+            DecisionLogReadModel readModel = DecisionLogReadModelFixture.createDefault();
+            DecisionTimelineQuery query = new DecisionTimelineQuery(
+                    "10.0.0.12", null, null, null, 20, null, null
+            );
+            given(mapper.toTimelineQuery(any())).willReturn(query);
+            given(queryService.timeline(query)).willReturn(new CursorPage<>(List.of(readModel), null));
+
+            // when & then
+            mockMvc.perform(get("/decisions/timeline").param("requestedBy", "10.0.0.12"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.content[0].decisionId").value(readModel.decisionId().toString()));
+        }
+
+        @Test
+        @DisplayName("[GET] Decision 타임라인 조회 - 조회 키가 없으면 400 응답")
+        void givenNoKey_whenGetTimeline_thenReturnsBadRequest() throws Exception {
+            // given
+            given(mapper.toTimelineQuery(any())).willThrow(new MissingTimelineKeyException());
+
+            // when & then
+            mockMvc.perform(get("/decisions/timeline"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+        }
+    }
 }
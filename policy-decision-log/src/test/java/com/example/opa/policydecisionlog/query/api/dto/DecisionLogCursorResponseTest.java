@@ -2,6 +2,7 @@ package com.example.opa.policydecisionlog.query.api.dto;
 
 import com.example.opa.policydecisionlog.query.app.dto.CursorPage;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
+import com.example.opa.policydecisionlog.query.app.dto.SearchCursor;
 import com.example.opa.policydecisionlog.query.fixture.DecisionLogReadModelFixture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,9 +44,10 @@ class DecisionLogCursorResponseTest {
         DecisionLogReadModel readModel1 = DecisionLogReadModelFixture.createWithTimestamp(ts1);
         DecisionLogReadModel readModel2 = DecisionLogReadModelFixture.createWithTimestamp(ts2);
 
+        String nextCursor = new SearchCursor(ts2, 1L).encode();
         CursorPage<DecisionLogReadModel> page = new CursorPage<>(
                 List.of(readModel1, readModel2),
-                ts2
+                nextCursor
         );
 
         // when
@@ -53,7 +55,7 @@ class DecisionLogCursorResponseTest {
 
         // then
         assertThat(response.content()).hasSize(2);
-        assertThat(response.nextCursor()).isEqualTo(ts2);
+        assertThat(response.nextCursor()).isEqualTo(nextCursor);
     }
 
     @Test
@@ -0,0 +1,86 @@
+package com.example.opa.policydecisionlog.query.api.export;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonExportWriterTest {
+
+    private NdjsonExportWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new NdjsonExportWriter(JsonMapper.builder().build());
+    }
+
+    private static long writeAll(Consumer<Object> sink, List<?> values) {
+        values.forEach(sink);
+        return values.size();
+    }
+
+    @Test
+    @DisplayName("값마다 한 줄씩 NDJSON으로 쓴다")
+    void givenValues_whenWrite_thenWritesOneJsonPerLine() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        List<Map<String, Object>> values = List.of(Map.of("id", 1), Map.of("id", 2));
+
+        // when
+        long written = writer.write(request, response, sink -> writeAll(sink, values));
+
+        // then
+        assertThat(written).isEqualTo(2);
+        assertThat(response.getContentType()).startsWith(NdjsonExportWriter.APPLICATION_NDJSON);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}\n{\"id\":2}\n");
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding에 gzip이 있으면 gzip으로 압축한다")
+    void givenAcceptGzip_whenWrite_thenCompressesBody() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        writer.write(request, response, sink -> writeAll(sink, List.of(Map.of("id", 1))));
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}\n");
+        }
+    }
+
+    @Test
+    @DisplayName("gzip;q=0이면 압축하지 않는다")
+    void givenGzipRejected_whenWrite_thenWritesPlainBody() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        writer.write(request, response, sink -> writeAll(sink, List.of(Map.of("id", 1))));
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}\n");
+    }
+}
@@ -1,15 +1,35 @@
 package com.example.opa.policydecisionlog.query.api.mapper;
 
+import com.example.opa.policydecisionlog.query.api.dto.DecisionBatchRequest;
 import com.example.opa.policydecisionlog.query.api.dto.DecisionLogSearchRequest;
+import com.example.opa.policydecisionlog.query.api.dto.DecisionStatsRequest;
+import com.example.opa.policydecisionlog.query.api.dto.DecisionTimelineRequest;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionBatchQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionLogField;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogSearchQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionStatsQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionTimelineQuery;
+import com.example.opa.policydecisionlog.query.app.dto.RollupInterval;
+import com.example.opa.policydecisionlog.query.app.dto.SearchCursor;
+import com.example.opa.policydecisionlog.shared.exception.InvalidCursorException;
+import com.example.opa.policydecisionlog.shared.exception.InvalidRollupIntervalException;
+import com.example.opa.policydecisionlog.shared.exception.InvalidSearchFieldException;
+import com.example.opa.policydecisionlog.shared.exception.MissingTimelineKeyException;
+import com.example.opa.policydecisionlog.shared.exception.TooManyDecisionIdsException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class RequestToQueryMapperTest {
 
@@ -30,10 +50,10 @@ class RequestToQueryMapperTest {
             // given
             OffsetDateTime from = OffsetDateTime.now().minusDays(1);
             OffsetDateTime to = OffsetDateTime.now();
-            OffsetDateTime cursor = OffsetDateTime.now().minusHours(1);
+            SearchCursor cursor = new SearchCursor(OffsetDateTime.parse("2025-01-01T00:00:00Z"), 1024L);
 
             DecisionLogSearchRequest request = new DecisionLogSearchRequest(
-                    from, to, true, "cloud_access", "/policy/main", 50, cursor
+                    from, to, true, "cloud_access", "/policy/main", "10.0.0.12", 42L, 50, cursor.encode(), null
             );
 
             // when
@@ -45,6 +65,8 @@ class RequestToQueryMapperTest {
             assertThat(query.allow()).isTrue();
             assertThat(query.service()).isEqualTo("cloud_access");
             assertThat(query.path()).isEqualTo("/policy/main");
+            assertThat(query.requestedBy()).isEqualTo("10.0.0.12");
+            assertThat(query.reqId()).isEqualTo(42L);
             assertThat(query.limit()).isEqualTo(50);
             assertThat(query.cursor()).isEqualTo(cursor);
         }
@@ -54,7 +76,7 @@ class RequestToQueryMapperTest {
         void givenNullLimit_whenToQuery_thenUsesDefaultLimit() {
             // given
             DecisionLogSearchRequest request = new DecisionLogSearchRequest(
-                    null, null, null, null, null, null, null
+                    null, null, null, null, null, null, null, null, null, null
             );
 
             // when
@@ -69,10 +91,10 @@ class RequestToQueryMapperTest {
         void givenZeroOrNegativeLimit_whenToQuery_thenUsesDefaultLimit() {
             // given
             DecisionLogSearchRequest requestZero = new DecisionLogSearchRequest(
-                    null, null, null, null, null, 0, null
+                    null, null, null, null, null, null, null, 0, null, null
             );
             DecisionLogSearchRequest requestNegative = new DecisionLogSearchRequest(
-                    null, null, null, null, null, -5, null
+                    null, null, null, null, null, null, null, -5, null, null
             );
 
             // when
@@ -89,7 +111,7 @@ class RequestToQueryMapperTest {
         void givenLimitExceedsMax_whenToQuery_thenUsesMaxLimit() {
             // given
             DecisionLogSearchRequest request = new DecisionLogSearchRequest(
-                    null, null, null, null, null, 150, null
+                    null, null, null, null, null, null, null, 150, null, null
             );
 
             // when
@@ -98,5 +120,235 @@ class RequestToQueryMapperTest {
             // then
             assertThat(query.limit()).isEqualTo(100);
         }
+
+        @Test
+        @DisplayName("cursor가 비어 있으면 첫 페이지로 조회한다")
+        void givenBlankCursor_whenToQuery_thenCursorIsNull() {
+            // given
+            DecisionLogSearchRequest request = new DecisionLogSearchRequest(
+                    null, null, null, null, null, null, null, null, " ", null
+            );
+
+            // when
+            DecisionLogSearchQuery query = mapper.toQuery(request);
+
+            // then
+            assertThat(query.cursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("해석할 수 없는 cursor가 주어지면 InvalidCursorException이 발생한다")
+        void givenMalformedCursor_whenToQuery_thenThrowsInvalidCursorException() {
+            // given
+            DecisionLogSearchRequest request = new DecisionLogSearchRequest(
+                    null, null, null, null, null, null, null, null, "2025-01-01T00:00:00Z", null
+            );
+
+            // when & then
+            assertThatThrownBy(() -> mapper.toQuery(request))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+
+        @Test
+        @DisplayName("fields가 없으면 null로 매핑되어 use case 기본 컬럼을 사용한다")
+        void givenNoFields_whenToQuery_thenFieldsIsNull() {
+            // given
+            DecisionLogSearchRequest request = new DecisionLogSearchRequest(
+                    null, null, null, null, null, null, null, null, null, null
+            );
+
+            // when
+            DecisionLogSearchQuery query = mapper.toQuery(request);
+
+            // then
+            assertThat(query.fields()).isNull();
+        }
+
+        @Test
+        @DisplayName("fields가 주어지면 필수 컬럼(decisionId, timestamp)을 포함해 매핑된다")
+        void givenFields_whenToQuery_thenMapsFieldsWithRequiredColumns() {
+            // given
+            DecisionLogSearchRequest request = new DecisionLogSearchRequest(
+                    null, null, null, null, null, null, null, null, null, "path, overallAllow"
+            );
+
+            // when
+            DecisionLogSearchQuery query = mapper.toQuery(request);
+
+            // then
+            assertThat(query.fields()).containsExactlyInAnyOrder(
+                    DecisionLogField.DECISION_ID,
+                    DecisionLogField.TIMESTAMP,
+                    DecisionLogField.PATH,
+                    DecisionLogField.OVERALL_ALLOW
+            );
+        }
+
+        @Test
+        @DisplayName("알 수 없는 field가 주어지면 InvalidSearchFieldException이 발생한다")
+        void givenUnknownField_whenToQuery_thenThrowsInvalidSearchFieldException() {
+            // given
+            DecisionLogSearchRequest request = new DecisionLogSearchRequest(
+                    null, null, null, null, null, null, null, null, null, "path,unknown"
+            );
+
+            // when & then
+            assertThatThrownBy(() -> mapper.toQuery(request))
+                    .isInstanceOf(InvalidSearchFieldException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("toStatsQuery")
+    class ToStatsQuery {
+
+        @Test
+        @DisplayName("구간이 없으면 최근 1시간, interval이 없으면 minute이 적용된다")
+        void givenEmptyRequest_whenToStatsQuery_thenUsesDefaults() {
+            // given
+            DecisionStatsRequest request = new DecisionStatsRequest(null, null, null, null, null);
+
+            // when
+            DecisionStatsQuery query = mapper.toStatsQuery(request);
+
+            // then
+            assertThat(Duration.between(query.from(), query.to())).isEqualTo(Duration.ofHours(1));
+            assertThat(query.service()).isNull();
+            assertThat(query.interval()).isEqualTo(RollupInterval.MINUTE);
+            assertThat(query.limit()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("모든 필드가 있는 요청이 주어지면 Query로 정상 매핑된다")
+        void givenRequestWithAllFields_whenToStatsQuery_thenMapsCorrectly() {
+            // given
+            OffsetDateTime from = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+            OffsetDateTime to = OffsetDateTime.parse("2025-01-02T00:00:00Z");
+            DecisionStatsRequest request = new DecisionStatsRequest(from, to, "cloud_access", "hour", 500);
+
+            // when
+            DecisionStatsQuery query = mapper.toStatsQuery(request);
+
+            // then
+            assertThat(query.from()).isEqualTo(from);
+            assertThat(query.to()).isEqualTo(to);
+            assertThat(query.service()).isEqualTo("cloud_access");
+            assertThat(query.interval()).isEqualTo(RollupInterval.HOUR);
+            assertThat(query.limit()).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 interval이 주어지면 InvalidRollupIntervalException이 발생한다")
+        void givenUnknownInterval_whenToStatsQuery_thenThrowsInvalidRollupIntervalException() {
+            // given
+            DecisionStatsRequest request = new DecisionStatsRequest(null, null, null, "week", null);
+
+            // when & then
+            assertThatThrownBy(() -> mapper.toStatsQuery(request))
+                    .isInstanceOf(InvalidRollupIntervalException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("toBatchQuery")
+    class ToBatchQuery {
+
+        @Test
+        @DisplayName("null ID를 제외하고 요청 순서를 유지한다")
+        void givenIdsWithNull_whenToBatchQuery_thenKeepsOrderWithoutNull() {
+            // given
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            DecisionBatchRequest request = new DecisionBatchRequest(Arrays.asList(second, null, first), null);
+
+            // when
+            DecisionBatchQuery query = mapper.toBatchQuery(request);
+
+            // then
+            assertThat(query.decisionIds()).containsExactly(second, first);
+            assertThat(query.fields()).isNull();
+        }
+
+        @Test
+        @DisplayName("ID 목록이 없으면 빈 목록으로 변환한다")
+        void givenNoIds_whenToBatchQuery_thenReturnsEmptyIds() {
+            // when
+            DecisionBatchQuery query = mapper.toBatchQuery(new DecisionBatchRequest(null, null));
+
+            // then
+            assertThat(query.decisionIds()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("최대 개수를 넘으면 예외를 던진다")
+        void givenTooManyIds_whenToBatchQuery_thenThrowsException() {
+            // given
+            List<UUID> decisionIds = Stream.generate(UUID::randomUUID).limit(1001).toList();
+            DecisionBatchRequest request = new DecisionBatchRequest(decisionIds, null);
+
+            // when & then
+            assertThatThrownBy(() -> mapper.toBatchQuery(request))
+                    .isInstanceOf(TooManyDecisionIdsException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("toTimelineQuery")
+    class ToTimelineQuery {
+
+        @Test
+        @DisplayName("구간이 없으면 최근 24시간이 적용된다")
+        void givenRequestedByOnly_whenToTimelineQuery_thenUsesDefaultRange() {
+            // given
+            DecisionTimelineRequest request = new DecisionTimelineRequest(
+                    "10.0.0.12", null, null, null, null, null, null
+            );
+
+            // when
+            DecisionTimelineQuery query = mapper.toTimelineQuery(request);
+
+            // then
+            assertThat(query.requestedBy()).isEqualTo("10.0.0.12");
+            assertThat(query.reqId()).isNull();
+            assertThat(Duration.between(query.from(), query.to())).isEqualTo(Duration.ofHours(24));
+            assertThat(query.limit()).isEqualTo(20);
+            assertThat(query.cursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("모든 필드가 있는 요청이 주어지면 Query로 정상 매핑된다")
+        void givenRequestWithAllFields_whenToTimelineQuery_thenMapsCorrectly() {
+            // given
+            OffsetDateTime from = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+            OffsetDateTime to = OffsetDateTime.parse("2025-01-02T00:00:00Z");
+            SearchCursor cursor = new SearchCursor(from, 7L);
+            DecisionTimelineRequest request = new DecisionTimelineRequest(
+                    "10.0.0.12", 42L, from, to, 50, cursor.encode(), "path"
+            );
+
+            // when
+            DecisionTimelineQuery query = mapper.toTimelineQuery(request);
+
+            // then
+            assertThat(query.reqId()).isEqualTo(42L);
+            assertThat(query.from()).isEqualTo(from);
+            assertThat(query.to()).isEqualTo(to);
+            assertThat(query.limit()).isEqualTo(50);
+            assertThat(query.cursor()).isEqualTo(cursor);
+            assertThat(query.fields()).contains(DecisionLogField.PATH);
+        }
+
+        @Test
+        @DisplayName("requestedBy와 reqId가 모두 없으면 MissingTimelineKeyException이 발생한다")
+        void givenNoKey_whenToTimelineQuery_thenThrowsMissingTimelineKeyException() {
+            // given
+            DecisionTimelineRequest request = new DecisionTimelineRequest(
+                    " ", null, null, null, null, null, null
+            );
+
+            // when & then
+            assertThatThrownBy(() -> mapper.toTimelineQuery(request))
+                    .isInstanceOf(MissingTimelineKeyException.class);
+        }
     }
 }
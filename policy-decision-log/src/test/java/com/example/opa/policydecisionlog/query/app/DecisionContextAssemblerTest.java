@@ -0,0 +1,98 @@
+package com.example.opa.policydecisionlog.query.app;
+
+import com.example.opa.policydecisionlog.query.app.dto.DecisionContext;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
+import com.example.opa.policydecisionlog.shared.extractor.CloudAccessDecisionExtractor;
+import com.example.opa.policydecisionlog.shared.extractor.Decision;
+import com.example.opa.policydecisionlog.shared.extractor.DecisionExtractorRegistry;
+import com.example.opa.policydecisionlog.shared.extractor.DefaultDecisionExtractor;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class DecisionContextAssemblerTest {
+
+    @Mock
+    private DecisionLogMetrics metrics;
+
+    private DecisionContextAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        DefaultDecisionExtractor defaultExtractor = new DefaultDecisionExtractor();
+        DecisionExtractorRegistry registry = new DecisionExtractorRegistry(
+                List.of(new CloudAccessDecisionExtractor(), defaultExtractor), defaultExtractor);
+        assembler = new DecisionContextAssembler(registry, JsonMapper.builder().build(), metrics);
+    }
+
+    @Nested
+    @DisplayName("assemble")
+    class Assemble {
+
+        @Test
+        @DisplayName("decision_context가 있으면 raw를 파싱하지 않고 그대로 사용한다")
+        void givenMaterializedDecision_whenAssemble_thenUsesIt() {
+            // given
+            Decision materialized = new Decision(List.of(),
+                    List.of(new Decision.PolicyResult("access_control", false, 1)));
+            DecisionLogReadModel readModel = readModel("not json", materialized);
+
+            // when
+            DecisionContext context = assembler.assemble(readModel);
+
+            // then
+            assertThat(context.decision()).isSameAs(materialized);
+            then(metrics).should().recordContextAssemble(eq(true), anyLong());
+        }
+
+        @Test
+        @DisplayName("raw와 decision_context가 모두 없으면 빈 Decision을 반환한다")
+        void givenNoRawAndNoDecisionContext_whenAssemble_thenReturnsEmptyDecision() {
+            // given
+            DecisionLogReadModel readModel = readModel(null, null);
+
+            // when
+            DecisionContext context = assembler.assemble(readModel);
+
+            // then
+            assertThat(context.decision()).isEqualTo(new Decision(List.of(), List.of()));
+            assertThat(context.request().decisionId()).isEqualTo(readModel.decisionId());
+            then(metrics).should().recordContextAssemble(eq(false), anyLong());
+        }
+    }
+
+    private static DecisionLogReadModel readModel(String raw, Decision decision) {
+        return new DecisionLogReadModel(
+                1L,
+                UUID.randomUUID(),
+                OffsetDateTime.now(),
+                "cloud_access/policy/main",
+                false,
+                "192.168.65.1:30825",
+                12345L,
+                UUID.randomUUID(),
+                "1.0.0",
+                "cloud_access",
+                null,
+                raw,
+                OffsetDateTime.now(),
+                decision
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.opa.policydecisionlog.query.app.dto;
+
+import com.example.opa.policydecisionlog.shared.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Nested
+    @DisplayName("encode / decode")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("인코딩한 커서를 디코딩하면 동일한 (ts, id)가 복원된다")
+        void givenCursor_whenEncodeAndDecode_thenRestoresTsAndId() {
+            // given
+            OffsetDateTime ts = OffsetDateTime.parse("2025-01-01T09:00:00.123456789+09:00");
+            SearchCursor cursor = new SearchCursor(ts, 1024L);
+
+            // when
+            SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+            // then
+            assertThat(decoded.ts()).isEqualTo(ts.withOffsetSameInstant(ZoneOffset.UTC));
+            assertThat(decoded.id()).isEqualTo(1024L);
+        }
+
+        @Test
+        @DisplayName("인코딩 결과는 URL에 그대로 쓸 수 있는 문자열이다")
+        void givenCursor_whenEncode_thenReturnsUrlSafeString() {
+            // given
+            SearchCursor cursor = new SearchCursor(OffsetDateTime.now(), Long.MAX_VALUE);
+
+            // when
+            String encoded = cursor.encode();
+
+            // then
+            assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        }
+    }
+
+    @Nested
+    @DisplayName("decode 실패")
+    class InvalidCursor {
+
+        @Test
+        @DisplayName("base64url이 아니면 InvalidCursorException이 발생한다")
+        void givenNonBase64Cursor_whenDecode_thenThrowsInvalidCursorException() {
+            // when & then
+            assertThatThrownBy(() -> SearchCursor.decode("not a cursor!"))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+
+        @Test
+        @DisplayName("길이가 맞지 않으면 InvalidCursorException이 발생한다")
+        void givenTruncatedCursor_whenDecode_thenThrowsInvalidCursorException() {
+            // given
+            String encoded = new SearchCursor(OffsetDateTime.now(), 1L).encode();
+
+            // when & then
+            assertThatThrownBy(() -> SearchCursor.decode(encoded.substring(0, 8)))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+    }
+}
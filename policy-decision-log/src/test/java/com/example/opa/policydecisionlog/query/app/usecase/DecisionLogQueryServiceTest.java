@@ -2,9 +2,18 @@ package com.example.opa.policydecisionlog.query.app.usecase;
 
 import com.example.opa.policydecisionlog.query.app.DecisionContextAssembler;
 import com.example.opa.policydecisionlog.query.app.dto.CursorPage;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionBatchQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionLogField;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogSearchQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionStatsQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionTimelineQuery;
+import com.example.opa.policydecisionlog.query.app.dto.DenyRatePoint;
+import com.example.opa.policydecisionlog.query.app.dto.RollupInterval;
+import com.example.opa.policydecisionlog.query.app.dto.SearchCursor;
+import com.example.opa.policydecisionlog.query.app.port.DecisionLogCache;
 import com.example.opa.policydecisionlog.query.app.port.DecisionLogQueryRepository;
+import com.example.opa.policydecisionlog.query.app.port.DecisionRollupQueryRepository;
 import com.example.opa.policydecisionlog.query.fixture.DecisionLogReadModelFixture;
 import com.example.opa.policydecisionlog.shared.exception.DecisionNotFoundException;
 import org.junit.jupiter.api.DisplayName;
@@ -16,12 +25,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -37,6 +55,19 @@ class DecisionLogQueryServiceTest {
     @Mock
     private DecisionContextAssembler contextAssembler;
 
+    @Mock
+    private DecisionLogCache cache;
+
+    @Mock
+    private DecisionRollupQueryRepository rollupRepository;
+
+    // 캐시 miss: loader로 위임
+    private void givenCacheMiss(UUID decisionId) {
+        given(cache.getReadModel(eq(decisionId), any()))
+                .willAnswer(invocation -> invocation.<Function<UUID, DecisionLogReadModel>>getArgument(1)
+                        .apply(decisionId));
+    }
+
     @Nested
     @DisplayName("getByDecisionId")
     class GetByDecisionId {
@@ -48,6 +79,7 @@ class DecisionLogQueryServiceTest {
             UUID decisionId = UUID.randomUUID();
             DecisionLogReadModel readModel = DecisionLogReadModelFixture.createWithDecisionId(decisionId);
 
+            givenCacheMiss(decisionId);
             given(repository.findByDecisionId(decisionId)).willReturn(Optional.of(readModel));
 
             // when
@@ -64,6 +96,7 @@ class DecisionLogQueryServiceTest {
             // given
             UUID decisionId = UUID.randomUUID();
 
+            givenCacheMiss(decisionId);
             given(repository.findByDecisionId(decisionId)).willReturn(Optional.empty());
 
             // when & then
@@ -73,6 +106,23 @@ class DecisionLogQueryServiceTest {
 
             then(repository).should().findByDecisionId(decisionId);
         }
+
+        @Test
+        @DisplayName("캐시에 있으면 DB를 조회하지 않는다")
+        void givenCachedDecision_whenGetByDecisionId_thenSkipsRepository() {
+            // given
+            UUID decisionId = UUID.randomUUID();
+            DecisionLogReadModel readModel = DecisionLogReadModelFixture.createWithDecisionId(decisionId);
+
+            given(cache.getReadModel(eq(decisionId), any())).willReturn(readModel);
+
+            // when
+            DecisionLogReadModel result = service.getByDecisionId(decisionId);
+
+            // then
+            assertThat(result).isEqualTo(readModel);
+            then(repository).shouldHaveNoInteractions();
+        }
     }
 
     @Nested
@@ -89,14 +139,17 @@ class DecisionLogQueryServiceTest {
                     true,
                     "cloud_access",
                     "/policy/main",
+                    null,
+                    null,
                     20,
+                    null,
                     null
             );
 
             DecisionLogReadModel readModel1 = DecisionLogReadModelFixture.createDefault();
             DecisionLogReadModel readModel2 = DecisionLogReadModelFixture.createDefault();
 
-            given(repository.search(query)).willReturn(List.of(readModel1, readModel2));
+            given(repository.search(query, DecisionLogField.ALL)).willReturn(List.of(readModel1, readModel2));
 
             // when
             CursorPage<DecisionLogReadModel> result = service.search(query);
@@ -104,7 +157,7 @@ class DecisionLogQueryServiceTest {
             // then
             assertThat(result.content()).hasSize(2).containsExactly(readModel1, readModel2);
             assertThat(result.nextCursor()).isNull();
-            then(repository).should().search(query);
+            then(repository).should().search(query, DecisionLogField.ALL);
         }
 
         @Test
@@ -112,10 +165,10 @@ class DecisionLogQueryServiceTest {
         void givenNoMatchingResults_whenSearch_thenReturnsEmptyCursorPage() {
             // given
             DecisionLogSearchQuery query = new DecisionLogSearchQuery(
-                    null, null, null, null, null, 20, null
+                    null, null, null, null, null, null, null, 20, null, null
             );
 
-            given(repository.search(query)).willReturn(List.of());
+            given(repository.search(query, DecisionLogField.ALL)).willReturn(List.of());
 
             // when
             CursorPage<DecisionLogReadModel> result = service.search(query);
@@ -123,7 +176,7 @@ class DecisionLogQueryServiceTest {
             // then
             assertThat(result.content()).isEmpty();
             assertThat(result.nextCursor()).isNull();
-            then(repository).should().search(query);
+            then(repository).should().search(query, DecisionLogField.ALL);
         }
 
         @Test
@@ -132,26 +185,222 @@ class DecisionLogQueryServiceTest {
             // given
             int limit = 2;
             DecisionLogSearchQuery query = new DecisionLogSearchQuery(
-                    null, null, null, null, null, limit, null
+                    null, null, null, null, null, null, null, limit, null, null
             );
 
             OffsetDateTime ts1 = OffsetDateTime.now().minusHours(1);
             OffsetDateTime ts2 = OffsetDateTime.now().minusHours(2);
-            OffsetDateTime ts3 = OffsetDateTime.now().minusHours(3);
 
-            DecisionLogReadModel readModel1 = DecisionLogReadModelFixture.createWithTimestamp(ts1);
-            DecisionLogReadModel readModel2 = DecisionLogReadModelFixture.createWithTimestamp(ts2);
-            DecisionLogReadModel readModel3 = DecisionLogReadModelFixture.createWithTimestamp(ts3);
+            DecisionLogReadModel readModel1 = DecisionLogReadModelFixture.createWithTimestampAndId(ts1, 3L);
+            DecisionLogReadModel readModel2 = DecisionLogReadModelFixture.createWithTimestampAndId(ts2, 2L);
+            // 페이지 경계와 동일한 ts를 가진 레코드
+            DecisionLogReadModel readModel3 = DecisionLogReadModelFixture.createWithTimestampAndId(ts2, 1L);
 
             // limit + 1 개 반환하여 다음 페이지 존재 표시
-            given(repository.search(query)).willReturn(List.of(readModel1, readModel2, readModel3));
+            given(repository.search(query, DecisionLogField.ALL)).willReturn(List.of(readModel1, readModel2, readModel3));
 
             // when
             CursorPage<DecisionLogReadModel> result = service.search(query);
 
             // then
             assertThat(result.content()).hasSize(2);
-            assertThat(result.nextCursor()).isEqualTo(ts2);
+            SearchCursor nextCursor = SearchCursor.decode(result.nextCursor());
+            assertThat(nextCursor.ts()).isEqualTo(ts2.withOffsetSameInstant(ZoneOffset.UTC));
+            assertThat(nextCursor.id()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("fields가 주어지면 요청된 컬럼만 조회한다")
+        void givenFields_whenSearch_thenSearchesRequestedFieldsOnly() {
+            // given
+            Set<DecisionLogField> fields = EnumSet.of(
+                    DecisionLogField.DECISION_ID, DecisionLogField.TIMESTAMP, DecisionLogField.PATH);
+            DecisionLogSearchQuery query = new DecisionLogSearchQuery(
+                    null, null, null, null, null, null, null, 20, null, fields
+            );
+
+            given(repository.search(query, fields)).willReturn(List.of());
+
+            // when
+            service.search(query);
+
+            // then
+            then(repository).should().search(query, fields);
+        }
+    }
+
+    @Nested
+    @DisplayName("searchContextSummaries")
+    class SearchContextSummaries {
+
+        @Test
+        @DisplayName("fields가 없으면 summary 컬럼만 조회한다 (bundles, raw 제외)")
+        void givenNoFields_whenSearchContextSummaries_thenSearchesSummaryFields() {
+            // given
+            DecisionLogSearchQuery query = new DecisionLogSearchQuery(
+                    null, null, null, null, null, null, null, 20, null, null
+            );
+
+            given(repository.search(query, DecisionLogField.SUMMARY)).willReturn(List.of());
+
+            // when
+            service.searchContextSummaries(query);
+
+            // then
+            then(repository).should().search(query, DecisionLogField.SUMMARY);
+        }
+
+        @Test
+        @DisplayName("fields가 주어지면 summary 컬럼 중 요청된 컬럼만 조회한다")
+        void givenFields_whenSearchContextSummaries_thenIntersectsWithSummaryFields() {
+            // given
+            DecisionLogSearchQuery query = new DecisionLogSearchQuery(
+                    null, null, null, null, null, null, null, 20, null,
+                    EnumSet.of(DecisionLogField.DECISION_ID, DecisionLogField.TIMESTAMP,
+                            DecisionLogField.SERVICE, DecisionLogField.RAW)
+            );
+            Set<DecisionLogField> expected = EnumSet.of(
+                    DecisionLogField.DECISION_ID, DecisionLogField.TIMESTAMP, DecisionLogField.SERVICE);
+
+            given(repository.search(query, expected)).willReturn(List.of());
+
+            // when
+            service.searchContextSummaries(query);
+
+            // then
+            then(repository).should().search(query, expected);
+        }
+    }
+
+    @Nested
+    @DisplayName("getDenyRate")
+    class GetDenyRate {
+
+        @Test
+        @DisplayName("rollup 저장소의 bucket별 집계를 그대로 반환한다")
+        void givenRollups_whenGetDenyRate_thenReturnsPoints() {
+            // given
+            OffsetDateTime to = OffsetDateTime.parse("2025-01-01T01:00:00Z");
+            DecisionStatsQuery query = new DecisionStatsQuery(
+                    to.minusHours(1), to, "cloud_access", RollupInterval.MINUTE, 20);
+            List<DenyRatePoint> points = List.of(new DenyRatePoint(to.minusMinutes(1), 8, 2));
+
+            given(rollupRepository.findDenyRate(query)).willReturn(points);
+
+            // when
+            List<DenyRatePoint> result = service.getDenyRate(query);
+
+            // then
+            assertThat(result).isEqualTo(points);
+            assertThat(result.getFirst().denyRate()).isEqualTo(0.25);
+            then(repository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("export")
+    class Export {
+
+        @Test
+        @DisplayName("stream의 ReadModel을 순서대로 sink에 전달하고 건수를 반환한다")
+        void givenStream_whenExport_thenPassesEachReadModelToSink() {
+            // given
+            DecisionLogSearchQuery query = new DecisionLogSearchQuery(
+                    null, null, null, null, null, null, null, 20, null, null
+            );
+            DecisionLogReadModel first = DecisionLogReadModelFixture.createDefault();
+            DecisionLogReadModel second = DecisionLogReadModelFixture.createDefault();
+            AtomicBoolean closed = new AtomicBoolean();
+
+            given(repository.stream(query, DecisionLogField.ALL))
+                    .willReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+
+            // when
+            List<DecisionLogReadModel> exported = new ArrayList<>();
+            long count = service.export(query, exported::add);
+
+            // then
+            assertThat(count).isEqualTo(2);
+            assertThat(exported).containsExactly(first, second);
+            assertThat(closed).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("lookup")
+    class Lookup {
+
+        @Test
+        @DisplayName("요청 순서대로 ID마다 한 번씩 전달하고 없는 ID는 null로 전달한다")
+        void givenPartialHits_whenLookup_thenEmitsInRequestOrderWithMisses() {
+            // given
+            UUID hit = UUID.randomUUID();
+            UUID miss = UUID.randomUUID();
+            DecisionLogReadModel readModel = DecisionLogReadModelFixture.createWithDecisionId(hit);
+            DecisionBatchQuery query = new DecisionBatchQuery(List.of(miss, hit, hit), null);
+
+            given(repository.findByDecisionIds(List.of(miss, hit), DecisionLogField.ALL))
+                    .willReturn(List.of(readModel));
+
+            // when
+            List<UUID> emittedIds = new ArrayList<>();
+            List<DecisionLogReadModel> emitted = new ArrayList<>();
+            long resolved = service.lookup(query, (decisionId, result) -> {
+                emittedIds.add(decisionId);
+                emitted.add(result);
+            });
+
+            // then
+            assertThat(resolved).isEqualTo(2);
+            assertThat(emittedIds).containsExactly(miss, hit, hit);
+            assertThat(emitted).containsExactly(null, readModel, readModel);
+        }
+
+        @Test
+        @DisplayName("ID가 많으면 나누어 조회한다")
+        void givenManyIds_whenLookup_thenQueriesInChunks() {
+            // given
+            List<UUID> decisionIds = Stream.generate(UUID::randomUUID).limit(501).toList();
+            DecisionBatchQuery query = new DecisionBatchQuery(decisionIds, null);
+
+            given(repository.findByDecisionIds(any(), eq(DecisionLogField.ALL))).willReturn(List.of());
+
+            // when
+            long resolved = service.lookup(query, (decisionId, result) -> { });
+
+            // then
+            assertThat(resolved).isZero();
+            then(repository).should().findByDecisionIds(decisionIds.subList(0, 500), DecisionLogField.ALL);
+            then(repository).should().findByDecisionIds(decisionIds.subList(500, 501), DecisionLogField.ALL);
+        }
+    }
+
+    @Nested
+    @DisplayName("timeline")
+    class Timeline {
+
+        @Test
+        @DisplayName("limit보다 많이 조회되면 마지막 항목 기준 nextCursor를 반환한다")
+        void givenMoreThanLimit_whenTimeline_thenReturnsNextCursor() {
+            // given
+            OffsetDateTime ts1 = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+            OffsetDateTime ts2 = OffsetDateTime.parse("2025-01-01T00:00:01Z");
+            OffsetDateTime ts3 = OffsetDateTime.parse("2025-01-01T00:00:02Z");
+            DecisionTimelineQuery query = new DecisionTimelineQuery(
+                    "10.0.0.12", null, ts1, ts3, 2, null, null
+            );
+            DecisionLogReadModel first = DecisionLogReadModelFixture.createWithTimestampAndId(ts1, 1L);
+            DecisionLogReadModel second = DecisionLogReadModelFixture.createWithTimestampAndId(ts2, 2L);
+            DecisionLogReadModel third = DecisionLogReadModelFixture.createWithTimestampAndId(ts3, 3L);
+
+            given(repository.timeline(query, DecisionLogField.ALL)).willReturn(List.of(first, second, third));
+
+            // when
+            CursorPage<DecisionLogReadModel> result = service.timeline(query);
+
+            // then
+            assertThat(result.content()).containsExactly(first, second);
+            assertThat(SearchCursor.decode(result.nextCursor())).isEqualTo(new SearchCursor(ts2, 2L));
         }
     }
 }
@@ -3,13 +3,13 @@ package com.example.opa.policydecisionlog.query.fixture;
 import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
 
 import java.time.OffsetDateTime;
-import java.util.Map;
 import java.util.UUID;
 
 public class DecisionLogReadModelFixture {
 
     public static DecisionLogReadModel createDefault() {
         return new DecisionLogReadModel(
+                1L,
                 UUID.randomUUID(),
                 OffsetDateTime.now(),
                 "cloud_access/policy/main",
@@ -19,14 +19,20 @@ public class DecisionLogReadModelFixture {
                 UUID.randomUUID(),
                 "1.0.0",
                 "cloud_access",
-                Map.of("bundle1", "v1"),
-                Map.of("key", "value"),
-                OffsetDateTime.now()
+                "{\"bundle1\":\"v1\"}",
+                "{\"key\":\"value\"}",
+                OffsetDateTime.now(),
+                null
         );
     }
 
     public static DecisionLogReadModel createWithTimestamp(OffsetDateTime ts) {
+        return createWithTimestampAndId(ts, 1L);
+    }
+
+    public static DecisionLogReadModel createWithTimestampAndId(OffsetDateTime ts, Long id) {
         return new DecisionLogReadModel(
+                id,
                 UUID.randomUUID(),
                 ts,
                 "cloud_access/policy/main",
@@ -36,14 +42,16 @@ public class DecisionLogReadModelFixture {
                 UUID.randomUUID(),
                 "1.0.0",
                 "cloud_access",
-                Map.of("bundle1", "v1"),
-                Map.of("key", "value"),
-                OffsetDateTime.now()
+                "{\"bundle1\":\"v1\"}",
+                "{\"key\":\"value\"}",
+                OffsetDateTime.now(),
+                null
         );
     }
 
     public static DecisionLogReadModel createWithDecisionId(UUID decisionId) {
         return new DecisionLogReadModel(
+                1L,
                 decisionId,
                 OffsetDateTime.now(),
                 "cloud_access/policy/main",
@@ -53,9 +61,10 @@ public class DecisionLogReadModelFixture {
                 UUID.randomUUID(),
                 "1.0.0",
                 "cloud_access",
-                Map.of("bundle1", "v1"),
-                Map.of("key", "value"),
-                OffsetDateTime.now()
+                "{\"bundle1\":\"v1\"}",
+                "{\"key\":\"value\"}",
+                OffsetDateTime.now(),
+                null
         );
     }
 }
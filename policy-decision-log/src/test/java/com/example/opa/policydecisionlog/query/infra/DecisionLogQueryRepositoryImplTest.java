@@ -0,0 +1,101 @@
+package com.example.opa.policydecisionlog.query.infra;
+
+import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
+import com.example.opa.policydecisionlog.query.fixture.DecisionLogReadModelFixture;
+import com.example.opa.policydecisionlog.query.infra.mapper.RowToReadModelMapper;
+import com.example.opa.policydecisionlog.query.infra.model.DecisionLogRow;
+import com.example.opa.policydecisionlog.shared.config.QueryExportProperties;
+import com.querydsl.core.NonUniqueResultException;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.example.opa.policydecisionlog.command.infra.db.model.QDecisionLogEntity.decisionLogEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class DecisionLogQueryRepositoryImplTest {
+
+    @Mock
+    private JPAQueryFactory queryFactory;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private JPAQuery<Tuple> query;
+
+    @Mock
+    private Tuple latest;
+
+    @Mock
+    private RowToReadModelMapper mapper;
+
+    private DecisionLogQueryRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new DecisionLogQueryRepositoryImpl(queryFactory, mapper, new QueryExportProperties(1000));
+    }
+
+    @Nested
+    @DisplayName("findByDecisionId")
+    class FindByDecisionId {
+
+        @Test
+        @DisplayName("같은 decisionId가 ts만 다른 두 건이면 ts가 최신인 건을 반환한다")
+        void givenTwoRowsWithSameDecisionId_whenFindByDecisionId_thenReturnsLatest() {
+            // given
+            UUID decisionId = UUID.randomUUID();
+            OffsetDateTime latestTs = OffsetDateTime.parse("2026-01-02T00:00:00Z");
+            DecisionLogReadModel readModel = DecisionLogReadModelFixture.createWithDecisionId(decisionId);
+
+            given(queryFactory.select(any(Expression[].class))).willReturn(query);
+            // 두 건이 조회되므로 단건을 기대하는 fetchOne은 실패
+            lenient().when(query.fetchOne()).thenThrow(new NonUniqueResultException());
+            given(query.fetchFirst()).willReturn(latest);
+            given(latest.get(decisionLogEntity.decisionId)).willReturn(decisionId);
+            given(latest.get(decisionLogEntity.ts)).willReturn(latestTs);
+            given(mapper.toReadModel(argThat((DecisionLogRow row) ->
+                    decisionId.equals(row.decisionId()) && latestTs.equals(row.ts()))))
+                    .willReturn(readModel);
+
+            // when
+            Optional<DecisionLogReadModel> result = repository.findByDecisionId(decisionId);
+
+            // then
+            assertThat(result).containsSame(readModel);
+            then(query).should().orderBy(decisionLogEntity.ts.desc(), decisionLogEntity.id.desc());
+        }
+
+        @Test
+        @DisplayName("조회 결과가 없으면 빈 Optional을 반환한다")
+        void givenNoRow_whenFindByDecisionId_thenReturnsEmpty() {
+            // given
+            given(queryFactory.select(any(Expression[].class))).willReturn(query);
+            given(query.fetchFirst()).willReturn(null);
+
+            // when
+            Optional<DecisionLogReadModel> result = repository.findByDecisionId(UUID.randomUUID());
+
+            // then
+            assertThat(result).isEmpty();
+            then(mapper).shouldHaveNoInteractions();
+        }
+    }
+}
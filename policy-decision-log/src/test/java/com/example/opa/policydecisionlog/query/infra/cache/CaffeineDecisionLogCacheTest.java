@@ -0,0 +1,196 @@
+package com.example.opa.policydecisionlog.query.infra.cache;
+
+import com.example.opa.policydecisionlog.query.app.dto.DecisionContext;
+import com.example.opa.policydecisionlog.query.app.dto.DecisionLogReadModel;
+import com.example.opa.policydecisionlog.query.fixture.DecisionLogReadModelFixture;
+import com.example.opa.policydecisionlog.shared.config.QueryCacheProperties;
+import com.example.opa.policydecisionlog.shared.exception.DecisionNotFoundException;
+import com.example.opa.policydecisionlog.shared.extractor.Decision;
+import com.example.opa.policydecisionlog.shared.metrics.DecisionLogMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class CaffeineDecisionLogCacheTest {
+
+    @Mock
+    private DecisionLogMetrics metrics;
+
+    private CaffeineDecisionLogCache createCache(boolean enabled) {
+        return new CaffeineDecisionLogCache(new QueryCacheProperties(enabled, 1024 * 1024, 16), metrics);
+    }
+
+    private static DecisionContext contextOf(DecisionLogReadModel readModel) {
+        return new DecisionContext(null, null, null,
+                new Decision(List.of(), List.of()),
+                "/decisions/" + readModel.decisionId());
+    }
+
+    @Nested
+    @DisplayName("getReadModel")
+    class GetReadModel {
+
+        @Test
+        @DisplayName("같은 decisionId를 다시 조회하면 loader를 호출하지 않는다")
+        void givenCachedDecision_whenGetReadModel_thenLoadsOnce() {
+            // given
+            CaffeineDecisionLogCache cache = createCache(true);
+            UUID decisionId = UUID.randomUUID();
+            DecisionLogReadModel readModel = DecisionLogReadModelFixture.createWithDecisionId(decisionId);
+            AtomicInteger loads = new AtomicInteger();
+            Function<UUID, DecisionLogReadModel> loader = id -> {
+                loads.incrementAndGet();
+                return readModel;
+            };
+
+            // when
+            DecisionLogReadModel first = cache.getReadModel(decisionId, loader);
+            DecisionLogReadModel second = cache.getReadModel(decisionId, loader);
+
+            // then
+            assertThat(first).isSameAs(readModel);
+            assertThat(second).isSameAs(readModel);
+            assertThat(loads).hasValue(1);
+            then(metrics).should().recordQueryCacheLookup(CaffeineDecisionLogCache.READ_MODEL, false);
+            then(metrics).should().recordQueryCacheLookup(CaffeineDecisionLogCache.READ_MODEL, true);
+        }
+
+        @Test
+        @DisplayName("loader가 예외를 던지면 캐싱하지 않는다 (negative caching 없음)")
+        void givenMissingDecision_whenGetReadModel_thenDoesNotCacheFailure() {
+            // given
+            CaffeineDecisionLogCache cache = createCache(true);
+            UUID decisionId = UUID.randomUUID();
+            DecisionLogReadModel readModel = DecisionLogReadModelFixture.createWithDecisionId(decisionId);
+
+            // when
+            assertThatThrownBy(() -> cache.getReadModel(decisionId, id -> {
+                throw new DecisionNotFoundException(id);
+            })).isInstanceOf(DecisionNotFoundException.class);
+            DecisionLogReadModel result = cache.getReadModel(decisionId, id -> readModel);
+
+            // then
+            assertThat(result).isSameAs(readModel);
+        }
+
+        @Test
+        @DisplayName("비활성화되어 있으면 매번 loader를 호출한다")
+        void givenDisabledCache_whenGetReadModel_thenAlwaysLoads() {
+            // given
+            CaffeineDecisionLogCache cache = createCache(false);
+            UUID decisionId = UUID.randomUUID();
+            DecisionLogReadModel readModel = DecisionLogReadModelFixture.createWithDecisionId(decisionId);
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            cache.getReadModel(decisionId, id -> {
+                loads.incrementAndGet();
+                return readModel;
+            });
+            cache.getReadModel(decisionId, id -> {
+                loads.incrementAndGet();
+                return readModel;
+            });
+
+            // then
+            assertThat(loads).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("getContext")
+    class GetContext {
+
+        @Test
+        @DisplayName("조립된 DecisionContext를 재사용한다")
+        void givenAssembledContext_whenGetContext_thenAssemblesOnce() {
+            // given
+            CaffeineDecisionLogCache cache = createCache(true);
+            UUID decisionId = UUID.randomUUID();
+            DecisionLogReadModel readModel = DecisionLogReadModelFixture.createWithDecisionId(decisionId);
+            AtomicInteger assembles = new AtomicInteger();
+            Function<DecisionLogReadModel, DecisionContext> assembler = model -> {
+                assembles.incrementAndGet();
+                return contextOf(model);
+            };
+
+            // when
+            DecisionContext first = cache.getContext(decisionId, id -> readModel, assembler);
+            DecisionContext second = cache.getContext(decisionId, id -> readModel, assembler);
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(assembles).hasValue(1);
+            then(metrics).should().recordQueryCacheLookup(CaffeineDecisionLogCache.CONTEXT, false);
+            then(metrics).should().recordQueryCacheLookup(CaffeineDecisionLogCache.CONTEXT, true);
+        }
+
+        @Test
+        @DisplayName("단건 조회로 캐싱된 ReadModel로 context를 조립한다")
+        void givenCachedReadModel_whenGetContext_thenDoesNotReload() {
+            // given
+            CaffeineDecisionLogCache cache = createCache(true);
+            UUID decisionId = UUID.randomUUID();
+            DecisionLogReadModel readModel = DecisionLogReadModelFixture.createWithDecisionId(decisionId);
+            AtomicInteger loads = new AtomicInteger();
+            Function<UUID, DecisionLogReadModel> loader = id -> {
+                loads.incrementAndGet();
+                return readModel;
+            };
+            cache.getReadModel(decisionId, loader);
+
+            // when
+            DecisionContext context = cache.getContext(decisionId, loader, CaffeineDecisionLogCacheTest::contextOf);
+
+            // then
+            assertThat(context.rawLink()).isEqualTo("/decisions/" + decisionId);
+            assertThat(loads).hasValue(1);
+        }
+    }
+
+    @Test
+    @DisplayName("문자열 길이에 비례해 크기를 추정한다")
+    void givenString_whenEstimateBytes_thenGrowsWithLength() {
+        // when & then
+        assertThat(CaffeineDecisionLogCache.estimateBytes(null)).isZero();
+        assertThat(CaffeineDecisionLogCache.estimateBytes("x".repeat(1000)))
+                .isGreaterThan(CaffeineDecisionLogCache.estimateBytes("x") + 1900);
+    }
+
+    @Test
+    @DisplayName("context 무게는 reason/policy 문자열 길이를 반영한다")
+    void givenLargeReasonMessage_whenWithContext_thenWeighsStrings() {
+        // given
+        DecisionLogReadModel readModel = DecisionLogReadModelFixture.createWithDecisionId(UUID.randomUUID());
+        CaffeineDecisionLogCache.CachedDecision cached = CaffeineDecisionLogCache.CachedDecision.of(readModel);
+        Decision.Rule rule = new Decision.Rule("cloud_access", "input.user", "deny_admin", "deny");
+        DecisionContext small = contextWithReason(new Decision.Reason(rule, "denied", 1));
+        DecisionContext large = contextWithReason(new Decision.Reason(rule, "x".repeat(10_000), 1));
+
+        // when
+        int smallWeight = cached.withContext(small).weight();
+        int largeWeight = cached.withContext(large).weight();
+
+        // then
+        assertThat(largeWeight - smallWeight).isGreaterThan(19_000);
+    }
+
+    private static DecisionContext contextWithReason(Decision.Reason reason) {
+        return new DecisionContext(null, null, null,
+                new Decision(List.of(reason), List.of(new Decision.PolicyResult("cloud_access", false, 1))),
+                "/decisions/x");
+    }
+}
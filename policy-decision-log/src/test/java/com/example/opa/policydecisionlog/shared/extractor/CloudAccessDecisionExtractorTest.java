@@ -1,14 +1,16 @@
-package com.example.opa.policydecisionlog.query.app.extractor;
+package com.example.opa.policydecisionlog.shared.extractor;
 
-import com.example.opa.policydecisionlog.query.app.dto.DecisionContext.PolicyResult;
-import com.example.opa.policydecisionlog.query.app.dto.DecisionContext.Reason;
+import com.example.opa.policydecisionlog.shared.extractor.Decision.PolicyResult;
+import com.example.opa.policydecisionlog.shared.extractor.Decision.Reason;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonParser;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -100,23 +102,16 @@ class CloudAccessDecisionExtractorTest {
         jsonMapper = JsonMapper.builder().build();
     }
 
-    @Nested
-    @DisplayName("supports")
-    class Supports {
-
-        @Test
-        @DisplayName("cloud_access 서비스면 true 반환")
-        void givenCloudAccessService_whenSupports_thenReturnsTrue() {
-            assertThat(extractor.supports("cloud_access")).isTrue();
+    private Decision extract(JsonNode raw) {
+        try (JsonParser parser = jsonMapper.treeAsTokens(raw)) {
+            return extractor.extract(parser);
         }
+    }
 
-        @Test
-        @DisplayName("다른 서비스면 false 반환")
-        void givenOtherService_whenSupports_thenReturnsFalse() {
-            assertThat(extractor.supports("other_service")).isFalse();
-            assertThat(extractor.supports("")).isFalse();
-            assertThat(extractor.supports(null)).isFalse();
-        }
+    @Test
+    @DisplayName("cloud_access 서비스를 담당한다")
+    void givenExtractor_whenService_thenReturnsCloudAccess() {
+        assertThat(extractor.service()).isEqualTo("cloud_access");
     }
 
     @Nested
@@ -130,7 +125,7 @@ class CloudAccessDecisionExtractorTest {
             JsonNode raw = jsonMapper.readTree(ALLOWED_RESPONSE_JSON);
 
             // when
-            List<Reason> reasons = extractor.extractReasons(raw);
+            List<Reason> reasons = extract(raw).reasons();
 
             // then
             assertThat(reasons).isEmpty();
@@ -143,7 +138,7 @@ class CloudAccessDecisionExtractorTest {
             JsonNode raw = jsonMapper.readTree("{}");
 
             // when
-            List<Reason> reasons = extractor.extractReasons(raw);
+            List<Reason> reasons = extract(raw).reasons();
 
             // then
             assertThat(reasons).isEmpty();
@@ -156,7 +151,7 @@ class CloudAccessDecisionExtractorTest {
             JsonNode raw = jsonMapper.readTree(DENIED_RESPONSE_JSON);
 
             // when
-            List<Reason> reasons = extractor.extractReasons(raw);
+            List<Reason> reasons = extract(raw).reasons();
 
             // then
             assertThat(reasons).hasSize(2);
@@ -182,13 +177,48 @@ class CloudAccessDecisionExtractorTest {
             JsonNode raw = jsonMapper.readTree(DENIED_RESPONSE_JSON);
 
             // when
-            List<Reason> reasons = extractor.extractReasons(raw);
+            List<Reason> reasons = extract(raw).reasons();
 
             // then
             assertThat(reasons).isNotEmpty()
                     .extracting(r -> r.rule().name())
                     .doesNotContain("passed_check");
         }
+
+        @Test
+        @DisplayName("violations가 object면 필드 값마다 Reason 추출")
+        void givenObjectViolations_whenExtractReasons_thenUsesMemberValues() {
+            // given
+            String json = """
+                    {
+                        "result": {
+                            "allow": false,
+                            "policies": [
+                                {
+                                    "policy_name": "vaccine_policy",
+                                    "policy_data": {
+                                        "results": [
+                                            {
+                                                "name": "vaccine",
+                                                "allow": false,
+                                                "violations": {"file": "File not found: /etc/vaccine", "process": "Not running"}
+                                            }
+                                        ]
+                                    }
+                                }
+                            ]
+                        }
+                    }
+                    """;
+
+            // when
+            List<Reason> reasons = extract(jsonMapper.readTree(json)).reasons();
+
+            // then
+            assertThat(reasons)
+                    .extracting(Reason::message)
+                    .containsExactly("File not found: /etc/vaccine", "Not running");
+        }
     }
 
     @Nested
@@ -202,7 +232,7 @@ class CloudAccessDecisionExtractorTest {
             JsonNode raw = jsonMapper.readTree("{}");
 
             // when
-            List<PolicyResult> policies = extractor.extractPolicies(raw);
+            List<PolicyResult> policies = extract(raw).policies();
 
             // then
             assertThat(policies).isEmpty();
@@ -215,7 +245,7 @@ class CloudAccessDecisionExtractorTest {
             JsonNode raw = jsonMapper.readTree(DENIED_RESPONSE_JSON);
 
             // when
-            List<PolicyResult> policies = extractor.extractPolicies(raw);
+            List<PolicyResult> policies = extract(raw).policies();
 
             // then
             assertThat(policies).hasSize(2);
@@ -248,7 +278,7 @@ class CloudAccessDecisionExtractorTest {
             JsonNode raw = jsonMapper.readTree(json);
 
             // when
-            List<PolicyResult> policies = extractor.extractPolicies(raw);
+            List<PolicyResult> policies = extract(raw).policies();
 
             // then
             assertThat(policies).hasSize(1);
@@ -262,7 +292,7 @@ class CloudAccessDecisionExtractorTest {
             JsonNode raw = jsonMapper.readTree(ALLOWED_RESPONSE_JSON);
 
             // when
-            List<PolicyResult> policies = extractor.extractPolicies(raw);
+            List<PolicyResult> policies = extract(raw).policies();
 
             // then
             assertThat(policies).hasSize(1);
@@ -270,4 +300,57 @@ class CloudAccessDecisionExtractorTest {
             assertThat(policies.getFirst().allow()).isTrue();
         }
     }
+
+    @Nested
+    @DisplayName("streaming")
+    class Streaming {
+
+        @Test
+        @DisplayName("JSON byte를 직접 읽어도 tree 기반 결과와 같다")
+        void givenRawBytes_whenExtract_thenMatchesTreeResult() {
+            // given
+            byte[] bytes = DENIED_RESPONSE_JSON.getBytes(StandardCharsets.UTF_8);
+
+            // when
+            Decision fromBytes;
+            try (JsonParser parser = jsonMapper.createParser(bytes)) {
+                fromBytes = extractor.extract(parser);
+            }
+
+            // then
+            assertThat(fromBytes).isEqualTo(extract(jsonMapper.readTree(DENIED_RESPONSE_JSON)));
+        }
+
+        @Test
+        @DisplayName("score.breakdown이 policies 뒤에 있어도 weight가 적용된다")
+        void givenBreakdownAfterPolicies_whenExtract_thenAppliesWeight() {
+            // given
+            String json = """
+                    {
+                        "result": {
+                            "policies": [
+                                {
+                                    "policy_data": {
+                                        "results": [
+                                            {"violations": ["late"], "allow": false, "name": "rule"}
+                                        ]
+                                    },
+                                    "policy_name": "late_policy"
+                                }
+                            ],
+                            "score": {"breakdown": [{"weight": 70, "policy": "late_policy"}]},
+                            "allow": false
+                        }
+                    }
+                    """;
+
+            // when
+            List<Reason> reasons = extract(jsonMapper.readTree(json)).reasons();
+
+            // then
+            assertThat(reasons).hasSize(1);
+            assertThat(reasons.getFirst().weight()).isEqualTo(70);
+            assertThat(reasons.getFirst().rule().policy()).isEqualTo("late_policy");
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package com.example.opa.policydecisionlog.shared.extractor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DecisionExtractorRegistryTest {
+
+    private CloudAccessDecisionExtractor cloudAccessExtractor;
+    private DefaultDecisionExtractor defaultExtractor;
+    private DecisionExtractorRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        cloudAccessExtractor = new CloudAccessDecisionExtractor();
+        defaultExtractor = new DefaultDecisionExtractor();
+        registry = new DecisionExtractorRegistry(List.of(cloudAccessExtractor, defaultExtractor), defaultExtractor);
+    }
+
+    @Test
+    @DisplayName("서비스명으로 등록된 extractor를 반환한다")
+    void givenRegisteredService_whenGetExtractor_thenReturnsServiceExtractor() {
+        assertThat(registry.getExtractor("cloud_access")).isSameAs(cloudAccessExtractor);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 서비스나 null이면 기본 extractor를 반환한다")
+    void givenUnknownService_whenGetExtractor_thenReturnsDefaultExtractor() {
+        assertThat(registry.getExtractor("other_service")).isSameAs(defaultExtractor);
+        assertThat(registry.getExtractor(null)).isSameAs(defaultExtractor);
+    }
+
+    @Test
+    @DisplayName("같은 서비스에 extractor가 둘 이상이면 생성에 실패한다")
+    void givenDuplicateService_whenCreate_thenThrowsIllegalStateException() {
+        // given
+        List<DecisionExtractor> extractors = List.of(cloudAccessExtractor, new CloudAccessDecisionExtractor());
+
+        // when & then
+        assertThatThrownBy(() -> new DecisionExtractorRegistry(extractors, defaultExtractor))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}